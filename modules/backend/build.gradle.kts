@@ -5,6 +5,7 @@ plugins {
 	id("org.springframework.boot") version "3.5.4"
 	id("io.spring.dependency-management") version "1.1.7"
   id("com.github.spotbugs") version "6.2.3"
+  id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "br.dev.mestretramador"
@@ -18,12 +19,54 @@ java {
 
 checkstyle {
   toolVersion = "10.26.1"
+  configProperties = mapOf(
+    "org.checkstyle.sun.suppressionfilter.config" to
+      file("config/checkstyle/checkstyle-suppressions.xml").path
+  )
 }
 
 spotbugs {
   toolVersion = "4.9.3"
 }
 
+// Benchmarks of the hot path, run with "./gradlew jmh"; its results are
+// kept on "benchmarks/", so each performance change comes with numbers.
+jmh {
+  jmhVersion = "1.37"
+  fork = 1
+  warmupIterations = 3
+  iterations = 5
+  profilers = listOf("gc")
+  resultFormat = "JSON"
+  resultsFile = layout.projectDirectory.file("benchmarks/results.json")
+}
+
+tasks.named("jmh") {
+  doFirst {
+    file("benchmarks").mkdirs()
+  }
+}
+
+// Local imitation of the OMDb API and an open-model load generator,
+// run against the backend with "./gradlew loadTest".
+val loadTest by sourceSets.creating {
+  compileClasspath += sourceSets.main.get().output
+  compileClasspath += sourceSets.main.get().compileClasspath
+  runtimeClasspath += sourceSets.main.get().output
+  runtimeClasspath += sourceSets.main.get().runtimeClasspath
+}
+
+// Fast-startup profile, on with "-PfastStartup": the backend is processed
+// ahead-of-time by Spring, and a class data sharing archive of it is trained
+// against the local OMDb API stub; "./gradlew startupReport -PfastStartup"
+// compares its startup to the one of the default profile.
+val fastStartup = project.hasProperty("fastStartup")
+val fastStartupDirectory = layout.buildDirectory.dir("fast-startup")
+
+if (fastStartup) {
+  apply(plugin = "org.springframework.boot.aot")
+}
+
 repositories {
 	mavenCentral()
 }
@@ -31,6 +74,10 @@ repositories {
 dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-web")
   implementation("org.springframework.boot:spring-boot-starter-webflux")
+  implementation("org.springframework.boot:spring-boot-starter-actuator")
+  implementation("com.github.ben-manes.caffeine:caffeine")
+  runtimeOnly("io.micrometer:micrometer-java21")
+  runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 	developmentOnly("org.springframework.boot:spring-boot-devtools")
 	providedRuntime("org.springframework.boot:spring-boot-starter-tomcat")
 	testImplementation("org.springframework.boot:spring-boot-starter-test")
@@ -41,6 +88,65 @@ tasks.withType<Test> {
 	useJUnitPlatform()
 }
 
+tasks.register<JavaExec>("loadTest") {
+  description = "Runs the backend against a local OMDb API stub under load."
+  group = "verification"
+  classpath = loadTest.runtimeClasspath
+  mainClass = "br.dev.mestretramador.pmovies.loadtest.LoadTest"
+  systemProperties(
+    project.properties.filterKeys { it.startsWith("loadtest.") }
+  )
+}
+
+tasks.register<Jar>("fastStartupJar") {
+  description = "Packs the classes of the backend for the fast-startup profile."
+  group = "build"
+  archiveFileName = "pmovies-backend.jar"
+  destinationDirectory = fastStartupDirectory
+  from(sourceSets.main.get().output)
+
+  if (fastStartup) {
+    from(sourceSets["aot"].output)
+  }
+}
+
+tasks.register<Sync>("fastStartupLibs") {
+  description = "Copies the libraries of the backend for the fast-startup profile."
+  group = "build"
+  from(sourceSets.main.get().runtimeClasspath.filter { it.isFile })
+  into(fastStartupDirectory.map { it.dir("lib") })
+}
+
+tasks.register<JavaExec>("fastStartupTrain") {
+  description = "Trains the class data sharing archive against the OMDb API stub."
+  group = "build"
+  dependsOn("fastStartupJar", "fastStartupLibs")
+  classpath = loadTest.runtimeClasspath
+  mainClass = "br.dev.mestretramador.pmovies.loadtest.StartupReport"
+  args("train", fastStartupDirectory.get().asFile.path)
+  systemProperties(
+    project.properties.filterKeys { it.startsWith("loadtest.") }
+  )
+
+  doFirst {
+    if (!fastStartup) {
+      throw GradleException("The fast-startup profile needs -PfastStartup.")
+    }
+  }
+}
+
+tasks.register<JavaExec>("startupReport") {
+  description = "Reports the startup of the default and fast-startup profiles."
+  group = "verification"
+  dependsOn("fastStartupTrain")
+  classpath = loadTest.runtimeClasspath
+  mainClass = "br.dev.mestretramador.pmovies.loadtest.StartupReport"
+  args("report", fastStartupDirectory.get().asFile.path)
+  systemProperties(
+    project.properties.filterKeys { it.startsWith("loadtest.") }
+  )
+}
+
 // Ref: https://medium.com/@yiotiskl/boost-your-productivity-enabling-hot-reload-for-your-dockerized-spring-boot-kotlin-project-9aea60a53db1
 tasks.register<Copy>("getDependencies") {
   from(sourceSets.main.get().runtimeClasspath)
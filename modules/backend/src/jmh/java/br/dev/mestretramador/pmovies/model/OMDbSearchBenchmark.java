@@ -0,0 +1,86 @@
+package br.dev.mestretramador.pmovies.model;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+
+/**
+ * Benchmarks of the reading of a search page of the OMDb API
+ * into its {@link OMDbSearch#parsed() parsed} results.
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OMDbSearchBenchmark {
+  //#region Properties
+  /**
+   * The raw response of a full page.
+   */
+  private byte[] page;
+
+  /**
+   * The reader of the search pages.
+   */
+  private ObjectReader reader;
+
+  /**
+   * The search page, already read.
+   */
+  private OMDbSearch search;
+  //#endregion
+
+  //#region Setup
+  /**
+   * Create the page read by the benchmarks.
+   *
+   * @throws IOException If the page is not a valid search.
+   */
+  @Setup
+  public void setup() throws IOException {
+    page = OMDbSearchPages.fullPage();
+    reader = new ObjectMapper()
+      .registerModule(new Jdk8Module())
+      .readerFor(OMDbSearch.class);
+    search = reader.readValue(page);
+  }
+  //#endregion
+
+  //#region Benchmarks
+  /**
+   * Read the page and parse its results, as the search routes do,
+   * since the results are parsed once, when the page is read.
+   *
+   * @return                The results.
+   * @throws IOException    If the page is not a valid search.
+   */
+  @Benchmark
+  public List<OMDbSearchItem> readAndParse() throws IOException {
+    return reader.<OMDbSearch>readValue(page).parsed();
+  }
+
+  /**
+   * Parse the results of a page already read.
+   *
+   * @return The results.
+   */
+  @Benchmark
+  public List<OMDbSearchItem> parsed() {
+    return search.parsed();
+  }
+  //#endregion
+}
@@ -0,0 +1,71 @@
+package br.dev.mestretramador.pmovies.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+
+/**
+ * Realistic search pages of the OMDb API, read by the benchmarks.
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+public final class OMDbSearchPages {
+  //#region Constants
+  /**
+   * The first year of the titles of the page.
+   */
+  private static final int FIRST_YEAR = 1990;
+  //#endregion
+
+  //#region Constructors
+  /**
+   * It only holds the pages.
+   */
+  private OMDbSearchPages() {
+  }
+  //#endregion
+
+  //#region Pages
+  /**
+   * Create a full page of a search, with movies, series and posters,
+   * as received from the OMDb API.
+   *
+   * @return The raw response.
+   */
+  public static byte[] fullPage() {
+    final StringJoiner items = new StringJoiner(",", "[", "]");
+
+    for (int item = 0; item < OMDbSearch.MAX_RESULTS_IN_SEARCH; item++) {
+      final boolean series = item % 2 == 1;
+
+      items.add(String.format(
+        """
+        {
+          "Title": "The Matrix %d",
+          "Year": "%s",
+          "imdbID": "tt%07d",
+          "Type": "%s",
+          "Poster": "%s"
+        }
+        """,
+        item,
+        series
+          ? (FIRST_YEAR + item) + "–" + (FIRST_YEAR + item + 2)
+          : String.valueOf(FIRST_YEAR + item),
+        item,
+        series ? "series" : "movie",
+        series ? "N/A" : "https://m.media-amazon.com/images/matrix.jpg"
+      ));
+    }
+
+    return String
+      .format(
+        """
+        {"Search": %s, "totalResults": "120", "Response": "True"}
+        """,
+        items
+      )
+      .getBytes(StandardCharsets.UTF_8);
+  }
+  //#endregion
+}
@@ -0,0 +1,121 @@
+package br.dev.mestretramador.pmovies.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.MultiValueMap;
+
+import br.dev.mestretramador.pmovies.util.enumerable.OMDbAPIParams;
+
+/**
+ * Benchmarks of the query params built for every OMDb API request.
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OMDbAPIParamsBuilderBenchmark {
+  //#region Constants
+  /**
+   * The search of the queries.
+   */
+  private static final String SEARCH = "the matrix";
+
+  /**
+   * The API Key of the queries.
+   */
+  private static final String API_KEY = "benchmark";
+  //#endregion
+
+  //#region Properties
+  /**
+   * A query already built, as received by the service.
+   */
+  private OMDbAPIParamsBuilder params;
+  //#endregion
+
+  //#region Setup
+  /**
+   * Build the query read by the benchmarks.
+   */
+  @Setup
+  public void setup() {
+    params = filtered();
+  }
+  //#endregion
+
+  //#region Benchmarks
+  /**
+   * Build a query with only its required param.
+   *
+   * @return The query.
+   */
+  @Benchmark
+  public OMDbAPIParamsBuilder build() {
+    return OMDbAPIParamsBuilder.buildForSearch(SEARCH, API_KEY);
+  }
+
+  /**
+   * Build a query with its <i>enumerable</i> params, all validated.
+   *
+   * @return The query.
+   */
+  @Benchmark
+  public OMDbAPIParamsBuilder add() {
+    return filtered();
+  }
+
+  /**
+   * Convert a query into the params of the Web Client.
+   *
+   * @return The params.
+   */
+  @Benchmark
+  public MultiValueMap<String, String> toMultiValueMap() {
+    return params.toMultiValueMap();
+  }
+
+  /**
+   * Validate an invalid year, as abusive requests do.
+   *
+   * @return The error message.
+   */
+  @Benchmark
+  public String validateInvalid() {
+    return OMDbAPIParamsBuilder.validate(OMDbAPIParams.YEAR, "19x9");
+  }
+
+  /**
+   * Convert a query into the key of the caches.
+   *
+   * @return The key.
+   */
+  @Benchmark
+  public String toCacheKey() {
+    return params.toCacheKey();
+  }
+  //#endregion
+
+  //#region Helpers
+  /**
+   * Build a query of a search filtered as the clients usually do.
+   *
+   * @return The query.
+   */
+  private static OMDbAPIParamsBuilder filtered() {
+    return OMDbAPIParamsBuilder
+      .buildForSearch(SEARCH, API_KEY)
+      .add(OMDbAPIParams.TYPE, "movie")
+      .add(OMDbAPIParams.YEAR, "1999")
+      .add(OMDbAPIParams.PAGE, "2");
+  }
+  //#endregion
+}
@@ -0,0 +1,86 @@
+package br.dev.mestretramador.pmovies.util;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+
+import br.dev.mestretramador.pmovies.model.OMDbSearch;
+import br.dev.mestretramador.pmovies.model.OMDbSearchItem;
+import br.dev.mestretramador.pmovies.model.OMDbSearchPages;
+
+/**
+ * Benchmarks of the serialization of the responses of the controllers,
+ * with the writer resolved for the type of its value, as
+ * {@link br.dev.mestretramador.pmovies.controller.Controller} does.
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseEnvelopeBenchmark {
+  //#region Properties
+  /**
+   * The conversor of the responses into JSON.
+   */
+  private ObjectMapper objectMapper;
+
+  /**
+   * The writer of the results of a search.
+   */
+  private ObjectWriter writer;
+
+  /**
+   * The results of a full search page.
+   */
+  private List<OMDbSearchItem> search;
+  //#endregion
+
+  //#region Setup
+  /**
+   * Read the results written by the benchmarks.
+   *
+   * @throws IOException If the page is not a valid search.
+   */
+  @Setup
+  public void setup() throws IOException {
+    objectMapper = new ObjectMapper().registerModule(new Jdk8Module());
+    search = objectMapper
+      .readValue(OMDbSearchPages.fullPage(), OMDbSearch.class)
+      .parsed();
+    writer = objectMapper
+      .writerFor(search.getClass())
+      .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+  }
+  //#endregion
+
+  //#region Benchmarks
+  /**
+   * Write the response of a search route.
+   *
+   * @return                         The JSON of the response.
+   * @throws JsonProcessingException If the results cannot be written.
+   */
+  @Benchmark
+  public byte[] response() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(
+      new ResponseEnvelope("search", search, writer)
+    );
+  }
+  //#endregion
+}
@@ -0,0 +1,46 @@
+package br.dev.mestretramador.pmovies.util.enumerable;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks of the parsing of the <i>enumerable</i> params,
+ * made on every validation of a query.
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EnumerableStringParserBenchmark {
+  //#region Params
+  /**
+   * The value parsed: the first entry, the last one and an invalid one.
+   */
+  @Param({"movie", "episode", "game"})
+  private String value;
+  //#endregion
+
+  //#region Benchmarks
+  /**
+   * Parse the value into an entry of the enum.
+   *
+   * @return The entry, if any.
+   */
+  @Benchmark
+  public OMDbAPITypeParamValues parseString() {
+    return EnumerableStringParser.parseString(
+      OMDbAPITypeParamValues.class,
+      value
+    );
+  }
+  //#endregion
+}
@@ -0,0 +1,318 @@
+package br.dev.mestretramador.pmovies.loadtest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import br.dev.mestretramador.pmovies.PMoviesBackend;
+
+/**
+ * <p>
+ *  The backend run on its own JVM, requesting the
+ *  {@link OMDbStub local OMDb API}, so its whole startup is timed.
+ * </p>
+ *
+ * <p>
+ *  Its startup is the one logged by Spring, since the JVM was started,
+ *  and its first search is timed since it was launched, until a search
+ *  is answered successfully. Its output is written along the one of
+ *  this process.
+ * </p>
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+final class BackendProcess implements AutoCloseable {
+  //#region Constants
+  /**
+   * Startup line logged by Spring, with the seconds since the JVM started.
+   */
+  private static final Pattern STARTED = Pattern.compile(
+    "Started \\w+ in [0-9.]+ seconds \\(process running for ([0-9.]+)\\)"
+  );
+
+  /**
+   * Search requested until it is answered successfully.
+   */
+  private static final String SEARCH = "/search?filter=startup";
+
+  /**
+   * Time between each search while the backend is starting.
+   */
+  private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+
+  /**
+   * Longest time until the first search is answered successfully.
+   */
+  private static final Duration READY_TIMEOUT = Duration.ofMinutes(2);
+
+  /**
+   * Longest time of each request.
+   */
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+  /**
+   * Longest time of the shutdown, which may write an archive.
+   */
+  private static final Duration EXIT_TIMEOUT = Duration.ofMinutes(1);
+
+  /**
+   * Divisor of an HTTP status code into its class.
+   */
+  private static final int STATUS_CLASS = 100;
+
+  /**
+   * HTTP status class of the successful answers.
+   */
+  private static final int SUCCESS = 2;
+
+  /**
+   * Nanoseconds of a second.
+   */
+  private static final double NANOS_PER_SECOND = 1e9;
+  //#endregion
+
+  //#region Properties
+  /**
+   * The JVM of the backend.
+   */
+  private final Process process;
+
+  /**
+   * The client of the requests made to the backend.
+   */
+  private final HttpClient client = HttpClient.newHttpClient();
+
+  /**
+   * The URL of the backend.
+   */
+  private final URI backend;
+
+  /**
+   * Time (in nanoseconds) when the backend was launched.
+   */
+  private final long launchedAt;
+
+  /**
+   * The startup logged by Spring, once it is.
+   */
+  private final CompletableFuture<Duration> startup =
+    new CompletableFuture<Duration>();
+  //#endregion
+
+  //#region Constructors
+  /**
+   * Watch the given JVM of the backend.
+   *
+   * @param backendProcess The JVM of the backend, just launched.
+   * @param backendURI     The URL of the backend.
+   * @param launchTime     Time (in nanoseconds) when it was launched.
+   */
+  private BackendProcess(
+    final Process backendProcess,
+    final URI backendURI,
+    final long launchTime
+  ) {
+    process = backendProcess;
+    backend = backendURI;
+    launchedAt = launchTime;
+
+    Thread.ofVirtual().name("backend-output").start(this::readOutput);
+  }
+
+  /**
+   * Launch the backend on its own JVM, on a free port.
+   *
+   * @param javaOptions  The options of the JVM.
+   * @param classpath    The classpath of the backend.
+   * @param stub         The stub of the OMDb API.
+   * @param directory    The directory of the files of the backend.
+   * @return             The launched backend, still starting.
+   * @throws IOException If the JVM cannot be launched.
+   */
+  static BackendProcess launch(
+    final List<String> javaOptions,
+    final String classpath,
+    final OMDbStub stub,
+    final Path directory
+  ) throws IOException {
+    final int port = freePort();
+    final List<String> command = new ArrayList<String>();
+
+    command.add(
+      Path.of(System.getProperty("java.home"), "bin", "java").toString()
+    );
+    command.addAll(javaOptions);
+    command.add("-cp");
+    command.add(classpath);
+    command.add(PMoviesBackend.class.getName());
+    command.addAll(List.of(LoadTest.arguments(stub, directory, port)));
+    command.add("--spring.main.banner-mode=off");
+    command.add(
+      "--logging.level." + PMoviesBackend.class.getName() + "=INFO"
+    );
+
+    final long launchedAt = System.nanoTime();
+    final Process process = new ProcessBuilder(command)
+      .redirectErrorStream(true)
+      .start();
+
+    return new BackendProcess(
+      process,
+      URI.create("http://localhost:" + port),
+      launchedAt
+    );
+  }
+  //#endregion
+
+  //#region Methods
+  /**
+   * Wait until a search is answered successfully.
+   *
+   * @return                      The time since the backend was launched.
+   * @throws InterruptedException If interrupted while waiting.
+   */
+  Duration awaitFirstSearch() throws InterruptedException {
+    final long deadline = launchedAt + READY_TIMEOUT.toNanos();
+
+    while (System.nanoTime() < deadline) {
+      if (!process.isAlive()) {
+        throw new IllegalStateException(
+          "Backend exited with " + process.exitValue() + "!"
+        );
+      }
+
+      if (get(SEARCH) / STATUS_CLASS == SUCCESS) {
+        return Duration.ofNanos(System.nanoTime() - launchedAt);
+      }
+
+      Thread.sleep(POLL_INTERVAL);
+    }
+
+    throw new IllegalStateException(
+      "Backend did not answer a search in " + READY_TIMEOUT + "!"
+    );
+  }
+
+  /**
+   * Wait until the startup is logged by Spring.
+   *
+   * @return The time since the JVM of the backend started.
+   */
+  Duration awaitStartup() {
+    return startup
+      .orTimeout(READY_TIMEOUT.toNanos(), TimeUnit.NANOSECONDS)
+      .join();
+  }
+
+  /**
+   * Request the given path of the backend.
+   *
+   * @param path                  The path, with its query, if any.
+   * @return                      The HTTP status code of the answer,
+   *                              or <code>-1</code> if it failed.
+   * @throws InterruptedException If interrupted while waiting.
+   */
+  int get(final String path) throws InterruptedException {
+    try {
+      return client
+        .send(
+          HttpRequest
+            .newBuilder(backend.resolve(path))
+            .timeout(REQUEST_TIMEOUT)
+            .GET()
+            .build(),
+          BodyHandlers.discarding()
+        )
+        .statusCode();
+    } catch (IOException e) {
+      return -1;
+    }
+  }
+
+  /**
+   * Write the output of the backend, watching for its startup.
+   */
+  private void readOutput() {
+    try (
+      BufferedReader reader = new BufferedReader(new InputStreamReader(
+        process.getInputStream(),
+        StandardCharsets.UTF_8
+      ))
+    ) {
+      String line;
+
+      while ((line = reader.readLine()) != null) {
+        System.out.println(line);
+
+        final Matcher started = STARTED.matcher(line);
+
+        if (started.find()) {
+          startup.complete(Duration.ofNanos(Math.round(
+            Double.parseDouble(started.group(1)) * NANOS_PER_SECOND
+          )));
+        }
+      }
+    } catch (IOException e) {
+      startup.completeExceptionally(e);
+    }
+
+    startup.completeExceptionally(
+      new IllegalStateException("Backend did not log its startup!")
+    );
+  }
+  //#endregion
+
+  //#region Helpers
+  /**
+   * Find a free port of the loopback address.
+   *
+   * @return             A port, free at least until now.
+   * @throws IOException If no port can be opened.
+   */
+  private static int freePort() throws IOException {
+    try (
+      ServerSocket socket =
+        new ServerSocket(0, 0, InetAddress.getLoopbackAddress())
+    ) {
+      return socket.getLocalPort();
+    }
+  }
+  //#endregion
+
+  //#region Override Methods
+  /**
+   * Stop the backend gracefully, as on a <code>SIGTERM</code>,
+   * waiting until its JVM exits.
+   */
+  @Override
+  public void close() {
+    client.close();
+    process.destroy();
+
+    try {
+      if (!process.waitFor(EXIT_TIMEOUT.toNanos(), TimeUnit.NANOSECONDS)) {
+        process.destroyForcibly();
+      }
+    } catch (InterruptedException e) {
+      process.destroyForcibly();
+      Thread.currentThread().interrupt();
+    }
+  }
+  //#endregion
+}
@@ -0,0 +1,165 @@
+package br.dev.mestretramador.pmovies.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Recorder of the latency and status of the answered requests.
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+public final class LatencyRecorder {
+  //#region Constants
+  /**
+   * Latencies kept before the first growth.
+   */
+  private static final int INITIAL_CAPACITY = 4096;
+
+  /**
+   * Divisor of an HTTP status code into its class.
+   */
+  private static final int STATUS_CLASS = 100;
+
+  /**
+   * Number of the HTTP status classes, plus the failed requests.
+   */
+  private static final int STATUS_CLASSES = 6;
+
+  /**
+   * HTTP status class of the redirections.
+   */
+  private static final int REDIRECTION = 3;
+
+  /**
+   * HTTP status class of the client errors.
+   */
+  private static final int CLIENT_ERROR = 4;
+
+  /**
+   * HTTP status class of the server errors.
+   */
+  private static final int SERVER_ERROR = 5;
+
+  /**
+   * Median, as a fraction.
+   */
+  private static final double P50 = 0.5;
+
+  /**
+   * 99th percentile, as a fraction.
+   */
+  static final double P99 = 0.99;
+
+  /**
+   * 99.9th percentile, as a fraction.
+   */
+  private static final double P999 = 0.999;
+
+  /**
+   * Nanoseconds of a millisecond.
+   */
+  private static final double NANOS_PER_MILLI = 1e6;
+
+  /**
+   * Nanoseconds of a second.
+   */
+  private static final double NANOS_PER_SECOND = 1e9;
+  //#endregion
+
+  //#region Properties
+  /**
+   * Latency (in nanoseconds) of each answered request.
+   */
+  private long[] latencies = new long[INITIAL_CAPACITY];
+
+  /**
+   * Number of the answered requests.
+   */
+  private int count;
+
+  /**
+   * Number of the answered requests by its HTTP status class,
+   * the failed ones being the first.
+   */
+  private final int[] statuses = new int[STATUS_CLASSES];
+  //#endregion
+
+  //#region Methods
+  /**
+   * Record an answered request.
+   *
+   * @param latency The time since the request should have been started,
+   *                in nanoseconds, so late requests count as slow.
+   * @param status  The HTTP status code, or zero if it failed.
+   */
+  public synchronized void record(final long latency, final int status) {
+    if (count == latencies.length) {
+      latencies = Arrays.copyOf(latencies, count * 2);
+    }
+
+    latencies[count++] = latency;
+    statuses[Math.min(status / STATUS_CLASS, STATUS_CLASSES - 1)]++;
+  }
+
+  /**
+   * Read a percentile of the latencies.
+   *
+   * @param percentile The percentile, as a fraction.
+   * @return           The latency, or zero if none is recorded.
+   */
+  public synchronized Duration percentile(final double percentile) {
+    if (count == 0) {
+      return Duration.ZERO;
+    }
+
+    final long[] sorted = Arrays.copyOf(latencies, count);
+
+    Arrays.sort(sorted);
+
+    final int index = (int) Math.ceil(percentile * count) - 1;
+
+    return Duration.ofNanos(sorted[Math.max(index, 0)]);
+  }
+
+  /**
+   * Summarize the recorded requests.
+   *
+   * @param elapsed The time taken by the requests.
+   * @return        The throughput, the latency percentiles
+   *                and the requests by its HTTP status class.
+   */
+  public synchronized String summary(final Duration elapsed) {
+    final double seconds = elapsed.toNanos() / NANOS_PER_SECOND;
+
+    return String.format(
+      """
+      Requests:   %d (2xx %d, 3xx %d, 4xx %d, 5xx %d, failed %d)
+      Throughput: %.1f req/s
+      Latency:    p50 %.1f ms, p99 %.1f ms, p999 %.1f ms, max %.1f ms
+      """,
+      count,
+      statuses[2],
+      statuses[REDIRECTION],
+      statuses[CLIENT_ERROR],
+      statuses[SERVER_ERROR],
+      statuses[0] + statuses[1],
+      count / seconds,
+      millis(percentile(P50)),
+      millis(percentile(P99)),
+      millis(percentile(P999)),
+      millis(percentile(1))
+    );
+  }
+
+  /**
+   * Convert a duration into milliseconds.
+   *
+   * @param duration The duration.
+   * @return         Its milliseconds, with its fraction.
+   */
+  private static double millis(final Duration duration) {
+    return duration.toNanos() / NANOS_PER_MILLI;
+  }
+  //#endregion
+}
@@ -0,0 +1,158 @@
+package br.dev.mestretramador.pmovies.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>
+ *  Open-model load generator of the backend: requests start at random
+ *  (Poisson) arrivals of the given rate, whether or not the previous ones
+ *  were answered, as real clients do.
+ * </p>
+ *
+ * <p>
+ *  The latency of a request counts from when it should have started, so a
+ *  stalled generator does not hide a slow backend. Its searches and IMDb IDs
+ *  are skewed to the first titles, so the popular ones are mostly cached.
+ * </p>
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+public final class LoadGenerator {
+  //#region Constants
+  /**
+   * Nanoseconds of a second.
+   */
+  private static final double NANOS_PER_SECOND = 1e9;
+
+  /**
+   * Longest time of a request.
+   */
+  private static final Duration TIMEOUT = Duration.ofSeconds(30);
+  //#endregion
+
+  //#region Properties
+  /**
+   * The HTTP client of the requests, on virtual threads.
+   */
+  private final HttpClient client;
+
+  /**
+   * The URL of the backend.
+   */
+  private final URI backend;
+
+  /**
+   * The policy of the load.
+   */
+  private final LoadPolicy policy;
+
+  /**
+   * The source of the arrivals and the requested titles.
+   */
+  private final Random random;
+  //#endregion
+
+  //#region Constructors
+  /**
+   * Create the generator of the given load.
+   *
+   * @param backendURI The URL of the backend.
+   * @param loadPolicy The policy of the load.
+   */
+  public LoadGenerator(final URI backendURI, final LoadPolicy loadPolicy) {
+    client = HttpClient
+      .newBuilder()
+      .executor(Executors.newVirtualThreadPerTaskExecutor())
+      .connectTimeout(TIMEOUT)
+      .build();
+    backend = backendURI;
+    policy = loadPolicy;
+    random = new Random(loadPolicy.seed());
+  }
+  //#endregion
+
+  //#region Methods
+  /**
+   * Make the load for the given time, waiting for all of its requests.
+   *
+   * @param duration The time requests are started.
+   * @param recorder The recorder of the answered requests.
+   * @return         The time since the first request was started
+   *                 until the last one was answered.
+   */
+  public Duration run(final Duration duration, final LatencyRecorder recorder) {
+    final List<CompletableFuture<?>> requests =
+      new ArrayList<CompletableFuture<?>>();
+    final long startedAt = System.nanoTime();
+    final long endsAt = startedAt + duration.toNanos();
+    long intendedAt = startedAt;
+
+    while (intendedAt < endsAt) {
+      LockSupport.parkNanos(intendedAt - System.nanoTime());
+
+      final long sentAt = intendedAt;
+
+      requests.add(
+        client
+          .sendAsync(request(), HttpResponse.BodyHandlers.discarding())
+          .whenComplete((response, error) -> recorder.record(
+            System.nanoTime() - sentAt,
+            response == null ? 0 : response.statusCode()
+          ))
+      );
+
+      intendedAt += arrival();
+    }
+
+    CompletableFuture
+      .allOf(requests.toArray(CompletableFuture[]::new))
+      .exceptionally((error) -> null)
+      .join();
+
+    return Duration.ofNanos(System.nanoTime() - startedAt);
+  }
+
+  /**
+   * Draw the time until the next request.
+   *
+   * @return An exponential time, in nanoseconds, of the mean of the rate.
+   */
+  private long arrival() {
+    return Math.round(
+      -Math.log(1 - random.nextDouble()) / policy.rate() * NANOS_PER_SECOND
+    );
+  }
+
+  /**
+   * Draw the next request, either a search or a title by IMDb ID.
+   *
+   * @return A request of a title, the first ones being the most popular.
+   */
+  private HttpRequest request() {
+    final int title = (int) Math.pow(
+      policy.distinctQueries(),
+      random.nextDouble()
+    );
+    final String path = random.nextDouble() < policy.searchRatio()
+      ? "/search?filter=title-" + title
+      : String.format("/title/tt%07d", title);
+
+    return HttpRequest
+      .newBuilder(backend.resolve(path))
+      .timeout(TIMEOUT)
+      .GET()
+      .build();
+  }
+  //#endregion
+}
@@ -0,0 +1,77 @@
+package br.dev.mestretramador.pmovies.loadtest;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Policy of the load made on the backend by the {@link LoadGenerator}.
+ *
+ * @since                           0.0.1
+ * @author                          Mestre-Tramador
+ * @param rate                      Requests started each second, whether or
+ *                                  not the previous ones were answered.
+ * @param duration                  Duration of the measured load.
+ * @param warmup                    Duration of the load made before,
+ *                                  which is not measured.
+ * @param distinctQueries           Number of the distinct titles requested,
+ *                                  the first ones being the most popular.
+ * @param searchRatio               Fraction of the requests being searches,
+ *                                  the others being titles by IMDb ID.
+ * @param maxP99                    The highest 99th percentile of the latency
+ *                                  allowed, or zero if any is allowed.
+ * @param seed                      Seed of the random requests,
+ *                                  so runs can be compared.
+ * @throws NullPointerException     If any data given is <code>null</code>.
+ * @throws IllegalArgumentException If any data given is invalid.
+ */
+public record LoadPolicy(
+  double rate,
+  Duration duration,
+  Duration warmup,
+  int distinctQueries,
+  double searchRatio,
+  Duration maxP99,
+  long seed
+) {
+  /**
+   * The policy cannot be <code>null</code> nor hold invalid values.
+   */
+  public LoadPolicy {
+    Objects.requireNonNull(duration);
+    Objects.requireNonNull(warmup);
+    Objects.requireNonNull(maxP99);
+
+    if (rate <= 0) {
+      throw new IllegalArgumentException("Rate must be positive!");
+    }
+
+    if (duration.isNegative() || duration.isZero() || warmup.isNegative()) {
+      throw new IllegalArgumentException("Durations must be positive!");
+    }
+
+    if (distinctQueries < 1) {
+      throw new IllegalArgumentException("Some query must be requested!");
+    }
+
+    if (searchRatio < 0 || searchRatio > 1) {
+      throw new IllegalArgumentException("Search ratio must be a fraction!");
+    }
+  }
+
+  /**
+   * Read the policy from the system properties, under <code>loadtest.*</code>.
+   *
+   * @return If not set, it is a minute of 50 requests each second.
+   */
+  public static LoadPolicy fromSystemProperties() {
+    return new LoadPolicy(
+      LoadTestProperties.number("rate", "50"),
+      LoadTestProperties.duration("duration", "60s"),
+      LoadTestProperties.duration("warmup", "10s"),
+      (int) LoadTestProperties.number("distinct-queries", "5000"),
+      LoadTestProperties.number("search-ratio", "0.7"),
+      LoadTestProperties.duration("max-p99", "0s"),
+      (long) LoadTestProperties.number("seed", "42")
+    );
+  }
+}
@@ -0,0 +1,148 @@
+package br.dev.mestretramador.pmovies.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import br.dev.mestretramador.pmovies.PMoviesBackend;
+
+/**
+ * <p>
+ *  Load test of the backend against the {@link OMDbStub local OMDb API},
+ *  run with <code>./gradlew loadTest</code>. It reports the throughput and
+ *  the latency percentiles, so regressions are found before they ship.
+ * </p>
+ *
+ * <p>
+ *  The stub and the load are set with <code>-Ploadtest.*</code>, as read by
+ *  {@link OMDbStubPolicy#fromSystemProperties()} and
+ *  {@link LoadPolicy#fromSystemProperties()}. If
+ *  <code>-Ploadtest.max-p99</code> is set and the 99th percentile of the
+ *  latency is higher than it, the test fails.
+ * </p>
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+public final class LoadTest {
+  //#region Constructors
+  /**
+   * It only holds the entry point.
+   */
+  private LoadTest() { }
+  //#endregion
+
+  //#region Main
+  /**
+   * Start the stub and the backend on it, then make the load.
+   *
+   * @param args         Not used.
+   * @throws IOException If the stub or the temporary files
+   *                     of the backend cannot be created.
+   */
+  public static void main(final String[] args) throws IOException {
+    final OMDbStubPolicy stubPolicy = OMDbStubPolicy.fromSystemProperties();
+    final LoadPolicy loadPolicy = LoadPolicy.fromSystemProperties();
+    final Path directory = Files.createTempDirectory("pmovies-loadtest");
+    int status = 0;
+
+    try (
+      OMDbStub stub = OMDbStub.start(stubPolicy);
+      ConfigurableApplicationContext backend = start(stub, directory)
+    ) {
+      final LoadGenerator generator = new LoadGenerator(
+        URI.create(
+          "http://localhost:"
+            + backend.getEnvironment().getProperty("local.server.port")
+        ),
+        loadPolicy
+      );
+
+      System.out.printf("Warming up for %s...%n", loadPolicy.warmup());
+      generator.run(loadPolicy.warmup(), new LatencyRecorder());
+
+      System.out.printf(
+        "Running %.1f req/s for %s...%n",
+        loadPolicy.rate(),
+        loadPolicy.duration()
+      );
+
+      final LatencyRecorder recorder = new LatencyRecorder();
+      final Duration elapsed = generator.run(loadPolicy.duration(), recorder);
+
+      System.out.print(recorder.summary(elapsed));
+
+      final Duration p99 = recorder.percentile(LatencyRecorder.P99);
+
+      if (
+        !loadPolicy.maxP99().isZero()
+          && p99.compareTo(loadPolicy.maxP99()) > 0
+      ) {
+        System.out.printf(
+          "FAILED: p99 %s is higher than %s!%n",
+          p99,
+          loadPolicy.maxP99()
+        );
+
+        status = 1;
+      }
+    }
+
+    System.exit(status);
+  }
+  //#endregion
+
+  //#region Helpers
+  /**
+   * Start the backend on a random port, requesting the given stub.
+   *
+   * @param stub      The stub of the OMDb API.
+   * @param directory The directory of the files of the backend.
+   * @return          The started backend.
+   */
+  private static ConfigurableApplicationContext start(
+    final OMDbStub stub,
+    final Path directory
+  ) {
+    return new SpringApplicationBuilder(PMoviesBackend.class).run(
+      arguments(stub, directory, 0)
+    );
+  }
+
+  /**
+   * Create the arguments of the backend requesting the given stub,
+   * without its rate limit and with its files on the given directory.
+   *
+   * @param stub      The stub of the OMDb API.
+   * @param directory The directory of the files of the backend.
+   * @param port      The port of the backend, or <code>0</code>
+   *                  for a random one.
+   * @return          The command line arguments of the backend.
+   */
+  static String[] arguments(
+    final OMDbStub stub,
+    final Path directory,
+    final int port
+  ) {
+    return new String[] {
+      "--server.port=" + port,
+      "--logging.level.root=WARN",
+      "--omdb.api.scheme=http",
+      "--omdb.api.host=" + stub.address(),
+      "--omdb.api.sub-host.data=",
+      "--omdb.api.sub-host.poster=",
+      "--omdb.api.key=loadtest",
+      "--omdb.api.limit.rate=0",
+      "--omdb.api.limit.daily-budget=0",
+      "--omdb.api.limit.file=" + directory.resolve("omdb-budget"),
+      "--omdb.api.cache.disk.enabled=false",
+      "--omdb.api.cache.poster.directory=" + directory.resolve("posters")
+    };
+  }
+  //#endregion
+}
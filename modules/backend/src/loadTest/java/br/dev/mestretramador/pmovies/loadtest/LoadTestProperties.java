@@ -0,0 +1,54 @@
+package br.dev.mestretramador.pmovies.loadtest;
+
+import java.time.Duration;
+
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Reader of the settings of the load test, given as system
+ * properties, such as <code>-Ploadtest.rate=100</code> on Gradle.
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+final class LoadTestProperties {
+  //#region Constants
+  /**
+   * Prefix of all settings of the load test.
+   */
+  private static final String PREFIX = "loadtest.";
+  //#endregion
+
+  //#region Constructors
+  /**
+   * It only holds the readers.
+   */
+  private LoadTestProperties() { }
+  //#endregion
+
+  //#region Readers
+  /**
+   * Read a duration setting, such as <code>250ms</code> or <code>1m</code>.
+   *
+   * @param name         The name of the setting, without the prefix.
+   * @param defaultValue The value used if it is not set.
+   * @return             The duration.
+   */
+  static Duration duration(final String name, final String defaultValue) {
+    return DurationStyle.detectAndParse(
+      System.getProperty(PREFIX + name, defaultValue)
+    );
+  }
+
+  /**
+   * Read a numeric setting.
+   *
+   * @param name         The name of the setting, without the prefix.
+   * @param defaultValue The value used if it is not set.
+   * @return             The number.
+   */
+  static double number(final String name, final String defaultValue) {
+    return Double.parseDouble(System.getProperty(PREFIX + name, defaultValue));
+  }
+  //#endregion
+}
@@ -0,0 +1,440 @@
+package br.dev.mestretramador.pmovies.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * <p>
+ *  Local imitation of the Data OMDb API, answering its searches
+ *  (<code>s</code>), titles (<code>t</code>) and IMDb IDs (<code>i</code>).
+ * </p>
+ *
+ * <p>
+ *  Each answer takes a log-normal latency, and some of them fail, are
+ *  not found or, for searches, have too many results, as set on its
+ *  {@link OMDbStubPolicy policy}. A search has always the same total
+ *  results, so its pages are consistent.
+ * </p>
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+public final class OMDbStub implements AutoCloseable {
+  //#region Constants
+  /**
+   * Standard normal value of the 99th percentile.
+   */
+  private static final double Z_99 = 2.3263;
+
+  /**
+   * Most results of a search.
+   */
+  private static final int MAX_TOTAL_RESULTS = 500;
+
+  /**
+   * Results of each page of a search.
+   */
+  private static final int PAGE_SIZE = 10;
+
+  /**
+   * First year of the titles.
+   */
+  private static final int FIRST_YEAR = 1970;
+
+  /**
+   * Number of years of the titles.
+   */
+  private static final int YEARS = 55;
+
+  /**
+   * Largest IMDb ID of the titles, of seven digits.
+   */
+  private static final int MAX_IMDB_ID = 10_000_000;
+
+  /**
+   * HTTP status code of a successful answer.
+   */
+  private static final int OK = 200;
+
+  /**
+   * HTTP status code of a failed answer.
+   */
+  private static final int UNAVAILABLE = 503;
+
+  /**
+   * Answer of a request not found.
+   */
+  private static final String NOT_FOUND =
+    "{\"Response\":\"False\",\"Error\":\"Movie not found!\"}";
+
+  /**
+   * Answer of a search with too many results.
+   */
+  private static final String TOO_MANY_RESULTS =
+    "{\"Response\":\"False\",\"Error\":\"Too many results.\"}";
+
+  /**
+   * Answer of a request without a search, title or IMDb ID.
+   */
+  private static final String NO_QUERY =
+    "{\"Response\":\"False\",\"Error\":\"Something went wrong.\"}";
+  //#endregion
+
+  //#region Properties
+  /**
+   * The HTTP server, on a random port of the loopback address.
+   */
+  private final HttpServer server;
+
+  /**
+   * The executor of the answers, one virtual thread each.
+   */
+  private final ExecutorService executor;
+
+  /**
+   * The policy of the answers.
+   */
+  private final OMDbStubPolicy policy;
+
+  /**
+   * Standard deviation of the logarithm of the latency.
+   */
+  private final double sigma;
+  //#endregion
+
+  //#region Constructors
+  /**
+   * Create the imitation on the given server.
+   *
+   * @param httpServer The HTTP server, not started yet.
+   * @param stubPolicy The policy of the answers.
+   */
+  private OMDbStub(
+    final HttpServer httpServer,
+    final OMDbStubPolicy stubPolicy
+  ) {
+    server = httpServer;
+    executor = Executors.newVirtualThreadPerTaskExecutor();
+    policy = stubPolicy;
+    sigma = Math.log(
+      (double) stubPolicy.latencyP99().toNanos()
+        / stubPolicy.latencyMedian().toNanos()
+    ) / Z_99;
+
+    server.createContext("/", this::handle);
+    server.setExecutor(executor);
+  }
+
+  /**
+   * Start the imitation on a random port of the loopback address.
+   *
+   * @param stubPolicy   The policy of the answers.
+   * @return             The started imitation.
+   * @throws IOException If the server cannot be started.
+   */
+  public static OMDbStub start(final OMDbStubPolicy stubPolicy)
+    throws IOException {
+    final OMDbStub stub = new OMDbStub(
+      HttpServer.create(
+        new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+        0
+      ),
+      stubPolicy
+    );
+
+    stub.server.start();
+
+    return stub;
+  }
+  //#endregion
+
+  //#region Accessors
+  /**
+   * Read the address where the imitation is answering.
+   *
+   * @return The host and port, such as <code>127.0.0.1:8080</code>.
+   */
+  public String address() {
+    return String.format(
+      "%s:%d",
+      server.getAddress().getHostString(),
+      server.getAddress().getPort()
+    );
+  }
+  //#endregion
+
+  //#region Handlers
+  /**
+   * Answer a request after its latency.
+   *
+   * @param exchange     The request and its answer.
+   * @throws IOException If the answer cannot be written.
+   */
+  private void handle(final HttpExchange exchange) throws IOException {
+    try {
+      final Map<String, String> query = parse(
+        exchange.getRequestURI().getRawQuery()
+      );
+      final ThreadLocalRandom random = ThreadLocalRandom.current();
+
+      try {
+        Thread.sleep(latency(random));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+
+        return;
+      }
+
+      final double outcome = random.nextDouble();
+
+      if (outcome < policy.errorRate()) {
+        exchange.sendResponseHeaders(UNAVAILABLE, -1);
+
+        return;
+      }
+
+      final boolean notFound =
+        outcome < policy.errorRate() + policy.notFoundRate();
+
+      write(exchange, answer(query, notFound, random));
+    } finally {
+      exchange.close();
+    }
+  }
+
+  /**
+   * Create the answer of a request.
+   *
+   * @param query    The query params of the request.
+   * @param notFound If the request is not found.
+   * @param random   The source of the random answers.
+   * @return         The JSON of the answer.
+   */
+  private String answer(
+    final Map<String, String> query,
+    final boolean notFound,
+    final ThreadLocalRandom random
+  ) {
+    final String search = query.get("s");
+
+    if (search != null) {
+      if (notFound) {
+        return NOT_FOUND;
+      }
+
+      if (random.nextDouble() < policy.tooManyResultsRate()) {
+        return TOO_MANY_RESULTS;
+      }
+
+      return search(search, Integer.parseInt(query.getOrDefault("page", "1")));
+    }
+
+    final String title = query.containsKey("t")
+      ? query.get("t")
+      : query.get("i");
+
+    if (title == null) {
+      return NO_QUERY;
+    }
+
+    return notFound ? NOT_FOUND : title(title, query.containsKey("i"));
+  }
+
+  /**
+   * Create a page of a search.
+   *
+   * @param search The search.
+   * @param page   The page of the search.
+   * @return       The JSON of the page, or of a search not found
+   *               if the page is past the last one.
+   */
+  private static String search(final String search, final int page) {
+    final int totalResults =
+      1 + Math.floorMod(search.hashCode(), MAX_TOTAL_RESULTS);
+    final int first = (page - 1) * PAGE_SIZE;
+
+    if (first < 0 || first >= totalResults) {
+      return NOT_FOUND;
+    }
+
+    final StringJoiner items = new StringJoiner(",", "[", "]");
+
+    for (
+      int item = first;
+      item < Math.min(first + PAGE_SIZE, totalResults);
+      item++
+    ) {
+      final String title = search + " " + item;
+
+      items.add(String.format(
+        "{\"Title\":\"%s\",\"Year\":\"%d\",\"imdbID\":\"%s\","
+          + "\"Type\":\"movie\",\"Poster\":\"N/A\"}",
+        quote(title),
+        year(title),
+        imdbID(title)
+      ));
+    }
+
+    return String.format(
+      "{\"Search\":%s,\"totalResults\":\"%d\",\"Response\":\"True\"}",
+      items,
+      totalResults
+    );
+  }
+
+  /**
+   * Create the details of a title.
+   *
+   * @param title    The name or IMDb ID of the title.
+   * @param byIMDbID If it was requested by its IMDb ID.
+   * @return         The JSON of the details.
+   */
+  private static String title(final String title, final boolean byIMDbID) {
+    return String.format(
+      "{\"Title\":\"%s\",\"Year\":\"%d\",\"Rated\":\"PG-13\","
+        + "\"Released\":\"01 Jan %2$d\",\"Runtime\":\"120 min\","
+        + "\"Genre\":\"Action, Sci-Fi\",\"Director\":\"Jane Doe\","
+        + "\"Writer\":\"John Doe\",\"Actors\":\"Jane Roe, John Roe\","
+        + "\"Plot\":\"A title imitated for a load test.\","
+        + "\"Language\":\"English\",\"Country\":\"United States\","
+        + "\"Awards\":\"N/A\",\"Poster\":\"N/A\",\"Ratings\":["
+        + "{\"Source\":\"Internet Movie Database\",\"Value\":\"7.5/10\"}],"
+        + "\"Metascore\":\"70\",\"imdbRating\":\"7.5\","
+        + "\"imdbVotes\":\"1,000\",\"imdbID\":\"%s\",\"Type\":\"movie\","
+        + "\"BoxOffice\":\"N/A\",\"Response\":\"True\"}",
+      quote(byIMDbID ? "Title " + title : title),
+      year(title),
+      byIMDbID ? quote(title) : imdbID(title)
+    );
+  }
+  //#endregion
+
+  //#region Helpers
+  /**
+   * Draw the latency of an answer.
+   *
+   * @param random The source of the latency.
+   * @return       A log-normal latency, of the median and
+   *               99th percentile of the policy.
+   */
+  private Duration latency(final ThreadLocalRandom random) {
+    final double deviation = Math.exp(sigma * random.nextGaussian());
+
+    return Duration.ofNanos(
+      Math.round(policy.latencyMedian().toNanos() * deviation)
+    );
+  }
+
+  /**
+   * Read the year of a title.
+   *
+   * @param title The name of the title.
+   * @return      Always the same one for the title.
+   */
+  private static int year(final String title) {
+    return FIRST_YEAR + Math.floorMod(title.hashCode(), YEARS);
+  }
+
+  /**
+   * Read the IMDb ID of a title.
+   *
+   * @param title The name of the title.
+   * @return      Always the same one for the title.
+   */
+  private static String imdbID(final String title) {
+    return String.format(
+      "tt%07d",
+      Math.floorMod(title.hashCode(), MAX_IMDB_ID)
+    );
+  }
+
+  /**
+   * Escape a value to be written inside a JSON string.
+   *
+   * @param value The value.
+   * @return      The value, without unescaped quotes nor backslashes.
+   */
+  private static String quote(final String value) {
+    return value.replace("\\", "\\\\").replace("\"", "\\\"");
+  }
+
+  /**
+   * Parse the raw query of a request.
+   *
+   * @param rawQuery The query, still encoded, if any.
+   * @return         The params, by its names.
+   */
+  private static Map<String, String> parse(final String rawQuery) {
+    final Map<String, String> query = new HashMap<String, String>();
+
+    if (rawQuery == null) {
+      return query;
+    }
+
+    for (String param : rawQuery.split("&")) {
+      final int separator = param.indexOf('=');
+
+      if (separator > 0) {
+        query.put(
+          URLDecoder.decode(
+            param.substring(0, separator),
+            StandardCharsets.UTF_8
+          ),
+          URLDecoder.decode(
+            param.substring(separator + 1),
+            StandardCharsets.UTF_8
+          )
+        );
+      }
+    }
+
+    return query;
+  }
+
+  /**
+   * Write a successful JSON answer.
+   *
+   * @param exchange     The request and its answer.
+   * @param json         The JSON of the answer.
+   * @throws IOException If the answer cannot be written.
+   */
+  private static void write(final HttpExchange exchange, final String json)
+    throws IOException {
+    final byte[] body = json.getBytes(StandardCharsets.UTF_8);
+
+    exchange
+      .getResponseHeaders()
+      .set("Content-Type", "application/json; charset=utf-8");
+    exchange.sendResponseHeaders(OK, body.length);
+
+    try (OutputStream output = exchange.getResponseBody()) {
+      output.write(body);
+    }
+  }
+  //#endregion
+
+  //#region Override Methods
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+  //#endregion
+}
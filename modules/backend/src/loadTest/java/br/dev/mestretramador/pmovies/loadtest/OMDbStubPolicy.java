@@ -0,0 +1,75 @@
+package br.dev.mestretramador.pmovies.loadtest;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Policy of the answers of the {@link OMDbStub local OMDb API}.
+ *
+ * @since                           0.0.1
+ * @author                          Mestre-Tramador
+ * @param latencyMedian             Median of the latency of the answers.
+ * @param latencyP99                99th percentile of the latency of the
+ *                                  answers, which is log-normal.
+ * @param errorRate                 Fraction of the requests
+ *                                  failed with HTTP <b>503</b>.
+ * @param tooManyResultsRate        Fraction of the searches answered
+ *                                  with "Too many results.".
+ * @param notFoundRate              Fraction of the requests
+ *                                  answered with "Movie not found!".
+ * @throws NullPointerException     If any data given is <code>null</code>.
+ * @throws IllegalArgumentException If any latency or fraction is invalid.
+ */
+public record OMDbStubPolicy(
+  Duration latencyMedian,
+  Duration latencyP99,
+  double errorRate,
+  double tooManyResultsRate,
+  double notFoundRate
+) {
+  /**
+   * The policy cannot be <code>null</code> nor hold invalid values.
+   */
+  public OMDbStubPolicy {
+    Objects.requireNonNull(latencyMedian);
+    Objects.requireNonNull(latencyP99);
+
+    if (latencyMedian.isNegative() || latencyMedian.isZero()) {
+      throw new IllegalArgumentException("Latency median must be positive!");
+    }
+
+    if (latencyP99.compareTo(latencyMedian) < 0) {
+      throw new IllegalArgumentException(
+        "Latency 99th percentile cannot be lower than its median!"
+      );
+    }
+
+    if (
+      errorRate < 0
+        || tooManyResultsRate < 0
+        || notFoundRate < 0
+        || errorRate + tooManyResultsRate + notFoundRate > 1
+    ) {
+      throw new IllegalArgumentException(
+        "Rates must be positive fractions, adding up to 1 at most!"
+      );
+    }
+  }
+
+  /**
+   * Read the policy from the system properties, under
+   * <code>loadtest.stub.*</code>.
+   *
+   * @return If not set, the answers take around 120 milliseconds,
+   *         and a few of them fail or are not found.
+   */
+  public static OMDbStubPolicy fromSystemProperties() {
+    return new OMDbStubPolicy(
+      LoadTestProperties.duration("stub.latency-median", "120ms"),
+      LoadTestProperties.duration("stub.latency-p99", "800ms"),
+      LoadTestProperties.number("stub.error-rate", "0.01"),
+      LoadTestProperties.number("stub.too-many-results-rate", "0.05"),
+      LoadTestProperties.number("stub.not-found-rate", "0.1")
+    );
+  }
+}
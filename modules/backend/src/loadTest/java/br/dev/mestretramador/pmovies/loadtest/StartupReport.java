@@ -0,0 +1,312 @@
+package br.dev.mestretramador.pmovies.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ *  Training and report of the fast-startup profile, run with
+ *  <code>./gradlew startupReport -PfastStartup</code>. The backend is
+ *  launched on its own JVM against the {@link OMDbStub local OMDb API},
+ *  from the classes packed on the given directory.
+ * </p>
+ *
+ * <p>
+ *  The training (<code>train</code>) starts the backend processed
+ *  ahead-of-time by Spring, makes a few requests of each route, then
+ *  stops it, writing the classes it loaded into a class data sharing
+ *  archive. The report (<code>report</code>) starts the backend on the
+ *  default profile and on the fast-startup one, with that archive, for
+ *  <code>-Ploadtest.startup.runs</code> times, and writes the medians of
+ *  its startup and of its first successful search.
+ * </p>
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+public final class StartupReport {
+  //#region Constants
+  /**
+   * Name of the training mode.
+   */
+  private static final String TRAIN = "train";
+
+  /**
+   * Name of the class data sharing archive, on the given directory.
+   */
+  private static final String ARCHIVE = "pmovies-backend.jsa";
+
+  /**
+   * Name of the directory of the libraries, on the given directory.
+   */
+  private static final String LIBRARIES = "lib";
+
+  /**
+   * Requests made by the training, so the classes of each route are loaded.
+   */
+  private static final List<String> TRAINING_PATHS = List.of(
+    "/search?filter=training",
+    "/search?filter=training&page=2",
+    "/search?filter=training&type=movie&year=2000",
+    "/title/tt0000001",
+    "/title?t=training",
+    "/autocomplete?q=train",
+    "/poster/tt0000001",
+    "/actuator/health",
+    "/actuator/prometheus"
+  );
+
+  /**
+   * Times the training makes its requests.
+   */
+  private static final int TRAINING_ROUNDS = 3;
+  //#endregion
+
+  //#region Constructors
+  /**
+   * It only holds the entry point.
+   */
+  private StartupReport() { }
+  //#endregion
+
+  //#region Main
+  /**
+   * Start the stub, then train the archive or report the startup.
+   *
+   * @param args                  Either <code>train</code> or
+   *                              <code>report</code>, then the directory
+   *                              of the packed classes and libraries.
+   * @throws IOException          If the stub, the backend or its
+   *                              temporary files cannot be created.
+   * @throws InterruptedException If interrupted while waiting.
+   */
+  public static void main(final String[] args)
+    throws IOException, InterruptedException {
+    final Path directory = Path.of(args[1]);
+    final Path archive = directory.resolve(ARCHIVE);
+    final String classpath = classpath(directory);
+    final Path files = Files.createTempDirectory("pmovies-startup");
+    final OMDbStubPolicy configured = OMDbStubPolicy.fromSystemProperties();
+
+    try (
+      OMDbStub stub = OMDbStub.start(new OMDbStubPolicy(
+        configured.latencyMedian(),
+        configured.latencyP99(),
+        0,
+        0,
+        0
+      ))
+    ) {
+      if (args[0].equals(TRAIN)) {
+        train(archive, classpath, stub, files);
+      } else {
+        report(archive, classpath, stub, files);
+      }
+    }
+  }
+  //#endregion
+
+  //#region Modes
+  /**
+   * Train the class data sharing archive of the fast-startup profile.
+   *
+   * @param archive               The archive to be written.
+   * @param classpath             The classpath of the backend.
+   * @param stub                  The stub of the OMDb API.
+   * @param files                 The directory of the files of the backend.
+   * @throws IOException          If the backend cannot be launched.
+   * @throws InterruptedException If interrupted while waiting.
+   */
+  private static void train(
+    final Path archive,
+    final String classpath,
+    final OMDbStub stub,
+    final Path files
+  ) throws IOException, InterruptedException {
+    Files.deleteIfExists(archive);
+
+    try (
+      BackendProcess backend = BackendProcess.launch(
+        List.of(
+          "-XX:ArchiveClassesAtExit=" + archive,
+          "-Dspring.aot.enabled=true"
+        ),
+        classpath,
+        stub,
+        files
+      )
+    ) {
+      backend.awaitFirstSearch();
+
+      for (int round = 0; round < TRAINING_ROUNDS; round++) {
+        for (String path : TRAINING_PATHS) {
+          backend.get(path);
+        }
+      }
+    }
+
+    if (!Files.exists(archive)) {
+      throw new IllegalStateException(
+        "Class data sharing archive was not written on " + archive + "!"
+      );
+    }
+
+    System.out.printf("Trained %s.%n", archive);
+  }
+
+  /**
+   * Report the startup of the default and the fast-startup profiles.
+   *
+   * @param archive               The trained archive.
+   * @param classpath             The classpath of the backend.
+   * @param stub                  The stub of the OMDb API.
+   * @param files                 The directory of the files of the backend.
+   * @throws IOException          If the backend cannot be launched.
+   * @throws InterruptedException If interrupted while waiting.
+   */
+  private static void report(
+    final Path archive,
+    final String classpath,
+    final OMDbStub stub,
+    final Path files
+  ) throws IOException, InterruptedException {
+    if (!Files.exists(archive)) {
+      throw new IllegalStateException(
+        "Class data sharing archive not found on " + archive + "!"
+      );
+    }
+
+    final int runs = (int) LoadTestProperties.number("startup.runs", "5");
+    final List<Profile> profiles = List.of(
+      new Profile("default", List.of()),
+      new Profile(
+        "fast-startup",
+        List.of(
+          "-XX:SharedArchiveFile=" + archive,
+          "-Dspring.aot.enabled=true"
+        )
+      )
+    );
+
+    for (int run = 0; run < runs; run++) {
+      for (Profile profile : profiles) {
+        try (
+          BackendProcess backend = BackendProcess.launch(
+            profile.javaOptions(),
+            classpath,
+            stub,
+            files
+          )
+        ) {
+          profile.firstSearches().add(backend.awaitFirstSearch());
+          profile.startups().add(backend.awaitStartup());
+        }
+      }
+    }
+
+    System.out.printf(
+      "%nMedians of %d runs:%n%-14s %10s %14s%n",
+      runs,
+      "Profile",
+      "Startup",
+      "First search"
+    );
+
+    for (Profile profile : profiles) {
+      System.out.printf(
+        "%-14s %8d ms %11d ms%n",
+        profile.name(),
+        median(profile.startups()).toMillis(),
+        median(profile.firstSearches()).toMillis()
+      );
+    }
+  }
+  //#endregion
+
+  //#region Helpers
+  /**
+   * Create the classpath of the backend from the given directory.
+   * It must be the same on the training and on the report, so its
+   * libraries are always in the same order.
+   *
+   * @param directory    The directory of the packed classes and libraries.
+   * @return             The packed classes, then each library, by its name.
+   * @throws IOException If the directory cannot be read.
+   */
+  private static String classpath(final Path directory) throws IOException {
+    final List<String> entries = new ArrayList<String>();
+
+    try (Stream<Path> packed = Files.list(directory)) {
+      packed
+        .filter((path) -> path.toString().endsWith(".jar"))
+        .sorted()
+        .forEach((path) -> entries.add(path.toString()));
+    }
+
+    try (Stream<Path> libraries = Files.list(directory.resolve(LIBRARIES))) {
+      entries.addAll(
+        libraries
+          .map(Path::toString)
+          .sorted()
+          .collect(Collectors.toList())
+      );
+    }
+
+    return String.join(File.pathSeparator, entries);
+  }
+
+  /**
+   * Read the median of the given durations.
+   *
+   * @param durations The durations, at least one.
+   * @return          The middle one, once sorted.
+   */
+  private static Duration median(final List<Duration> durations) {
+    return durations
+      .stream()
+      .sorted()
+      .skip((durations.size() - 1) / 2)
+      .findFirst()
+      .orElseThrow();
+  }
+  //#endregion
+
+  //#region Records
+  /**
+   * A profile of the backend, with its measures.
+   *
+   * @param name          The name of the profile.
+   * @param javaOptions   The options of the JVM of the backend.
+   * @param startups      The startups logged by Spring.
+   * @param firstSearches The times until the first successful search.
+   */
+  private record Profile(
+    String name,
+    List<String> javaOptions,
+    List<Duration> startups,
+    List<Duration> firstSearches
+  ) {
+    /**
+     * Create the profile without measures.
+     *
+     * @param profileName    The name of the profile.
+     * @param profileOptions The options of the JVM of the backend.
+     */
+    Profile(final String profileName, final List<String> profileOptions) {
+      this(
+        profileName,
+        profileOptions,
+        new ArrayList<Duration>(),
+        new ArrayList<Duration>()
+      );
+    }
+  }
+  //#endregion
+}
@@ -0,0 +1,6 @@
+/**
+ * Local imitation of the OMDb API and a load generator of the backend,
+ * to measure its latency offline, under a traffic shape like the real one,
+ * and its startup, on the default and the fast-startup profiles.
+ */
+package br.dev.mestretramador.pmovies.loadtest;
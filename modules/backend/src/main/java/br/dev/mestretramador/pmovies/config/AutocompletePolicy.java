@@ -0,0 +1,72 @@
+package br.dev.mestretramador.pmovies.config;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import br.dev.mestretramador.pmovies.service.OMDbTitleIndex;
+
+/**
+ * Policy of the autocomplete, which suggests the titles
+ * already seen on searches, by a prefix of its name or IMDb ID.
+ *
+ * @since                           0.0.1
+ * @author                          Mestre-Tramador
+ * @param maxTitles                 Maximum of titles kept on the index.
+ * @param limit                     Maximum of suggested titles.
+ * @param fallbackLength            Shortest prefix searched on OMDb API,
+ *                                  if not enough titles are suggested.
+ * @throws IllegalArgumentException If any value is not positive, or the
+ *                                  limit is above the one of the index.
+ */
+public record AutocompletePolicy(
+  @DefaultValue("20000") int maxTitles,
+  @DefaultValue("10") int limit,
+  @DefaultValue("3") int fallbackLength
+) {
+  /**
+   * The policy cannot hold invalid values.
+   */
+  public AutocompletePolicy {
+    if (maxTitles < 1 || fallbackLength < 1) {
+      throw new IllegalArgumentException(
+        "Autocomplete max titles and fallback length must be positive!"
+      );
+    }
+
+    if (limit < 1 || limit > OMDbTitleIndex.MAX_SUGGESTIONS) {
+      throw new IllegalArgumentException(
+        String.format(
+          "Autocomplete limit must be between 1 and %d!",
+          OMDbTitleIndex.MAX_SUGGESTIONS
+        )
+      );
+    }
+  }
+
+  /**
+   * Read the maximum of titles kept on the index.
+   *
+   * @return Titles seen after it is full are not suggested.
+   */
+  public int maxTitles() {
+    return maxTitles;
+  }
+
+  /**
+   * Read the maximum of suggested titles.
+   *
+   * @return The most popular ones are suggested first.
+   */
+  public int limit() {
+    return limit;
+  }
+
+  /**
+   * Read the shortest prefix searched on OMDb API.
+   *
+   * @return Shorter prefixes are only answered by the index,
+   *         as OMDb API has too many results for them.
+   */
+  public int fallbackLength() {
+    return fallbackLength;
+  }
+}
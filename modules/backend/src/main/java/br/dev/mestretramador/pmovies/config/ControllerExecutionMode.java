@@ -0,0 +1,33 @@
+package br.dev.mestretramador.pmovies.config;
+
+/**
+ * All available ways for the controllers to execute its requests.
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+public enum ControllerExecutionMode {
+  //#region Entries
+  /**
+   * The request thread waits (blocks) until OMDb API answers.
+   */
+  BLOCKING,
+
+  /**
+   * The request thread is released while OMDb API answers,
+   * the response being written once it arrives.
+   *
+   * @apiNote It is the only mode able to run
+   *          on the WebFlux (Netty) runtime.
+   */
+  REACTIVE,
+
+  /**
+   * The request, and any asynchronous work, runs on virtual threads,
+   * so waiting until OMDb API answers only parks a cheap virtual thread.
+   *
+   * @see br.dev.mestretramador.pmovies.config.VirtualThreadConfig
+   */
+  VIRTUAL
+  //#endregion
+}
@@ -0,0 +1,73 @@
+package br.dev.mestretramador.pmovies.config;
+
+import java.util.Objects;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Properties for the execution of the controllers.
+ *
+ * @since                       0.0.1
+ * @author                      Mestre-Tramador
+ * @param mode                  How the controllers execute its requests.
+ * @param aggregation           Policy of the aggregated searches.
+ * @param batch                 Policy of the batch lookups of titles.
+ * @param autocomplete          Policy of the autocomplete of titles.
+ * @throws NullPointerException If any data given is <code>null</code>.
+ */
+@ConfigurationProperties(prefix = "pmovies.controller")
+public record ControllerProperties(
+  @DefaultValue("blocking") ControllerExecutionMode mode,
+  @DefaultValue SearchAggregationPolicy aggregation,
+  @DefaultValue TitleBatchPolicy batch,
+  @DefaultValue AutocompletePolicy autocomplete
+) {
+  /**
+   * The properties cannot be <code>null</code>.
+   */
+  public ControllerProperties {
+    Objects.requireNonNull(mode);
+    Objects.requireNonNull(aggregation);
+    Objects.requireNonNull(batch);
+    Objects.requireNonNull(autocomplete);
+  }
+
+  /**
+   * Read the way the controllers execute its requests.
+   *
+   * @return By default, it is the
+   *         {@link ControllerExecutionMode#BLOCKING blocking} one.
+   */
+  public ControllerExecutionMode mode() {
+    return mode;
+  }
+
+  /**
+   * Read the policy of the aggregated searches.
+   *
+   * @return It limits how many pages are requested, and how fast.
+   */
+  public SearchAggregationPolicy aggregation() {
+    return aggregation;
+  }
+
+  /**
+   * Read the policy of the batch lookups of titles.
+   *
+   * @return It limits how many titles are requested, and how fast.
+   */
+  public TitleBatchPolicy batch() {
+    return batch;
+  }
+
+  /**
+   * Read the policy of the autocomplete of titles.
+   *
+   * @return It limits how many titles are kept and suggested,
+   *         and when OMDb API is searched.
+   */
+  public AutocompletePolicy autocomplete() {
+    return autocomplete;
+  }
+}
@@ -0,0 +1,141 @@
+package br.dev.mestretramador.pmovies.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import br.dev.mestretramador.pmovies.service.OMDbAPIDiskCache;
+import br.dev.mestretramador.pmovies.service.OMDbAPIPosterCache;
+import br.dev.mestretramador.pmovies.service.OMDbAPIPrefetcher;
+import br.dev.mestretramador.pmovies.service.OMDbAPIResponseCache;
+
+/**
+ * In-memory caches of OMDb API responses, one for each kind of request,
+ * the optional persistent (on disk) cache shared by all of them,
+ * the persistent cache of posters, and the prefetcher of search pages.
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+@Configuration(proxyBeanMethods = false)
+public class OMDbAPICacheConfig {
+  //#region Bean Names
+  /**
+   * Name of the cache Bean for search responses.
+   */
+  public static final String SEARCH_CACHE = "omdbAPISearchCache";
+
+  /**
+   * Name of the cache Bean for title and IMDb ID responses.
+   */
+  public static final String TITLE_CACHE = "omdbAPITitleCache";
+
+  /**
+   * Name of the persistent cache Bean.
+   */
+  public static final String DISK_CACHE = "omdbAPIDiskCache";
+
+  /**
+   * Name of the poster cache Bean.
+   */
+  public static final String POSTER_CACHE = "omdbAPIPosterCache";
+
+  /**
+   * Name of the search page prefetcher Bean.
+   */
+  public static final String PREFETCHER = "omdbAPIPrefetcher";
+  //#endregion
+
+  //#region Beans
+  /**
+   * The cache of search responses.
+   *
+   * @param apiProperties The properties (environment variables)
+   *                      of the OMDb API.
+   * @return              Its metrics are published as the
+   *                      <code>omdb.search</code> cache.
+   */
+  @Bean(SEARCH_CACHE)
+  public OMDbAPIResponseCache omdbAPISearchCache(
+    final OMDbAPIProperties apiProperties
+  ) {
+    return new OMDbAPIResponseCache(
+      "omdb.search",
+      apiProperties.cache().search()
+    );
+  }
+
+  /**
+   * The cache of title and IMDb ID responses.
+   *
+   * @param apiProperties The properties (environment variables)
+   *                      of the OMDb API.
+   * @return              Its metrics are published as the
+   *                      <code>omdb.title</code> cache.
+   */
+  @Bean(TITLE_CACHE)
+  public OMDbAPIResponseCache omdbAPITitleCache(
+    final OMDbAPIProperties apiProperties
+  ) {
+    return new OMDbAPIResponseCache(
+      "omdb.title",
+      apiProperties.cache().title()
+    );
+  }
+
+  /**
+   * The persistent cache of all responses, only
+   * created if enabled on the properties.
+   *
+   * @param apiProperties The properties (environment variables)
+   *                      of the OMDb API.
+   * @return              Its metrics are published as the
+   *                      <code>omdb.disk</code> cache.
+   */
+  @Bean(name = DISK_CACHE, destroyMethod = "close")
+  @ConditionalOnProperty(
+    prefix = "omdb.api.cache.disk",
+    name = "enabled",
+    havingValue = "true"
+  )
+  public OMDbAPIDiskCache omdbAPIDiskCache(
+    final OMDbAPIProperties apiProperties
+  ) {
+    return new OMDbAPIDiskCache(apiProperties.cache().disk());
+  }
+
+  /**
+   * The persistent cache of posters.
+   *
+   * @param apiProperties The properties (environment variables)
+   *                      of the OMDb API.
+   * @return              Its metrics are published as the
+   *                      <code>omdb.poster</code> cache.
+   */
+  @Bean(name = POSTER_CACHE, destroyMethod = "close")
+  public OMDbAPIPosterCache omdbAPIPosterCache(
+    final OMDbAPIProperties apiProperties
+  ) {
+    return new OMDbAPIPosterCache(apiProperties.cache().poster());
+  }
+
+  /**
+   * The prefetcher of the next page of the searches,
+   * into the cache of search responses.
+   *
+   * @param apiProperties The properties (environment variables)
+   *                      of the OMDb API.
+   * @return              Prefetched pages are tracked
+   *                      while they are cached.
+   */
+  @Bean(PREFETCHER)
+  public OMDbAPIPrefetcher omdbAPIPrefetcher(
+    final OMDbAPIProperties apiProperties
+  ) {
+    return new OMDbAPIPrefetcher(
+      apiProperties.prefetch(),
+      apiProperties.cache().search().ttl()
+    );
+  }
+  //#endregion
+}
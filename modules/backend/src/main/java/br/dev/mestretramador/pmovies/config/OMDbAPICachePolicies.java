@@ -0,0 +1,71 @@
+package br.dev.mestretramador.pmovies.config;
+
+import java.util.Objects;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Policies of the in-memory caches of OMDb API responses,
+ * one for each kind of request.
+ *
+ * @since                       0.0.1
+ * @author                      Mestre-Tramador
+ * @param search                Policy for search responses.
+ * @param title                 Policy for title and IMDb ID responses.
+ * @param disk                  Policy for keeping responses on disk.
+ * @param poster                Policy for keeping posters on disk.
+ * @throws NullPointerException If any data given is <code>null</code>.
+ */
+public record OMDbAPICachePolicies(
+  @DefaultValue OMDbAPICachePolicy search,
+  @DefaultValue OMDbAPICachePolicy title,
+  @DefaultValue OMDbAPIDiskCachePolicy disk,
+  @DefaultValue OMDbAPIPosterCachePolicy poster
+) {
+  /**
+   * The policies cannot be <code>null</code>.
+   */
+  public OMDbAPICachePolicies {
+    Objects.requireNonNull(search);
+    Objects.requireNonNull(title);
+    Objects.requireNonNull(disk);
+    Objects.requireNonNull(poster);
+  }
+
+  /**
+   * Read the policy of search responses.
+   *
+   * @return It holds the settings of the cache.
+   */
+  public OMDbAPICachePolicy search() {
+    return search;
+  }
+
+  /**
+   * Read the policy of title and IMDb ID responses.
+   *
+   * @return Its TTL is usually longer than the search one,
+   *         as the details of a title rarely change.
+   */
+  public OMDbAPICachePolicy title() {
+    return title;
+  }
+
+  /**
+   * Read the policy of keeping responses on disk.
+   *
+   * @return It holds the settings of the cache.
+   */
+  public OMDbAPIDiskCachePolicy disk() {
+    return disk;
+  }
+
+  /**
+   * Read the policy of keeping posters on disk.
+   *
+   * @return It holds the settings of the cache.
+   */
+  public OMDbAPIPosterCachePolicy poster() {
+    return poster;
+  }
+}
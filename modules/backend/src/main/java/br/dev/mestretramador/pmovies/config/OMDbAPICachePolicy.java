@@ -0,0 +1,64 @@
+package br.dev.mestretramador.pmovies.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Policy of the in-memory cache of a single kind of OMDb API response.
+ *
+ * @since                 0.0.1
+ * @author                Mestre-Tramador
+ * @param ttl             Time a response is kept since it was received.
+ * @param maximumWeight   Maximum size of all the kept responses.
+ * @param staleTtl        Time a response is still kept after it expires,
+ *                        to be served while it is requested again.
+ * @param negativeTtl     Time a failed response (such as a title not
+ *                        found) is kept since it was received.
+ */
+public record OMDbAPICachePolicy(
+  @DefaultValue("10m") Duration ttl,
+  @DefaultValue("64MB") DataSize maximumWeight,
+  @DefaultValue("1d") Duration staleTtl,
+  @DefaultValue("1m") Duration negativeTtl
+) {
+  /**
+   * Read the time a response is kept since it was received.
+   *
+   * @return After it, the response is requested again.
+   */
+  public Duration ttl() {
+    return ttl;
+  }
+
+  /**
+   * Read the maximum size of all the kept responses.
+   *
+   * @return Above it, the least frequently used responses are evicted.
+   */
+  public DataSize maximumWeight() {
+    return maximumWeight;
+  }
+
+  /**
+   * Read the time a response is still kept after it expires.
+   *
+   * @return Until it ends, the stale response is answered at once,
+   *         while it is requested again in background.
+   */
+  public Duration staleTtl() {
+    return staleTtl;
+  }
+
+  /**
+   * Read the time a failed response is kept since it was received.
+   *
+   * @return It is usually shorter than the TTL, as the same request
+   *         may succeed soon. Failures due to the key or its quota
+   *         are never kept.
+   */
+  public Duration negativeTtl() {
+    return negativeTtl;
+  }
+}
@@ -0,0 +1,69 @@
+package br.dev.mestretramador.pmovies.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import br.dev.mestretramador.pmovies.service.OMDbAPICircuitBreaker;
+
+/**
+ * Circuit breakers of the requests made to the OMDb API,
+ * one for each subdomain, so an outage of one does not
+ * fail the requests of the other.
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+@Configuration(proxyBeanMethods = false)
+public class OMDbAPICircuitBreakerConfig {
+  //#region Bean Names
+  /**
+   * Name of the circuit breaker Bean for the Data OMDb API.
+   */
+  public static final String DATA_CIRCUIT_BREAKER =
+    "omdbAPIDataCircuitBreaker";
+
+  /**
+   * Name of the circuit breaker Bean for the Poster OMDb API.
+   */
+  public static final String POSTER_CIRCUIT_BREAKER =
+    "omdbAPIPosterCircuitBreaker";
+  //#endregion
+
+  //#region Beans
+  /**
+   * The circuit breaker of the Data OMDb API requests.
+   *
+   * @param apiProperties The properties (environment variables)
+   *                      of the OMDb API.
+   * @return              Its metrics are published as the
+   *                      <code>omdb.data</code> circuit.
+   */
+  @Bean(DATA_CIRCUIT_BREAKER)
+  public OMDbAPICircuitBreaker omdbAPIDataCircuitBreaker(
+    final OMDbAPIProperties apiProperties
+  ) {
+    return new OMDbAPICircuitBreaker(
+      "omdb.data",
+      apiProperties.circuitBreaker()
+    );
+  }
+
+  /**
+   * The circuit breaker of the Poster OMDb API requests.
+   *
+   * @param apiProperties The properties (environment variables)
+   *                      of the OMDb API.
+   * @return              Its metrics are published as the
+   *                      <code>omdb.poster</code> circuit.
+   */
+  @Bean(POSTER_CIRCUIT_BREAKER)
+  public OMDbAPICircuitBreaker omdbAPIPosterCircuitBreaker(
+    final OMDbAPIProperties apiProperties
+  ) {
+    return new OMDbAPICircuitBreaker(
+      "omdb.poster",
+      apiProperties.circuitBreaker()
+    );
+  }
+  //#endregion
+}
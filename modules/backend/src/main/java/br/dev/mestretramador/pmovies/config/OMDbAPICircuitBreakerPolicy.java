@@ -0,0 +1,111 @@
+package br.dev.mestretramador.pmovies.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Policy of the circuit breaker of the requests made to the OMDb API,
+ * used by each of its subdomains.
+ *
+ * @since                           0.0.1
+ * @author                          Mestre-Tramador
+ * @param windowSize                Number of the last requests
+ *                                  whose failure rate is measured.
+ * @param minimumRequests           Requests needed in the window
+ *                                  before the failure rate is measured.
+ * @param failureRateThreshold      Ratio of failed requests at
+ *                                  which the circuit is opened.
+ * @param slowRequestDuration       Time above which a request counts
+ *                                  as failed, even if it succeeds.
+ * @param openDuration              Time the requests fail at once,
+ *                                  before probing the OMDb API again.
+ * @param probes                    Requests allowed while probing, which
+ *                                  must all succeed to close the circuit.
+ * @throws NullPointerException     If any data given is <code>null</code>.
+ * @throws IllegalArgumentException If any amount is not positive,
+ *                                  or the threshold is not a ratio.
+ */
+public record OMDbAPICircuitBreakerPolicy(
+  @DefaultValue("20") int windowSize,
+  @DefaultValue("10") int minimumRequests,
+  @DefaultValue("0.5") double failureRateThreshold,
+  @DefaultValue("3s") Duration slowRequestDuration,
+  @DefaultValue("30s") Duration openDuration,
+  @DefaultValue("3") int probes
+) {
+  /**
+   * The policy cannot be <code>null</code> nor hold invalid values.
+   */
+  public OMDbAPICircuitBreakerPolicy {
+    Objects.requireNonNull(slowRequestDuration);
+    Objects.requireNonNull(openDuration);
+
+    if (windowSize < 1 || minimumRequests < 1 || probes < 1) {
+      throw new IllegalArgumentException(
+        "Circuit breaker amounts must be positive!"
+      );
+    }
+
+    if (failureRateThreshold <= 0 || failureRateThreshold > 1) {
+      throw new IllegalArgumentException(
+        "Circuit breaker failure rate threshold must be above 0, up to 1!"
+      );
+    }
+  }
+
+  /**
+   * Read the number of the last requests whose failure rate is measured.
+   *
+   * @return It is, at least, <code>1</code>.
+   */
+  public int windowSize() {
+    return windowSize;
+  }
+
+  /**
+   * Read the requests needed before the failure rate is measured.
+   *
+   * @return If above the window size, the window size is used instead.
+   */
+  public int minimumRequests() {
+    return minimumRequests;
+  }
+
+  /**
+   * Read the ratio of failed requests at which the circuit is opened.
+   *
+   * @return It is above <code>0</code>, up to <code>1</code>.
+   */
+  public double failureRateThreshold() {
+    return failureRateThreshold;
+  }
+
+  /**
+   * Read the time above which a request counts as failed.
+   *
+   * @return A zero duration disables it.
+   */
+  public Duration slowRequestDuration() {
+    return slowRequestDuration;
+  }
+
+  /**
+   * Read the time the requests fail at once, once the circuit is opened.
+   *
+   * @return After it, the OMDb API is probed again.
+   */
+  public Duration openDuration() {
+    return openDuration;
+  }
+
+  /**
+   * Read the requests allowed while probing the OMDb API.
+   *
+   * @return Any of them failing opens the circuit again.
+   */
+  public int probes() {
+    return probes;
+  }
+}
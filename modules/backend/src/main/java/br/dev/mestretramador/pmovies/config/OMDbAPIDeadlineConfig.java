@@ -0,0 +1,68 @@
+package br.dev.mestretramador.pmovies.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import br.dev.mestretramador.pmovies.service.OMDbAPIDeadline;
+
+/**
+ * Deadlines of the requests made to the OMDb API, one for each
+ * subdomain, as a poster takes longer to be received than any data.
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+@Configuration(proxyBeanMethods = false)
+public class OMDbAPIDeadlineConfig {
+  //#region Bean Names
+  /**
+   * Name of the deadline Bean for the Data OMDb API.
+   */
+  public static final String DATA_DEADLINE = "omdbAPIDataDeadline";
+
+  /**
+   * Name of the deadline Bean for the Poster OMDb API.
+   */
+  public static final String POSTER_DEADLINE = "omdbAPIPosterDeadline";
+  //#endregion
+
+  //#region Beans
+  /**
+   * The deadline of the Data OMDb API requests, which may be hedged.
+   *
+   * @param apiProperties The properties (environment variables)
+   *                      of the OMDb API.
+   * @return              Its metrics are published as the
+   *                      <code>omdb.data</code> deadline.
+   */
+  @Bean(DATA_DEADLINE)
+  public OMDbAPIDeadline omdbAPIDataDeadline(
+    final OMDbAPIProperties apiProperties
+  ) {
+    return new OMDbAPIDeadline(
+      "omdb.data",
+      apiProperties.deadline().data(),
+      apiProperties.deadline().hedge()
+    );
+  }
+
+  /**
+   * The deadline of the Poster OMDb API requests, never hedged.
+   *
+   * @param apiProperties The properties (environment variables)
+   *                      of the OMDb API.
+   * @return              Its metrics are published as the
+   *                      <code>omdb.poster</code> deadline.
+   */
+  @Bean(POSTER_DEADLINE)
+  public OMDbAPIDeadline omdbAPIPosterDeadline(
+    final OMDbAPIProperties apiProperties
+  ) {
+    return new OMDbAPIDeadline(
+      "omdb.poster",
+      apiProperties.deadline().poster(),
+      null
+    );
+  }
+  //#endregion
+}
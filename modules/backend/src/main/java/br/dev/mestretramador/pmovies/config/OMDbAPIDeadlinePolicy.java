@@ -0,0 +1,73 @@
+package br.dev.mestretramador.pmovies.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Policy of the deadlines of the requests made to the OMDb API,
+ * for each subdomain, and of its hedging.
+ *
+ * @since                           0.0.1
+ * @author                          Mestre-Tramador
+ * @param data                      Longest time of a Data API request,
+ *                                  hedged ones included.
+ * @param poster                    Longest time of a Poster API request,
+ *                                  the whole image included.
+ * @param hedge                     Policy of the hedging of
+ *                                  the Data API requests.
+ * @throws NullPointerException     If any data given is <code>null</code>.
+ * @throws IllegalArgumentException If any deadline is not positive.
+ */
+public record OMDbAPIDeadlinePolicy(
+  @DefaultValue("5s") Duration data,
+  @DefaultValue("30s") Duration poster,
+  @DefaultValue OMDbAPIHedgePolicy hedge
+) {
+  /**
+   * The policy cannot be <code>null</code> nor hold invalid values.
+   */
+  public OMDbAPIDeadlinePolicy {
+    Objects.requireNonNull(data);
+    Objects.requireNonNull(poster);
+    Objects.requireNonNull(hedge);
+
+    if (data.isNegative() || data.isZero()) {
+      throw new IllegalArgumentException("Data deadline must be positive!");
+    }
+
+    if (poster.isNegative() || poster.isZero()) {
+      throw new IllegalArgumentException("Poster deadline must be positive!");
+    }
+  }
+
+  /**
+   * Read the longest time of a Data API request.
+   *
+   * @return After it, the request fails, even if it was hedged.
+   */
+  public Duration data() {
+    return data;
+  }
+
+  /**
+   * Read the longest time of a Poster API request.
+   *
+   * @return After it, the request fails, even if the image
+   *         is still being received.
+   */
+  public Duration poster() {
+    return poster;
+  }
+
+  /**
+   * Read the policy of the hedging of the Data API requests.
+   *
+   * @return Poster API requests are never hedged,
+   *         as its images are written to disk.
+   */
+  public OMDbAPIHedgePolicy hedge() {
+    return hedge;
+  }
+}
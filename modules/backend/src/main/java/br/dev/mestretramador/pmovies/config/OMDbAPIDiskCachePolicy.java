@@ -0,0 +1,123 @@
+package br.dev.mestretramador.pmovies.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Policy of the persistent (on disk) cache of OMDb API responses.
+ *
+ * @since                           0.0.1
+ * @author                          Mestre-Tramador
+ * @param enabled                   If the responses are kept on disk.
+ * @param directory                 Directory of the cache files.
+ * @param segmentSize               Maximum size of each cache file.
+ * @param compactionInterval        Interval of the background expiration
+ *                                  and compaction of the cache files.
+ * @param compactionThreshold       Ratio of live data below which
+ *                                  a cache file is compacted.
+ * @param staleTtl                  Time a response is still kept after
+ *                                  it expires, to be served while it is
+ *                                  requested again.
+ * @throws NullPointerException     If any data given is <code>null</code>.
+ * @throws IllegalArgumentException If the segment size is above 1GB,
+ *                                  the threshold is not a ratio,
+ *                                  or the stale TTL is negative.
+ */
+public record OMDbAPIDiskCachePolicy(
+  @DefaultValue("false") boolean enabled,
+  @DefaultValue("cache/omdb") Path directory,
+  @DefaultValue("64MB") DataSize segmentSize,
+  @DefaultValue("5m") Duration compactionInterval,
+  @DefaultValue("0.5") double compactionThreshold,
+  @DefaultValue("1d") Duration staleTtl
+) {
+  /**
+   * Greatest size of a cache file, so it can be memory-mapped at once.
+   */
+  public static final DataSize MAX_SEGMENT_SIZE = DataSize.ofGigabytes(1);
+
+  /**
+   * The policy cannot be <code>null</code> nor hold invalid sizes.
+   */
+  public OMDbAPIDiskCachePolicy {
+    Objects.requireNonNull(directory);
+    Objects.requireNonNull(segmentSize);
+    Objects.requireNonNull(compactionInterval);
+    Objects.requireNonNull(staleTtl);
+
+    if (segmentSize.compareTo(MAX_SEGMENT_SIZE) > 0) {
+      throw new IllegalArgumentException(
+        "Segment size must not be above " + MAX_SEGMENT_SIZE + "!"
+      );
+    }
+
+    if (compactionThreshold < 0 || compactionThreshold > 1) {
+      throw new IllegalArgumentException(
+        "Compaction threshold must be between 0 and 1!"
+      );
+    }
+
+    if (staleTtl.isNegative()) {
+      throw new IllegalArgumentException("Stale TTL must not be negative!");
+    }
+  }
+
+  /**
+   * Read if the responses are kept on disk.
+   *
+   * @return By default, it is <code>false</code>.
+   */
+  public boolean enabled() {
+    return enabled;
+  }
+
+  /**
+   * Read the directory of the cache files.
+   *
+   * @return It is created if it does not exist.
+   */
+  public Path directory() {
+    return directory;
+  }
+
+  /**
+   * Read the maximum size of each cache file.
+   *
+   * @return Above it, a new cache file is started.
+   */
+  public DataSize segmentSize() {
+    return segmentSize;
+  }
+
+  /**
+   * Read the interval of the background expiration and compaction.
+   *
+   * @return A zero interval disables it.
+   */
+  public Duration compactionInterval() {
+    return compactionInterval;
+  }
+
+  /**
+   * Read the ratio of live data below which a cache file is compacted.
+   *
+   * @return It is between <code>0</code> and <code>1</code>.
+   */
+  public double compactionThreshold() {
+    return compactionThreshold;
+  }
+
+  /**
+   * Read the time a response is still kept after it expires.
+   *
+   * @return Until it ends, the stale response is answered at once,
+   *         while it is requested again in background.
+   */
+  public Duration staleTtl() {
+    return staleTtl;
+  }
+}
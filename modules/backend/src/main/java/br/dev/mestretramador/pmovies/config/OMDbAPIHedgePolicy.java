@@ -0,0 +1,85 @@
+package br.dev.mestretramador.pmovies.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Policy of the hedging of the requests made to the Data OMDb API:
+ * a slow request is made again, and the first answer is used.
+ *
+ * @since                           0.0.1
+ * @author                          Mestre-Tramador
+ * @param enabled                   If the slow requests are hedged.
+ * @param percentile                Percentile of the latency of the last
+ *                                  requests after which a request is hedged.
+ * @param minDelay                  Shortest time before a request is hedged.
+ * @param budget                    Hedged requests allowed for each request,
+ *                                  so they cannot multiply the load.
+ * @throws NullPointerException     If any data given is <code>null</code>.
+ * @throws IllegalArgumentException If the percentile or the budget
+ *                                  are not a ratio.
+ */
+public record OMDbAPIHedgePolicy(
+  @DefaultValue("false") boolean enabled,
+  @DefaultValue("0.95") double percentile,
+  @DefaultValue("50ms") Duration minDelay,
+  @DefaultValue("0.05") double budget
+) {
+  /**
+   * The policy cannot be <code>null</code> nor hold invalid values.
+   */
+  public OMDbAPIHedgePolicy {
+    Objects.requireNonNull(minDelay);
+
+    if (percentile <= 0 || percentile > 1) {
+      throw new IllegalArgumentException(
+        "Hedge percentile must be above 0, up to 1!"
+      );
+    }
+
+    if (budget < 0 || budget > 1) {
+      throw new IllegalArgumentException(
+        "Hedge budget must be between 0 and 1!"
+      );
+    }
+  }
+
+  /**
+   * Read if the slow requests are hedged.
+   *
+   * @return By default, it is <code>false</code>.
+   */
+  public boolean enabled() {
+    return enabled;
+  }
+
+  /**
+   * Read the percentile of the latency after which a request is hedged.
+   *
+   * @return It is above <code>0</code>, up to <code>1</code>.
+   */
+  public double percentile() {
+    return percentile;
+  }
+
+  /**
+   * Read the shortest time before a request is hedged.
+   *
+   * @return It is used while the latency is lower than it.
+   */
+  public Duration minDelay() {
+    return minDelay;
+  }
+
+  /**
+   * Read the hedged requests allowed for each request.
+   *
+   * @return It is between <code>0</code> and <code>1</code>,
+   *         e.g. <code>0.05</code> allows 5% more requests.
+   */
+  public double budget() {
+    return budget;
+  }
+}
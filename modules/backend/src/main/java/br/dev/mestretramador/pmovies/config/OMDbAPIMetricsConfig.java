@@ -0,0 +1,38 @@
+package br.dev.mestretramador.pmovies.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import br.dev.mestretramador.pmovies.service.OMDbAPIMetrics;
+
+/**
+ * Metrics of the requests made to the OMDb API.
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+@Configuration(proxyBeanMethods = false)
+public class OMDbAPIMetricsConfig {
+  //#region Bean Names
+  /**
+   * Name of the OMDb API metrics Bean.
+   */
+  public static final String METRICS = "omdbAPIMetrics";
+  //#endregion
+
+  //#region Beans
+  /**
+   * The metrics of the requests made to the OMDb API.
+   *
+   * @param meterRegistry The registry of the application.
+   * @return              Its metrics are published as
+   *                      <code>omdb.api.*</code>.
+   */
+  @Bean(METRICS)
+  public OMDbAPIMetrics omdbAPIMetrics(final MeterRegistry meterRegistry) {
+    return new OMDbAPIMetrics(meterRegistry);
+  }
+  //#endregion
+}
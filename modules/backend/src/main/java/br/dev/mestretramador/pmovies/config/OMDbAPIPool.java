@@ -0,0 +1,105 @@
+package br.dev.mestretramador.pmovies.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Tuning of the connection pool behind a single OMDb API subdomain.
+ *
+ * @since                         0.0.1
+ * @author                        Mestre-Tramador
+ * @param maxConnections          Maximum of simultaneous open connections.
+ * @param pendingAcquireMaxCount  Maximum of requests waiting for
+ *                                a connection to be released.
+ * @param pendingAcquireTimeout   Maximum time a request waits
+ *                                for a connection to be released.
+ * @param maxIdleTime             Time an idle connection is kept alive.
+ * @param maxLifeTime             Time any connection is kept alive.
+ * @param evictionInterval        Interval of the background eviction
+ *                                of idle and expired connections.
+ * @param connectTimeout          Maximum time to open a new connection.
+ * @param readTimeout             Maximum time to receive a response.
+ */
+public record OMDbAPIPool(
+  @DefaultValue("100") int maxConnections,
+  @DefaultValue("500") int pendingAcquireMaxCount,
+  @DefaultValue("5s") Duration pendingAcquireTimeout,
+  @DefaultValue("30s") Duration maxIdleTime,
+  @DefaultValue("5m") Duration maxLifeTime,
+  @DefaultValue("30s") Duration evictionInterval,
+  @DefaultValue("2s") Duration connectTimeout,
+  @DefaultValue("10s") Duration readTimeout
+) {
+  /**
+   * Read the maximum of simultaneous open connections.
+   *
+   * @return It's a positive number.
+   */
+  public int maxConnections() {
+    return maxConnections;
+  }
+
+  /**
+   * Read the maximum of requests waiting for a connection.
+   *
+   * @return It's a positive number, or <code>-1</code> for no limit.
+   */
+  public int pendingAcquireMaxCount() {
+    return pendingAcquireMaxCount;
+  }
+
+  /**
+   * Read the maximum time a request waits for a connection.
+   *
+   * @return After it, the request fails.
+   */
+  public Duration pendingAcquireTimeout() {
+    return pendingAcquireTimeout;
+  }
+
+  /**
+   * Read the time an idle connection is kept alive.
+   *
+   * @return After it, the connection is closed.
+   */
+  public Duration maxIdleTime() {
+    return maxIdleTime;
+  }
+
+  /**
+   * Read the time any connection is kept alive.
+   *
+   * @return After it, the connection is closed once released.
+   */
+  public Duration maxLifeTime() {
+    return maxLifeTime;
+  }
+
+  /**
+   * Read the interval of the background eviction of connections.
+   *
+   * @return A zero interval disables the background eviction.
+   */
+  public Duration evictionInterval() {
+    return evictionInterval;
+  }
+
+  /**
+   * Read the maximum time to open a new connection.
+   *
+   * @return After it, the request fails.
+   */
+  public Duration connectTimeout() {
+    return connectTimeout;
+  }
+
+  /**
+   * Read the maximum time to receive a response.
+   *
+   * @return After it, the request fails.
+   */
+  public Duration readTimeout() {
+    return readTimeout;
+  }
+}
@@ -0,0 +1,45 @@
+package br.dev.mestretramador.pmovies.config;
+
+import java.util.Objects;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Connection pools to be used on OMDb API requests, one for each subdomain.
+ *
+ * @since                       0.0.1
+ * @author                      Mestre-Tramador
+ * @param data                  Pool for Data API requests.
+ * @param poster                Pool for Poster API requests.
+ * @throws NullPointerException If any data given is <code>null</code>.
+ */
+public record OMDbAPIPools(
+  @DefaultValue OMDbAPIPool data,
+  @DefaultValue OMDbAPIPool poster
+) {
+  /**
+   * The pools cannot be <code>null</code>.
+   */
+  public OMDbAPIPools {
+    Objects.requireNonNull(data);
+    Objects.requireNonNull(poster);
+  }
+
+  /**
+   * Read the pool of Data API requests.
+   *
+   * @return It holds the settings of the pool.
+   */
+  public OMDbAPIPool data() {
+    return data;
+  }
+
+  /**
+   * Read the pool of Poster API requests.
+   *
+   * @return It holds the settings of the pool.
+   */
+  public OMDbAPIPool poster() {
+    return poster;
+  }
+}
@@ -0,0 +1,108 @@
+package br.dev.mestretramador.pmovies.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Policy of the persistent (on disk) cache of OMDb API posters.
+ *
+ * @since                           0.0.1
+ * @author                          Mestre-Tramador
+ * @param directory                 Directory of the poster files.
+ * @param ttl                       Time a poster is kept since
+ *                                  it was received.
+ * @param maxAge                    Time clients may keep a poster
+ *                                  without requesting it again.
+ * @param maxSize                   Maximum size of the kept images.
+ * @param sweepInterval             Interval of the background removal
+ *                                  of the expired and unreferenced files,
+ *                                  and eviction above the maximum size.
+ * @param missingTtl                Time a title without a poster is
+ *                                  remembered, so it is not requested.
+ * @throws NullPointerException     If any data given is <code>null</code>.
+ * @throws IllegalArgumentException If the maximum size is negative.
+ */
+public record OMDbAPIPosterCachePolicy(
+  @DefaultValue("cache/posters") Path directory,
+  @DefaultValue("30d") Duration ttl,
+  @DefaultValue("7d") Duration maxAge,
+  @DefaultValue("1GB") DataSize maxSize,
+  @DefaultValue("1h") Duration sweepInterval,
+  @DefaultValue("10m") Duration missingTtl
+) {
+  /**
+   * The policy cannot be <code>null</code> nor hold a negative size.
+   */
+  public OMDbAPIPosterCachePolicy {
+    Objects.requireNonNull(directory);
+    Objects.requireNonNull(ttl);
+    Objects.requireNonNull(maxAge);
+    Objects.requireNonNull(maxSize);
+    Objects.requireNonNull(sweepInterval);
+    Objects.requireNonNull(missingTtl);
+
+    if (maxSize.isNegative()) {
+      throw new IllegalArgumentException("Max size must not be negative!");
+    }
+  }
+
+  /**
+   * Read the directory of the poster files.
+   *
+   * @return It is created if it does not exist.
+   */
+  public Path directory() {
+    return directory;
+  }
+
+  /**
+   * Read the time a poster is kept since it was received.
+   *
+   * @return After it, the poster is requested again.
+   */
+  public Duration ttl() {
+    return ttl;
+  }
+
+  /**
+   * Read the time clients may keep a poster without requesting it again.
+   *
+   * @return It is sent as the <code>Cache-Control</code> max age.
+   */
+  public Duration maxAge() {
+    return maxAge;
+  }
+
+  /**
+   * Read the maximum size of the kept images.
+   *
+   * @return Above it, the posters received the longest ago are evicted
+   *         on the next sweep.
+   */
+  public DataSize maxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Read the interval of the background sweep of the poster files.
+   *
+   * @return A zero interval disables it.
+   */
+  public Duration sweepInterval() {
+    return sweepInterval;
+  }
+
+  /**
+   * Read the time a title without a poster is remembered.
+   *
+   * @return Until it passes, the poster is not requested again.
+   *         A zero time disables it.
+   */
+  public Duration missingTtl() {
+    return missingTtl;
+  }
+}
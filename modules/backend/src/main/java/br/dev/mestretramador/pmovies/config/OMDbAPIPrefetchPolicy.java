@@ -0,0 +1,50 @@
+package br.dev.mestretramador.pmovies.config;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Policy of the prefetch of the next page of the searches,
+ * requested in background while the OMDb API is idle.
+ *
+ * @since                           0.0.1
+ * @author                          Mestre-Tramador
+ * @param enabled                   If the next pages are prefetched.
+ * @param budget                    Prefetches allowed for each page
+ *                                  answered, so they cannot multiply
+ *                                  the load.
+ * @throws IllegalArgumentException If the budget is not a ratio.
+ */
+public record OMDbAPIPrefetchPolicy(
+  @DefaultValue("true") boolean enabled,
+  @DefaultValue("0.5") double budget
+) {
+  /**
+   * The policy cannot hold invalid values.
+   */
+  public OMDbAPIPrefetchPolicy {
+    if (budget < 0 || budget > 1) {
+      throw new IllegalArgumentException(
+        "Prefetch budget must be between 0 and 1!"
+      );
+    }
+  }
+
+  /**
+   * Read if the next pages are prefetched.
+   *
+   * @return By default, it is <code>true</code>.
+   */
+  public boolean enabled() {
+    return enabled;
+  }
+
+  /**
+   * Read the prefetches allowed for each page answered.
+   *
+   * @return It is between <code>0</code> and <code>1</code>,
+   *         e.g. <code>0.5</code> prefetches up to half of the pages.
+   */
+  public double budget() {
+    return budget;
+  }
+}
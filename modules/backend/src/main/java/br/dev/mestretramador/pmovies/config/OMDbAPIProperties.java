@@ -1,8 +1,12 @@
 package br.dev.mestretramador.pmovies.config;
 
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 /**
  * Properties for OMDb API requests,
@@ -11,23 +15,48 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  * @since                       0.0.1
  * @author                      Mestre-Tramador
  * @param host                  Host (domain name) of the OMDb API.
+ * @param scheme                Scheme of the URL of the OMDb API.
  * @param key                   Generated access key for the OMDb API.
+ * @param keys                  Additional access keys for the OMDb API,
+ *                              so requests are spread across all of them.
  * @param subHost               Holds the subdomains for the OMDb API requests.
+ * @param pool                  Holds the connection pools for each subdomain.
+ * @param cache                 Holds the cache policies for each request.
+ * @param limit                 Holds the rate limit of the requests.
+ * @param circuitBreaker        Holds the circuit breaker of the requests.
+ * @param deadline              Holds the deadlines of the requests.
+ * @param prefetch              Holds the prefetch of the search pages.
  * @throws NullPointerException If any data given is <code>null</code>.
  */
 @ConfigurationProperties(prefix = "omdb.api")
 public record OMDbAPIProperties(
   String host,
-  String key,
-  OMDbAPISubHosts subHost
+  @DefaultValue("https") String scheme,
+  @DefaultValue("") String key,
+  @DefaultValue List<String> keys,
+  OMDbAPISubHosts subHost,
+  @DefaultValue OMDbAPIPools pool,
+  @DefaultValue OMDbAPICachePolicies cache,
+  @DefaultValue OMDbAPIRateLimitPolicy limit,
+  @DefaultValue OMDbAPICircuitBreakerPolicy circuitBreaker,
+  @DefaultValue OMDbAPIDeadlinePolicy deadline,
+  @DefaultValue OMDbAPIPrefetchPolicy prefetch
 ) {
   /**
    * The properties cannot be <code>null</code>.
    */
   public OMDbAPIProperties {
     Objects.requireNonNull(host);
+    Objects.requireNonNull(scheme);
     Objects.requireNonNull(key);
+    Objects.requireNonNull(keys);
     Objects.requireNonNull(subHost);
+    Objects.requireNonNull(pool);
+    Objects.requireNonNull(cache);
+    Objects.requireNonNull(limit);
+    Objects.requireNonNull(circuitBreaker);
+    Objects.requireNonNull(deadline);
+    Objects.requireNonNull(prefetch);
   }
 
   /**
@@ -39,6 +68,16 @@ public record OMDbAPIProperties(
     return host;
   }
 
+  /**
+   * Read the scheme of the URL to make OMDb API requests.
+   *
+   * @return It is only other than <code>https</code>
+   *         for a local imitation of the OMDb API.
+   */
+  public String scheme() {
+    return scheme;
+  }
+
   /**
    * Read the authorization key to make OMDb API requests.
    *
@@ -48,6 +87,38 @@ public record OMDbAPIProperties(
     return key;
   }
 
+  /**
+   * Read the additional authorization keys to make OMDb API requests.
+   *
+   * @return The list is empty if only a single key is used.
+   */
+  public List<String> keys() {
+    return keys;
+  }
+
+  /**
+   * Read all authorization keys to make OMDb API requests,
+   * both the single one and the additional ones.
+   *
+   * @return The keys are neither blank nor repeated. If none is set,
+   *         the blank single key is the only one.
+   */
+  public List<String> apiKeys() {
+    final Set<String> apiKeys = new LinkedHashSet<String>();
+
+    for (String apiKey : keys) {
+      if (!apiKey.isBlank()) {
+        apiKeys.add(apiKey.strip());
+      }
+    }
+
+    if (!key.isBlank()) {
+      apiKeys.add(key.strip());
+    }
+
+    return apiKeys.isEmpty() ? List.of(key) : List.copyOf(apiKeys);
+  }
+
   /**
    * Read subdomain information.
    *
@@ -74,4 +145,58 @@ public record OMDbAPIProperties(
   public String subHostPoster() {
     return subHost().poster();
   }
+
+  /**
+   * Read connection pools information.
+   *
+   * @return The object is an "enumerable" Bean.
+   */
+  public OMDbAPIPools pool() {
+    return pool;
+  }
+
+  /**
+   * Read cache policies information.
+   *
+   * @return The object is an "enumerable" Bean.
+   */
+  public OMDbAPICachePolicies cache() {
+    return cache;
+  }
+
+  /**
+   * Read rate limit information.
+   *
+   * @return It also holds the daily budget of requests.
+   */
+  public OMDbAPIRateLimitPolicy limit() {
+    return limit;
+  }
+
+  /**
+   * Read circuit breaker information.
+   *
+   * @return It is used by each subdomain.
+   */
+  public OMDbAPICircuitBreakerPolicy circuitBreaker() {
+    return circuitBreaker;
+  }
+
+  /**
+   * Read deadlines information.
+   *
+   * @return It also holds the hedging of the requests.
+   */
+  public OMDbAPIDeadlinePolicy deadline() {
+    return deadline;
+  }
+
+  /**
+   * Read prefetch information.
+   *
+   * @return It is only used by the search requests.
+   */
+  public OMDbAPIPrefetchPolicy prefetch() {
+    return prefetch;
+  }
 }
@@ -0,0 +1,58 @@
+package br.dev.mestretramador.pmovies.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import br.dev.mestretramador.pmovies.service.OMDbAPIKeyPool;
+import br.dev.mestretramador.pmovies.service.OMDbAPIRateLimiter;
+
+/**
+ * Rate limiter of the requests made to the OMDb API, shared by all
+ * of them, and the pool of the keys, with its daily budgets.
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+@Configuration(proxyBeanMethods = false)
+public class OMDbAPIRateLimitConfig {
+  //#region Bean Names
+  /**
+   * Name of the rate limiter Bean.
+   */
+  public static final String RATE_LIMITER = "omdbAPIRateLimiter";
+
+  /**
+   * Name of the key pool Bean.
+   */
+  public static final String KEY_POOL = "omdbAPIKeyPool";
+  //#endregion
+
+  //#region Beans
+  /**
+   * The rate limiter of the requests.
+   *
+   * @param apiProperties The properties (environment variables)
+   *                      of the OMDb API.
+   * @return              It is shared by all keys.
+   */
+  @Bean(RATE_LIMITER)
+  public OMDbAPIRateLimiter omdbAPIRateLimiter(
+    final OMDbAPIProperties apiProperties
+  ) {
+    return new OMDbAPIRateLimiter(apiProperties.limit());
+  }
+
+  /**
+   * The pool of the keys, with its daily budgets.
+   *
+   * @param apiProperties The properties (environment variables)
+   *                      of the OMDb API.
+   * @return              Its budgets are written to disk
+   *                      along with the application context.
+   */
+  @Bean(name = KEY_POOL, destroyMethod = "close")
+  public OMDbAPIKeyPool omdbAPIKeyPool(final OMDbAPIProperties apiProperties) {
+    return new OMDbAPIKeyPool(apiProperties.apiKeys(), apiProperties.limit());
+  }
+  //#endregion
+}
@@ -0,0 +1,123 @@
+package br.dev.mestretramador.pmovies.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.Objects;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Policy of the rate limit of the requests made to the OMDb API,
+ * and of the daily budget of requests of the API key.
+ *
+ * @since                           0.0.1
+ * @author                          Mestre-Tramador
+ * @param rate                      Requests allowed per second,
+ *                                  or <code>0</code> for no limit.
+ * @param burst                     Requests allowed at once,
+ *                                  above the rate.
+ * @param maxWait                   Longest time a request waits for
+ *                                  the rate, before being rejected.
+ * @param dailyBudget               Requests allowed per day,
+ *                                  or <code>0</code> for no limit.
+ * @param zone                      Time zone of the start of the day.
+ * @param file                      File where the budget spent today
+ *                                  is kept, surviving restarts.
+ * @param persistInterval           Interval of the writing of the file.
+ * @throws NullPointerException     If any data given is <code>null</code>.
+ * @throws IllegalArgumentException If any value is negative,
+ *                                  or the burst is not positive.
+ */
+public record OMDbAPIRateLimitPolicy(
+  @DefaultValue("10") double rate,
+  @DefaultValue("10") int burst,
+  @DefaultValue("500ms") Duration maxWait,
+  @DefaultValue("1000") long dailyBudget,
+  @DefaultValue("UTC") ZoneId zone,
+  @DefaultValue("cache/omdb-budget") Path file,
+  @DefaultValue("10s") Duration persistInterval
+) {
+  /**
+   * The policy cannot be <code>null</code> nor hold invalid values.
+   */
+  public OMDbAPIRateLimitPolicy {
+    Objects.requireNonNull(maxWait);
+    Objects.requireNonNull(zone);
+    Objects.requireNonNull(file);
+    Objects.requireNonNull(persistInterval);
+
+    if (rate < 0 || dailyBudget < 0 || maxWait.isNegative()) {
+      throw new IllegalArgumentException(
+        "Rate limit values must not be negative!"
+      );
+    }
+
+    if (burst < 1) {
+      throw new IllegalArgumentException("Rate limit burst must be positive!");
+    }
+  }
+
+  /**
+   * Read the requests allowed per second.
+   *
+   * @return If <code>0</code>, there is no limit.
+   */
+  public double rate() {
+    return rate;
+  }
+
+  /**
+   * Read the requests allowed at once, above the rate.
+   *
+   * @return It is, at least, <code>1</code>.
+   */
+  public int burst() {
+    return burst;
+  }
+
+  /**
+   * Read the longest time a request waits for the rate.
+   *
+   * @return Above it, the request is rejected at once.
+   */
+  public Duration maxWait() {
+    return maxWait;
+  }
+
+  /**
+   * Read the requests allowed per day.
+   *
+   * @return If <code>0</code>, there is no limit.
+   */
+  public long dailyBudget() {
+    return dailyBudget;
+  }
+
+  /**
+   * Read the time zone of the start of the day.
+   *
+   * @return At its midnight, the budget is restored.
+   */
+  public ZoneId zone() {
+    return zone;
+  }
+
+  /**
+   * Read the file where the budget spent today is kept.
+   *
+   * @return Its directory is created if it does not exist.
+   */
+  public Path file() {
+    return file;
+  }
+
+  /**
+   * Read the interval of the writing of the file.
+   *
+   * @return A zero interval writes it only on shutdown.
+   */
+  public Duration persistInterval() {
+    return persistInterval;
+  }
+}
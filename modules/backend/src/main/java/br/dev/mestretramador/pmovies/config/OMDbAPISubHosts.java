@@ -23,7 +23,8 @@ public record OMDbAPISubHosts(String data, String poster) {
   /**
    * Read the subdomain of Data API requests.
    *
-   * @return It's a valid URL subdomain.
+   * @return It's a valid URL subdomain,
+   *         or blank to request the host itself.
    */
   public String data() {
     return data;
@@ -32,7 +33,8 @@ public record OMDbAPISubHosts(String data, String poster) {
   /**
    * Read the subdomain of Poster API requests.
    *
-   * @return It's a valid URL subdomain.
+   * @return It's a valid URL subdomain,
+   *         or blank to request the host itself.
    */
   public String poster() {
     return poster;
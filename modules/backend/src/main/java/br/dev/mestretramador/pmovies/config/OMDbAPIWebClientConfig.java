@@ -0,0 +1,221 @@
+package br.dev.mestretramador.pmovies.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * <p>
+ *  Shared Web Clients for the OMDb API, one for each subdomain.
+ * </p>
+ *
+ * <p>
+ *  Every client sits on its own connection pool, so connections
+ *  (and its TLS sessions) are kept alive and reused between requests.
+ * </p>
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+@Configuration(proxyBeanMethods = false)
+public class OMDbAPIWebClientConfig {
+  //#region Bean Names
+  /**
+   * Name of the Web Client Bean for the Data OMDb API.
+   */
+  public static final String DATA_WEB_CLIENT = "omdbAPIDataWebClient";
+
+  /**
+   * Name of the Web Client Bean for the Poster OMDb API.
+   */
+  public static final String POSTER_WEB_CLIENT = "omdbAPIPosterWebClient";
+
+  /**
+   * Name of the connection pool Bean for the Data OMDb API.
+   */
+  public static final String DATA_CONNECTION_PROVIDER =
+    "omdbAPIDataConnectionProvider";
+
+  /**
+   * Name of the connection pool Bean for the Poster OMDb API.
+   */
+  public static final String POSTER_CONNECTION_PROVIDER =
+    "omdbAPIPosterConnectionProvider";
+  //#endregion
+
+  //#region Connection Providers
+  /**
+   * The connection pool for the Data OMDb API.
+   *
+   * @param apiProperties The properties (environment variables)
+   *                      of the OMDb API.
+   * @return              It is disposed along with the application context.
+   */
+  @Bean(name = DATA_CONNECTION_PROVIDER, destroyMethod = "dispose")
+  public ConnectionProvider omdbAPIDataConnectionProvider(
+    final OMDbAPIProperties apiProperties
+  ) {
+    return makeConnectionProvider("data", apiProperties.pool().data());
+  }
+
+  /**
+   * The connection pool for the Poster OMDb API.
+   *
+   * @param apiProperties The properties (environment variables)
+   *                      of the OMDb API.
+   * @return              It is disposed along with the application context.
+   */
+  @Bean(name = POSTER_CONNECTION_PROVIDER, destroyMethod = "dispose")
+  public ConnectionProvider omdbAPIPosterConnectionProvider(
+    final OMDbAPIProperties apiProperties
+  ) {
+    return makeConnectionProvider("poster", apiProperties.pool().poster());
+  }
+  //#endregion
+
+  //#region Web Clients
+  /**
+   * The shared Web Client for the Data OMDb API.
+   *
+   * @param apiProperties      The properties (environment variables)
+   *                           of the OMDb API.
+   * @param webClientBuilder   The application-wide builder.
+   * @param connectionProvider The connection pool of the subdomain.
+   * @return                   The only thing set in the client
+   *                           is the correct URL.
+   */
+  @Bean(DATA_WEB_CLIENT)
+  public WebClient omdbAPIDataWebClient(
+    final OMDbAPIProperties apiProperties,
+    final WebClient.Builder webClientBuilder,
+    final @Qualifier(DATA_CONNECTION_PROVIDER)
+      ConnectionProvider connectionProvider
+  ) {
+    return makeWebClient(
+      webClientBuilder,
+      connectionProvider,
+      apiProperties.pool().data(),
+      makeBaseURL(apiProperties, apiProperties.subHostData())
+    );
+  }
+
+  /**
+   * The shared Web Client for the Poster OMDb API.
+   *
+   * @param apiProperties      The properties (environment variables)
+   *                           of the OMDb API.
+   * @param webClientBuilder   The application-wide builder.
+   * @param connectionProvider The connection pool of the subdomain.
+   * @return                   The only thing set in the client
+   *                           is the correct URL.
+   */
+  @Bean(POSTER_WEB_CLIENT)
+  public WebClient omdbAPIPosterWebClient(
+    final OMDbAPIProperties apiProperties,
+    final WebClient.Builder webClientBuilder,
+    final @Qualifier(POSTER_CONNECTION_PROVIDER)
+      ConnectionProvider connectionProvider
+  ) {
+    return makeWebClient(
+      webClientBuilder,
+      connectionProvider,
+      apiProperties.pool().poster(),
+      makeBaseURL(apiProperties, apiProperties.subHostPoster())
+    );
+  }
+  //#endregion
+
+  //#region Factories
+  /**
+   * Create a named connection pool with the given settings.
+   *
+   * @param name The name of the subdomain, used to identify the pool.
+   * @param pool The settings of the pool.
+   * @return     A fixed pool evicting idle connections in background,
+   *             whose metrics are published as
+   *             <code>reactor.netty.connection.provider</code>.
+   */
+  private ConnectionProvider makeConnectionProvider(
+    final String name,
+    final OMDbAPIPool pool
+  ) {
+    return ConnectionProvider
+      .builder("omdb-api-" + name)
+      .maxConnections(pool.maxConnections())
+      .pendingAcquireMaxCount(pool.pendingAcquireMaxCount())
+      .pendingAcquireTimeout(pool.pendingAcquireTimeout())
+      .maxIdleTime(pool.maxIdleTime())
+      .maxLifeTime(pool.maxLifeTime())
+      .evictInBackground(pool.evictionInterval())
+      .metrics(true)
+      .build();
+  }
+
+  /**
+   * Create a Web Client on top of the given connection pool.
+   *
+   * @param webClientBuilder   The application-wide builder, which is cloned.
+   * @param connectionProvider The connection pool of the subdomain.
+   * @param pool               The settings of the pool.
+   * @param baseURL            The complete URL of the subdomain.
+   * @return                   Connections are kept alive between requests.
+   */
+  private WebClient makeWebClient(
+    final WebClient.Builder webClientBuilder,
+    final ConnectionProvider connectionProvider,
+    final OMDbAPIPool pool,
+    final String baseURL
+  ) {
+    final HttpClient httpClient = HttpClient
+      .create(connectionProvider)
+      .keepAlive(true)
+      .option(ChannelOption.SO_KEEPALIVE, true)
+      .option(
+        ChannelOption.CONNECT_TIMEOUT_MILLIS,
+        Math.toIntExact(pool.connectTimeout().toMillis())
+      )
+      .responseTimeout(pool.readTimeout());
+
+    return webClientBuilder
+      .clone()
+      .baseUrl(baseURL)
+      .clientConnector(new ReactorClientHttpConnector(httpClient))
+      .build();
+  }
+
+  /**
+   * Format the URL of the OMDb API host with the given subhost.
+   *
+   * @param apiProperties The properties (environment variables)
+   *                      of the OMDb API.
+   * @param subHost       A valid subdomain of the API,
+   *                      or blank for the host itself.
+   * @return              The complete URL.
+   */
+  private String makeBaseURL(
+    final OMDbAPIProperties apiProperties,
+    final String subHost
+  ) {
+    if (subHost.isBlank()) {
+      return String.format(
+        "%s://%s",
+        apiProperties.scheme(),
+        apiProperties.host()
+      );
+    }
+
+    return String.format(
+      "%s://%s.%s",
+      apiProperties.scheme(),
+      subHost,
+      apiProperties.host()
+    );
+  }
+  //#endregion
+}
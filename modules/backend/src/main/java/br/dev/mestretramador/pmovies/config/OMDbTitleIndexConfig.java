@@ -0,0 +1,40 @@
+package br.dev.mestretramador.pmovies.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import br.dev.mestretramador.pmovies.service.OMDbTitleIndex;
+
+/**
+ * Index of the titles seen on searches, for the autocomplete.
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+@Configuration(proxyBeanMethods = false)
+public class OMDbTitleIndexConfig {
+  //#region Bean Names
+  /**
+   * Name of the title index Bean.
+   */
+  public static final String TITLE_INDEX = "omdbTitleIndex";
+  //#endregion
+
+  //#region Beans
+  /**
+   * The index of the titles seen on searches.
+   *
+   * @param controllerProperties The properties of the controllers.
+   * @return                     It is empty at start, and filled
+   *                             by the searches made.
+   */
+  @Bean(TITLE_INDEX)
+  public OMDbTitleIndex omdbTitleIndex(
+    final ControllerProperties controllerProperties
+  ) {
+    return new OMDbTitleIndex(
+      controllerProperties.autocomplete().maxTitles()
+    );
+  }
+  //#endregion
+}
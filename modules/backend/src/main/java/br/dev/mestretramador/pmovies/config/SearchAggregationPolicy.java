@@ -0,0 +1,47 @@
+package br.dev.mestretramador.pmovies.config;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Policy of the aggregated searches, which request
+ * all pages of a search at once.
+ *
+ * @since                           0.0.1
+ * @author                          Mestre-Tramador
+ * @param maxPages                  Maximum of pages requested.
+ * @param parallelism               Maximum of pages requested concurrently.
+ * @throws IllegalArgumentException If any value is not positive.
+ */
+public record SearchAggregationPolicy(
+  @DefaultValue("10") int maxPages,
+  @DefaultValue("4") int parallelism
+) {
+  /**
+   * The policy cannot hold non-positive values.
+   */
+  public SearchAggregationPolicy {
+    if (maxPages < 1 || parallelism < 1) {
+      throw new IllegalArgumentException(
+        "Aggregation max pages and parallelism must be positive!"
+      );
+    }
+  }
+
+  /**
+   * Read the maximum of pages requested.
+   *
+   * @return Any page above it is not requested.
+   */
+  public int maxPages() {
+    return maxPages;
+  }
+
+  /**
+   * Read the maximum of pages requested concurrently.
+   *
+   * @return The other pages wait for a request to finish.
+   */
+  public int parallelism() {
+    return parallelism;
+  }
+}
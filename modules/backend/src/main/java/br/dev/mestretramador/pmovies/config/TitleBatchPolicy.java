@@ -0,0 +1,48 @@
+package br.dev.mestretramador.pmovies.config;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Policy of the batch lookups, which request
+ * many titles by its IMDb IDs at once.
+ *
+ * @since                           0.0.1
+ * @author                          Mestre-Tramador
+ * @param maxTitles                 Maximum of titles of a batch.
+ * @param parallelism               Maximum of titles requested concurrently.
+ * @throws IllegalArgumentException If any value is not positive.
+ */
+public record TitleBatchPolicy(
+  @DefaultValue("500") int maxTitles,
+  @DefaultValue("8") int parallelism
+) {
+  /**
+   * The policy cannot hold non-positive values.
+   */
+  public TitleBatchPolicy {
+    if (maxTitles < 1 || parallelism < 1) {
+      throw new IllegalArgumentException(
+        "Batch max titles and parallelism must be positive!"
+      );
+    }
+  }
+
+  /**
+   * Read the maximum of titles (IMDb IDs) of a batch.
+   *
+   * @return Any batch above it is rejected.
+   */
+  public int maxTitles() {
+    return maxTitles;
+  }
+
+  /**
+   * Read the maximum of titles requested concurrently.
+   *
+   * @return The other titles wait for a request to finish,
+   *         unless they are cached.
+   */
+  public int parallelism() {
+    return parallelism;
+  }
+}
@@ -0,0 +1,125 @@
+package br.dev.mestretramador.pmovies.config;
+
+import java.util.concurrent.Executors;
+
+import org.apache.coyote.ProtocolHandler;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * <p>
+ *  Virtual threads for the
+ *  {@link ControllerExecutionMode#VIRTUAL virtual} execution mode.
+ * </p>
+ *
+ * <p>Virtual threads are used by:</p>
+ *
+ * <ul>
+ *  <li>The embedded Tomcat request executor;</li>
+ *  <li>The blocking bridge of the controllers,
+ *      when the request thread is not a virtual one;</li>
+ *  <li>The application asynchronous tasks.</li>
+ * </ul>
+ *
+ * <p>
+ *  When deployed as a WAR, the Tomcat executor belongs to the container,
+ *  and it shall be configured on its <code>server.xml</code> with a
+ *  <code>org.apache.catalina.core.StandardVirtualThreadExecutor</code>.
+ *  Otherwise, the blocking bridge moves each request to a virtual thread.
+ * </p>
+ *
+ * <p>
+ *  Threads pinned to its carrier (e.g. by a <code>synchronized</code> block)
+ *  are published by Actuator as the <code>jvm.threads.virtual.pinned</code>
+ *  metric.
+ * </p>
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(
+  prefix = "pmovies.controller",
+  name = "mode",
+  havingValue = "virtual"
+)
+public class VirtualThreadConfig {
+  //#region Bean Names
+  /**
+   * Name of the Scheduler Bean for the controllers blocking bridge.
+   */
+  public static final String BLOCKING_SCHEDULER = "virtualThreadScheduler";
+  //#endregion
+
+  //#region Thread Names
+  /**
+   * Prefix of the Tomcat request threads.
+   */
+  private static final String TOMCAT_THREAD_PREFIX = "tomcat-handler-";
+
+  /**
+   * Prefix of the application asynchronous tasks threads.
+   */
+  private static final String TASK_THREAD_PREFIX = "task-";
+
+  /**
+   * Prefix of the controllers blocking bridge threads.
+   */
+  private static final String BLOCKING_THREAD_PREFIX = "controller-";
+  //#endregion
+
+  //#region Beans
+  /**
+   * Run every request of the embedded Tomcat on a new virtual thread.
+   *
+   * @return It has no effect when deployed on an external Tomcat.
+   */
+  @Bean
+  public TomcatProtocolHandlerCustomizer<ProtocolHandler>
+  virtualThreadProtocolHandler() {
+    return (protocolHandler) -> protocolHandler.setExecutor(
+      new VirtualThreadExecutor(TOMCAT_THREAD_PREFIX)
+    );
+  }
+
+  /**
+   * Run every application asynchronous task (including Spring MVC ones)
+   * on a new virtual thread.
+   *
+   * @return It replaces the auto-configured one.
+   */
+  @Bean(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+  public SimpleAsyncTaskExecutor applicationTaskExecutor() {
+    final SimpleAsyncTaskExecutor executor =
+      new SimpleAsyncTaskExecutor(TASK_THREAD_PREFIX);
+
+    executor.setVirtualThreads(true);
+
+    return executor;
+  }
+
+  /**
+   * Run the controllers blocking bridge on a new virtual thread,
+   * when the request thread is not a virtual one.
+   *
+   * @return It is disposed along with the application context.
+   */
+  @Bean(name = BLOCKING_SCHEDULER, destroyMethod = "dispose")
+  public Scheduler virtualThreadScheduler() {
+    return Schedulers.fromExecutorService(
+      Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name(BLOCKING_THREAD_PREFIX, 0).factory()
+      ),
+      BLOCKING_SCHEDULER
+    );
+  }
+  //#endregion
+}
@@ -0,0 +1,99 @@
+package br.dev.mestretramador.pmovies.controller;
+
+import java.util.Map;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import reactor.core.publisher.Mono;
+
+import br.dev.mestretramador.pmovies.config.AutocompletePolicy;
+import br.dev.mestretramador.pmovies.service.OMDbAPIService;
+import br.dev.mestretramador.pmovies.util.OMDbAPIParamsBuilder;
+import br.dev.mestretramador.pmovies.util.ResponseEnvelope;
+import br.dev.mestretramador.pmovies.util.enumerable.OMDbAPIParams;
+
+/**
+ * <p>Controller class to suggest titles while they are typed.</p>
+ *
+ * <p>
+ *  Titles are suggested from the ones already seen on searches,
+ *  without requests to the OMDb API, which is only searched if not
+ *  enough titles are known for a long enough prefix.
+ * </p>
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+@RestController
+public class AutocompleteController extends Controller {
+  //#region Routing
+  /**
+   * Prefix for all routes of this controller.
+   *
+   * @apiNote It inherits the base controller route prefix.
+   */
+  protected static final String ROUTE_PREFIX =
+    Controller.ROUTE_PREFIX + "autocomplete";
+  //#endregion
+
+  //#region Autocomplete
+  /**
+   * Suggest the titles starting by the given prefix.
+   *
+   * @param query The prefix of the name, of any word of the name,
+   *              or of the IMDb ID of the titles.
+   * @return      The JSON contains the error message, if any,
+   *              or the suggested titles, from the most popular.
+   */
+  @GetMapping(
+    path = ROUTE_PREFIX,
+    produces = MediaType.APPLICATION_JSON_VALUE
+  )
+  public final Mono<ResponseEntity<ResponseEnvelope>> autocomplete(
+    final @RequestParam(name = "q", defaultValue = "") String query
+  ) {
+    if (query.isBlank()) {
+      return Mono.just(
+        responseBadRequest("Missing param \"q\"! Unable to suggest titles!")
+      );
+    }
+
+    final AutocompletePolicy autocomplete =
+      getControllerProperties().autocomplete();
+
+    return execute(warnIfStale(
+      getOMDbAPIService()
+        .autocomplete(
+          query,
+          autocomplete.limit(),
+          autocomplete.fallbackLength()
+        )
+        .map((suggestions) -> responseOK("suggestions", suggestions))
+    ));
+  }
+  //#endregion
+
+  //#region Params
+  /**
+   * These params use the
+   * {@link OMDbAPIService#makeOMDbAPIParamsForSearch(String) search}
+   * static builder.
+   *
+   * @return The params are set in the given order, as the ones
+   *         {@link OMDbAPIService#autocomplete searched} as fallback.
+   */
+  @Override
+  protected final OMDbAPIParamsBuilder prepareOMDbAPIParams(
+    final String requiredParam,
+    final Map<OMDbAPIParams, String> additionalParams
+  ) {
+    return getOMDbAPIService()
+      .makeOMDbAPIParamsForSearch(requiredParam)
+      .add(additionalParams);
+  }
+  //#endregion
+}
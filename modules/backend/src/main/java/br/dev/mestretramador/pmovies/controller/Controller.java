@@ -1,19 +1,35 @@
 package br.dev.mestretramador.pmovies.controller;
 
+import java.time.Duration;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.reactive.function.client.WebClient.RequestBodyUriSpec;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.JsonNodeFactory;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import br.dev.mestretramador.pmovies.config.ControllerExecutionMode;
+import br.dev.mestretramador.pmovies.config.ControllerProperties;
+import br.dev.mestretramador.pmovies.config.VirtualThreadConfig;
+import br.dev.mestretramador.pmovies.service.OMDbAPIDeadlineExceededException;
+import br.dev.mestretramador.pmovies.service.OMDbAPIQuotaExceededException;
 import br.dev.mestretramador.pmovies.service.OMDbAPIService;
+import br.dev.mestretramador.pmovies.service.OMDbAPIUnavailableException;
+import br.dev.mestretramador.pmovies.util.OMDbAPIParamsBuilder;
+import br.dev.mestretramador.pmovies.util.ResponseEnvelope;
+import br.dev.mestretramador.pmovies.util.Staleness;
 import br.dev.mestretramador.pmovies.util.enumerable.OMDbAPIParams;
 
 /**
@@ -36,6 +52,28 @@ public abstract class Controller {
   protected static final String ROUTE_PREFIX = "/";
   //#endregion
 
+  //#region Constants
+  /**
+   * Format of a valid IMDb ID of a title.
+   */
+  protected static final Pattern IMDB_ID_PATTERN =
+    Pattern.compile("tt\\d{7,}");
+
+  /**
+   * Value of the <code>Warning</code> header of stale responses.
+   */
+  private static final String STALE_WARNING = "110 - \"Response is Stale\"";
+  //#endregion
+
+  //#region Properties
+  /**
+   * Writers of the values of the responses, by its type,
+   * so each one is resolved only once.
+   */
+  private final Map<Class<?>, ObjectWriter> writers =
+    new ConcurrentHashMap<Class<?>, ObjectWriter>();
+  //#endregion
+
   //#region Autowired
   /**
    * Instance of the service to make requests to the OMDb API.
@@ -48,6 +86,21 @@ public abstract class Controller {
    */
   @Autowired
   private ObjectMapper objectMapper;
+
+  /**
+   * The properties of the controllers execution.
+   */
+  @Autowired
+  private ControllerProperties controllerProperties;
+
+  /**
+   * Scheduler of virtual threads for the blocking bridge,
+   * only available on the {@link ControllerExecutionMode#VIRTUAL virtual}
+   * execution mode.
+   */
+  @Autowired(required = false)
+  @Qualifier(VirtualThreadConfig.BLOCKING_SCHEDULER)
+  private Scheduler virtualThreadScheduler;
   //#endregion
 
   //#region Getters
@@ -60,25 +113,113 @@ public abstract class Controller {
   protected OMDbAPIService getOMDbAPIService() {
     return service;
   }
+
+  /**
+   * Internal getter for child Controllers be able
+   * to read the properties of its execution.
+   *
+   * @return The properties are autowired, so no setting is necessary.
+   */
+  protected ControllerProperties getControllerProperties() {
+    return controllerProperties;
+  }
   //#endregion
 
-  //#region Web Client
+  //#region Params
   /**
-   * Abstraction for child controller classes instantiate
-   * a Web Client to send requests to OMDb API.
+   * Abstraction for child controller classes build
+   * the query params of its requests to OMDb API.
    *
-   * @param requiredParam    The required param for the specific
-   *                         request of the child controller.
-   * @param additionalParams Any additional params needed.
-   * @return                 The Web Client shall have the correct URL
-   *                         and params set.
+   * @param requiredParam             The required param for the specific
+   *                                  request of the child controller.
+   * @param additionalParams          Any additional params needed,
+   *                                  indexed by its names.
+   * @return                          The query params shall have the
+   *                                  API key and all given params set.
+   * @throws IllegalArgumentException If an invalid value is given
+   *                                  for an <i>enumerable</i> param,
+   *                                  so they should be
+   *                                  {@link OMDbAPIParamsBuilder#validate(Map)
+   *                                  validated} first.
    */
-  protected abstract RequestBodyUriSpec prepareWebClientRequest(
+  protected abstract OMDbAPIParamsBuilder prepareOMDbAPIParams(
     String requiredParam,
-    Set<Map.Entry<OMDbAPIParams, String>> additionalParams
+    Map<OMDbAPIParams, String> additionalParams
   );
   //#endregion
 
+  //#region Execution
+  /**
+   * <p>
+   *  Execute the given response according to the configured
+   *  {@link ControllerExecutionMode mode}.
+   * </p>
+   *
+   * <p>
+   *  On the {@link ControllerExecutionMode#BLOCKING blocking} mode,
+   *  the response is resolved on the request thread, unless it is
+   *  a non-blocking thread (e.g. running on the WebFlux runtime).
+   * </p>
+   *
+   * <p>
+   *  On the {@link ControllerExecutionMode#VIRTUAL virtual} mode,
+   *  the response is resolved on the request thread if it is a virtual one,
+   *  otherwise it is resolved on a new virtual thread.
+   * </p>
+   *
+   * @param <T>      The type of the response.
+   * @param response The response, still to be resolved.
+   * @return         The same response, resolved or not.
+   */
+  protected final <T> Mono<T> execute(final Mono<T> response) {
+    return switch (controllerProperties.mode()) {
+      case ControllerExecutionMode.BLOCKING ->
+        Schedulers.isInNonBlockingThread()
+          ? response
+          : Mono.justOrEmpty(response.block());
+      case ControllerExecutionMode.VIRTUAL ->
+        Thread.currentThread().isVirtual()
+          ? Mono.justOrEmpty(response.block())
+          : Mono
+            .fromCallable(response::block)
+            .subscribeOn(virtualThreadScheduler);
+      default -> response;
+    };
+  }
+
+  /**
+   * <p>
+   *  Warn the client if the given response was answered, even partially,
+   *  from an expired cached response, while it is refreshed in background.
+   * </p>
+   *
+   * <p>
+   *  It must wrap the response before it is
+   *  {@link #execute(Mono) executed}.
+   * </p>
+   *
+   * @param response The response, still to be resolved.
+   * @return         The same response, with the <code>Warning</code>
+   *                 header set if it is stale.
+   */
+  protected final Mono<ResponseEntity<ResponseEnvelope>> warnIfStale(
+    final Mono<ResponseEntity<ResponseEnvelope>> response
+  ) {
+    return Mono.defer(() -> {
+      final Staleness staleness = new Staleness();
+
+      return staleness.track(response.map((entity) -> staleness.isStale()
+        ? ResponseEntity
+          .status(entity.getStatusCode())
+          .headers(entity.getHeaders())
+          .header(HttpHeaders.WARNING, STALE_WARNING)
+          .body(entity.getBody())
+        : entity
+      ));
+    });
+  }
+  //#endregion
+
   //#region 2xx Status Code
   /**
    * <p>
@@ -93,7 +234,7 @@ public abstract class Controller {
    * @param data Any JSON acceptable value.
    * @return     The JSON has one key (custom) and the given data.
    */
-  protected final ResponseEntity<JsonNode> responseOK(
+  protected final ResponseEntity<ResponseEnvelope> responseOK(
     final String key,
     final Object data
   ) {
@@ -113,7 +254,9 @@ public abstract class Controller {
    * @return        The JSON has one <code>message</code> key
    *                and the given data.
    */
-  protected final ResponseEntity<JsonNode> responseOK(final Object message) {
+  protected final ResponseEntity<ResponseEnvelope> responseOK(
+    final Object message
+  ) {
     return responseMessage(message, HttpStatus.OK);
   }
   //#endregion
@@ -132,7 +275,7 @@ public abstract class Controller {
    * @return      The JSON has one <code>error</code> key
    *              and the given data.
    */
-  protected final ResponseEntity<JsonNode> responseBadRequest(
+  protected final ResponseEntity<ResponseEnvelope> responseBadRequest(
     final Object error
   ) {
     return responseError(error, HttpStatus.BAD_REQUEST);
@@ -151,7 +294,7 @@ public abstract class Controller {
    * @return      The JSON has one <code>error</code> key
    *              and the given data.
    */
-  protected final ResponseEntity<JsonNode> responseNotFound(
+  protected final ResponseEntity<ResponseEnvelope> responseNotFound(
     final Object error
   ) {
     return responseError(error, HttpStatus.NOT_FOUND);
@@ -170,11 +313,161 @@ public abstract class Controller {
    * @return      The JSON has one <code>error</code> key
    *              and the given data.
    */
-  protected final ResponseEntity<JsonNode> responseUnprocessableEntity(
+  protected final ResponseEntity<ResponseEnvelope> responseUnprocessableEntity(
     final Object error
   ) {
     return responseError(error, HttpStatus.UNPROCESSABLE_ENTITY);
   }
+
+  /**
+   * <p>
+   *  Return a response with HTTP <b>429</b> status code.
+   * </p>
+   *
+   * <p>
+   *  The JSON sent in the body has a "error" key to hold the error.
+   * </p>
+   *
+   * @param error Any JSON acceptable value.
+   * @return      The JSON has one <code>error</code> key
+   *              and the given data.
+   */
+  protected final ResponseEntity<ResponseEnvelope> responseTooManyRequests(
+    final Object error
+  ) {
+    return responseError(error, HttpStatus.TOO_MANY_REQUESTS);
+  }
+  //#endregion
+
+  //#region 5xx Status Code
+  /**
+   * <p>
+   *  Return a response with HTTP <b>502</b> status code.
+   * </p>
+   *
+   * <p>
+   *  The JSON sent in the body has a "error" key to hold the error.
+   * </p>
+   *
+   * @param error Any JSON acceptable value.
+   * @return      The JSON has one <code>error</code> key
+   *              and the given data.
+   */
+  protected final ResponseEntity<ResponseEnvelope> responseBadGateway(
+    final Object error
+  ) {
+    return responseError(error, HttpStatus.BAD_GATEWAY);
+  }
+
+  /**
+   * <p>
+   *  Return a response with HTTP <b>503</b> status code.
+   * </p>
+   *
+   * <p>
+   *  The JSON sent in the body has a "error" key to hold the error.
+   * </p>
+   *
+   * @param error Any JSON acceptable value.
+   * @return      The JSON has one <code>error</code> key
+   *              and the given data.
+   */
+  protected final ResponseEntity<ResponseEnvelope> responseServiceUnavailable(
+    final Object error
+  ) {
+    return responseError(error, HttpStatus.SERVICE_UNAVAILABLE);
+  }
+
+  /**
+   * <p>
+   *  Return a response with HTTP <b>504</b> status code.
+   * </p>
+   *
+   * <p>
+   *  The JSON sent in the body has a "error" key to hold the error.
+   * </p>
+   *
+   * @param error Any JSON acceptable value.
+   * @return      The JSON has one <code>error</code> key
+   *              and the given data.
+   */
+  protected final ResponseEntity<ResponseEnvelope> responseGatewayTimeout(
+    final Object error
+  ) {
+    return responseError(error, HttpStatus.GATEWAY_TIMEOUT);
+  }
+  //#endregion
+
+  //#region Exception Handlers
+  /**
+   * Answer requests not made to the OMDb API, due to its rate limit
+   * or daily budget, informing when to try again.
+   *
+   * @param exception The rejection of the request.
+   * @return          The JSON has one <code>error</code> key, and the
+   *                  <code>Retry-After</code> header is set in seconds.
+   */
+  @ExceptionHandler(OMDbAPIQuotaExceededException.class)
+  public final ResponseEntity<ResponseEnvelope> handleQuotaExceeded(
+    final OMDbAPIQuotaExceededException exception
+  ) {
+    return retryAfter(
+      responseTooManyRequests(exception.getReason()),
+      exception.retryAfter()
+    );
+  }
+
+  /**
+   * Answer requests not made to the OMDb API, due to it being
+   * unavailable, informing when to try again.
+   *
+   * @param exception The rejection of the request.
+   * @return          The JSON has one <code>error</code> key, and the
+   *                  <code>Retry-After</code> header is set in seconds.
+   */
+  @ExceptionHandler(OMDbAPIUnavailableException.class)
+  public final ResponseEntity<ResponseEnvelope> handleUnavailable(
+    final OMDbAPIUnavailableException exception
+  ) {
+    return retryAfter(
+      responseServiceUnavailable(exception.getReason()),
+      exception.retryAfter()
+    );
+  }
+
+  /**
+   * Answer requests not answered by the OMDb API before its deadline.
+   *
+   * @param exception The failure of the request.
+   * @return          The JSON has one <code>error</code> key.
+   */
+  @ExceptionHandler(OMDbAPIDeadlineExceededException.class)
+  public final ResponseEntity<ResponseEnvelope> handleDeadlineExceeded(
+    final OMDbAPIDeadlineExceededException exception
+  ) {
+    return responseGatewayTimeout(exception.getReason());
+  }
+
+  /**
+   * Set the <code>Retry-After</code> header of the given response.
+   *
+   * @param response The response of a rejected request.
+   * @param duration Time until a new request may be allowed.
+   * @return         The same response, with the header set in seconds,
+   *                 being at least <code>1</code>.
+   */
+  private ResponseEntity<ResponseEnvelope> retryAfter(
+    final ResponseEntity<ResponseEnvelope> response,
+    final Duration duration
+  ) {
+    return ResponseEntity
+      .status(response.getStatusCode())
+      .header(
+        HttpHeaders.RETRY_AFTER,
+        String.valueOf(Math.max(duration.toSeconds(), 1))
+      )
+      .body(response.getBody());
+  }
   //#endregion
 
   //#region HTTP Status Code
@@ -189,7 +482,7 @@ public abstract class Controller {
    * @return      The JSON is immutable after the
    *              response instantiation.
    */
-  private ResponseEntity<JsonNode> responseMessage(
+  private ResponseEntity<ResponseEnvelope> responseMessage(
     final Object value,
     final HttpStatus code
   ) {
@@ -205,7 +498,7 @@ public abstract class Controller {
    *              but <code>2xx</code> are acceptable as well.
    * @return      The JSON is immutable after the response instantiation.
    */
-  private ResponseEntity<JsonNode> responseError(
+  private ResponseEntity<ResponseEnvelope> responseError(
     final Object value,
     final HttpStatus code
   ) {
@@ -220,19 +513,27 @@ public abstract class Controller {
    * @param value Any JSON acceptable value.
    * @param code  Any HTTP code, usually <code>2xx</code>,
    *              <code>4xx</code> and <code>5xx</code> ones.
-   * @return      The JSON is immutable after the
-   *              response instantiation.
+   * @return      The JSON is written straight from the
+   *              given value, by the writer of its type.
    */
-  private ResponseEntity<JsonNode> response(
+  private ResponseEntity<ResponseEnvelope> response(
     final String key,
     final Object value,
     final HttpStatus code
   ) {
-    final ObjectNode json = JsonNodeFactory.instance.objectNode();
-
-    json.set(key, objectMapper.valueToTree(value));
+    final ObjectWriter writer = value == null
+      ? objectMapper.writer()
+      : writers.computeIfAbsent(
+        value.getClass(),
+        (type) -> objectMapper
+          .writerFor(type)
+          .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+      );
 
-    return new ResponseEntity<JsonNode>(json, code);
+    return new ResponseEntity<ResponseEnvelope>(
+      new ResponseEnvelope(key, value, writer),
+      code
+    );
   }
   //#endregion
 }
@@ -0,0 +1,135 @@
+package br.dev.mestretramador.pmovies.controller;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import reactor.core.publisher.Mono;
+
+import br.dev.mestretramador.pmovies.config.OMDbAPIProperties;
+import br.dev.mestretramador.pmovies.model.OMDbPoster;
+import br.dev.mestretramador.pmovies.service.OMDbAPIService;
+import br.dev.mestretramador.pmovies.util.OMDbAPIParamsBuilder;
+import br.dev.mestretramador.pmovies.util.enumerable.OMDbAPIParams;
+
+/**
+ * <p>Controller class to request posters from OMDb API.</p>
+ *
+ * <p>
+ *  Posters are proxied, so the API key is never exposed, and kept on disk.
+ *  They are served straight from its files, with zero-copy transfer
+ *  on the WebFlux (Netty) runtime, along with its <code>ETag</code>
+ *  and <code>Cache-Control</code> headers. A matching
+ *  <code>If-None-Match</code> header is answered with <b>304</b>.
+ * </p>
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+@RestController
+public class PosterController extends Controller {
+  //#region Routing
+  /**
+   * Prefix for all routes of this controller.
+   *
+   * @apiNote It inherits the base controller route prefix.
+   */
+  protected static final String ROUTE_PREFIX =
+    Controller.ROUTE_PREFIX + "poster";
+  //#endregion
+
+  //#region Autowired
+  /**
+   * The properties (environment variables) of the OMDb API.
+   */
+  @Autowired
+  private OMDbAPIProperties apiProperties;
+  //#endregion
+
+  //#region Poster
+  /**
+   * Send the poster of a title, as an image.
+   *
+   * @param imdbID The ID from IMDb of the title.
+   * @return       The image of the poster, or a JSON
+   *               containing the error message. Any other error
+   *               of the OMDb API is answered with <b>502</b>.
+   */
+  @GetMapping(path = ROUTE_PREFIX + "/{imdbID}")
+  public final Mono<ResponseEntity<?>> poster(
+    final @PathVariable String imdbID
+  ) {
+    if (!IMDB_ID_PATTERN.matcher(imdbID).matches()) {
+      return Mono.just(
+        responseUnprocessableEntity("Given IMDb ID is not a valid one!")
+      );
+    }
+
+    final OMDbAPIParamsBuilder params = prepareOMDbAPIParams(imdbID, Map.of());
+
+    return execute(
+      getOMDbAPIService()
+        .poster(params)
+        .<ResponseEntity<?>>map(this::respond)
+        .onErrorResume(
+          WebClientResponseException.NotFound.class,
+          (e) -> Mono.just(
+            responseNotFound("No poster for the given IMDb ID was found!")
+          )
+        )
+        .onErrorResume(
+          WebClientResponseException.class,
+          (e) -> Mono.just(
+            responseBadGateway("Unable to request the poster from OMDb API!")
+          )
+        )
+    );
+  }
+
+  /**
+   * Map a poster into its response.
+   *
+   * @param poster The poster, as kept on disk.
+   * @return       The image is sent straight from its file.
+   */
+  private ResponseEntity<?> respond(final OMDbPoster poster) {
+    return ResponseEntity
+      .ok()
+      .contentType(poster.contentType())
+      .eTag(poster.hash())
+      .cacheControl(
+        CacheControl
+          .maxAge(apiProperties.cache().poster().maxAge())
+          .cachePublic()
+      )
+      .body(new FileSystemResource(poster.file()));
+  }
+  //#endregion
+
+  //#region Params
+  /**
+   * These params use the
+   * {@link OMDbAPIService#makeOMDbAPIParamsForIMDbID(String) IMDb ID}
+   * static builder.
+   *
+   * @return The params are set in the given order,
+   *         to be requested with {@link OMDbAPIService#poster poster}.
+   */
+  @Override
+  protected final OMDbAPIParamsBuilder prepareOMDbAPIParams(
+    final String requiredParam,
+    final Map<OMDbAPIParams, String> additionalParams
+  ) {
+    return getOMDbAPIService()
+      .makeOMDbAPIParamsForIMDbID(requiredParam)
+      .add(additionalParams);
+  }
+  //#endregion
+}
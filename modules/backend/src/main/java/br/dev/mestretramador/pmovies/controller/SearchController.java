@@ -2,23 +2,29 @@ package br.dev.mestretramador.pmovies.controller;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Set;
 
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.reactive.function.client.WebClient.RequestBodyUriSpec;
-
-import com.fasterxml.jackson.databind.JsonNode;
 
+import br.dev.mestretramador.pmovies.config.SearchAggregationPolicy;
 import br.dev.mestretramador.pmovies.model.OMDbSearch;
+import br.dev.mestretramador.pmovies.model.OMDbSearchItem;
 import br.dev.mestretramador.pmovies.service.OMDbAPIService;
 import br.dev.mestretramador.pmovies.util.OMDbAPIParamsBuilder;
+import br.dev.mestretramador.pmovies.util.OMDbSearchTransformer;
+import br.dev.mestretramador.pmovies.util.ResponseEnvelope;
 import br.dev.mestretramador.pmovies.util.enumerable.OMDbAPIParams;
+import br.dev.mestretramador.pmovies.util.enumerable.SearchSortParamValues;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.server.ResponseStatusException;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * Controller class to request generic searches in OMDb API.
@@ -46,6 +52,8 @@ public class SearchController extends Controller {
    * @param year       The given year to filter the search.
    * @param filter     Required filter (title name) for the search.
    * @param pageNumber Optional index of the paginator.
+   * @param all        Optional flag to aggregate all pages.
+   * @param sort       Optional sorting, either by "year" or "title".
    * @return           The JSON contains the error message, if any,
    *                   or the result of the search.
    */
@@ -53,13 +61,15 @@ public class SearchController extends Controller {
     path = ROUTE_PREFIX + "/{type}/{year}",
     produces = MediaType.APPLICATION_JSON_VALUE
   )
-  public final ResponseEntity<JsonNode> searchTypeWithYear(
+  public final Mono<ResponseEntity<ResponseEnvelope>> searchTypeWithYear(
     final @PathVariable String type,
     final @PathVariable String year,
     final @RequestParam(defaultValue = "") String filter,
-    final @RequestParam(name = "page", defaultValue = "") String pageNumber
+    final @RequestParam(name = "page", defaultValue = "") String pageNumber,
+    final @RequestParam(defaultValue = "false") boolean all,
+    final @RequestParam(defaultValue = "") String sort
   ) {
-    return search(filter, type, year, pageNumber);
+    return search(filter, type, year, pageNumber, all, sort);
   }
 
   /**
@@ -69,6 +79,8 @@ public class SearchController extends Controller {
    * @param filter     Required filter (title name) for the search.
    * @param year       Optional year to filter the search.
    * @param pageNumber Optional index of the paginator.
+   * @param all        Optional flag to aggregate all pages.
+   * @param sort       Optional sorting, either by "year" or "title".
    * @return           The JSON contains the error message, if any,
    *                   or the result of the search.
    */
@@ -76,23 +88,28 @@ public class SearchController extends Controller {
     path = ROUTE_PREFIX + "/{type}",
     produces = MediaType.APPLICATION_JSON_VALUE
   )
-  public final ResponseEntity<JsonNode> searchType(
+  public final Mono<ResponseEntity<ResponseEnvelope>> searchType(
     final @PathVariable String type,
     final @RequestParam(defaultValue = "") String filter,
     final @RequestParam(defaultValue = "") String year,
-    final @RequestParam(name = "page", defaultValue = "") String pageNumber
+    final @RequestParam(name = "page", defaultValue = "") String pageNumber,
+    final @RequestParam(defaultValue = "false") boolean all,
+    final @RequestParam(defaultValue = "") String sort
   ) {
-    return search(filter, type, year, pageNumber);
+    return search(filter, type, year, pageNumber, all, sort);
   }
 
   /**
    * The base search and fallback method to request
-   * OMDb API with all given params.
+   * OMDb API with all given params. The page after the
+   * one of a single page search is prefetched in background.
    *
    * @param filter     Required filter (title name) for the search.
    * @param type       Optional type to filter the search.
    * @param year       Optional year to filter the search.
    * @param pageNumber Optional index of the paginator.
+   * @param all        Optional flag to aggregate all pages.
+   * @param sort       Optional sorting, either by "year" or "title".
    * @return           The JSON contains the error message, if any,
    *                   or the result of the search.
    */
@@ -100,15 +117,17 @@ public class SearchController extends Controller {
     path = ROUTE_PREFIX,
     produces = MediaType.APPLICATION_JSON_VALUE
   )
-  public final ResponseEntity<JsonNode> search(
+  public final Mono<ResponseEntity<ResponseEnvelope>> search(
     final @RequestParam(defaultValue = "") String filter,
     final @RequestParam(defaultValue = "") String type,
     final @RequestParam(defaultValue = "") String year,
-    final @RequestParam(name = "page", defaultValue = "") String pageNumber
+    final @RequestParam(name = "page", defaultValue = "") String pageNumber,
+    final @RequestParam(defaultValue = "false") boolean all,
+    final @RequestParam(defaultValue = "") String sort
   ) {
     if (filter.isEmpty()) {
-      return responseBadRequest(
-        "Missing param \"filter\"! Unable to make a search!"
+      return Mono.just(
+        responseBadRequest("Missing param \"filter\"! Unable to make a search!")
       );
     }
 
@@ -123,81 +142,193 @@ public class SearchController extends Controller {
       additionalParams.put(OMDbAPIParams.YEAR, year);
     }
 
-    if (!pageNumber.isEmpty()) {
+    if (!pageNumber.isEmpty() && !all) {
       additionalParams.put(OMDbAPIParams.PAGE, pageNumber);
     }
 
-    try {
-      final RequestBodyUriSpec webClientRequest =
-        prepareWebClientRequest(filter, additionalParams.entrySet());
+    final SearchSortParamValues sortValue =
+      SearchSortParamValues.parseString(sort);
 
-      final OMDbSearch webClientResponse =
-        webClientRequest
-          .retrieve()
-          .bodyToMono(OMDbSearch.class)
-          .block();
+    if (!sort.isEmpty() && sortValue == null) {
+      return Mono.just(
+        responseUnprocessableEntity(
+          String.format(
+            "Given param \"sort\" value \"%s\" is not a legal type!",
+            sort
+          )
+        )
+      );
+    }
 
-      if (webClientResponse.hasError()) {
-        return responseNotFound("No results for the given filter were found!");
-      }
+    final String invalidParam = OMDbAPIParamsBuilder.validate(additionalParams);
 
-      final int totalResults = webClientResponse.totalResultsNumber();
-      final int maxResults = OMDbSearch.MAX_RESULTS_IN_SEARCH;
+    if (invalidParam != null) {
+      return Mono.just(responseUnprocessableEntity(invalidParam));
+    }
 
-      if (totalResults > maxResults) {
-        final int pages = (
-          Math.round(totalResults / maxResults)
-            + totalResults % maxResults == 0 ? 0 : 1
-        );
+    final OMDbAPIParamsBuilder params =
+      prepareOMDbAPIParams(filter, additionalParams);
 
-        System.out.println("Pages: " + pages);
-      }
+    final OMDbAPIService service = getOMDbAPIService();
+    final SearchAggregationPolicy aggregation =
+      getControllerProperties().aggregation();
 
-      return responseOK("search", webClientResponse.parsed());
-    } catch (IllegalArgumentException e) {
-      return responseUnprocessableEntity(e.getMessage());
+    if (!all && sortValue == null) {
+      return execute(warnIfStale(
+        service
+          .searchTransformed(params)
+          .doOnNext((webClientResponse) -> service.prefetchNextPage(
+            params,
+            webClientResponse.totalResultsNumber()
+          ))
+          .map(this::respond)
+      ));
     }
+
+    return execute(warnIfStale(
+      service
+        .searchAll(
+          params,
+          all ? aggregation.maxPages() : 1,
+          aggregation.parallelism(),
+          sortValue
+        )
+        .map(this::respond)
+    ));
+  }
+
+  /**
+   * <p>
+   *  The streaming search, which requests all pages of the search
+   *  and sends each result as soon as its page arrives.
+   * </p>
+   *
+   * <p>
+   *  Results are sent either as newline delimited JSON or as
+   *  Server-Sent Events, as accepted by the client. Results repeated
+   *  across pages are sent only once, and no sorting is available.
+   *  Invalid params are answered before the stream starts.
+   * </p>
+   *
+   * @param filter Required filter (title name) for the search.
+   * @param type   Optional type to filter the search.
+   * @param year   Optional year to filter the search.
+   * @return       Each result of the search. If none was found,
+   *               the stream is empty.
+   */
+  @GetMapping(
+    path = ROUTE_PREFIX,
+    produces = {
+      MediaType.APPLICATION_NDJSON_VALUE,
+      MediaType.TEXT_EVENT_STREAM_VALUE
+    }
+  )
+  public final Flux<OMDbSearchItem> searchStream(
+    final @RequestParam(defaultValue = "") String filter,
+    final @RequestParam(defaultValue = "") String type,
+    final @RequestParam(defaultValue = "") String year
+  ) {
+    if (filter.isEmpty()) {
+      return Flux.error(
+        new ResponseStatusException(
+          HttpStatus.BAD_REQUEST,
+          "Missing param \"filter\"! Unable to make a search!"
+        )
+      );
+    }
+
+    final HashMap<OMDbAPIParams, String> additionalParams =
+      new HashMap<OMDbAPIParams, String>();
+
+    if (!type.isEmpty()) {
+      additionalParams.put(OMDbAPIParams.TYPE, type);
+    }
+
+    if (!year.isEmpty()) {
+      additionalParams.put(OMDbAPIParams.YEAR, year);
+    }
+
+    final String invalidParam = OMDbAPIParamsBuilder.validate(additionalParams);
+
+    if (invalidParam != null) {
+      return Flux.error(
+        new ResponseStatusException(
+          HttpStatus.UNPROCESSABLE_ENTITY,
+          invalidParam
+        )
+      );
+    }
+
+    final OMDbAPIParamsBuilder params =
+      prepareOMDbAPIParams(filter, additionalParams);
+
+    final SearchAggregationPolicy aggregation =
+      getControllerProperties().aggregation();
+
+    return getOMDbAPIService()
+      .searchPages(
+        params,
+        aggregation.maxPages(),
+        aggregation.parallelism()
+      )
+      .filter(OMDbSearch::hasResult)
+      .concatMapIterable(OMDbSearch::parsed)
+      .distinct(OMDbSearchItem::imdbID);
+  }
+
+  /**
+   * Map the result of a single page search request into its response,
+   * writing its results straight from the raw response.
+   *
+   * @param webClientResponse The result from OMDb API.
+   * @return                  The JSON contains the error message, if any,
+   *                          or the result of the search.
+   */
+  private ResponseEntity<ResponseEnvelope> respond(
+    final OMDbSearchTransformer webClientResponse
+  ) {
+    if (webClientResponse.hasError()) {
+      return responseNotFound("No results for the given filter were found!");
+    }
+
+    return responseOK("search", webClientResponse);
+  }
+
+  /**
+   * Map the result of a search request into its response.
+   *
+   * @param webClientResponse The result from OMDb API.
+   * @return                  The JSON contains the error message, if any,
+   *                          or the result of the search.
+   */
+  private ResponseEntity<ResponseEnvelope> respond(
+    final OMDbSearch webClientResponse
+  ) {
+    if (webClientResponse.hasError()) {
+      return responseNotFound("No results for the given filter were found!");
+    }
+
+    return responseOK("search", webClientResponse.parsed());
   }
   //#endregion
 
-  //#region Web Client
+  //#region Params
   /**
-   * This Web client uses the
+   * These params use the
    * {@link OMDbAPIService#makeOMDbAPIParamsForSearch(String) search}
-   * static builder to create the params.
+   * static builder.
    *
-   * @return The Web Client is created with the
-   *         {@link OMDbAPIService#makeOMDbAPIDataWebClient() data} builder
-   *         and all params are set in the given order.
+   * @return The params are set in the given order,
+   *         to be requested with {@link OMDbAPIService#search search}.
    */
   @Override
-  protected final RequestBodyUriSpec prepareWebClientRequest(
+  protected final OMDbAPIParamsBuilder prepareOMDbAPIParams(
     final String requiredParam,
-    final Set<Map.Entry<OMDbAPIParams, String>> additionalParams
+    final Map<OMDbAPIParams, String> additionalParams
   ) {
-    final OMDbAPIService service = getOMDbAPIService();
-    final OMDbAPIParamsBuilder builder =
-      service.makeOMDbAPIParamsForSearch(requiredParam);
-
-    if (additionalParams != null) {
-      for (
-        Map.Entry<OMDbAPIParams, String> additionalParam : additionalParams
-      ) {
-        builder.add(
-          additionalParam.getKey(),
-          additionalParam.getValue()
-        );
-      }
-    }
-
-    return (
-      (RequestBodyUriSpec) service
-        .makeOMDbAPIDataWebClient()
-        .get()
-        .uri(
-          (p) -> p.queryParams(builder.toMultiValueMap()).build()
-        )
-    );
+    return getOMDbAPIService()
+      .makeOMDbAPIParamsForSearch(requiredParam)
+      .add(additionalParams);
   }
   //#endregion
 }
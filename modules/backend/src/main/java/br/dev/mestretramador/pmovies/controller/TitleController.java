@@ -0,0 +1,333 @@
+package br.dev.mestretramador.pmovies.controller;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import br.dev.mestretramador.pmovies.config.TitleBatchPolicy;
+import br.dev.mestretramador.pmovies.model.OMDbTitle;
+import br.dev.mestretramador.pmovies.model.OMDbTitleLookup;
+import br.dev.mestretramador.pmovies.service.OMDbAPIService;
+import br.dev.mestretramador.pmovies.util.OMDbAPIParamsBuilder;
+import br.dev.mestretramador.pmovies.util.OMDbAPIResponseStatus;
+import br.dev.mestretramador.pmovies.util.ResponseEnvelope;
+import br.dev.mestretramador.pmovies.util.enumerable.OMDbAPIParams;
+
+/**
+ * Controller class to request the details of a title in OMDb API.
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+@RestController
+public class TitleController extends Controller {
+  //#region Routing
+  /**
+   * Prefix for all routes of this controller.
+   *
+   * @apiNote It inherits the base controller route prefix.
+   */
+  protected static final String ROUTE_PREFIX =
+    Controller.ROUTE_PREFIX + "title";
+  //#endregion
+
+  //#region Constants
+  /**
+   * Error of a title of a batch whose request failed for an unknown reason.
+   */
+  private static final String LOOKUP_FAILED =
+    "Unable to request the title! Try again later.";
+  //#endregion
+
+  //#region Title
+  /**
+   * Request the details of a title by its IMDb ID.
+   *
+   * @param imdbID The ID from IMDb of the title.
+   * @param plot   Optional plot length, either "short" or "full".
+   * @return       The JSON contains the error message, if any,
+   *               or the details of the title.
+   */
+  @GetMapping(
+    path = ROUTE_PREFIX + "/{imdbID}",
+    produces = MediaType.APPLICATION_JSON_VALUE
+  )
+  public final Mono<ResponseEntity<ResponseEnvelope>> titleByIMDbID(
+    final @PathVariable String imdbID,
+    final @RequestParam(defaultValue = "") String plot
+  ) {
+    if (!IMDB_ID_PATTERN.matcher(imdbID).matches()) {
+      return Mono.just(
+        responseUnprocessableEntity("Given IMDb ID is not a valid one!")
+      );
+    }
+
+    final HashMap<OMDbAPIParams, String> additionalParams =
+      new HashMap<OMDbAPIParams, String>();
+
+    if (!plot.isEmpty()) {
+      additionalParams.put(OMDbAPIParams.PLOT, plot);
+    }
+
+    final String invalidParam = OMDbAPIParamsBuilder.validate(additionalParams);
+
+    if (invalidParam != null) {
+      return Mono.just(responseUnprocessableEntity(invalidParam));
+    }
+
+    final OMDbAPIParamsBuilder params =
+      prepareOMDbAPIParams(imdbID, additionalParams);
+
+    return request(params);
+  }
+
+  /**
+   * Request the details of a title by its name.
+   *
+   * @param title The name of the title.
+   * @param type  Optional type to filter the title.
+   * @param year  Optional year to filter the title.
+   * @param plot  Optional plot length, either "short" or "full".
+   * @return      The JSON contains the error message, if any,
+   *              or the details of the title.
+   */
+  @GetMapping(
+    path = ROUTE_PREFIX,
+    produces = MediaType.APPLICATION_JSON_VALUE
+  )
+  public final Mono<ResponseEntity<ResponseEnvelope>> titleByName(
+    final @RequestParam(name = "t", defaultValue = "") String title,
+    final @RequestParam(defaultValue = "") String type,
+    final @RequestParam(defaultValue = "") String year,
+    final @RequestParam(defaultValue = "") String plot
+  ) {
+    if (title.isEmpty()) {
+      return Mono.just(
+        responseBadRequest("Missing param \"t\"! Unable to find a title!")
+      );
+    }
+
+    final HashMap<OMDbAPIParams, String> additionalParams =
+      new HashMap<OMDbAPIParams, String>();
+
+    if (!type.isEmpty()) {
+      additionalParams.put(OMDbAPIParams.TYPE, type);
+    }
+
+    if (!year.isEmpty()) {
+      additionalParams.put(OMDbAPIParams.YEAR, year);
+    }
+
+    if (!plot.isEmpty()) {
+      additionalParams.put(OMDbAPIParams.PLOT, plot);
+    }
+
+    final String invalidParam = OMDbAPIParamsBuilder.validate(additionalParams);
+
+    if (invalidParam != null) {
+      return Mono.just(responseUnprocessableEntity(invalidParam));
+    }
+
+    final OMDbAPIParamsBuilder params = getOMDbAPIService()
+      .makeOMDbAPIParamsForTitle(title)
+      .add(additionalParams);
+
+    return request(params);
+  }
+
+  /**
+   * <p>
+   *  The batch lookup, which requests the details of many titles
+   *  by its IMDb IDs, and sends each one as soon as it and
+   *  the ones before it arrive.
+   * </p>
+   *
+   * <p>
+   *  Cached titles are answered at once, and the others are
+   *  requested concurrently, up to the configured parallelism.
+   *  Titles are sent in the given order, either as newline delimited
+   *  JSON, as Server-Sent Events or as a single JSON array, as accepted
+   *  by the client. Invalid params are answered before the stream starts.
+   * </p>
+   *
+   * @param imdbIDs The IDs from IMDb of the titles, as a JSON array.
+   *                If it is missing or empty, nothing is requested.
+   * @param plot    Optional plot length, either "short" or "full".
+   * @return        The lookup of each title, holding its details or,
+   *                if invalid, not found or failed, its error message.
+   */
+  @PostMapping(
+    path = ROUTE_PREFIX + "/batch",
+    consumes = MediaType.APPLICATION_JSON_VALUE,
+    produces = {
+      MediaType.APPLICATION_NDJSON_VALUE,
+      MediaType.TEXT_EVENT_STREAM_VALUE,
+      MediaType.APPLICATION_JSON_VALUE
+    }
+  )
+  public final Flux<OMDbTitleLookup> titlesByIMDbID(
+    final @RequestBody(required = false) List<String> imdbIDs,
+    final @RequestParam(defaultValue = "") String plot
+  ) {
+    final TitleBatchPolicy batch = getControllerProperties().batch();
+
+    if (imdbIDs == null || imdbIDs.isEmpty() || imdbIDs.contains(null)) {
+      return Flux.error(
+        new ResponseStatusException(
+          HttpStatus.BAD_REQUEST,
+          "Missing IMDb IDs! Unable to find any title!"
+        )
+      );
+    }
+
+    if (imdbIDs.size() > batch.maxTitles()) {
+      return Flux.error(
+        new ResponseStatusException(
+          HttpStatus.UNPROCESSABLE_ENTITY,
+          String.format(
+            "Given %d IMDb IDs, but at most %d are allowed!",
+            imdbIDs.size(),
+            batch.maxTitles()
+          )
+        )
+      );
+    }
+
+    final HashMap<OMDbAPIParams, String> additionalParams =
+      new HashMap<OMDbAPIParams, String>();
+
+    if (!plot.isEmpty()) {
+      additionalParams.put(OMDbAPIParams.PLOT, plot);
+    }
+
+    final String invalidParam = OMDbAPIParamsBuilder.validate(additionalParams);
+
+    if (invalidParam != null) {
+      return Flux.error(
+        new ResponseStatusException(
+          HttpStatus.UNPROCESSABLE_ENTITY,
+          invalidParam
+        )
+      );
+    }
+
+    return Flux
+      .fromIterable(imdbIDs)
+      .flatMapSequential(
+        (imdbID) -> lookup(imdbID, additionalParams),
+        batch.parallelism()
+      );
+  }
+
+  /**
+   * Request the details of a single title of a batch. A title not found
+   * has its own error, but an error of the key or its quota (such as
+   * <code>Request limit reached!</code>) is a failure of the request.
+   *
+   * @param imdbID           The ID from IMDb of the title.
+   * @param additionalParams Any additional params, already validated.
+   * @return                 It never fails, holding the error
+   *                         message of the title instead.
+   */
+  private Mono<OMDbTitleLookup> lookup(
+    final String imdbID,
+    final Map<OMDbAPIParams, String> additionalParams
+  ) {
+    if (!IMDB_ID_PATTERN.matcher(imdbID).matches()) {
+      return Mono.just(
+        OMDbTitleLookup.failed(imdbID, "Given IMDb ID is not a valid one!")
+      );
+    }
+
+    return getOMDbAPIService()
+      .title(prepareOMDbAPIParams(imdbID, additionalParams))
+      .map((webClientResponse) -> {
+        if (!webClientResponse.hasError()) {
+          return OMDbTitleLookup.found(imdbID, webClientResponse.parsed());
+        }
+
+        return OMDbTitleLookup.failed(
+          imdbID,
+          OMDbAPIResponseStatus.isKeyError(webClientResponse.error())
+            ? LOOKUP_FAILED
+            : "No title for the given IMDb ID was found!"
+        );
+      })
+      .onErrorResume((error) -> Mono.just(OMDbTitleLookup.failed(
+        imdbID,
+        error instanceof ResponseStatusException exception
+          ? Objects.requireNonNullElse(exception.getReason(), LOOKUP_FAILED)
+          : LOOKUP_FAILED
+      )));
+  }
+
+  /**
+   * Request the details of a title with the given params.
+   *
+   * @param params The query params, either by title or IMDb ID.
+   * @return       The JSON contains the error message, if any,
+   *               or the details of the title.
+   */
+  private Mono<ResponseEntity<ResponseEnvelope>> request(
+    final OMDbAPIParamsBuilder params
+  ) {
+    return execute(warnIfStale(
+      getOMDbAPIService()
+        .title(params)
+        .map(this::respond)
+    ));
+  }
+
+  /**
+   * Map the result of a title request into its response.
+   *
+   * @param webClientResponse The result from OMDb API.
+   * @return                  The JSON contains the error message, if any,
+   *                          or the details of the title.
+   */
+  private ResponseEntity<ResponseEnvelope> respond(
+    final OMDbTitle webClientResponse
+  ) {
+    if (webClientResponse.hasError()) {
+      return responseNotFound("No title for the given filter was found!");
+    }
+
+    return responseOK("title", webClientResponse.parsed());
+  }
+  //#endregion
+
+  //#region Params
+  /**
+   * These params use the
+   * {@link OMDbAPIService#makeOMDbAPIParamsForIMDbID(String) IMDb ID}
+   * static builder.
+   *
+   * @return The params are set in the given order,
+   *         to be requested with {@link OMDbAPIService#title title}.
+   */
+  @Override
+  protected final OMDbAPIParamsBuilder prepareOMDbAPIParams(
+    final String requiredParam,
+    final Map<OMDbAPIParams, String> additionalParams
+  ) {
+    return getOMDbAPIService()
+      .makeOMDbAPIParamsForIMDbID(requiredParam)
+      .add(additionalParams);
+  }
+  //#endregion
+}
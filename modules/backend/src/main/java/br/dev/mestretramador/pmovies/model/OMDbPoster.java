@@ -0,0 +1,60 @@
+package br.dev.mestretramador.pmovies.model;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Represents a poster from the OMDb API, kept on disk.
+ *
+ * @since                       0.0.1
+ * @author                      Mestre-Tramador
+ * @param file                  The file holding the image.
+ * @param hash                  The SHA-256 hash of the image,
+ *                              in hexadecimal.
+ * @param contentType           The media type of the image.
+ * @throws NullPointerException If any data given is <code>null</code>.
+ */
+public record OMDbPoster(
+  Path file,
+  String hash,
+  MediaType contentType
+) {
+  /**
+   * The poster cannot be <code>null</code>.
+   */
+  public OMDbPoster {
+    Objects.requireNonNull(file);
+    Objects.requireNonNull(hash);
+    Objects.requireNonNull(contentType);
+  }
+
+  /**
+   * Read the file holding the image.
+   *
+   * @return Its name is the hash of the image, so it
+   *         is shared by any poster of the same image.
+   */
+  public Path file() {
+    return file;
+  }
+
+  /**
+   * Read the SHA-256 hash of the image.
+   *
+   * @return It is suitable as an <code>ETag</code>.
+   */
+  public String hash() {
+    return hash;
+  }
+
+  /**
+   * Read the media type of the image.
+   *
+   * @return It is the one sent by the OMDb API.
+   */
+  public MediaType contentType() {
+    return contentType;
+  }
+}
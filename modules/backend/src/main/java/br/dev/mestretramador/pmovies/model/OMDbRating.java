@@ -0,0 +1,50 @@
+package br.dev.mestretramador.pmovies.model;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+
+/**
+ * Represents a rating of a title from a single source.
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ * @param source The source of the rating, like "Rotten Tomatoes".
+ * @param value  The rating itself, as given by the source.
+ */
+public record OMDbRating(
+  @JsonAlias(SOURCE_KEY) String source,
+  @JsonAlias(VALUE_KEY) String value
+) {
+  //#region JSON Keys
+  /**
+   * The key for the source of the rating.
+   */
+  private static final String SOURCE_KEY = "Source";
+
+  /**
+   * The key for the rating itself.
+   */
+  private static final String VALUE_KEY = "Value";
+  //#endregion
+
+  //#region Accessors
+  /**
+   * Read the source of the rating.
+   *
+   * @return Usually "Internet Movie Database",
+   *         "Rotten Tomatoes" or "Metacritic".
+   */
+  public String source() {
+    return source;
+  }
+
+  /**
+   * Read the rating itself.
+   *
+   * @return Its format depends on the source,
+   *         like "8.7/10", "83%" or "73/100".
+   */
+  public String value() {
+    return value;
+  }
+  //#endregion
+}
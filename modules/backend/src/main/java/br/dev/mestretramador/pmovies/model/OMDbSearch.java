@@ -1,10 +1,8 @@
 package br.dev.mestretramador.pmovies.model;
 
+import java.util.List;
+
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.JsonNodeFactory;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 
 /**
  * Represents the result from a OMDb API search request.
@@ -14,13 +12,13 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
  * @param response     A "boolean" indicating if the search was successful
  *                     or not.
  * @param totalResults The totality of results returned in the searching.
- * @param search       The results itself, in an array.
+ * @param search       The results itself, already parsed.
  * @param error        The error message, if any occurred.
  */
 public record OMDbSearch(
   @JsonProperty(RESPONSE_KEY) String response,
   @JsonProperty(TOTAL_RESULTS_KEY) String totalResults,
-  @JsonProperty(SEARCH_KEY) ArrayNode search,
+  @JsonProperty(SEARCH_KEY) List<OMDbSearchItem> search,
   @JsonProperty(ERROR_KEY) String error
 ) {
   //#region JSON Keys
@@ -62,6 +60,15 @@ public record OMDbSearch(
   public static final int MAX_RESULTS_IN_SEARCH = 10;
   //#endregion
 
+  //#region Constructors
+  /**
+   * The results are kept in an immutable list, empty if none were found.
+   */
+  public OMDbSearch {
+    search = search == null ? List.of() : List.copyOf(search);
+  }
+  //#endregion
+
   //#region Accessors
   /**
    * Read the "boolean" value of the response.
@@ -83,12 +90,12 @@ public record OMDbSearch(
   }
 
   /**
-   * Read the original results of the search.
+   * Read the results of the search.
    *
-   * @return A {@link ArrayNode#deepCopy() deep copy}, to keep it "immutable".
+   * @return It is immutable, so no copy is made.
    */
-  public ArrayNode search() {
-    return search != null ? search.deepCopy() : null;
+  public List<OMDbSearchItem> search() {
+    return search;
   }
 
   /**
@@ -136,41 +143,31 @@ public record OMDbSearch(
       return 0;
     }
   }
+
+  /**
+   * Easy accessor for the quantity of pages of the search.
+   *
+   * @return It is the {@link OMDbSearch#totalResultsNumber total results}
+   *         divided into pages of {@link OMDbSearch#MAX_RESULTS_IN_SEARCH}
+   *         results, rounded up.
+   */
+  public int pagesNumber() {
+    return (
+      (totalResultsNumber() + MAX_RESULTS_IN_SEARCH - 1)
+        / MAX_RESULTS_IN_SEARCH
+    );
+  }
   //#endregion
 
   //#region Parser
   /**
    * Parse the search results into a beautified version holding the same data.
    *
-   * @return <i>Documentation of the parsed type in progress!</i>
-   */
-  public ArrayNode parsed() {
-    final ArrayNode searchParsed = JsonNodeFactory.instance.arrayNode();
-
-    for (final JsonNode searchItem : search()) {
-      final ObjectNode parsedItem = JsonNodeFactory.instance.objectNode();
-
-      parsedItem.set("title", searchItem.get("Title"));
-      parsedItem.set(
-        "year",
-        JsonNodeFactory.instance
-          .numberNode(
-            searchItem.get("Year").asInt()
-          )
-      );
-      parsedItem.set("imdb_id", searchItem.get("imdbID"));
-      parsedItem.set("type", searchItem.get("Type"));
-      parsedItem.set(
-        "poster",
-        searchItem.get("Poster").asText().equals("N/A")
-          ? null
-          : searchItem.get("Poster")
-      );
-
-      searchParsed.add(parsedItem);
-    }
-
-    return searchParsed;
+   * @return The results are parsed once, when the search is read,
+   *         so it is the same as the {@link OMDbSearch#search search}.
+   */
+  public List<OMDbSearchItem> parsed() {
+    return search;
   }
   //#endregion
 }
@@ -0,0 +1,155 @@
+package br.dev.mestretramador.pmovies.model;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * <p>
+ *  Represents a single result from a OMDb API search request.
+ * </p>
+ *
+ * <p>
+ *  It is bound from the OMDb API keys, and written
+ *  with the beautified ones, so it is already parsed.
+ * </p>
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ * @param title  The name of the title.
+ * @param year   The year, or range of years, of release.
+ * @param imdbID The ID from IMDb.
+ * @param type   The type, like "movie" or "series".
+ * @param poster The URL of the poster, if there is one.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record OMDbSearchItem(
+  @JsonProperty(TITLE_KEY) @JsonAlias(OMDB_TITLE_KEY) String title,
+  @JsonProperty(YEAR_KEY) @JsonAlias(OMDB_YEAR_KEY) OMDbYearRange year,
+  @JsonProperty(IMDB_ID_KEY) @JsonAlias(OMDB_IMDB_ID_KEY) String imdbID,
+  @JsonProperty(TYPE_KEY) @JsonAlias(OMDB_TYPE_KEY) String type,
+  @JsonProperty(POSTER_KEY) @JsonAlias(OMDB_POSTER_KEY) Optional<String> poster
+) {
+  //#region JSON Keys
+  /**
+   * The key for the name of the title.
+   */
+  private static final String TITLE_KEY = "title";
+
+  /**
+   * The key for the year of release.
+   */
+  private static final String YEAR_KEY = "year";
+
+  /**
+   * The key for the ID from IMDb.
+   */
+  private static final String IMDB_ID_KEY = "imdb_id";
+
+  /**
+   * The key for the type.
+   */
+  private static final String TYPE_KEY = "type";
+
+  /**
+   * The key for the URL of the poster.
+   */
+  private static final String POSTER_KEY = "poster";
+
+  /**
+   * The OMDb API key for the name of the title.
+   */
+  private static final String OMDB_TITLE_KEY = "Title";
+
+  /**
+   * The OMDb API key for the year of release.
+   */
+  private static final String OMDB_YEAR_KEY = "Year";
+
+  /**
+   * The OMDb API key for the ID from IMDb.
+   */
+  private static final String OMDB_IMDB_ID_KEY = "imdbID";
+
+  /**
+   * The OMDb API key for the type.
+   */
+  private static final String OMDB_TYPE_KEY = "Type";
+
+  /**
+   * The OMDb API key for the URL of the poster.
+   */
+  private static final String OMDB_POSTER_KEY = "Poster";
+  //#endregion
+
+  //#region Constants
+  /**
+   * Value of a missing poster.
+   */
+  private static final String NOT_AVAILABLE = "N/A";
+  //#endregion
+
+  //#region Constructors
+  /**
+   * A missing year is {@link OMDbYearRange#UNKNOWN unknown},
+   * and a missing poster is empty.
+   */
+  public OMDbSearchItem {
+    year = Objects.requireNonNullElse(year, OMDbYearRange.UNKNOWN);
+    poster = poster == null
+      ? Optional.empty()
+      : poster.filter((url) -> !url.equals(NOT_AVAILABLE));
+  }
+  //#endregion
+
+  //#region Accessors
+  /**
+   * Read the name of the title.
+   *
+   * @return It is in the original language, or in English.
+   */
+  public String title() {
+    return title;
+  }
+
+  /**
+   * Read the year, or range of years, of release.
+   *
+   * @return It is written as its first year.
+   */
+  public OMDbYearRange year() {
+    return year;
+  }
+
+  /**
+   * Read the ID from IMDb.
+   *
+   * @return It is like "tt0133093".
+   */
+  public String imdbID() {
+    return imdbID;
+  }
+
+  /**
+   * Read the type.
+   *
+   * @return It is either "movie", "series" or "episode".
+   */
+  public String type() {
+    return type;
+  }
+
+  /**
+   * Read the URL of the poster.
+   *
+   * @return It is empty if there is no poster,
+   *         and written as <code>null</code>.
+   */
+  public Optional<String> poster() {
+    return poster;
+  }
+  //#endregion
+}
@@ -0,0 +1,573 @@
+package br.dev.mestretramador.pmovies.model;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Represents the result from a OMDb API title or IMDb ID request.
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ * @param title        The name of the title.
+ * @param year         The year, or range of years, of release.
+ * @param rated        The age rating.
+ * @param released     The date of release, like "31 Mar 1999".
+ * @param runtime      The duration, like "136 min".
+ * @param genre        The genres, separated by commas.
+ * @param director     The directors, separated by commas.
+ * @param writer       The writers, separated by commas.
+ * @param actors       The main actors, separated by commas.
+ * @param plot         The plot, either short or full.
+ * @param language     The spoken languages, separated by commas.
+ * @param country      The countries of production, separated by commas.
+ * @param awards       A summary of the awards.
+ * @param poster       The URL of the poster.
+ * @param ratings      The ratings from each source.
+ * @param metascore    The Metacritic score.
+ * @param imdbRating   The IMDb rating.
+ * @param imdbVotes    The number of IMDb votes, with commas.
+ * @param imdbID       The ID from IMDb.
+ * @param type         The type, like "movie" or "series".
+ * @param totalSeasons The number of seasons, for series.
+ * @param boxOffice    The box office, like "$171,479,930".
+ * @param response     A "boolean" indicating if the request was successful
+ *                     or not.
+ * @param error        The error message, if any occurred.
+ */
+public record OMDbTitle(
+  @JsonProperty(TITLE_KEY) String title,
+  @JsonProperty(YEAR_KEY) String year,
+  @JsonProperty(RATED_KEY) String rated,
+  @JsonProperty(RELEASED_KEY) String released,
+  @JsonProperty(RUNTIME_KEY) String runtime,
+  @JsonProperty(GENRE_KEY) String genre,
+  @JsonProperty(DIRECTOR_KEY) String director,
+  @JsonProperty(WRITER_KEY) String writer,
+  @JsonProperty(ACTORS_KEY) String actors,
+  @JsonProperty(PLOT_KEY) String plot,
+  @JsonProperty(LANGUAGE_KEY) String language,
+  @JsonProperty(COUNTRY_KEY) String country,
+  @JsonProperty(AWARDS_KEY) String awards,
+  @JsonProperty(POSTER_KEY) String poster,
+  @JsonProperty(RATINGS_KEY) List<OMDbRating> ratings,
+  @JsonProperty(METASCORE_KEY) String metascore,
+  @JsonProperty(IMDB_RATING_KEY) String imdbRating,
+  @JsonProperty(IMDB_VOTES_KEY) String imdbVotes,
+  @JsonProperty(IMDB_ID_KEY) String imdbID,
+  @JsonProperty(TYPE_KEY) String type,
+  @JsonProperty(TOTAL_SEASONS_KEY) String totalSeasons,
+  @JsonProperty(BOX_OFFICE_KEY) String boxOffice,
+  @JsonProperty(RESPONSE_KEY) String response,
+  @JsonProperty(ERROR_KEY) String error
+) {
+  //#region JSON Keys
+  /**
+   * The key for the name of the title.
+   */
+  private static final String TITLE_KEY = "Title";
+
+  /**
+   * The key for the year, or range of years, of release.
+   */
+  private static final String YEAR_KEY = "Year";
+
+  /**
+   * The key for the age rating.
+   */
+  private static final String RATED_KEY = "Rated";
+
+  /**
+   * The key for the date of release.
+   */
+  private static final String RELEASED_KEY = "Released";
+
+  /**
+   * The key for the duration.
+   */
+  private static final String RUNTIME_KEY = "Runtime";
+
+  /**
+   * The key for the genres.
+   */
+  private static final String GENRE_KEY = "Genre";
+
+  /**
+   * The key for the directors.
+   */
+  private static final String DIRECTOR_KEY = "Director";
+
+  /**
+   * The key for the writers.
+   */
+  private static final String WRITER_KEY = "Writer";
+
+  /**
+   * The key for the main actors.
+   */
+  private static final String ACTORS_KEY = "Actors";
+
+  /**
+   * The key for the plot.
+   */
+  private static final String PLOT_KEY = "Plot";
+
+  /**
+   * The key for the spoken languages.
+   */
+  private static final String LANGUAGE_KEY = "Language";
+
+  /**
+   * The key for the countries of production.
+   */
+  private static final String COUNTRY_KEY = "Country";
+
+  /**
+   * The key for the summary of the awards.
+   */
+  private static final String AWARDS_KEY = "Awards";
+
+  /**
+   * The key for the URL of the poster.
+   */
+  private static final String POSTER_KEY = "Poster";
+
+  /**
+   * The key for the ratings from each source.
+   */
+  private static final String RATINGS_KEY = "Ratings";
+
+  /**
+   * The key for the Metacritic score.
+   */
+  private static final String METASCORE_KEY = "Metascore";
+
+  /**
+   * The key for the IMDb rating.
+   */
+  private static final String IMDB_RATING_KEY = "imdbRating";
+
+  /**
+   * The key for the number of IMDb votes.
+   */
+  private static final String IMDB_VOTES_KEY = "imdbVotes";
+
+  /**
+   * The key for the ID from IMDb.
+   */
+  private static final String IMDB_ID_KEY = "imdbID";
+
+  /**
+   * The key for the type.
+   */
+  private static final String TYPE_KEY = "Type";
+
+  /**
+   * The key for the number of seasons.
+   */
+  private static final String TOTAL_SEASONS_KEY = "totalSeasons";
+
+  /**
+   * The key for the box office.
+   */
+  private static final String BOX_OFFICE_KEY = "BoxOffice";
+
+  /**
+   * The key for the response "boolean".
+   */
+  private static final String RESPONSE_KEY = "Response";
+
+  /**
+   * The key for the error message.
+   */
+  private static final String ERROR_KEY = "Error";
+  //#endregion
+
+  //#region Constants
+  /**
+   * Value of any missing data.
+   */
+  private static final String NOT_AVAILABLE = "N/A";
+
+  /**
+   * Separator of the values of a list data.
+   */
+  private static final String LIST_SEPARATOR = ", ";
+
+  /**
+   * Format of the date of release.
+   */
+  private static final DateTimeFormatter RELEASED_FORMAT =
+    DateTimeFormatter.ofPattern("dd MMM yyyy", Locale.ENGLISH);
+  //#endregion
+
+  //#region Accessors
+  /**
+   * Read the name of the title.
+   *
+   * @return It is in the original language, or in English.
+   */
+  public String title() {
+    return title;
+  }
+
+  /**
+   * Read the year, or range of years, of release.
+   *
+   * @return For series, it can be a range like "2008–2013".
+   */
+  public String year() {
+    return year;
+  }
+
+  /**
+   * Read the age rating.
+   *
+   * @return If not rated, it is "N/A".
+   */
+  public String rated() {
+    return rated;
+  }
+
+  /**
+   * Read the date of release.
+   *
+   * @return It is like "31 Mar 1999", or "N/A".
+   */
+  public String released() {
+    return released;
+  }
+
+  /**
+   * Read the duration.
+   *
+   * @return It is like "136 min", or "N/A".
+   */
+  public String runtime() {
+    return runtime;
+  }
+
+  /**
+   * Read the genres.
+   *
+   * @return They are separated by commas.
+   */
+  public String genre() {
+    return genre;
+  }
+
+  /**
+   * Read the directors.
+   *
+   * @return They are separated by commas.
+   */
+  public String director() {
+    return director;
+  }
+
+  /**
+   * Read the writers.
+   *
+   * @return They are separated by commas.
+   */
+  public String writer() {
+    return writer;
+  }
+
+  /**
+   * Read the main actors.
+   *
+   * @return They are separated by commas.
+   */
+  public String actors() {
+    return actors;
+  }
+
+  /**
+   * Read the plot.
+   *
+   * @return It is either short or full, as requested.
+   */
+  public String plot() {
+    return plot;
+  }
+
+  /**
+   * Read the spoken languages.
+   *
+   * @return They are separated by commas.
+   */
+  public String language() {
+    return language;
+  }
+
+  /**
+   * Read the countries of production.
+   *
+   * @return They are separated by commas.
+   */
+  public String country() {
+    return country;
+  }
+
+  /**
+   * Read the summary of the awards.
+   *
+   * @return If none, it is "N/A".
+   */
+  public String awards() {
+    return awards;
+  }
+
+  /**
+   * Read the URL of the poster.
+   *
+   * @return If there is no poster, it is "N/A".
+   */
+  public String poster() {
+    return poster;
+  }
+
+  /**
+   * Read the ratings from each source.
+   *
+   * @return If not rated, it is empty or <code>null</code>.
+   */
+  public List<OMDbRating> ratings() {
+    return ratings;
+  }
+
+  /**
+   * Read the Metacritic score.
+   *
+   * @return If not rated, it is "N/A".
+   */
+  public String metascore() {
+    return metascore;
+  }
+
+  /**
+   * Read the IMDb rating.
+   *
+   * @return It is like "8.7", or "N/A".
+   */
+  public String imdbRating() {
+    return imdbRating;
+  }
+
+  /**
+   * Read the number of IMDb votes.
+   *
+   * @return It is like "2,213,000", or "N/A".
+   */
+  public String imdbVotes() {
+    return imdbVotes;
+  }
+
+  /**
+   * Read the ID from IMDb.
+   *
+   * @return It is like "tt0133093".
+   */
+  public String imdbID() {
+    return imdbID;
+  }
+
+  /**
+   * Read the type.
+   *
+   * @return It is either "movie", "series" or "episode".
+   */
+  public String type() {
+    return type;
+  }
+
+  /**
+   * Read the number of seasons.
+   *
+   * @return It is only set for series.
+   */
+  public String totalSeasons() {
+    return totalSeasons;
+  }
+
+  /**
+   * Read the box office.
+   *
+   * @return It is like "$171,479,930", or "N/A".
+   */
+  public String boxOffice() {
+    return boxOffice;
+  }
+
+  /**
+   * Read the "boolean" value of the response.
+   *
+   * @return It is either "{@link OMDbSearch#RESPONSE_KEY_TRUE_VALUE true}"
+   *         or "{@link OMDbSearch#RESPONSE_KEY_FALSE_VALUE false}".
+   */
+  public String response() {
+    return response;
+  }
+
+  /**
+   * Read the error message of a failed request.
+   *
+   * @return It is like "Movie not found!" or "Incorrect IMDb ID.".
+   */
+  public String error() {
+    return error;
+  }
+  //#endregion
+
+  //#region Other Accessors
+  /**
+   * Easy accessor for successful results.
+   *
+   * @return It is an actual <code>boolean</code>
+   *         of the {@link OMDbTitle#response response} key.
+   */
+  public boolean hasResult() {
+    return OMDbSearch.RESPONSE_KEY_TRUE_VALUE.equals(response());
+  }
+
+  /**
+   * Easy accessor for failed results.
+   *
+   * @return It is an actual <code>boolean</code>
+   *         of the {@link OMDbTitle#response response} key.
+   */
+  public boolean hasError() {
+    return OMDbSearch.RESPONSE_KEY_FALSE_VALUE.equals(response());
+  }
+  //#endregion
+
+  //#region Parser
+  /**
+   * Parse the result into a beautified version holding the same data.
+   *
+   * @return The values are typed, and missing ones
+   *         are either <code>null</code> or empty.
+   */
+  public OMDbTitleDetails parsed() {
+    return new OMDbTitleDetails(
+      title(),
+      year(),
+      text(rated()),
+      date(released()),
+      integer(runtime()),
+      list(genre()),
+      list(director()),
+      list(writer()),
+      list(actors()),
+      text(plot()),
+      list(language()),
+      list(country()),
+      text(awards()),
+      text(poster()),
+      ratings() == null ? List.of() : ratings(),
+      integer(metascore()),
+      decimal(imdbRating()),
+      number(imdbVotes()),
+      imdbID(),
+      type(),
+      integer(totalSeasons()),
+      number(boxOffice())
+    );
+  }
+
+  /**
+   * Parse a text data.
+   *
+   * @param value The value of the data.
+   * @return      If missing, <code>null</code> is returned.
+   */
+  private static String text(final String value) {
+    return value == null || value.equals(NOT_AVAILABLE) ? null : value;
+  }
+
+  /**
+   * Parse a list data.
+   *
+   * @param value The values of the data, separated by commas.
+   * @return      If missing, an empty list is returned.
+   */
+  private static List<String> list(final String value) {
+    final String text = text(value);
+
+    return text == null
+      ? List.of()
+      : Arrays.asList(text.split(LIST_SEPARATOR));
+  }
+
+  /**
+   * Parse a date data.
+   *
+   * @param value The value of the data, like "31 Mar 1999".
+   * @return      If missing or invalid, <code>null</code> is returned.
+   */
+  private static LocalDate date(final String value) {
+    final String text = text(value);
+
+    try {
+      return text == null ? null : LocalDate.parse(text, RELEASED_FORMAT);
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Parse a numeric data, ignoring any non-digit character,
+   * like units, commas and currency symbols.
+   *
+   * @param value The value of the data, like "$171,479,930".
+   * @return      If missing or invalid, <code>null</code> is returned.
+   */
+  private static Long number(final String value) {
+    final String text = text(value);
+    final String digits = text == null ? "" : text.replaceAll("\\D", "");
+
+    try {
+      return digits.isEmpty() ? null : Long.valueOf(digits);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Parse a small numeric data, ignoring any non-digit character.
+   *
+   * @param value The value of the data, like "136 min".
+   * @return      If missing, invalid or above an <code>int</code>,
+   *              <code>null</code> is returned.
+   */
+  private static Integer integer(final String value) {
+    final Long number = number(value);
+
+    return number == null || number > Integer.MAX_VALUE
+      ? null
+      : Integer.valueOf(number.intValue());
+  }
+
+  /**
+   * Parse a decimal data.
+   *
+   * @param value The value of the data, like "8.7".
+   * @return      If missing or invalid, <code>null</code> is returned.
+   */
+  private static Double decimal(final String value) {
+    final String text = text(value);
+
+    try {
+      return text == null ? null : Double.valueOf(text);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+  //#endregion
+}
@@ -0,0 +1,275 @@
+package br.dev.mestretramador.pmovies.model;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Represents the beautified details of a title,
+ * with its values already typed.
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ * @param title        The name of the title.
+ * @param year         The year, or range of years, of release.
+ * @param rated        The age rating.
+ * @param released     The date of release.
+ * @param runtime      The duration, in minutes.
+ * @param genres       The genres.
+ * @param directors    The directors.
+ * @param writers      The writers.
+ * @param actors       The main actors.
+ * @param plot         The plot, either short or full.
+ * @param languages    The spoken languages.
+ * @param countries    The countries of production.
+ * @param awards       A summary of the awards.
+ * @param poster       The URL of the poster.
+ * @param ratings      The ratings from each source.
+ * @param metascore    The Metacritic score.
+ * @param imdbRating   The IMDb rating.
+ * @param imdbVotes    The number of IMDb votes.
+ * @param imdbID       The ID from IMDb.
+ * @param type         The type, like "movie" or "series".
+ * @param totalSeasons The number of seasons, for series.
+ * @param boxOffice    The box office, in US dollars.
+ */
+public record OMDbTitleDetails(
+  @JsonProperty("title") String title,
+  @JsonProperty("year") String year,
+  @JsonProperty("rated") String rated,
+  @JsonProperty("released") LocalDate released,
+  @JsonProperty("runtime") Integer runtime,
+  @JsonProperty("genres") List<String> genres,
+  @JsonProperty("directors") List<String> directors,
+  @JsonProperty("writers") List<String> writers,
+  @JsonProperty("actors") List<String> actors,
+  @JsonProperty("plot") String plot,
+  @JsonProperty("languages") List<String> languages,
+  @JsonProperty("countries") List<String> countries,
+  @JsonProperty("awards") String awards,
+  @JsonProperty("poster") String poster,
+  @JsonProperty("ratings") List<OMDbRating> ratings,
+  @JsonProperty("metascore") Integer metascore,
+  @JsonProperty("imdb_rating") Double imdbRating,
+  @JsonProperty("imdb_votes") Long imdbVotes,
+  @JsonProperty("imdb_id") String imdbID,
+  @JsonProperty("type") String type,
+  @JsonProperty("total_seasons") Integer totalSeasons,
+  @JsonProperty("box_office") Long boxOffice
+) {
+  //#region Constructors
+  /**
+   * The lists are copied, to keep them immutable.
+   */
+  public OMDbTitleDetails {
+    genres = List.copyOf(genres);
+    directors = List.copyOf(directors);
+    writers = List.copyOf(writers);
+    actors = List.copyOf(actors);
+    languages = List.copyOf(languages);
+    countries = List.copyOf(countries);
+    ratings = List.copyOf(ratings);
+  }
+  //#endregion
+
+  //#region Accessors
+  /**
+   * Read the name of the title.
+   *
+   * @return It is in the original language, or in English.
+   */
+  public String title() {
+    return title;
+  }
+
+  /**
+   * Read the year, or range of years, of release.
+   *
+   * @return For series, it can be a range like "2008–2013".
+   */
+  public String year() {
+    return year;
+  }
+
+  /**
+   * Read the age rating.
+   *
+   * @return It can be <code>null</code> if not rated.
+   */
+  public String rated() {
+    return rated;
+  }
+
+  /**
+   * Read the date of release.
+   *
+   * @return It can be <code>null</code> if unknown.
+   */
+  public LocalDate released() {
+    return released;
+  }
+
+  /**
+   * Read the duration, in minutes.
+   *
+   * @return It can be <code>null</code> if unknown.
+   */
+  public Integer runtime() {
+    return runtime;
+  }
+
+  /**
+   * Read the genres.
+   *
+   * @return It is empty if unknown.
+   */
+  public List<String> genres() {
+    return genres;
+  }
+
+  /**
+   * Read the directors.
+   *
+   * @return It is empty if unknown.
+   */
+  public List<String> directors() {
+    return directors;
+  }
+
+  /**
+   * Read the writers.
+   *
+   * @return It is empty if unknown.
+   */
+  public List<String> writers() {
+    return writers;
+  }
+
+  /**
+   * Read the main actors.
+   *
+   * @return It is empty if unknown.
+   */
+  public List<String> actors() {
+    return actors;
+  }
+
+  /**
+   * Read the plot.
+   *
+   * @return It is either short or full, as requested.
+   */
+  public String plot() {
+    return plot;
+  }
+
+  /**
+   * Read the spoken languages.
+   *
+   * @return It is empty if unknown.
+   */
+  public List<String> languages() {
+    return languages;
+  }
+
+  /**
+   * Read the countries of production.
+   *
+   * @return It is empty if unknown.
+   */
+  public List<String> countries() {
+    return countries;
+  }
+
+  /**
+   * Read the summary of the awards.
+   *
+   * @return It can be <code>null</code> if none.
+   */
+  public String awards() {
+    return awards;
+  }
+
+  /**
+   * Read the URL of the poster.
+   *
+   * @return It can be <code>null</code> if there is no poster.
+   */
+  public String poster() {
+    return poster;
+  }
+
+  /**
+   * Read the ratings from each source.
+   *
+   * @return It is empty if not rated.
+   */
+  public List<OMDbRating> ratings() {
+    return ratings;
+  }
+
+  /**
+   * Read the Metacritic score.
+   *
+   * @return It can be <code>null</code> if not rated.
+   */
+  public Integer metascore() {
+    return metascore;
+  }
+
+  /**
+   * Read the IMDb rating.
+   *
+   * @return It can be <code>null</code> if not rated.
+   */
+  public Double imdbRating() {
+    return imdbRating;
+  }
+
+  /**
+   * Read the number of IMDb votes.
+   *
+   * @return It can be <code>null</code> if not rated.
+   */
+  public Long imdbVotes() {
+    return imdbVotes;
+  }
+
+  /**
+   * Read the ID from IMDb.
+   *
+   * @return It is like "tt0133093".
+   */
+  public String imdbID() {
+    return imdbID;
+  }
+
+  /**
+   * Read the type.
+   *
+   * @return It is either "movie", "series" or "episode".
+   */
+  public String type() {
+    return type;
+  }
+
+  /**
+   * Read the number of seasons.
+   *
+   * @return It is <code>null</code> if not a series.
+   */
+  public Integer totalSeasons() {
+    return totalSeasons;
+  }
+
+  /**
+   * Read the box office, in US dollars.
+   *
+   * @return It can be <code>null</code> if unknown.
+   */
+  public Long boxOffice() {
+    return boxOffice;
+  }
+  //#endregion
+}
@@ -0,0 +1,105 @@
+package br.dev.mestretramador.pmovies.model;
+
+import java.util.Objects;
+
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Represents the lookup of a single title of a batch, by its IMDb ID,
+ * holding either the details of the title or why it failed.
+ *
+ * @since                       0.0.1
+ * @author                      Mestre-Tramador
+ * @param imdbID                The ID from IMDb, as given.
+ * @param title                 The details of the title, if found.
+ * @param error                 The error message, if it failed.
+ * @throws NullPointerException If the IMDb ID is <code>null</code>.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record OMDbTitleLookup(
+  @JsonProperty("imdb_id") String imdbID,
+  @JsonProperty("title") @Nullable OMDbTitleDetails title,
+  @JsonProperty("error") @Nullable String error
+) {
+  //#region Constructors
+  /**
+   * The IMDb ID cannot be <code>null</code>.
+   */
+  public OMDbTitleLookup {
+    Objects.requireNonNull(imdbID);
+  }
+  //#endregion
+
+  //#region Factories
+  /**
+   * Create the lookup of a found title.
+   *
+   * @param imdbID The ID from IMDb, as given.
+   * @param title  The details of the title.
+   * @return       It has no error.
+   */
+  public static OMDbTitleLookup found(
+    final String imdbID,
+    final OMDbTitleDetails title
+  ) {
+    return new OMDbTitleLookup(imdbID, title, null);
+  }
+
+  /**
+   * Create the lookup of a failed title.
+   *
+   * @param imdbID The ID from IMDb, as given.
+   * @param error  The error message.
+   * @return       It has no details.
+   */
+  public static OMDbTitleLookup failed(
+    final String imdbID,
+    final String error
+  ) {
+    return new OMDbTitleLookup(imdbID, null, error);
+  }
+  //#endregion
+
+  //#region Accessors
+  /**
+   * Read the ID from IMDb.
+   *
+   * @return It is the one given, even if not a valid one.
+   */
+  public String imdbID() {
+    return imdbID;
+  }
+
+  /**
+   * Read the details of the title.
+   *
+   * @return If the lookup failed, it is <code>null</code>.
+   */
+  @Nullable
+  public OMDbTitleDetails title() {
+    return title;
+  }
+
+  /**
+   * Read the error message.
+   *
+   * @return If the title was found, it is <code>null</code>.
+   */
+  @Nullable
+  public String error() {
+    return error;
+  }
+
+  /**
+   * Check if the lookup failed.
+   *
+   * @return <code>true</code> if the title has no details.
+   */
+  public boolean hasError() {
+    return error != null;
+  }
+  //#endregion
+}
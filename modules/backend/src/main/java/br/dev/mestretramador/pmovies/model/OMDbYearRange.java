@@ -0,0 +1,124 @@
+package br.dev.mestretramador.pmovies.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * <p>
+ *  Represents the year, or range of years, of release of a title.
+ * </p>
+ *
+ * <p>
+ *  Movies and episodes have a single year, being both start and end.
+ *  Series have a range, like "2008–2013", or an open one, like "2019–",
+ *  if still ongoing.
+ * </p>
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ * @param start The first year of release.
+ * @param end   The last year of release, or
+ *              {@link OMDbYearRange#ONGOING ongoing}.
+ */
+public record OMDbYearRange(int start, int end) {
+  //#region Constants
+  /**
+   * Value of the last year of a range still ongoing.
+   */
+  public static final int ONGOING = 0;
+
+  /**
+   * The year of a title with an unknown year.
+   */
+  public static final OMDbYearRange UNKNOWN = new OMDbYearRange(0, 0);
+
+  /**
+   * Radix of the years.
+   */
+  private static final int RADIX = 10;
+  //#endregion
+
+  //#region Parser
+  /**
+   * Parse a year, or range of years, as given by OMDb API.
+   *
+   * @param year A year like "1999", or a range like "2008–2013" or "2019–".
+   * @return     If not a valid year, {@link #UNKNOWN} is returned.
+   */
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  public static OMDbYearRange parse(final String year) {
+    if (year == null) {
+      return UNKNOWN;
+    }
+
+    final int length = year.length();
+    int position = 0;
+    int start = 0;
+
+    while (position < length && Character.isDigit(year.charAt(position))) {
+      start = start * RADIX + Character.digit(year.charAt(position), RADIX);
+      position++;
+    }
+
+    if (position == 0) {
+      return UNKNOWN;
+    }
+
+    if (position == length) {
+      return new OMDbYearRange(start, start);
+    }
+
+    int end = 0;
+
+    position++;
+
+    while (position < length && Character.isDigit(year.charAt(position))) {
+      end = end * RADIX + Character.digit(year.charAt(position), RADIX);
+      position++;
+    }
+
+    return new OMDbYearRange(start, end);
+  }
+  //#endregion
+
+  //#region Accessors
+  /**
+   * Read the first year of release.
+   *
+   * @return It is the one sent on the search results.
+   */
+  @JsonValue
+  public int start() {
+    return start;
+  }
+
+  /**
+   * Read the last year of release.
+   *
+   * @return If still ongoing, it is {@link #ONGOING}.
+   */
+  public int end() {
+    return end;
+  }
+  //#endregion
+
+  //#region Other Accessors
+  /**
+   * Easy accessor for ranges of years, usually of series.
+   *
+   * @return <code>true</code> if the last year differs from the first.
+   */
+  public boolean isRange() {
+    return start != end;
+  }
+
+  /**
+   * Easy accessor for ranges still ongoing.
+   *
+   * @return <code>true</code> if there is no last year yet.
+   */
+  public boolean isOngoing() {
+    return end == ONGOING && start != ONGOING;
+  }
+  //#endregion
+}
@@ -0,0 +1,415 @@
+package br.dev.mestretramador.pmovies.service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import reactor.core.publisher.Mono;
+
+import br.dev.mestretramador.pmovies.config.OMDbAPICircuitBreakerPolicy;
+
+/**
+ * <p>
+ *  Circuit breaker of the requests made to a subdomain of the OMDb API,
+ *  so its outages are answered at once instead of waited on.
+ * </p>
+ *
+ * <p>
+ *  While {@link State#CLOSED closed}, the outcome of the last requests is
+ *  kept on a window. Failed requests are the ones answered with a server
+ *  error, not answered at all, or answered slower than allowed. Once the
+ *  rate of failed requests reaches the threshold, the circuit is
+ *  {@link State#OPEN opened}, and every request fails at once.
+ * </p>
+ *
+ * <p>
+ *  After a while, the circuit is {@link State#HALF_OPEN half-opened}:
+ *  a few requests probe the OMDb API, while the others still fail at once.
+ *  If all of them succeed, the circuit is closed again, otherwise it is
+ *  opened again.
+ * </p>
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+public final class OMDbAPICircuitBreaker implements MeterBinder {
+  //#region Properties
+  /**
+   * Name of the circuit, used on its metrics.
+   */
+  private final String name;
+
+  /**
+   * Requests needed in the window before the failure rate is measured.
+   */
+  private final int minimumRequests;
+
+  /**
+   * Ratio of failed requests at which the circuit is opened.
+   */
+  private final double failureRateThreshold;
+
+  /**
+   * Nanoseconds above which a request counts as failed,
+   * or <code>0</code> for no limit.
+   */
+  private final long slowRequestDuration;
+
+  /**
+   * Nanoseconds the requests fail at once, before probing again.
+   */
+  private final long openDuration;
+
+  /**
+   * Requests allowed while probing.
+   */
+  private final int probes;
+
+  /**
+   * Outcome of the last requests, as a ring, being
+   * <code>true</code> the failed ones.
+   */
+  private final boolean[] window;
+
+  /**
+   * Number of the requests rejected while the circuit is open.
+   */
+  private final LongAdder rejected = new LongAdder();
+
+  /**
+   * Position of the next outcome on the window.
+   */
+  private int windowPosition;
+
+  /**
+   * Number of the outcomes on the window.
+   */
+  private int windowRequests;
+
+  /**
+   * Number of the failed outcomes on the window.
+   */
+  private int windowFailures;
+
+  /**
+   * The current state of the circuit.
+   */
+  private State state = State.CLOSED;
+
+  /**
+   * Time (in nanoseconds) the circuit was last opened.
+   */
+  private long openedAt;
+
+  /**
+   * Probing requests made since the circuit was half-opened.
+   */
+  private int probesStarted;
+
+  /**
+   * Probing requests succeeded since the circuit was half-opened.
+   */
+  private int probesSucceeded;
+  //#endregion
+
+  //#region Constructors
+  /**
+   * Create a closed circuit with the given policy.
+   *
+   * @param circuitName   Name of the circuit, used on its metrics.
+   * @param circuitPolicy The policy of the circuit.
+   */
+  public OMDbAPICircuitBreaker(
+    final String circuitName,
+    final OMDbAPICircuitBreakerPolicy circuitPolicy
+  ) {
+    name = circuitName;
+    window = new boolean[circuitPolicy.windowSize()];
+    minimumRequests = Math.min(
+      circuitPolicy.minimumRequests(),
+      circuitPolicy.windowSize()
+    );
+    failureRateThreshold = circuitPolicy.failureRateThreshold();
+    slowRequestDuration = circuitPolicy.slowRequestDuration().toNanos();
+    openDuration = circuitPolicy.openDuration().toNanos();
+    probes = circuitPolicy.probes();
+  }
+  //#endregion
+
+  //#region Methods
+  /**
+   * Make the given request through the circuit, keeping its outcome.
+   *
+   * @param <T>     The type of the response.
+   * @param request The request, still to be made.
+   * @return        The same request, or a
+   *                {@link OMDbAPIUnavailableException rejection}
+   *                if the circuit is open.
+   */
+  public <T> Mono<T> protect(final Mono<T> request) {
+    return Mono.defer(() -> {
+      final boolean probe;
+
+      try {
+        probe = acquire();
+      } catch (OMDbAPIUnavailableException e) {
+        return Mono.error(e);
+      }
+
+      final long startedAt = System.nanoTime();
+
+      return request
+        .doOnSuccess((response) -> keep(probe, startedAt, null))
+        .doOnError((error) -> keep(probe, startedAt, error))
+        .doOnCancel(() -> release(probe));
+    });
+  }
+
+  /**
+   * Read the current state of the circuit.
+   *
+   * @return An open circuit is only half-opened by the next request.
+   */
+  public synchronized State state() {
+    return state;
+  }
+
+  /**
+   * Read the rate of failed requests on the window.
+   *
+   * @return It is between <code>0</code> and <code>1</code>.
+   */
+  public synchronized double failureRate() {
+    return windowRequests > 0 ? (double) windowFailures / windowRequests : 0;
+  }
+
+  /**
+   * Acquire the permission to make a request,
+   * half-opening the circuit if it is time to probe.
+   *
+   * @return                             <code>true</code> if the request
+   *                                     is a probing one.
+   * @throws OMDbAPIUnavailableException If the circuit is open,
+   *                                     or enough probes are in-flight.
+   */
+  private synchronized boolean acquire() {
+    if (state == State.OPEN) {
+      final long openFor = System.nanoTime() - openedAt;
+
+      if (openFor < openDuration) {
+        rejected.increment();
+
+        throw new OMDbAPIUnavailableException(
+          "OMDb API is unavailable! Try again later.",
+          Duration.ofNanos(openDuration - openFor)
+        );
+      }
+
+      state = State.HALF_OPEN;
+      probesStarted = 0;
+      probesSucceeded = 0;
+    }
+
+    if (state == State.HALF_OPEN) {
+      if (probesStarted >= probes) {
+        rejected.increment();
+
+        throw new OMDbAPIUnavailableException(
+          "OMDb API is unavailable! Try again later.",
+          Duration.ZERO
+        );
+      }
+
+      probesStarted++;
+
+      return true;
+    }
+
+    return false;
+  }
+
+  /**
+   * Keep the outcome of a request, opening or closing the circuit.
+   *
+   * @param probe     If the request is a probing one.
+   * @param startedAt Time (in nanoseconds) the request was made.
+   * @param error     The error of the request, if any.
+   */
+  private synchronized void keep(
+    final boolean probe,
+    final long startedAt,
+    final @Nullable Throwable error
+  ) {
+    if (error instanceof OMDbAPIQuotaExceededException) {
+      release(probe);
+
+      return;
+    }
+
+    final boolean failed = isFailure(error)
+      || (
+        slowRequestDuration > 0
+          && System.nanoTime() - startedAt > slowRequestDuration
+      );
+
+    switch (state) {
+      case CLOSED -> {
+        if (window[windowPosition]) {
+          windowFailures--;
+        }
+
+        window[windowPosition] = failed;
+        windowPosition = (windowPosition + 1) % window.length;
+        windowRequests = Math.min(windowRequests + 1, window.length);
+
+        if (failed) {
+          windowFailures++;
+        }
+
+        if (
+          windowRequests >= minimumRequests
+            && failureRate() >= failureRateThreshold
+        ) {
+          open();
+        }
+      }
+      case HALF_OPEN -> {
+        if (!probe) {
+          return;
+        }
+
+        if (failed) {
+          open();
+        } else if (++probesSucceeded >= probes) {
+          close();
+        }
+      }
+      default -> {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Give back the permission of a request not made,
+   * so another probing request may be made in its place.
+   *
+   * @param probe If the request is a probing one.
+   */
+  private synchronized void release(final boolean probe) {
+    if (probe && state == State.HALF_OPEN) {
+      probesStarted--;
+    }
+  }
+
+  /**
+   * Open the circuit, so the requests fail at once.
+   */
+  private void open() {
+    state = State.OPEN;
+    openedAt = System.nanoTime();
+  }
+
+  /**
+   * Close the circuit, with a clean window.
+   */
+  private void close() {
+    state = State.CLOSED;
+    windowPosition = 0;
+    windowRequests = 0;
+    windowFailures = 0;
+
+    Arrays.fill(window, false);
+  }
+
+  /**
+   * Verify if an error of a request means the OMDb API is failing.
+   *
+   * @param error The error of the request, if any.
+   * @return      Client errors (e.g. an invalid key) do not count,
+   *              as the OMDb API did answer them.
+   */
+  private static boolean isFailure(final @Nullable Throwable error) {
+    if (error == null) {
+      return false;
+    }
+
+    return !(
+      error instanceof WebClientResponseException response
+        && response.getStatusCode().is4xxClientError()
+    );
+  }
+  //#endregion
+
+  //#region Override Methods
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void bindTo(final @NonNull MeterRegistry registry) {
+    for (State circuitState : State.values()) {
+      Gauge
+        .builder(
+          "omdb.api.circuit.state",
+          this,
+          (breaker) -> breaker.state() == circuitState ? 1 : 0
+        )
+        .tags(
+          "circuit",
+          name,
+          "state",
+          circuitState.name().toLowerCase(Locale.ROOT)
+        )
+        .description("If the circuit is on the state.")
+        .register(registry);
+    }
+
+    Gauge
+      .builder(
+        "omdb.api.circuit.failure.rate",
+        this,
+        OMDbAPICircuitBreaker::failureRate
+      )
+      .tags("circuit", name)
+      .description("The rate of the last requests made to OMDb API failed.")
+      .register(registry);
+    FunctionCounter
+      .builder("omdb.api.circuit.rejected", rejected, LongAdder::doubleValue)
+      .tags("circuit", name)
+      .description("The number of requests not made while it is open.")
+      .register(registry);
+  }
+  //#endregion
+
+  //#region Inner Types
+  /**
+   * The states of a circuit.
+   */
+  public enum State {
+    /**
+     * Requests are made, and its outcomes kept.
+     */
+    CLOSED,
+
+    /**
+     * Requests fail at once.
+     */
+    OPEN,
+
+    /**
+     * A few requests probe the OMDb API, the others fail at once.
+     */
+    HALF_OPEN
+  }
+  //#endregion
+}
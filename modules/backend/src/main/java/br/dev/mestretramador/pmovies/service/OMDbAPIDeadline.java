@@ -0,0 +1,344 @@
+package br.dev.mestretramador.pmovies.service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import reactor.core.publisher.Mono;
+
+import br.dev.mestretramador.pmovies.config.OMDbAPIHedgePolicy;
+
+/**
+ * <p>
+ *  Deadline of the requests made to a subdomain of the OMDb API,
+ *  so a slow answer fails instead of holding the request.
+ * </p>
+ *
+ * <p>
+ *  If hedging is enabled, a request not answered after the given
+ *  percentile of the latency of the last ones is made again, and the
+ *  first answer is used. Each request earns a fraction of a hedged
+ *  one, up to a few, so hedging cannot multiply the load on the OMDb API.
+ *  A failed hedged request is ignored, so only the first request may fail
+ *  the answer. The deadline applies to both of them.
+ * </p>
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+public final class OMDbAPIDeadline implements MeterBinder {
+  //#region Constants
+  /**
+   * Number of the last latencies kept.
+   */
+  private static final int LATENCY_WINDOW = 1000;
+
+  /**
+   * Latencies needed before any request is hedged.
+   */
+  private static final int MIN_LATENCIES = 20;
+
+  /**
+   * Latencies kept between each update of the hedge delay.
+   */
+  private static final int LATENCY_REFRESH_INTERVAL = 50;
+
+  /**
+   * Most hedged requests allowed at once.
+   */
+  private static final double MAX_HEDGE_TOKENS = 10;
+  //#endregion
+
+  //#region Properties
+  /**
+   * Name of the deadline, used on its metrics.
+   */
+  private final String name;
+
+  /**
+   * Longest time of a request.
+   */
+  private final Duration timeout;
+
+  /**
+   * If the slow requests are hedged.
+   */
+  private final boolean hedge;
+
+  /**
+   * Percentile of the latency after which a request is hedged.
+   */
+  private final double percentile;
+
+  /**
+   * Shortest time (in nanoseconds) before a request is hedged.
+   */
+  private final long minDelay;
+
+  /**
+   * Hedged requests earned by each request.
+   */
+  private final double budget;
+
+  /**
+   * Latency (in nanoseconds) of the last answered requests, as a ring.
+   */
+  private final long[] latencies = new long[LATENCY_WINDOW];
+
+  /**
+   * Number of the hedged requests made.
+   */
+  private final LongAdder hedged = new LongAdder();
+
+  /**
+   * Number of the hedged requests answered first.
+   */
+  private final LongAdder hedgedFirst = new LongAdder();
+
+  /**
+   * Number of the requests not hedged due to the budget.
+   */
+  private final LongAdder notHedged = new LongAdder();
+
+  /**
+   * Number of the requests not answered before the deadline.
+   */
+  private final LongAdder exceeded = new LongAdder();
+
+  /**
+   * Position of the next latency on the ring.
+   */
+  private int latencyPosition;
+
+  /**
+   * Number of the latencies on the ring.
+   */
+  private int latencyCount;
+
+  /**
+   * Latencies kept since the last update of the hedge delay.
+   */
+  private int latenciesSinceRefresh;
+
+  /**
+   * Hedged requests still allowed.
+   */
+  private double hedgeTokens;
+
+  /**
+   * Time (in nanoseconds) after which a request is hedged,
+   * or <code>-1</code> while there are not enough latencies.
+   */
+  private volatile long hedgeDelay = -1;
+  //#endregion
+
+  //#region Constructors
+  /**
+   * Create the deadline with the given policy.
+   *
+   * @param deadlineName Name of the deadline, used on its metrics.
+   * @param deadline     Longest time of a request.
+   * @param hedgePolicy  The policy of the hedging,
+   *                     if the requests may be hedged.
+   */
+  public OMDbAPIDeadline(
+    final String deadlineName,
+    final Duration deadline,
+    final @Nullable OMDbAPIHedgePolicy hedgePolicy
+  ) {
+    name = deadlineName;
+    timeout = deadline;
+    hedge = hedgePolicy != null && hedgePolicy.enabled();
+    percentile = hedgePolicy == null ? 1 : hedgePolicy.percentile();
+    minDelay = hedgePolicy == null ? 0 : hedgePolicy.minDelay().toNanos();
+    budget = hedgePolicy == null ? 0 : hedgePolicy.budget();
+  }
+  //#endregion
+
+  //#region Methods
+  /**
+   * Make the given request within the deadline, hedging it if it is slow.
+   *
+   * @param <T>     The type of the response.
+   * @param request The request, which may be made twice.
+   * @return        The first answer of the request, or a
+   *                {@link OMDbAPIDeadlineExceededException failure}
+   *                if none arrives before the deadline.
+   */
+  public <T> Mono<T> apply(final Supplier<Mono<T>> request) {
+    return Mono
+      .defer(() -> {
+        if (!hedge) {
+          return request.get();
+        }
+
+        deposit();
+
+        final Mono<T> attempt = measure(request);
+        final long delay = hedgeDelay;
+
+        if (delay < 0) {
+          return attempt;
+        }
+
+        return Mono.firstWithSignal(
+          attempt,
+          Mono
+            .delay(Duration.ofNanos(delay))
+            .flatMap((tick) -> {
+              if (!withdraw()) {
+                notHedged.increment();
+
+                return Mono.<T>never();
+              }
+
+              hedged.increment();
+
+              return request
+                .get()
+                .doOnNext((response) -> hedgedFirst.increment())
+                .onErrorResume((error) -> Mono.<T>never());
+            })
+        );
+      })
+      .timeout(timeout, Mono.error(() -> {
+        exceeded.increment();
+
+        return new OMDbAPIDeadlineExceededException(
+          "OMDb API took too long to answer! Try again later."
+        );
+      }));
+  }
+
+  /**
+   * Read the time after which a request is hedged.
+   *
+   * @return If there are not enough latencies yet,
+   *         or hedging is disabled, it is negative.
+   */
+  public Duration hedgeDelay() {
+    return Duration.ofNanos(hedgeDelay);
+  }
+
+  /**
+   * Make the given request, keeping its latency once answered.
+   *
+   * @param <T>     The type of the response.
+   * @param request The request, still to be made.
+   * @return        The same request.
+   */
+  private <T> Mono<T> measure(final Supplier<Mono<T>> request) {
+    return Mono.defer(() -> {
+      final long startedAt = System.nanoTime();
+
+      return request
+        .get()
+        .doOnNext((response) -> keep(System.nanoTime() - startedAt));
+    });
+  }
+
+  /**
+   * Keep the latency of an answered request,
+   * updating the hedge delay from time to time.
+   *
+   * @param latency The latency, in nanoseconds.
+   */
+  private synchronized void keep(final long latency) {
+    latencies[latencyPosition] = latency;
+    latencyPosition = (latencyPosition + 1) % latencies.length;
+    latencyCount = Math.min(latencyCount + 1, latencies.length);
+    latenciesSinceRefresh++;
+
+    if (
+      latencyCount < MIN_LATENCIES
+        || (hedgeDelay >= 0 && latenciesSinceRefresh < LATENCY_REFRESH_INTERVAL)
+    ) {
+      return;
+    }
+
+    final long[] sorted = Arrays.copyOf(latencies, latencyCount);
+
+    Arrays.sort(sorted);
+
+    final int index = (int) Math.ceil(percentile * latencyCount) - 1;
+
+    hedgeDelay = Math.max(sorted[Math.max(index, 0)], minDelay);
+    latenciesSinceRefresh = 0;
+  }
+
+  /**
+   * Earn the fraction of a hedged request of a new request.
+   */
+  private synchronized void deposit() {
+    hedgeTokens = Math.min(hedgeTokens + budget, MAX_HEDGE_TOKENS);
+  }
+
+  /**
+   * Spend a hedged request, if any is allowed.
+   *
+   * @return <code>true</code> if the request may be hedged.
+   */
+  private synchronized boolean withdraw() {
+    if (hedgeTokens < 1) {
+      return false;
+    }
+
+    hedgeTokens--;
+
+    return true;
+  }
+  //#endregion
+
+  //#region Override Methods
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void bindTo(final @NonNull MeterRegistry registry) {
+    FunctionCounter
+      .builder("omdb.api.deadline.exceeded", exceeded, LongAdder::doubleValue)
+      .tags("deadline", name)
+      .description("The number of requests not answered before the deadline.")
+      .register(registry);
+
+    if (!hedge) {
+      return;
+    }
+
+    FunctionCounter
+      .builder("omdb.api.hedges", hedged, LongAdder::doubleValue)
+      .tags("deadline", name, "result", "made")
+      .description("The number of hedged requests made to OMDb API.")
+      .register(registry);
+    FunctionCounter
+      .builder("omdb.api.hedges", hedgedFirst, LongAdder::doubleValue)
+      .tags("deadline", name, "result", "first")
+      .description("The number of hedged requests answered first.")
+      .register(registry);
+    FunctionCounter
+      .builder("omdb.api.hedges", notHedged, LongAdder::doubleValue)
+      .tags("deadline", name, "result", "budget")
+      .description("The number of requests not hedged due to the budget.")
+      .register(registry);
+    Gauge
+      .builder(
+        "omdb.api.hedge.delay",
+        this,
+        (deadline) -> Math.max(deadline.hedgeDelay().toMillis(), 0)
+      )
+      .tags("deadline", name)
+      .baseUnit("milliseconds")
+      .description("The time after which a request is hedged.")
+      .register(registry);
+  }
+  //#endregion
+}
@@ -0,0 +1,33 @@
+package br.dev.mestretramador.pmovies.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Thrown when a request to the OMDb API is not answered
+ * before its {@link OMDbAPIDeadline deadline}.
+ * It is answered with HTTP <b>504</b> status code.
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+public final class OMDbAPIDeadlineExceededException
+  extends ResponseStatusException {
+  //#region Constants
+  /**
+   * Version of the serialized form.
+   */
+  private static final long serialVersionUID = 1L;
+  //#endregion
+
+  //#region Constructors
+  /**
+   * Create the exception with the reason of the failure.
+   *
+   * @param reason The reason, sent on the response.
+   */
+  public OMDbAPIDeadlineExceededException(final String reason) {
+    super(HttpStatus.GATEWAY_TIMEOUT, reason);
+  }
+  //#endregion
+}
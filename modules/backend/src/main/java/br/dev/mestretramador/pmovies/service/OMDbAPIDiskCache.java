@@ -0,0 +1,1075 @@
+package br.dev.mestretramador.pmovies.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import br.dev.mestretramador.pmovies.config.OMDbAPIDiskCachePolicy;
+
+/**
+ * <p>
+ *  Persistent cache of raw OMDb API responses, surviving restarts.
+ * </p>
+ *
+ * <p>
+ *  Responses are appended to log files (segments), and only its
+ *  locations are kept in memory, indexed by its normalized query.
+ *  Segments are read through memory-mapped files, so the responses
+ *  stay off the heap until requested. On startup, the index is
+ *  rebuilt by scanning the segments.
+ * </p>
+ *
+ * <p>
+ *  Expired responses are still kept for a while, and only
+ *  {@link #getStale(String) read} on purpose, so they can be answered
+ *  while requested again.
+ * </p>
+ *
+ * <p>
+ *  In background, responses expired for longer than that are dropped
+ *  from the index, and segments holding mostly dropped or replaced
+ *  responses are compacted: its live responses are appended again,
+ *  and the segment is deleted.
+ * </p>
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+public final class OMDbAPIDiskCache implements MeterBinder, Closeable {
+  //#region Constants
+  /**
+   * Name of the cache, used on its metrics.
+   */
+  private static final String NAME = "omdb.disk";
+
+  /**
+   * File extension of the segments.
+   */
+  private static final String SEGMENT_EXTENSION = ".log";
+
+  /**
+   * Format of the file name of the segments, from its ID.
+   */
+  private static final String SEGMENT_NAME_FORMAT = "%010d" + SEGMENT_EXTENSION;
+
+  /**
+   * Value opening every record, to detect partially written ones.
+   */
+  private static final int RECORD_MAGIC = 0x504D4F56;
+
+  /**
+   * Size of the header of every record, being its magic, checksum,
+   * key length, response length and expiration time.
+   */
+  private static final int RECORD_HEADER_SIZE =
+    Integer.BYTES * 4 + Long.BYTES;
+
+  /**
+   * Size by which the mapping of the active segment grows, so it is not
+   * remapped on every read after a write.
+   */
+  private static final long MAPPING_CHUNK = 1024 * 1024;
+
+  /**
+   * Logger of the failures of the background compaction.
+   */
+  private static final Logger LOGGER =
+    LoggerFactory.getLogger(OMDbAPIDiskCache.class);
+  //#endregion
+
+  //#region Properties
+  /**
+   * Directory of the segments.
+   */
+  private final Path directory;
+
+  /**
+   * Maximum size of each segment.
+   */
+  private final long segmentSize;
+
+  /**
+   * Ratio of live data below which a segment is compacted.
+   */
+  private final double compactionThreshold;
+
+  /**
+   * Milliseconds the responses are still kept after they expire.
+   */
+  private final long staleTtl;
+
+  /**
+   * Locations of the responses, indexed by its normalized query.
+   */
+  private final ConcurrentHashMap<String, Location> index =
+    new ConcurrentHashMap<String, Location>();
+
+  /**
+   * The segments indexed by its IDs, in order of creation.
+   */
+  private final ConcurrentSkipListMap<Integer, Segment> segments =
+    new ConcurrentSkipListMap<Integer, Segment>();
+
+  /**
+   * Lock of the appending into the active segment.
+   */
+  private final ReentrantLock writeLock = new ReentrantLock();
+
+  /**
+   * Executor of the background expiration and compaction.
+   */
+  private final ScheduledExecutorService maintenance;
+
+  /**
+   * Number of the responses found.
+   */
+  private final LongAdder hits = new LongAdder();
+
+  /**
+   * Number of the responses not found, or expired.
+   */
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Number of the expired responses found.
+   */
+  private final LongAdder staleHits = new LongAdder();
+
+  /**
+   * The segment where responses are appended.
+   */
+  private volatile Segment activeSegment;
+  //#endregion
+
+  //#region Constructors
+  /**
+   * Open (or create) the cache with the given policy,
+   * rebuilding its index from any existing segment.
+   *
+   * @param cachePolicy           The policy of the cache.
+   * @throws UncheckedIOException If the segments cannot be read or created.
+   */
+  public OMDbAPIDiskCache(final OMDbAPIDiskCachePolicy cachePolicy) {
+    directory = cachePolicy.directory();
+    segmentSize = cachePolicy.segmentSize().toBytes();
+    compactionThreshold = cachePolicy.compactionThreshold();
+    staleTtl = cachePolicy.staleTtl().toMillis();
+
+    try {
+      recover();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to open OMDb API disk cache!", e);
+    }
+
+    maintenance = Executors.newSingleThreadScheduledExecutor(
+      Thread.ofPlatform().name("omdb-disk-cache").daemon().factory()
+    );
+
+    final long interval = cachePolicy.compactionInterval().toMillis();
+
+    if (interval > 0) {
+      maintenance.scheduleWithFixedDelay(
+        this::compactQuietly,
+        interval,
+        interval,
+        TimeUnit.MILLISECONDS
+      );
+    }
+  }
+  //#endregion
+
+  //#region Methods
+  /**
+   * Read a response from the cache.
+   *
+   * @param key The normalized query of the request.
+   * @return    If it is not cached, or it expired,
+   *            <code>null</code> is returned.
+   */
+  @Nullable
+  public byte[] get(final @NonNull String key) {
+    final Location location = index.get(key);
+
+    if (location == null) {
+      misses.increment();
+
+      return null;
+    }
+
+    final long now = System.currentTimeMillis();
+
+    if (location.isExpired(now)) {
+      if (location.isExpired(now - staleTtl)) {
+        drop(key, location);
+      }
+
+      misses.increment();
+
+      return null;
+    }
+
+    final byte[] response = location.segment().read(
+      location.responseOffset(),
+      location.responseLength()
+    );
+
+    if (response == null) {
+      misses.increment();
+
+      return null;
+    }
+
+    hits.increment();
+
+    return response;
+  }
+
+  /**
+   * Read a response from the cache, even if it expired.
+   *
+   * @param key The normalized query of the request.
+   * @return    If it is not cached, or it expired longer than
+   *            the stale TTL ago, <code>null</code> is returned.
+   */
+  @Nullable
+  public byte[] getStale(final @NonNull String key) {
+    final Location location = index.get(key);
+
+    if (location == null) {
+      return null;
+    }
+
+    if (location.isExpired(System.currentTimeMillis() - staleTtl)) {
+      drop(key, location);
+
+      return null;
+    }
+
+    final byte[] response = location.segment().read(
+      location.responseOffset(),
+      location.responseLength()
+    );
+
+    if (response == null) {
+      return null;
+    }
+
+    staleHits.increment();
+
+    return response;
+  }
+
+  /**
+   * Keep a response in the cache, replacing any previous one.
+   *
+   * @param key      The normalized query of the request.
+   * @param response The raw response.
+   * @param ttl      Time the response is kept since now.
+   */
+  public void put(
+    final @NonNull String key,
+    final @NonNull byte[] response,
+    final @NonNull Duration ttl
+  ) {
+    append(key, response, System.currentTimeMillis() + ttl.toMillis(), null);
+  }
+
+  /**
+   * <p>
+   *  Drop the responses expired longer than the stale TTL ago, and compact
+   *  the segments holding less live data than the threshold, except the
+   *  active one.
+   * </p>
+   *
+   * <p>It is called periodically in background.</p>
+   *
+   * @throws UncheckedIOException If a segment cannot be deleted.
+   */
+  public void compact() {
+    final long now = System.currentTimeMillis() - staleTtl;
+    final Map<Segment, List<Map.Entry<String, Location>>> compactable =
+      new HashMap<Segment, List<Map.Entry<String, Location>>>();
+
+    for (Segment segment : segments.values()) {
+      if (
+        segment != activeSegment
+          && segment.liveBytes() < segment.size() * compactionThreshold
+      ) {
+        compactable.put(segment, new ArrayList<Map.Entry<String, Location>>());
+      }
+    }
+
+    for (Map.Entry<String, Location> entry : index.entrySet()) {
+      final Location location = entry.getValue();
+
+      if (location.isExpired(now)) {
+        drop(entry.getKey(), location);
+      } else if (compactable.containsKey(location.segment())) {
+        compactable.get(location.segment()).add(Map.entry(
+          entry.getKey(),
+          location
+        ));
+      }
+    }
+
+    for (
+      Map.Entry<Segment, List<Map.Entry<String, Location>>> compaction
+        : compactable.entrySet()
+    ) {
+      final Segment segment = compaction.getKey();
+
+      for (Map.Entry<String, Location> entry : compaction.getValue()) {
+        final Location location = entry.getValue();
+        final byte[] response = segment.read(
+          location.responseOffset(),
+          location.responseLength()
+        );
+
+        if (response != null) {
+          append(entry.getKey(), response, location.expiresAt(), location);
+        }
+      }
+
+      segments.remove(segment.id());
+      segment.delete();
+    }
+  }
+
+  /**
+   * Count the responses in the cache, expired ones included
+   * until the next background expiration after its stale TTL.
+   *
+   * @return Each query counts once.
+   */
+  public int size() {
+    return index.size();
+  }
+
+  /**
+   * Sum the size of all segments.
+   *
+   * @return The size, in bytes, used on disk.
+   */
+  public long bytes() {
+    return segments
+      .values()
+      .stream()
+      .mapToLong(Segment::size)
+      .sum();
+  }
+
+  /**
+   * Append a response into the active segment, starting a new one if full.
+   *
+   * @param key       The normalized query of the request.
+   * @param response  The raw response.
+   * @param expiresAt Time, in epoch milliseconds, the response expires.
+   * @param expected  If given, the response is only indexed
+   *                  if it is still the indexed one.
+   * @throws UncheckedIOException If the segment cannot be written.
+   */
+  private void append(
+    final String key,
+    final byte[] response,
+    final long expiresAt,
+    final @Nullable Location expected
+  ) {
+    final byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+    final int recordLength =
+      RECORD_HEADER_SIZE + keyBytes.length + response.length;
+
+    if (recordLength > segmentSize) {
+      return;
+    }
+
+    final CRC32 checksum = new CRC32();
+
+    checksum.update(keyBytes);
+    checksum.update(response);
+
+    final ByteBuffer record = ByteBuffer
+      .allocate(recordLength)
+      .putInt(RECORD_MAGIC)
+      .putInt((int) checksum.getValue())
+      .putInt(keyBytes.length)
+      .putInt(response.length)
+      .putLong(expiresAt)
+      .put(keyBytes)
+      .put(response)
+      .flip();
+
+    writeLock.lock();
+
+    try {
+      if (activeSegment.size() + recordLength > segmentSize) {
+        activeSegment.seal();
+        activeSegment = Segment.create(directory, activeSegment.id() + 1);
+        segments.put(activeSegment.id(), activeSegment);
+      }
+
+      final long recordOffset = activeSegment.append(record);
+      final Location location = new Location(
+        activeSegment,
+        recordOffset + RECORD_HEADER_SIZE + keyBytes.length,
+        response.length,
+        recordLength,
+        expiresAt
+      );
+
+      if (expected == null) {
+        final Location previous = index.put(key, location);
+
+        if (previous != null) {
+          previous.release();
+        }
+      } else if (index.replace(key, expected, location)) {
+        expected.release();
+      } else {
+        location.release();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to write OMDb API disk cache!", e);
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  /**
+   * Drop a response from the index, if it is still the indexed one.
+   *
+   * @param key      The normalized query of the request.
+   * @param location The location of the response.
+   */
+  private void drop(final String key, final Location location) {
+    if (index.remove(key, location)) {
+      location.release();
+    }
+  }
+
+  /**
+   * Run the {@link #compact() compaction}, logging any failure
+   * so the next ones are still scheduled.
+   */
+  private void compactQuietly() {
+    try {
+      compact();
+    } catch (RuntimeException e) {
+      LOGGER.warn("Unable to compact OMDb API disk cache!", e);
+    }
+  }
+
+  /**
+   * Rebuild the index from the existing segments, in order of creation,
+   * and open the last one (or a new one) as the active segment.
+   *
+   * @throws IOException If the segments cannot be read or created.
+   */
+  private void recover() throws IOException {
+    Files.createDirectories(directory);
+
+    final List<Integer> segmentIDs;
+
+    try (Stream<Path> files = Files.list(directory)) {
+      segmentIDs = files
+        .map((file) -> file.getFileName().toString())
+        .filter((fileName) -> fileName.endsWith(SEGMENT_EXTENSION))
+        .map((fileName) -> fileName.substring(
+          0,
+          fileName.length() - SEGMENT_EXTENSION.length()
+        ))
+        .filter((segmentID) -> segmentID.chars().allMatch(Character::isDigit))
+        .map(Integer::valueOf)
+        .sorted()
+        .toList();
+    }
+
+    final long now = System.currentTimeMillis() - staleTtl;
+    long validSize = 0;
+
+    for (Integer segmentID : segmentIDs) {
+      final Segment segment = Segment.open(directory, segmentID);
+
+      if (activeSegment != null) {
+        activeSegment.seal();
+      }
+
+      segments.put(segmentID, segment);
+      validSize = recover(segment, now);
+      activeSegment = segment;
+    }
+
+    if (activeSegment == null || validSize >= segmentSize) {
+      final int segmentID = activeSegment == null ? 1 : activeSegment.id() + 1;
+
+      if (activeSegment != null) {
+        activeSegment.seal();
+      }
+
+      activeSegment = Segment.create(directory, segmentID);
+      segments.put(segmentID, activeSegment);
+    } else {
+      activeSegment.truncate(validSize);
+    }
+  }
+
+  /**
+   * Index every valid and not expired record of a segment,
+   * replacing any previously indexed one of the same query.
+   *
+   * @param segment The segment to be scanned.
+   * @param now     The current time, in epoch milliseconds,
+   *                minus the stale TTL.
+   * @return        The size of the segment up to its last valid record.
+   */
+  private long recover(final Segment segment, final long now) {
+    final ByteBuffer records = segment.map();
+    int position = 0;
+
+    while (position + RECORD_HEADER_SIZE <= records.limit()) {
+      final int magic = records.getInt(position);
+      final int recordChecksum = records.getInt(position + Integer.BYTES);
+      final int keyLength = records.getInt(position + Integer.BYTES * 2);
+      final int responseLength = records.getInt(position + Integer.BYTES * 3);
+      final long expiresAt = records.getLong(position + Integer.BYTES * 4);
+      final long recordLength =
+        (long) RECORD_HEADER_SIZE + keyLength + responseLength;
+
+      if (
+        magic != RECORD_MAGIC
+          || keyLength < 0
+          || responseLength < 0
+          || position + recordLength > records.limit()
+      ) {
+        break;
+      }
+
+      final int keyOffset = position + RECORD_HEADER_SIZE;
+      final CRC32 checksum = new CRC32();
+
+      checksum.update(records.slice(keyOffset, keyLength + responseLength));
+
+      if ((int) checksum.getValue() != recordChecksum) {
+        break;
+      }
+
+      final Location location = new Location(
+        segment,
+        keyOffset + keyLength,
+        responseLength,
+        (int) recordLength,
+        expiresAt
+      );
+
+      segment.retain(location.recordLength());
+
+      if (location.isExpired(now)) {
+        location.release();
+      } else {
+        final byte[] keyBytes = new byte[keyLength];
+
+        records.get(keyOffset, keyBytes);
+
+        final Location previous = index.put(
+          new String(keyBytes, StandardCharsets.UTF_8),
+          location
+        );
+
+        if (previous != null) {
+          previous.release();
+        }
+      }
+
+      position += (int) recordLength;
+    }
+
+    return position;
+  }
+  //#endregion
+
+  //#region Override Methods
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void bindTo(final @NonNull MeterRegistry registry) {
+    FunctionCounter
+      .builder("cache.gets", hits, LongAdder::doubleValue)
+      .tags("cache", NAME, "result", "hit")
+      .description("The number of times the response was cached.")
+      .register(registry);
+    FunctionCounter
+      .builder("cache.gets", misses, LongAdder::doubleValue)
+      .tags("cache", NAME, "result", "miss")
+      .description("The number of times the response was not cached.")
+      .register(registry);
+    FunctionCounter
+      .builder("cache.gets.stale", staleHits, LongAdder::doubleValue)
+      .tags("cache", NAME)
+      .description("The number of times an expired response was read.")
+      .register(registry);
+    Gauge
+      .builder("cache.size", this, OMDbAPIDiskCache::size)
+      .tags("cache", NAME)
+      .description("The number of entries in this cache.")
+      .register(registry);
+    Gauge
+      .builder("cache.disk.size", this, OMDbAPIDiskCache::bytes)
+      .tags("cache", NAME)
+      .baseUnit(BaseUnits.BYTES)
+      .description("The size of the files of this cache.")
+      .register(registry);
+  }
+
+  /**
+   * Stop the background compaction, and close all segments.
+   */
+  @Override
+  public void close() {
+    maintenance.shutdownNow();
+
+    writeLock.lock();
+
+    try {
+      for (Segment segment : segments.values()) {
+        segment.close();
+      }
+    } finally {
+      writeLock.unlock();
+    }
+  }
+  //#endregion
+
+  //#region Inner Types
+  /**
+   * Location of a response in a segment.
+   *
+   * @param segment        The segment holding the response.
+   * @param responseOffset Position of the response in the segment.
+   * @param responseLength Size of the response.
+   * @param recordLength   Size of the whole record of the response.
+   * @param expiresAt      Time, in epoch milliseconds,
+   *                       the response expires.
+   */
+  private record Location(
+    Segment segment,
+    long responseOffset,
+    int responseLength,
+    int recordLength,
+    long expiresAt
+  ) {
+    /**
+     * Verify if the response is expired.
+     *
+     * @param now The current time, in epoch milliseconds.
+     * @return    <code>true</code> if the given time is after the expiration.
+     */
+    boolean isExpired(final long now) {
+      return now >= expiresAt;
+    }
+
+    /**
+     * Mark the record as no longer live on its segment.
+     */
+    void release() {
+      segment.release(recordLength);
+    }
+  }
+
+  /**
+   * A single log file of records, appended to and read through
+   * a memory mapping. Once closed, its responses are no longer read.
+   *
+   * @since 0.0.1
+   * @author Mestre-Tramador
+   */
+  private static final class Segment {
+    /**
+     * ID of the segment, increasing in order of creation.
+     */
+    private final int id;
+
+    /**
+     * Path of the file of the segment.
+     */
+    private final Path path;
+
+    /**
+     * Channel of the file of the segment.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Current size of the file of the segment.
+     */
+    private final AtomicLong size;
+
+    /**
+     * Size of the records still indexed.
+     */
+    private final AtomicLong liveBytes = new AtomicLong();
+
+    /**
+     * Lock of the remapping of the file.
+     */
+    private final ReentrantLock mappingLock = new ReentrantLock();
+
+    /**
+     * Memory mapping of the file, remapped by chunks as the file grows.
+     */
+    private volatile MappedByteBuffer mapping;
+
+    /**
+     * If no more records are appended, so the whole file is mapped.
+     */
+    private volatile boolean sealed;
+
+    /**
+     * Open the file of a segment.
+     *
+     * @param segmentID   ID of the segment.
+     * @param segmentPath Path of the file of the segment.
+     * @param options     How the file is opened.
+     * @throws IOException If the file cannot be opened.
+     */
+    private Segment(
+      final int segmentID,
+      final Path segmentPath,
+      final StandardOpenOption... options
+    ) throws IOException {
+      id = segmentID;
+      path = segmentPath;
+      channel = FileChannel.open(segmentPath, options);
+      size = new AtomicLong(channel.size());
+    }
+
+    /**
+     * Open an existing segment.
+     *
+     * @param directory   Directory of the segments.
+     * @param segmentID   ID of the segment.
+     * @return            It can be appended to.
+     * @throws IOException If the file cannot be opened.
+     */
+    static Segment open(
+      final Path directory,
+      final int segmentID
+    ) throws IOException {
+      return new Segment(
+        segmentID,
+        directory.resolve(String.format(SEGMENT_NAME_FORMAT, segmentID)),
+        StandardOpenOption.READ,
+        StandardOpenOption.WRITE
+      );
+    }
+
+    /**
+     * Create a new empty segment.
+     *
+     * @param directory   Directory of the segments.
+     * @param segmentID   ID of the segment.
+     * @return            It can be appended to.
+     * @throws IOException If the file cannot be created.
+     */
+    static Segment create(
+      final Path directory,
+      final int segmentID
+    ) throws IOException {
+      return new Segment(
+        segmentID,
+        directory.resolve(String.format(SEGMENT_NAME_FORMAT, segmentID)),
+        StandardOpenOption.READ,
+        StandardOpenOption.WRITE,
+        StandardOpenOption.CREATE_NEW
+      );
+    }
+
+    /**
+     * Read the ID of the segment.
+     *
+     * @return It is increasing in order of creation.
+     */
+    int id() {
+      return id;
+    }
+
+    /**
+     * Read the current size of the segment.
+     *
+     * @return The size, in bytes, of its file.
+     */
+    long size() {
+      return size.get();
+    }
+
+    /**
+     * Read the size of the records still indexed.
+     *
+     * @return The size, in bytes, of live records.
+     */
+    long liveBytes() {
+      return liveBytes.get();
+    }
+
+    /**
+     * Stop appending to the segment, as a new one is active.
+     */
+    void seal() {
+      sealed = true;
+    }
+
+    /**
+     * Mark a record as live on the segment.
+     *
+     * @param recordLength Size of the record.
+     */
+    void retain(final int recordLength) {
+      liveBytes.addAndGet(recordLength);
+    }
+
+    /**
+     * Mark a record as no longer live on the segment.
+     *
+     * @param recordLength Size of the record.
+     */
+    void release(final int recordLength) {
+      liveBytes.addAndGet(-recordLength);
+    }
+
+    /**
+     * Append a record at the end of the segment.
+     *
+     * @param record       The whole record.
+     * @return             Position of the record in the segment.
+     * @throws IOException If the file cannot be written.
+     */
+    long append(final ByteBuffer record) throws IOException {
+      final long recordOffset = size.get();
+      final int recordLength = record.remaining();
+      long position = recordOffset;
+
+      while (record.hasRemaining()) {
+        position += channel.write(record, position);
+      }
+
+      size.set(position);
+      retain(recordLength);
+
+      return recordOffset;
+    }
+
+    /**
+     * Read a response from the segment, through its memory mapping.
+     * A response past the last whole chunk is read from the file
+     * itself, without waiting on the remapping.
+     *
+     * @param offset Position of the response in the segment.
+     * @param length Size of the response.
+     * @return       A copy of the response, or <code>null</code>
+     *               if the segment was closed, e.g. by a compaction.
+     * @throws UncheckedIOException If the file cannot be read.
+     */
+    @Nullable
+    byte[] read(final long offset, final int length) {
+      final long end = offset + length;
+      MappedByteBuffer buffer = mapping;
+
+      if (buffer == null || end > buffer.capacity()) {
+        if (end > mappableSize()) {
+          return readFile(offset, length);
+        }
+
+        buffer = remap();
+      }
+
+      if (buffer == null) {
+        return null;
+      }
+
+      if (end > buffer.capacity()) {
+        return readFile(offset, length);
+      }
+
+      final byte[] response = new byte[length];
+
+      buffer.get(Math.toIntExact(offset), response);
+
+      return response;
+    }
+
+    /**
+     * Map the whole file of the segment into memory.
+     *
+     * @return                      The current mapping of the file.
+     * @throws UncheckedIOException If the file cannot be mapped.
+     */
+    MappedByteBuffer map() {
+      mappingLock.lock();
+
+      try {
+        final long mappedSize = channel.size();
+
+        if (mapping == null || mapping.capacity() < mappedSize) {
+          mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, mappedSize);
+        }
+
+        return mapping;
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      } finally {
+        mappingLock.unlock();
+      }
+    }
+
+    /**
+     * Map the file of the segment into memory up to its last whole
+     * chunk, or all of it once sealed, if it grew past the mapping.
+     *
+     * @return                      The current mapping of the file, or
+     *                              <code>null</code> if it was closed.
+     * @throws UncheckedIOException If the file cannot be mapped.
+     */
+    @Nullable
+    private MappedByteBuffer remap() {
+      mappingLock.lock();
+
+      try {
+        if (!channel.isOpen()) {
+          return null;
+        }
+
+        final long mappedSize = mappableSize();
+
+        if (mapping == null || mapping.capacity() < mappedSize) {
+          mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, mappedSize);
+        }
+
+        return mapping;
+      } catch (ClosedChannelException e) {
+        return null;
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      } finally {
+        mappingLock.unlock();
+      }
+    }
+
+    /**
+     * Size of the file of the segment that can be mapped, up to its
+     * last whole chunk, or all of it once sealed.
+     *
+     * @return The size, in bytes.
+     */
+    private long mappableSize() {
+      final long fileSize = size.get();
+
+      return sealed ? fileSize : fileSize - fileSize % MAPPING_CHUNK;
+    }
+
+    /**
+     * Read a response from the file of the segment, without mapping it.
+     *
+     * @param offset Position of the response in the segment.
+     * @param length Size of the response.
+     * @return       A copy of the response, or <code>null</code>
+     *               if the segment was closed.
+     * @throws UncheckedIOException If the file cannot be read.
+     */
+    @Nullable
+    private byte[] readFile(final long offset, final int length) {
+      final ByteBuffer response = ByteBuffer.allocate(length);
+
+      try {
+        while (response.hasRemaining()) {
+          final int read =
+            channel.read(response, offset + response.position());
+
+          if (read < 0) {
+            return null;
+          }
+        }
+      } catch (ClosedChannelException e) {
+        return null;
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+
+      return response.array();
+    }
+
+    /**
+     * Discard any partially written record at the end of the segment.
+     *
+     * @param validSize    The size up to the last valid record.
+     * @throws IOException If the file cannot be truncated.
+     */
+    void truncate(final long validSize) throws IOException {
+      channel.truncate(validSize);
+      size.set(validSize);
+    }
+
+    /**
+     * Close and delete the file of the segment. Mapped responses
+     * still being read remain readable until released.
+     *
+     * @throws UncheckedIOException If the file cannot be deleted.
+     */
+    void delete() {
+      close();
+
+      try {
+        Files.deleteIfExists(path);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    /**
+     * Flush and close the file of the segment.
+     */
+    void close() {
+      try {
+        if (channel.isOpen()) {
+          channel.force(false);
+          channel.close();
+        }
+      } catch (IOException e) {
+        return;
+      }
+    }
+  }
+  //#endregion
+}
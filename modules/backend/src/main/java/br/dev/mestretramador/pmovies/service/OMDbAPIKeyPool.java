@@ -0,0 +1,643 @@
+package br.dev.mestretramador.pmovies.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import br.dev.mestretramador.pmovies.config.OMDbAPIRateLimitPolicy;
+
+/**
+ * <p>
+ *  Pool of the OMDb API keys, each one with its own daily budget
+ *  of requests, kept on disk so it survives restarts.
+ * </p>
+ *
+ * <p>
+ *  Requests are spread across the keys, weighted by the budget each one
+ *  still has today. A key answered by the OMDb API with an authorization
+ *  error is taken out of rotation: until the next day if its limit was
+ *  reached, or until a restart if it is invalid. Once every key is out
+ *  of budget or rotation, every request is rejected, so only cached
+ *  responses are answered.
+ * </p>
+ *
+ * <p>
+ *  Keys are never written nor published: they are identified, on disk
+ *  and on metrics, by a short fingerprint of its hash.
+ * </p>
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+public final class OMDbAPIKeyPool implements MeterBinder, Closeable {
+  //#region Constants
+  /**
+   * Milliseconds of an hour.
+   */
+  private static final double MILLIS_PER_HOUR = TimeUnit.HOURS.toMillis(1);
+
+  /**
+   * Length (in bytes) of the hash used as fingerprint of a key.
+   */
+  private static final int FINGERPRINT_LENGTH = 4;
+
+  /**
+   * Number of the fields of each line of the file: the day,
+   * the fingerprint of the key, and the budget spent.
+   */
+  private static final int FILE_LINE_FIELDS = 3;
+
+  /**
+   * Error message of the OMDb API once the limit of a key is reached.
+   */
+  private static final String LIMIT_REACHED_ERROR = "limit reached";
+
+  /**
+   * Logger of the failures of the reading and writing of the budget.
+   */
+  private static final Logger LOGGER =
+    LoggerFactory.getLogger(OMDbAPIKeyPool.class);
+  //#endregion
+
+  //#region Properties
+  /**
+   * The keys, by its value, in the given order.
+   */
+  private final Map<String, Key> keys = new LinkedHashMap<String, Key>();
+
+  /**
+   * Requests allowed per day for each key, or <code>0</code> for no limit.
+   */
+  private final long dailyBudget;
+
+  /**
+   * Time zone of the start of the day.
+   */
+  private final ZoneId zone;
+
+  /**
+   * File where the budget spent today is kept.
+   */
+  private final Path file;
+
+  /**
+   * Executor of the background writing of the budget.
+   */
+  private final ScheduledExecutorService maintenance;
+
+  /**
+   * Number of the requests rejected due to the daily budget.
+   */
+  private final LongAdder rejected = new LongAdder();
+
+  /**
+   * The current day of the budget.
+   */
+  private LocalDate day;
+
+  /**
+   * Time (in milliseconds) of the start of the current day.
+   */
+  private long dayStartsAt;
+
+  /**
+   * Time (in milliseconds) of the start of the next day.
+   */
+  private long dayEndsAt;
+
+  /**
+   * If the budget spent changed since it was last written.
+   */
+  private boolean dirty;
+  //#endregion
+
+  //#region Constructors
+  /**
+   * Create the pool of the given keys, reading the budget spent today.
+   *
+   * @param apiKeys                   The keys, without repetition.
+   * @param ratePolicy                The policy of the daily budget.
+   * @throws IllegalArgumentException If no key is given.
+   */
+  public OMDbAPIKeyPool(
+    final List<String> apiKeys,
+    final OMDbAPIRateLimitPolicy ratePolicy
+  ) {
+    if (apiKeys.isEmpty()) {
+      throw new IllegalArgumentException("At least one key must be given!");
+    }
+
+    for (String apiKey : apiKeys) {
+      keys.put(apiKey, new Key(fingerprint(apiKey)));
+    }
+
+    dailyBudget = ratePolicy.dailyBudget();
+    zone = ratePolicy.zone();
+    file = ratePolicy.file();
+
+    startDay(System.currentTimeMillis());
+    read();
+
+    maintenance = Executors.newSingleThreadScheduledExecutor(
+      Thread.ofPlatform().name("omdb-key-pool").daemon().factory()
+    );
+
+    final long persistInterval = ratePolicy.persistInterval().toMillis();
+
+    if (persistInterval > 0) {
+      maintenance.scheduleWithFixedDelay(
+        this::write,
+        persistInterval,
+        persistInterval,
+        TimeUnit.MILLISECONDS
+      );
+    }
+  }
+  //#endregion
+
+  //#region Methods
+  /**
+   * Select a key for a request, weighted by the budget
+   * each key still has today.
+   *
+   * @return If no key is available, the first one is selected,
+   *         so the request may still be answered from the cache.
+   */
+  public synchronized String select() {
+    rollOver(System.currentTimeMillis());
+
+    long total = 0;
+
+    for (Key key : keys.values()) {
+      total += weight(key);
+    }
+
+    if (total > 0) {
+      long target = ThreadLocalRandom.current().nextLong(total);
+
+      for (Map.Entry<String, Key> entry : keys.entrySet()) {
+        target -= weight(entry.getValue());
+
+        if (target < 0) {
+          return entry.getKey();
+        }
+      }
+    }
+
+    return keys.keySet().iterator().next();
+  }
+
+  /**
+   * Spend the budget of a key for a request about to be made. If the key
+   * is no longer available, another one is selected in its place.
+   *
+   * @param apiKey                         The key selected for the request.
+   * @return                               The key to make the request.
+   * @throws OMDbAPIQuotaExceededException If no key is available.
+   */
+  public synchronized String spend(final String apiKey) {
+    final long now = System.currentTimeMillis();
+
+    rollOver(now);
+
+    final Key key = keys.get(apiKey);
+    final String selectedKey = key != null && weight(key) > 0
+      ? apiKey
+      : select();
+    final Key selected = keys.get(selectedKey);
+
+    if (weight(selected) == 0) {
+      rejected.increment();
+
+      throw new OMDbAPIQuotaExceededException(
+        "The daily budget of OMDb API requests is spent!",
+        Duration.ofMillis(dayEndsAt - now)
+      );
+    }
+
+    selected.spent++;
+    selected.requests.increment();
+    dirty = true;
+
+    return selectedKey;
+  }
+
+  /**
+   * Take a key out of rotation if the given error of a request
+   * made with it is an authorization error.
+   *
+   * @param apiKey The key of the request.
+   * @param error  The error of the request.
+   */
+  public synchronized void report(final String apiKey, final Throwable error) {
+    final Key key = keys.get(apiKey);
+
+    if (key == null || !isKeyError(error)) {
+      return;
+    }
+
+    key.rejections.increment();
+
+    final String body = ((WebClientResponseException) error)
+      .getResponseBodyAsString();
+
+    if (body.toLowerCase(Locale.ROOT).contains(LIMIT_REACHED_ERROR)) {
+      key.spent = Math.max(key.spent, dailyBudget);
+      key.disabledUntil = dayEndsAt;
+    } else {
+      key.disabledUntil = Long.MAX_VALUE;
+    }
+
+    dirty = true;
+  }
+
+  /**
+   * Verify if an error of a request is an authorization error,
+   * due to the key used on it.
+   *
+   * @param error The error of the request.
+   * @return      <code>true</code> if the OMDb API rejected the key.
+   */
+  public static boolean isKeyError(final Throwable error) {
+    return (
+      error instanceof WebClientResponseException response
+        && (
+          response.getStatusCode().isSameCodeAs(HttpStatus.UNAUTHORIZED)
+            || response.getStatusCode().isSameCodeAs(HttpStatus.FORBIDDEN)
+        )
+    );
+  }
+
+  /**
+   * Read the number of the keys.
+   *
+   * @return It is, at least, <code>1</code>.
+   */
+  public int size() {
+    return keys.size();
+  }
+
+  /**
+   * Read the requests still allowed today, by all keys in rotation.
+   *
+   * @return If there is no daily budget, it is always {@link Long#MAX_VALUE}.
+   */
+  public synchronized long remaining() {
+    rollOver(System.currentTimeMillis());
+
+    if (dailyBudget == 0) {
+      return Long.MAX_VALUE;
+    }
+
+    long remaining = 0;
+
+    for (Key key : keys.values()) {
+      remaining += weight(key);
+    }
+
+    return remaining;
+  }
+
+  /**
+   * Read the requests made today, by all keys.
+   *
+   * @return It is restored to <code>0</code> at the start of each day.
+   */
+  public synchronized long spent() {
+    rollOver(System.currentTimeMillis());
+
+    long spent = 0;
+
+    for (Key key : keys.values()) {
+      spent += key.spent;
+    }
+
+    return spent;
+  }
+
+  /**
+   * Read the average of the requests made per hour today, by all keys.
+   *
+   * @return It is the budget spent by the time elapsed today.
+   */
+  private synchronized double spendRate() {
+    final double hours =
+      (System.currentTimeMillis() - dayStartsAt) / MILLIS_PER_HOUR;
+
+    return hours > 0 ? spent() / hours : 0;
+  }
+
+  /**
+   * Read the requests still allowed today by a key.
+   *
+   * @param key The key.
+   * @return    If it is out of rotation, <code>0</code> is returned.
+   */
+  private synchronized double remaining(final Key key) {
+    rollOver(System.currentTimeMillis());
+
+    return weight(key);
+  }
+
+  /**
+   * Read the weight of a key on the selection,
+   * which is the budget it still has today.
+   *
+   * @param key The key.
+   * @return    If there is no daily budget, it is <code>1</code>
+   *            for any key in rotation.
+   */
+  private long weight(final Key key) {
+    if (key.disabledUntil > System.currentTimeMillis()) {
+      return 0;
+    }
+
+    if (dailyBudget == 0) {
+      return 1;
+    }
+
+    return Math.max(dailyBudget - key.spent, 0);
+  }
+
+  /**
+   * Start a new day of the budget if the current one ended.
+   *
+   * @param now The current time, in milliseconds.
+   */
+  private void rollOver(final long now) {
+    if (now >= dayEndsAt) {
+      startDay(now);
+    }
+  }
+
+  /**
+   * Start a new day of the budget, with nothing spent.
+   *
+   * @param now The current time, in milliseconds.
+   */
+  private void startDay(final long now) {
+    day = LocalDate.ofInstant(Instant.ofEpochMilli(now), zone);
+    dayStartsAt = day.atStartOfDay(zone).toInstant().toEpochMilli();
+    dayEndsAt = day.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+
+    for (Key key : keys.values()) {
+      key.spent = 0;
+    }
+
+    dirty = true;
+  }
+
+  /**
+   * Read the budget spent today from the file, for each key.
+   */
+  private synchronized void read() {
+    final Map<String, Key> fingerprints = new HashMap<String, Key>();
+
+    for (Key key : keys.values()) {
+      fingerprints.put(key.fingerprint, key);
+    }
+
+    if (!Files.exists(file)) {
+      return;
+    }
+
+    final List<String> lines;
+
+    try {
+      lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      LOGGER.warn("Unable to read OMDb API key pool budget!", e);
+
+      return;
+    }
+
+    for (String line : lines) {
+      final String[] content = line.strip().split(" ");
+
+      if (content.length != FILE_LINE_FIELDS) {
+        continue;
+      }
+
+      final Key key = fingerprints.get(content[1]);
+
+      try {
+        if (key != null && LocalDate.parse(content[0]).equals(day)) {
+          key.spent = Long.parseLong(content[2]);
+        }
+      } catch (DateTimeParseException | NumberFormatException e) {
+        continue;
+      }
+    }
+  }
+
+  /**
+   * Write the budget spent today to the file, if it changed,
+   * logging any failure so the next ones are still scheduled.
+   */
+  private void write() {
+    final StringBuilder content = new StringBuilder();
+
+    synchronized (this) {
+      if (!dirty) {
+        return;
+      }
+
+      for (Key key : keys.values()) {
+        content
+          .append(day)
+          .append(' ')
+          .append(key.fingerprint)
+          .append(' ')
+          .append(key.spent)
+          .append('\n');
+      }
+
+      dirty = false;
+    }
+
+    try {
+      final Path directory = file.toAbsolutePath().getParent();
+
+      Files.createDirectories(directory);
+      Files.move(
+        Files.writeString(
+          Files.createTempFile(directory, "budget-", ".tmp"),
+          content,
+          StandardCharsets.UTF_8
+        ),
+        file,
+        StandardCopyOption.ATOMIC_MOVE,
+        StandardCopyOption.REPLACE_EXISTING
+      );
+    } catch (IOException e) {
+      LOGGER.warn("Unable to write OMDb API key pool budget!", e);
+
+      synchronized (this) {
+        dirty = true;
+      }
+    }
+  }
+
+  /**
+   * Create the fingerprint of a key, so it is never written nor published.
+   *
+   * @param apiKey                 The key.
+   * @return                       The start of its hash, in hexadecimal.
+   * @throws IllegalStateException If the hash algorithm is not available,
+   *                               which every Java platform must provide.
+   */
+  private static String fingerprint(final String apiKey) {
+    try {
+      final byte[] hash = MessageDigest
+        .getInstance("SHA-256")
+        .digest(apiKey.getBytes(StandardCharsets.UTF_8));
+
+      return HexFormat.of().formatHex(hash, 0, FINGERPRINT_LENGTH);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+  //#endregion
+
+  //#region Override Methods
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void bindTo(final @NonNull MeterRegistry registry) {
+    FunctionCounter
+      .builder("omdb.api.requests", rejected, LongAdder::doubleValue)
+      .tags("result", "rejected", "reason", "budget")
+      .description("The number of requests not made to OMDb API.")
+      .register(registry);
+    Gauge
+      .builder("omdb.api.budget.remaining", this, (pool) -> Math.min(
+        pool.remaining(),
+        Integer.MAX_VALUE
+      ))
+      .description("The requests still allowed today, by all keys.")
+      .register(registry);
+    Gauge
+      .builder("omdb.api.budget.spent", this, OMDbAPIKeyPool::spent)
+      .description("The requests made today, by all keys.")
+      .register(registry);
+    Gauge
+      .builder(
+        "omdb.api.budget.spend.rate",
+        this,
+        OMDbAPIKeyPool::spendRate
+      )
+      .baseUnit("requests/hour")
+      .description("The average of requests made per hour today.")
+      .register(registry);
+
+    for (Key key : keys.values()) {
+      FunctionCounter
+        .builder("omdb.api.key.requests", key.requests, LongAdder::doubleValue)
+        .tags("key", key.fingerprint)
+        .description("The number of requests made to OMDb API by the key.")
+        .register(registry);
+      FunctionCounter
+        .builder(
+          "omdb.api.key.rejections",
+          key.rejections,
+          LongAdder::doubleValue
+        )
+        .tags("key", key.fingerprint)
+        .description("The number of times OMDb API rejected the key.")
+        .register(registry);
+      Gauge
+        .builder("omdb.api.key.remaining", this, (pool) -> Math.min(
+          pool.remaining(key),
+          Integer.MAX_VALUE
+        ))
+        .tags("key", key.fingerprint)
+        .description("The requests still allowed today by the key.")
+        .register(registry);
+    }
+  }
+
+  /**
+   * Stop the background writing, and write the budget spent a last time.
+   */
+  @Override
+  public void close() {
+    maintenance.shutdownNow();
+
+    write();
+  }
+  //#endregion
+
+  //#region Inner Types
+  /**
+   * The state of a key of the pool, guarded by the pool itself.
+   */
+  private static final class Key {
+    /**
+     * The fingerprint of the key.
+     */
+    private final String fingerprint;
+
+    /**
+     * Number of the requests made with the key.
+     */
+    private final LongAdder requests = new LongAdder();
+
+    /**
+     * Number of the times the key was rejected by the OMDb API.
+     */
+    private final LongAdder rejections = new LongAdder();
+
+    /**
+     * Requests made today with the key.
+     */
+    private long spent;
+
+    /**
+     * Time (in milliseconds) until the key is out of rotation.
+     */
+    private long disabledUntil;
+
+    /**
+     * Create the state of a key, in rotation and with nothing spent.
+     *
+     * @param keyFingerprint The fingerprint of the key.
+     */
+    Key(final String keyFingerprint) {
+      fingerprint = keyFingerprint;
+    }
+  }
+  //#endregion
+}
@@ -0,0 +1,230 @@
+package br.dev.mestretramador.pmovies.service;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.lang.Nullable;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import reactor.core.publisher.Mono;
+
+import br.dev.mestretramador.pmovies.util.OMDbAPIResponseStatus;
+
+/**
+ * <p>
+ *  Metrics of the requests made to the OMDb API, on top of the ones of
+ *  its Web Clients (<code>http.client.requests</code>) and connection
+ *  pools (<code>reactor.netty.connection.provider</code>).
+ * </p>
+ *
+ * <p>
+ *  It publishes the responses by its OMDb API error, the totality of
+ *  results of the searches, the requests in flight and the failures by
+ *  its reason, for each subdomain. Every tag has only a few values.
+ * </p>
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+public final class OMDbAPIMetrics {
+  //#region Constants
+  /**
+   * Tag of the subdomain of the Data OMDb API.
+   */
+  public static final String DATA = "data";
+
+  /**
+   * Tag of the subdomain of the Poster OMDb API.
+   */
+  public static final String POSTER = "poster";
+
+  /**
+   * Tag of a search request.
+   */
+  public static final String SEARCH = "search";
+
+  /**
+   * Tag of a title request.
+   */
+  public static final String TITLE = "title";
+
+  /**
+   * Tag of a response without error.
+   */
+  private static final String NO_ERROR = "none";
+
+  /**
+   * Tag of any error not known.
+   */
+  private static final String OTHER_ERROR = "other";
+
+  /**
+   * Tags of the known error messages of the OMDb API, by its message.
+   */
+  private static final Map<String, String> KNOWN_ERRORS = Map.of(
+    "movie not found!", "not-found",
+    "series not found!", "not-found",
+    "episode not found!", "not-found",
+    "too many results.", "too-many-results",
+    "incorrect imdb id.", "incorrect-imdb-id",
+    "request limit reached!", "limit-reached",
+    "invalid api key!", "invalid-key",
+    "no api key provided.", "invalid-key"
+  );
+  //#endregion
+
+  //#region Properties
+  /**
+   * The registry of the metrics.
+   */
+  private final MeterRegistry registry;
+
+  /**
+   * Distribution of the totality of results of the searches.
+   */
+  private final DistributionSummary totalResults;
+
+  /**
+   * Number of the Data OMDb API requests in flight.
+   */
+  private final AtomicInteger dataInFlight = new AtomicInteger();
+
+  /**
+   * Number of the Poster OMDb API requests in flight.
+   */
+  private final AtomicInteger posterInFlight = new AtomicInteger();
+  //#endregion
+
+  //#region Constructors
+  /**
+   * Create the metrics on the given registry.
+   *
+   * @param meterRegistry The registry of the metrics.
+   */
+  public OMDbAPIMetrics(final MeterRegistry meterRegistry) {
+    registry = meterRegistry;
+    totalResults = DistributionSummary
+      .builder("omdb.api.search.total.results")
+      .description("The totality of results of the searches found.")
+      .publishPercentileHistogram()
+      .register(registry);
+
+    Gauge
+      .builder("omdb.api.requests.inflight", dataInFlight, AtomicInteger::get)
+      .tags("subdomain", DATA)
+      .description("The number of requests to OMDb API in flight.")
+      .register(registry);
+    Gauge
+      .builder("omdb.api.requests.inflight", posterInFlight, AtomicInteger::get)
+      .tags("subdomain", POSTER)
+      .description("The number of requests to OMDb API in flight.")
+      .register(registry);
+  }
+  //#endregion
+
+  //#region Methods
+  /**
+   * Record a response received from the OMDb API by its status,
+   * so it is not bound only to be counted.
+   *
+   * @param request The kind of the request, either
+   *                {@link #SEARCH} or {@link #TITLE}.
+   * @param status  The status of the response.
+   */
+  public void record(
+    final String request,
+    final OMDbAPIResponseStatus status
+  ) {
+    respond(request, status.hasError() ? status.error() : null);
+
+    if (request.equals(SEARCH) && status.hasResult()) {
+      totalResults.record(status.totalResultsNumber());
+    }
+  }
+
+  /**
+   * Track a request to the OMDb API while it is in flight,
+   * and its failure, if any.
+   *
+   * @param <T>       The type of the response.
+   * @param subdomain The subdomain of the request, either
+   *                  {@link #DATA} or {@link #POSTER}.
+   * @param request   The request, still to be made.
+   * @return          The same request.
+   */
+  public <T> Mono<T> track(final String subdomain, final Mono<T> request) {
+    final AtomicInteger inFlight = subdomain.equals(POSTER)
+      ? posterInFlight
+      : dataInFlight;
+
+    return request
+      .doOnSubscribe((subscription) -> inFlight.incrementAndGet())
+      .doFinally((signal) -> inFlight.decrementAndGet())
+      .doOnError((error) -> Counter
+        .builder("omdb.api.failures")
+        .tags("subdomain", subdomain, "reason", reason(error))
+        .description("The number of failed requests to OMDb API.")
+        .register(registry)
+        .increment()
+      );
+  }
+
+  /**
+   * Count a response of the OMDb API by its error.
+   *
+   * @param request The kind of the request.
+   * @param error   The error message, if any.
+   */
+  private void respond(final String request, final @Nullable String error) {
+    Counter
+      .builder("omdb.api.responses")
+      .tags("request", request, "error", errorTag(error))
+      .description("The number of responses received from OMDb API.")
+      .register(registry)
+      .increment();
+  }
+
+  /**
+   * Convert an error message of the OMDb API into its tag.
+   *
+   * @param error The error message, if any.
+   * @return      One of the few known errors, or <code>other</code>.
+   */
+  private static String errorTag(final @Nullable String error) {
+    if (error == null) {
+      return NO_ERROR;
+    }
+
+    return KNOWN_ERRORS.getOrDefault(
+      error.strip().toLowerCase(Locale.ROOT),
+      OTHER_ERROR
+    );
+  }
+
+  /**
+   * Convert a failure of a request into its reason.
+   *
+   * @param error The failure.
+   * @return      One of the few known reasons, or <code>other</code>.
+   */
+  private static String reason(final Throwable error) {
+    return switch (error) {
+      case OMDbAPIQuotaExceededException e -> "quota";
+      case OMDbAPIUnavailableException e -> "unavailable";
+      case OMDbAPIDeadlineExceededException e -> "deadline";
+      case WebClientResponseException e -> e.getStatusCode().is4xxClientError()
+        ? "client-error"
+        : "server-error";
+      case WebClientRequestException e -> "io";
+      default -> OTHER_ERROR;
+    };
+  }
+  //#endregion
+}
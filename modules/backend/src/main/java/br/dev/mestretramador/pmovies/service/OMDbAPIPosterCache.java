@@ -0,0 +1,639 @@
+package br.dev.mestretramador.pmovies.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import br.dev.mestretramador.pmovies.config.OMDbAPIPosterCachePolicy;
+import br.dev.mestretramador.pmovies.model.OMDbPoster;
+
+/**
+ * <p>
+ *  Persistent (on disk) content-addressed cache of OMDb API posters.
+ * </p>
+ *
+ * <p>
+ *  Images are kept on files named by its SHA-256 hash, so an image
+ *  shared by many titles is kept only once. Each request, by its
+ *  normalized {@link
+ *  br.dev.mestretramador.pmovies.util.OMDbAPIParamsBuilder#toCacheKey()
+ *  query}, has a small reference file pointing to its image.
+ * </p>
+ *
+ * <p>
+ *  Images are written as they are received, chunk by chunk,
+ *  so they are never held whole in memory.
+ * </p>
+ *
+ * <p>
+ *  Periodically, in background, the files are swept: expired or broken
+ *  references are deleted, then the images no longer referenced, then,
+ *  while the images are above the maximum size, the references received
+ *  the longest ago (and the images only they pointed to) are evicted.
+ *  Files younger than a grace period are never deleted as unreferenced,
+ *  as they may still be being written.
+ * </p>
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+public final class OMDbAPIPosterCache implements MeterBinder, Closeable {
+  //#region Constants
+  /**
+   * Name of the cache, used on its metrics.
+   */
+  private static final String NAME = "omdb.poster";
+
+  /**
+   * Algorithm of the hashes of the images and the queries.
+   */
+  private static final String HASH_ALGORITHM = "SHA-256";
+
+  /**
+   * Length of the prefix of the hashes used as directories of the images,
+   * so no single directory holds too many files.
+   */
+  private static final int HASH_PREFIX_LENGTH = 2;
+
+  /**
+   * Time a file not referenced is still kept, as it may still be
+   * being written or referenced.
+   */
+  private static final Duration GRACE_PERIOD = Duration.ofHours(1);
+
+  /**
+   * Most titles without a poster remembered at once.
+   */
+  private static final long MAX_MISSING = 10_000;
+
+  /**
+   * Logger of the failures of the background sweep.
+   */
+  private static final Logger LOGGER =
+    LoggerFactory.getLogger(OMDbAPIPosterCache.class);
+  //#endregion
+
+  //#region Properties
+  /**
+   * Directory of the images, named by its hash.
+   */
+  private final Path images;
+
+  /**
+   * Directory of the references of the requests to its images.
+   */
+  private final Path references;
+
+  /**
+   * Directory of the images still being received.
+   */
+  private final Path temporary;
+
+  /**
+   * Time an image is referenced since it was received.
+   */
+  private final Duration ttl;
+
+  /**
+   * Maximum size, in bytes, of the kept images.
+   */
+  private final long maxSize;
+
+  /**
+   * Requests answered with no poster, remembered for a while.
+   */
+  private final Cache<String, Boolean> missing;
+
+  /**
+   * Executor of the background sweep.
+   */
+  private final ScheduledExecutorService maintenance;
+
+  /**
+   * Number of the posters found.
+   */
+  private final LongAdder hits = new LongAdder();
+
+  /**
+   * Number of the posters not found, or expired.
+   */
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Number of the posters evicted, due to the maximum size.
+   */
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Size, in bytes, of the kept images, as of the last sweep.
+   */
+  private volatile long bytes;
+  //#endregion
+
+  //#region Constructors
+  /**
+   * Open (or create) the cache with the given policy.
+   *
+   * @param cachePolicy           The policy of the cache.
+   * @throws UncheckedIOException If the directories cannot be created.
+   */
+  public OMDbAPIPosterCache(final OMDbAPIPosterCachePolicy cachePolicy) {
+    images = cachePolicy.directory().resolve("images");
+    references = cachePolicy.directory().resolve("references");
+    temporary = cachePolicy.directory().resolve("temporary");
+    ttl = cachePolicy.ttl();
+    maxSize = cachePolicy.maxSize().toBytes();
+    missing = Caffeine
+      .newBuilder()
+      .expireAfterWrite(cachePolicy.missingTtl())
+      .maximumSize(MAX_MISSING)
+      .build();
+
+    try {
+      Files.createDirectories(images);
+      Files.createDirectories(references);
+      Files.createDirectories(temporary);
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+        "Unable to open OMDb API poster cache!",
+        e
+      );
+    }
+
+    maintenance = Executors.newSingleThreadScheduledExecutor(
+      Thread.ofPlatform().name("omdb-poster-cache").daemon().factory()
+    );
+
+    final long interval = cachePolicy.sweepInterval().toMillis();
+
+    if (interval > 0) {
+      maintenance.scheduleWithFixedDelay(
+        this::sweepQuietly,
+        0,
+        interval,
+        TimeUnit.MILLISECONDS
+      );
+    }
+  }
+  //#endregion
+
+  //#region Methods
+  /**
+   * Read a poster from the cache. It blocks on disk access.
+   *
+   * @param key The normalized query of the request.
+   * @return    If it is not cached, or it expired,
+   *            <code>null</code> is returned.
+   */
+  @Nullable
+  public OMDbPoster get(final @NonNull String key) {
+    final OMDbPoster poster = read(references.resolve(hash(key)));
+
+    if (poster == null) {
+      misses.increment();
+    } else {
+      hits.increment();
+    }
+
+    return poster;
+  }
+
+  /**
+   * Check if the request was recently answered with no poster.
+   *
+   * @param key The normalized query of the request.
+   * @return    If so, it should not be requested again yet.
+   */
+  public boolean isMissing(final @NonNull String key) {
+    return missing.getIfPresent(key) != null;
+  }
+
+  /**
+   * Remember the request was answered with no poster.
+   *
+   * @param key The normalized query of the request.
+   */
+  public void markMissing(final @NonNull String key) {
+    missing.put(key, Boolean.TRUE);
+  }
+
+  /**
+   * Keep a poster in the cache as it is received,
+   * replacing any previous one of the same request.
+   *
+   * @param key         The normalized query of the request.
+   * @param image       The chunks of the image, released once written.
+   * @param contentType The media type of the image.
+   * @return            The poster, once the image is written whole.
+   */
+  public Mono<OMDbPoster> put(
+    final @NonNull String key,
+    final @NonNull Flux<DataBuffer> image,
+    final @NonNull MediaType contentType
+  ) {
+    return Mono.defer(() -> {
+      final Path file;
+
+      try {
+        file = Files.createTempFile(temporary, "poster-", ".tmp");
+      } catch (IOException e) {
+        return Mono.error(e);
+      }
+
+      final MessageDigest digest = newDigest();
+
+      return DataBufferUtils
+        .write(image.doOnNext((chunk) -> update(digest, chunk)), file)
+        .then(Mono.fromCallable(() -> commit(
+          key,
+          file,
+          HexFormat.of().formatHex(digest.digest()),
+          contentType
+        )))
+        .doOnError((error) -> deleteQuietly(file))
+        .doOnCancel(() -> deleteQuietly(file));
+    }).subscribeOn(Schedulers.boundedElastic());
+  }
+
+  /**
+   * <p>
+   *  Delete the expired or broken references, and the images no longer
+   *  referenced, then evict the references received the longest ago
+   *  while the images are above the maximum size. Temporary files left
+   *  by failed writes are also deleted.
+   * </p>
+   *
+   * <p>It is called periodically in background.</p>
+   *
+   * @throws UncheckedIOException If the directories cannot be listed.
+   */
+  public void sweep() {
+    final FileTime graceLimit =
+      FileTime.from(Instant.now().minus(GRACE_PERIOD));
+    final Map<String, Integer> referenced = new HashMap<String, Integer>();
+    final List<Reference> live = new ArrayList<Reference>();
+
+    try {
+      try (Stream<Path> files = Files.list(references)) {
+        for (Path file : (Iterable<Path>) files::iterator) {
+          final OMDbPoster poster = read(file);
+          final FileTime receivedAt = lastModified(file);
+
+          if (poster == null || receivedAt == null) {
+            deleteQuietly(file);
+
+            continue;
+          }
+
+          live.add(new Reference(file, poster.hash(), receivedAt));
+          referenced.merge(poster.hash(), 1, Integer::sum);
+        }
+      }
+
+      final Map<String, Long> sizes = new HashMap<String, Long>();
+      long total = 0;
+
+      try (Stream<Path> files = Files.walk(images, 2)) {
+        for (Path file : (Iterable<Path>) files::iterator) {
+          final FileTime modifiedAt = lastModified(file);
+
+          if (!Files.isRegularFile(file) || modifiedAt == null) {
+            continue;
+          }
+
+          final String imageHash = file.getFileName().toString();
+
+          if (
+            !referenced.containsKey(imageHash)
+              && modifiedAt.compareTo(graceLimit) < 0
+          ) {
+            deleteQuietly(file);
+
+            continue;
+          }
+
+          final long size = Files.size(file);
+
+          sizes.put(imageHash, size);
+          total += size;
+        }
+      }
+
+      live.sort(Comparator.comparing(Reference::receivedAt));
+
+      for (Reference reference : live) {
+        if (total <= maxSize) {
+          break;
+        }
+
+        deleteQuietly(reference.file());
+        evictions.increment();
+
+        if (referenced.merge(reference.imageHash(), -1, Integer::sum) == 0) {
+          deleteQuietly(resolveImage(reference.imageHash()));
+          total -= sizes.getOrDefault(reference.imageHash(), 0L);
+        }
+      }
+
+      bytes = total;
+
+      try (Stream<Path> files = Files.list(temporary)) {
+        for (Path file : (Iterable<Path>) files::iterator) {
+          final FileTime modifiedAt = lastModified(file);
+
+          if (modifiedAt != null && modifiedAt.compareTo(graceLimit) < 0) {
+            deleteQuietly(file);
+          }
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+        "Unable to sweep OMDb API poster cache!",
+        e
+      );
+    }
+  }
+
+  /**
+   * Run the {@link #sweep() sweep}, logging any failure
+   * so the next ones are still scheduled.
+   */
+  private void sweepQuietly() {
+    try {
+      sweep();
+    } catch (RuntimeException e) {
+      LOGGER.warn("Unable to sweep OMDb API poster cache!", e);
+    }
+  }
+
+  /**
+   * Read the size of the kept images.
+   *
+   * @return It is as of the last sweep.
+   */
+  public long bytes() {
+    return bytes;
+  }
+
+  /**
+   * Move a received image into its place, unless the same image is
+   * already kept, and point the reference of the request to it.
+   * A kept image is touched, so it is not swept while referenced again.
+   *
+   * @param key          The normalized query of the request.
+   * @param file         The temporary file of the image.
+   * @param imageHash    The hash of the image.
+   * @param contentType  The media type of the image.
+   * @return             The poster, as kept on disk.
+   * @throws IOException If the files cannot be moved or written.
+   */
+  private OMDbPoster commit(
+    final String key,
+    final Path file,
+    final String imageHash,
+    final MediaType contentType
+  ) throws IOException {
+    final Path image = resolveImage(imageHash);
+
+    Files.createDirectories(image.getParent());
+
+    if (Files.isRegularFile(image)) {
+      deleteQuietly(file);
+      Files.setLastModifiedTime(image, FileTime.from(Instant.now()));
+    } else {
+      Files.move(file, image, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    final Path reference = Files.writeString(
+      Files.createTempFile(temporary, "reference-", ".tmp"),
+      imageHash + "\n" + contentType + "\n",
+      StandardCharsets.UTF_8
+    );
+
+    Files.move(
+      reference,
+      references.resolve(hash(key)),
+      StandardCopyOption.ATOMIC_MOVE,
+      StandardCopyOption.REPLACE_EXISTING
+    );
+
+    return new OMDbPoster(image, imageHash, contentType);
+  }
+
+  /**
+   * Read the reference of a request, if not expired,
+   * and verify its image is still kept.
+   *
+   * @param reference The file of the reference.
+   * @return          If any of them is missing, invalid or expired,
+   *                  <code>null</code> is returned.
+   */
+  @Nullable
+  private OMDbPoster read(final Path reference) {
+    try {
+      final Instant expiresAt = Files
+        .getLastModifiedTime(reference)
+        .toInstant()
+        .plus(ttl);
+
+      if (!Instant.now().isBefore(expiresAt)) {
+        return null;
+      }
+
+      final List<String> lines =
+        Files.readAllLines(reference, StandardCharsets.UTF_8);
+      final Path image = resolveImage(lines.get(0));
+
+      if (!Files.isRegularFile(image)) {
+        return null;
+      }
+
+      return new OMDbPoster(
+        image,
+        lines.get(0),
+        MediaType.parseMediaType(lines.get(1))
+      );
+    } catch (IOException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Resolve the file of an image by its hash.
+   *
+   * @param imageHash The hash of the image.
+   * @return          The file is inside a directory named
+   *                  by the prefix of the hash.
+   */
+  private Path resolveImage(final String imageHash) {
+    return images
+      .resolve(imageHash.substring(0, HASH_PREFIX_LENGTH))
+      .resolve(imageHash);
+  }
+
+  /**
+   * Hash a normalized query, so it is a valid file name.
+   *
+   * @param key The normalized query of the request.
+   * @return    The hash, in hexadecimal.
+   */
+  private static String hash(final String key) {
+    return HexFormat.of().formatHex(
+      newDigest().digest(key.getBytes(StandardCharsets.UTF_8))
+    );
+  }
+
+  /**
+   * Create a new digest of the {@link #HASH_ALGORITHM hash algorithm}.
+   *
+   * @return                       The digest, not thread-safe.
+   * @throws IllegalStateException If the algorithm is not available,
+   *                               which every Java platform must provide.
+   */
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance(HASH_ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Update a digest with a chunk of an image, without consuming it.
+   *
+   * @param digest The digest of the image.
+   * @param chunk  The chunk of the image.
+   */
+  private static void update(
+    final MessageDigest digest,
+    final DataBuffer chunk
+  ) {
+    try (
+      DataBuffer.ByteBufferIterator buffers = chunk.readableByteBuffers()
+    ) {
+      while (buffers.hasNext()) {
+        digest.update(buffers.next());
+      }
+    }
+  }
+
+  /**
+   * Read the last modification time of a file.
+   *
+   * @param file The file, which may have been deleted meanwhile.
+   * @return     If it cannot be read, <code>null</code> is returned.
+   */
+  @Nullable
+  private static FileTime lastModified(final Path file) {
+    try {
+      return Files.getLastModifiedTime(file);
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Delete a file, ignoring any failure.
+   *
+   * @param file The file to be deleted.
+   */
+  private static void deleteQuietly(final Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      return;
+    }
+  }
+  //#endregion
+
+  //#region Override Methods
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void bindTo(final @NonNull MeterRegistry registry) {
+    FunctionCounter
+      .builder("cache.gets", hits, LongAdder::doubleValue)
+      .tags("cache", NAME, "result", "hit")
+      .description("The number of times the poster was cached.")
+      .register(registry);
+    FunctionCounter
+      .builder("cache.gets", misses, LongAdder::doubleValue)
+      .tags("cache", NAME, "result", "miss")
+      .description("The number of times the poster was not cached.")
+      .register(registry);
+    FunctionCounter
+      .builder("cache.evictions", evictions, LongAdder::doubleValue)
+      .tags("cache", NAME)
+      .description("The number of posters evicted, due to the maximum size.")
+      .register(registry);
+    Gauge
+      .builder("cache.disk.size", this, OMDbAPIPosterCache::bytes)
+      .tags("cache", NAME)
+      .baseUnit(BaseUnits.BYTES)
+      .description("The size of the files of this cache.")
+      .register(registry);
+  }
+
+  /**
+   * Stop the background sweep.
+   */
+  @Override
+  public void close() {
+    maintenance.shutdownNow();
+  }
+  //#endregion
+
+  //#region Inner Types
+  /**
+   * A live reference of a request, found by the sweep.
+   *
+   * @param file       The file of the reference.
+   * @param imageHash  The hash of its image.
+   * @param receivedAt When its poster was received.
+   */
+  private record Reference(Path file, String imageHash, FileTime receivedAt) {
+  }
+  //#endregion
+}
@@ -0,0 +1,202 @@
+package br.dev.mestretramador.pmovies.service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.lang.NonNull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import br.dev.mestretramador.pmovies.config.OMDbAPIPrefetchPolicy;
+
+/**
+ * <p>
+ *  Budget of the prefetches of the next page of the searches,
+ *  and tracker of the prefetched pages later requested.
+ * </p>
+ *
+ * <p>
+ *  Each page answered earns a fraction of a prefetch, up to a few, so
+ *  prefetching cannot multiply the load on the OMDb API. A prefetched
+ *  page is tracked while it is cached, so the ratio of the prefetches
+ *  which were actually requested (hits) is published.
+ * </p>
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+public final class OMDbAPIPrefetcher implements MeterBinder {
+  //#region Constants
+  /**
+   * Most prefetches allowed at once.
+   */
+  private static final double MAX_PREFETCH_TOKENS = 10;
+
+  /**
+   * Most prefetched pages tracked at once.
+   */
+  private static final long MAX_TRACKED_PAGES = 10_000;
+  //#endregion
+
+  //#region Properties
+  /**
+   * If the next pages are prefetched.
+   */
+  private final boolean enabled;
+
+  /**
+   * Prefetches earned by each page answered.
+   */
+  private final double budget;
+
+  /**
+   * The prefetched pages not yet requested, by its cache key.
+   */
+  private final Cache<String, Boolean> prefetched;
+
+  /**
+   * Number of the prefetches made.
+   */
+  private final LongAdder made = new LongAdder();
+
+  /**
+   * Number of the prefetched pages later requested.
+   */
+  private final LongAdder hits = new LongAdder();
+
+  /**
+   * Number of the prefetches not made due to the budget.
+   */
+  private final LongAdder notMade = new LongAdder();
+
+  /**
+   * Prefetches still allowed.
+   */
+  private double tokens;
+  //#endregion
+
+  //#region Constructors
+  /**
+   * Create the prefetcher with the given policy.
+   *
+   * @param prefetchPolicy The policy of the prefetch.
+   * @param ttl            Time the prefetched pages are cached,
+   *                       so they are tracked for as long.
+   */
+  public OMDbAPIPrefetcher(
+    final OMDbAPIPrefetchPolicy prefetchPolicy,
+    final Duration ttl
+  ) {
+    enabled = prefetchPolicy.enabled();
+    budget = prefetchPolicy.budget();
+    prefetched = Caffeine
+      .newBuilder()
+      .expireAfterWrite(ttl)
+      .maximumSize(MAX_TRACKED_PAGES)
+      .build();
+  }
+  //#endregion
+
+  //#region Methods
+  /**
+   * Earn the fraction of a prefetch of a page answered,
+   * and spend a prefetch of the given page, if any is allowed.
+   *
+   * @param cacheKey The normalized query of the page.
+   * @return         <code>true</code> if the page may be prefetched,
+   *                 being then tracked until requested.
+   */
+  public synchronized boolean reserve(final String cacheKey) {
+    if (!enabled) {
+      return false;
+    }
+
+    tokens = Math.min(tokens + budget, MAX_PREFETCH_TOKENS);
+
+    if (prefetched.getIfPresent(cacheKey) != null) {
+      return false;
+    }
+
+    if (tokens < 1) {
+      notMade.increment();
+
+      return false;
+    }
+
+    tokens--;
+    prefetched.put(cacheKey, Boolean.TRUE);
+    made.increment();
+
+    return true;
+  }
+
+  /**
+   * Stop tracking a page whose prefetch failed.
+   *
+   * @param cacheKey The normalized query of the page.
+   */
+  public void release(final String cacheKey) {
+    prefetched.invalidate(cacheKey);
+  }
+
+  /**
+   * Track a request of a page, counting it as a hit if it was prefetched.
+   *
+   * @param cacheKey The normalized query of the page.
+   */
+  public void claim(final String cacheKey) {
+    if (prefetched.asMap().remove(cacheKey) != null) {
+      hits.increment();
+    }
+  }
+
+  /**
+   * Read the ratio of the prefetches later requested.
+   *
+   * @return If no prefetch was made, it is <code>0</code>.
+   */
+  public double hitRatio() {
+    final long prefetches = made.sum();
+
+    return prefetches == 0 ? 0 : (double) hits.sum() / prefetches;
+  }
+  //#endregion
+
+  //#region Override Methods
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void bindTo(final @NonNull MeterRegistry registry) {
+    if (!enabled) {
+      return;
+    }
+
+    FunctionCounter
+      .builder("omdb.api.prefetches", made, LongAdder::doubleValue)
+      .tags("result", "made")
+      .description("The number of next pages prefetched from OMDb API.")
+      .register(registry);
+    FunctionCounter
+      .builder("omdb.api.prefetches", hits, LongAdder::doubleValue)
+      .tags("result", "hit")
+      .description("The number of prefetched pages later requested.")
+      .register(registry);
+    FunctionCounter
+      .builder("omdb.api.prefetches", notMade, LongAdder::doubleValue)
+      .tags("result", "budget")
+      .description("The number of pages not prefetched due to the budget.")
+      .register(registry);
+    Gauge
+      .builder("omdb.api.prefetch.hit.ratio", this, OMDbAPIPrefetcher::hitRatio)
+      .description("The ratio of the prefetched pages later requested.")
+      .register(registry);
+  }
+  //#endregion
+}
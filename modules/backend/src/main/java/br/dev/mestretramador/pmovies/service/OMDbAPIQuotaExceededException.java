@@ -0,0 +1,59 @@
+package br.dev.mestretramador.pmovies.service;
+
+import java.time.Duration;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Thrown when a request to the OMDb API is not made, because
+ * the daily budget is spent or the rate limit is reached.
+ * It is answered with HTTP <b>429</b> status code.
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+public final class OMDbAPIQuotaExceededException
+  extends ResponseStatusException {
+  //#region Constants
+  /**
+   * Version of the serialized form.
+   */
+  private static final long serialVersionUID = 1L;
+  //#endregion
+
+  //#region Properties
+  /**
+   * Time until a new request may be allowed.
+   */
+  private final Duration retryAfter;
+  //#endregion
+
+  //#region Constructors
+  /**
+   * Create the exception with the reason of the rejection.
+   *
+   * @param reason        The reason, sent on the response.
+   * @param retryDuration Time until a new request may be allowed.
+   */
+  public OMDbAPIQuotaExceededException(
+    final String reason,
+    final Duration retryDuration
+  ) {
+    super(HttpStatus.TOO_MANY_REQUESTS, reason);
+
+    retryAfter = retryDuration;
+  }
+  //#endregion
+
+  //#region Accessors
+  /**
+   * Read the time until a new request may be allowed.
+   *
+   * @return It is sent as the <code>Retry-After</code> header.
+   */
+  public Duration retryAfter() {
+    return retryAfter;
+  }
+  //#endregion
+}
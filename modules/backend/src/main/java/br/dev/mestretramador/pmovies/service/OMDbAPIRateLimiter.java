@@ -0,0 +1,156 @@
+package br.dev.mestretramador.pmovies.service;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.lang.NonNull;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import reactor.core.publisher.Mono;
+
+import br.dev.mestretramador.pmovies.config.OMDbAPIRateLimitPolicy;
+
+/**
+ * <p>
+ *  Rate limiter of the requests made to the OMDb API,
+ *  shared by all of its keys.
+ * </p>
+ *
+ * <p>
+ *  The rate is a token bucket: requests are spaced by the rate,
+ *  allowing a burst at once. A request waits for its turn, up to
+ *  a maximum wait, otherwise it is rejected at once. The daily budget
+ *  of each key is kept by the {@link OMDbAPIKeyPool key pool}.
+ * </p>
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+public final class OMDbAPIRateLimiter implements MeterBinder {
+  //#region Constants
+  /**
+   * Nanoseconds of a second.
+   */
+  private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+  //#endregion
+
+  //#region Properties
+  /**
+   * Nanoseconds between two requests, or <code>0</code> for no limit.
+   */
+  private final long interval;
+
+  /**
+   * Nanoseconds a request may be ahead of the rate, due to the burst.
+   */
+  private final long tolerance;
+
+  /**
+   * Nanoseconds a request may wait for the rate.
+   */
+  private final long maxWait;
+
+  /**
+   * Number of the requests rejected due to the rate.
+   */
+  private final LongAdder rejected = new LongAdder();
+
+  /**
+   * Theoretical time (in nanoseconds) of the next request on the rate.
+   */
+  private long nextRequestAt;
+  //#endregion
+
+  //#region Constructors
+  /**
+   * Create the rate limiter with the given policy.
+   *
+   * @param ratePolicy The policy of the rate limit.
+   */
+  public OMDbAPIRateLimiter(final OMDbAPIRateLimitPolicy ratePolicy) {
+    interval = ratePolicy.rate() > 0
+      ? (long) (NANOS_PER_SECOND / ratePolicy.rate())
+      : 0;
+    tolerance = interval * (ratePolicy.burst() - 1);
+    maxWait = ratePolicy.maxWait().toNanos();
+    nextRequestAt = System.nanoTime();
+  }
+  //#endregion
+
+  //#region Methods
+  /**
+   * Acquire the permission to make a request.
+   *
+   * @return It completes once the request may be made, or fails with
+   *         a {@link OMDbAPIQuotaExceededException} if it is rejected.
+   */
+  public Mono<Void> acquire() {
+    return Mono.defer(() -> {
+      final long wait;
+
+      try {
+        wait = reserve();
+      } catch (OMDbAPIQuotaExceededException e) {
+        return Mono.error(e);
+      }
+
+      return wait > 0
+        ? Mono.delay(Duration.ofNanos(wait)).then()
+        : Mono.empty();
+    });
+  }
+
+  /**
+   * Check if the rate is idle, so low priority requests may be made.
+   *
+   * @return <code>true</code> if at least half
+   *         of the burst is still available.
+   */
+  public synchronized boolean isIdle() {
+    return nextRequestAt - System.nanoTime() <= tolerance / 2;
+  }
+
+  /**
+   * Reserve the turn of a request on the rate.
+   *
+   * @return                              Nanoseconds to wait for the turn.
+   * @throws OMDbAPIQuotaExceededException If the wait is too long.
+   */
+  private synchronized long reserve() {
+    final long now = System.nanoTime();
+    final long turn = Math.max(nextRequestAt, now);
+    final long wait = Math.max(turn - tolerance - now, 0);
+
+    if (wait > maxWait) {
+      rejected.increment();
+
+      throw new OMDbAPIQuotaExceededException(
+        "Too many OMDb API requests! Try again later.",
+        Duration.ofNanos(wait)
+      );
+    }
+
+    nextRequestAt = turn + interval;
+
+    return wait;
+  }
+  //#endregion
+
+  //#region Override Methods
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void bindTo(final @NonNull MeterRegistry registry) {
+    FunctionCounter
+      .builder("omdb.api.requests", rejected, LongAdder::doubleValue)
+      .tags("result", "rejected", "reason", "rate")
+      .description("The number of requests not made to OMDb API.")
+      .register(registry);
+  }
+  //#endregion
+}
@@ -0,0 +1,271 @@
+package br.dev.mestretramador.pmovies.service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import br.dev.mestretramador.pmovies.config.OMDbAPICachePolicy;
+
+/**
+ * <p>
+ *  Bounded in-memory cache of raw OMDb API responses,
+ *  indexed by its normalized {@link
+ *  br.dev.mestretramador.pmovies.util.OMDbAPIParamsBuilder#toCacheKey()
+ *  query}.
+ * </p>
+ *
+ * <p>
+ *  Responses are weighted by its size, and evicted by a frequency-aware
+ *  (Window TinyLFU) policy. Hits and misses are published
+ *  as the <code>cache.gets</code> metric.
+ * </p>
+ *
+ * <p>
+ *  Expired responses are still kept for a while, and only
+ *  {@link #getStale(String) read} on purpose, so they can be answered
+ *  while requested again. Its reads are published as the
+ *  <code>cache.gets.stale</code> metric.
+ * </p>
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+public final class OMDbAPIResponseCache implements MeterBinder {
+  //#region Properties
+  /**
+   * Name of the cache, used on its metrics.
+   */
+  private final String name;
+
+  /**
+   * Time the responses are kept since written.
+   */
+  private final Duration ttl;
+
+  /**
+   * Time the responses are still kept after they expire.
+   */
+  private final Duration staleTtl;
+
+  /**
+   * Time the failed responses are kept since written.
+   */
+  private final Duration negativeTtl;
+
+  /**
+   * Statistics of the cache, recorded only for fresh reads.
+   */
+  private final StatsCounter stats = new ConcurrentStatsCounter();
+
+  /**
+   * Number of the stale responses read.
+   */
+  private final LongAdder staleHits = new LongAdder();
+
+  /**
+   * The cache itself.
+   */
+  private final Cache<String, Entry> cache;
+  //#endregion
+
+  //#region Constructors
+  /**
+   * Create a cache with the given policy.
+   *
+   * @param cacheName   Name of the cache, used on its metrics.
+   * @param cachePolicy The policy of the cache.
+   */
+  public OMDbAPIResponseCache(
+    final String cacheName,
+    final OMDbAPICachePolicy cachePolicy
+  ) {
+    name = cacheName;
+    ttl = cachePolicy.ttl();
+    staleTtl = cachePolicy.staleTtl();
+    negativeTtl = cachePolicy.negativeTtl();
+    cache = Caffeine
+      .newBuilder()
+      .expireAfterWrite(ttl.plus(staleTtl))
+      .maximumWeight(cachePolicy.maximumWeight().toBytes())
+      .weigher(OMDbAPIResponseCache::weigh)
+      .recordStats(() -> stats)
+      .build();
+  }
+  //#endregion
+
+  //#region Methods
+  /**
+   * Read a response from the cache.
+   *
+   * @param key The normalized query of the request.
+   * @return    If it is not cached, or it expired,
+   *            <code>null</code> is returned.
+   */
+  @Nullable
+  public byte[] get(final @NonNull String key) {
+    final Entry entry = cache.asMap().get(key);
+
+    if (entry == null || entry.isExpired(System.currentTimeMillis())) {
+      stats.recordMisses(1);
+
+      return null;
+    }
+
+    stats.recordHits(1);
+
+    return entry.response();
+  }
+
+  /**
+   * Check if a response is cached, without reading it.
+   *
+   * @param key The normalized query of the request.
+   * @return    <code>true</code> if it is cached and not expired.
+   *            It is not recorded on the statistics.
+   */
+  public boolean contains(final @NonNull String key) {
+    final Entry entry = cache.asMap().get(key);
+
+    return entry != null && !entry.isExpired(System.currentTimeMillis());
+  }
+
+  /**
+   * Read a response from the cache, even if it expired.
+   *
+   * @param key The normalized query of the request.
+   * @return    If it is not cached, or it expired longer than
+   *            the stale TTL ago, <code>null</code> is returned.
+   */
+  @Nullable
+  public byte[] getStale(final @NonNull String key) {
+    final Entry entry = cache.asMap().get(key);
+
+    if (entry == null) {
+      return null;
+    }
+
+    staleHits.increment();
+
+    return entry.response();
+  }
+
+  /**
+   * Keep a response in the cache, replacing any previous one.
+   *
+   * @param key      The normalized query of the request.
+   * @param response The raw response.
+   */
+  public void put(final @NonNull String key, final @NonNull byte[] response) {
+    put(key, response, ttl);
+  }
+
+  /**
+   * Keep a response in the cache for the given time,
+   * replacing any previous one.
+   *
+   * @param key         The normalized query of the request.
+   * @param response    The raw response.
+   * @param responseTtl Time the response is kept since now,
+   *                    up to the TTL of the cache.
+   */
+  public void put(
+    final @NonNull String key,
+    final @NonNull byte[] response,
+    final @NonNull Duration responseTtl
+  ) {
+    cache.put(
+      key,
+      new Entry(
+        response,
+        System.currentTimeMillis() + responseTtl.toMillis()
+      )
+    );
+  }
+
+  /**
+   * Read the time the responses are kept since written.
+   *
+   * @return It is also used by slower cache tiers.
+   */
+  public Duration ttl() {
+    return ttl;
+  }
+
+  /**
+   * Read the time the failed responses are kept since written.
+   *
+   * @return It is also used by slower cache tiers.
+   */
+  public Duration negativeTtl() {
+    return negativeTtl;
+  }
+
+  /**
+   * Read the time the responses are still kept after they expire.
+   *
+   * @return Until it ends, the stale response may be answered.
+   */
+  public Duration staleTtl() {
+    return staleTtl;
+  }
+
+  /**
+   * Weigh a cached response by its size.
+   *
+   * @param key   The normalized query of the request.
+   * @param entry The raw response, with its expiration.
+   * @return      The approximate size, in bytes, of both.
+   */
+  private static int weigh(final String key, final Entry entry) {
+    return key.length() * Character.BYTES + entry.response().length;
+  }
+  //#endregion
+
+  //#region Override Methods
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void bindTo(final @NonNull MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, cache, name);
+    FunctionCounter
+      .builder("cache.gets.stale", staleHits, LongAdder::doubleValue)
+      .tags("cache", name)
+      .description("The number of times an expired response was read.")
+      .register(registry);
+  }
+  //#endregion
+
+  //#region Inner Types
+  /**
+   * A cached response, with its expiration.
+   *
+   * @param response  The raw response.
+   * @param expiresAt Time, in epoch milliseconds, the response expires.
+   */
+  private record Entry(byte[] response, long expiresAt) {
+    /**
+     * Verify if the response is expired.
+     *
+     * @param now The current time, in epoch milliseconds.
+     * @return    <code>true</code> if the given time is after the expiration.
+     */
+    boolean isExpired(final long now) {
+      return now >= expiresAt;
+    }
+  }
+  //#endregion
+}
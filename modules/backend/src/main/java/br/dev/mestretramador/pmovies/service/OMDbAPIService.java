@@ -1,13 +1,53 @@
 package br.dev.mestretramador.pmovies.service;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
-import br.dev.mestretramador.pmovies.config.OMDbAPIProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import br.dev.mestretramador.pmovies.config.OMDbAPICacheConfig;
+import br.dev.mestretramador.pmovies.config.OMDbAPICircuitBreakerConfig;
+import br.dev.mestretramador.pmovies.config.OMDbAPIDeadlineConfig;
+import br.dev.mestretramador.pmovies.config.OMDbAPIMetricsConfig;
+import br.dev.mestretramador.pmovies.config.OMDbAPIRateLimitConfig;
+import br.dev.mestretramador.pmovies.config.OMDbAPIWebClientConfig;
+import br.dev.mestretramador.pmovies.config.OMDbTitleIndexConfig;
+import br.dev.mestretramador.pmovies.model.OMDbPoster;
+import br.dev.mestretramador.pmovies.model.OMDbSearch;
+import br.dev.mestretramador.pmovies.model.OMDbSearchItem;
+import br.dev.mestretramador.pmovies.model.OMDbTitle;
 import br.dev.mestretramador.pmovies.util.OMDbAPIParamsBuilder;
+import br.dev.mestretramador.pmovies.util.OMDbAPIResponseStatus;
+import br.dev.mestretramador.pmovies.util.OMDbSearchTransformer;
+import br.dev.mestretramador.pmovies.util.SingleFlight;
+import br.dev.mestretramador.pmovies.util.Staleness;
+import br.dev.mestretramador.pmovies.util.enumerable.OMDbAPIParams;
+import br.dev.mestretramador.pmovies.util.enumerable.SearchSortParamValues;
 
 /**
  * Service for handling OMDb API requests,
@@ -20,10 +60,127 @@ import br.dev.mestretramador.pmovies.util.OMDbAPIParamsBuilder;
 public final class OMDbAPIService {
   //#region Properties
   /**
-   * The properties (environment variables) of the OMDb API.
+   * The shared Web Client of the Data OMDb API.
+   */
+  @Autowired
+  @Qualifier(OMDbAPIWebClientConfig.DATA_WEB_CLIENT)
+  private WebClient dataWebClient;
+
+  /**
+   * The shared Web Client of the Poster OMDb API.
+   */
+  @Autowired
+  @Qualifier(OMDbAPIWebClientConfig.POSTER_WEB_CLIENT)
+  private WebClient posterWebClient;
+
+  /**
+   * The in-memory cache of search responses.
+   */
+  @Autowired
+  @Qualifier(OMDbAPICacheConfig.SEARCH_CACHE)
+  private OMDbAPIResponseCache searchCache;
+
+  /**
+   * The in-memory cache of title and IMDb ID responses.
    */
   @Autowired
-  private OMDbAPIProperties apiProperties;
+  @Qualifier(OMDbAPICacheConfig.TITLE_CACHE)
+  private OMDbAPIResponseCache titleCache;
+
+  /**
+   * The persistent cache of all responses, if enabled.
+   */
+  @Autowired(required = false)
+  @Qualifier(OMDbAPICacheConfig.DISK_CACHE)
+  private OMDbAPIDiskCache diskCache;
+
+  /**
+   * The persistent cache of posters.
+   */
+  @Autowired
+  @Qualifier(OMDbAPICacheConfig.POSTER_CACHE)
+  private OMDbAPIPosterCache posterCache;
+
+  /**
+   * The prefetcher of the next page of the searches.
+   */
+  @Autowired
+  @Qualifier(OMDbAPICacheConfig.PREFETCHER)
+  private OMDbAPIPrefetcher prefetcher;
+
+  /**
+   * The rate limiter of the requests, with its daily budget.
+   */
+  @Autowired
+  @Qualifier(OMDbAPIRateLimitConfig.RATE_LIMITER)
+  private OMDbAPIRateLimiter rateLimiter;
+
+  /**
+   * The pool of the keys, with its daily budgets.
+   */
+  @Autowired
+  @Qualifier(OMDbAPIRateLimitConfig.KEY_POOL)
+  private OMDbAPIKeyPool keyPool;
+
+  /**
+   * The circuit breaker of the Data OMDb API requests.
+   */
+  @Autowired
+  @Qualifier(OMDbAPICircuitBreakerConfig.DATA_CIRCUIT_BREAKER)
+  private OMDbAPICircuitBreaker dataCircuitBreaker;
+
+  /**
+   * The circuit breaker of the Poster OMDb API requests.
+   */
+  @Autowired
+  @Qualifier(OMDbAPICircuitBreakerConfig.POSTER_CIRCUIT_BREAKER)
+  private OMDbAPICircuitBreaker posterCircuitBreaker;
+
+  /**
+   * The deadline of the Data OMDb API requests, with its hedging.
+   */
+  @Autowired
+  @Qualifier(OMDbAPIDeadlineConfig.DATA_DEADLINE)
+  private OMDbAPIDeadline dataDeadline;
+
+  /**
+   * The deadline of the Poster OMDb API requests.
+   */
+  @Autowired
+  @Qualifier(OMDbAPIDeadlineConfig.POSTER_DEADLINE)
+  private OMDbAPIDeadline posterDeadline;
+
+  /**
+   * The index of the titles seen on searches, for the autocomplete.
+   */
+  @Autowired
+  @Qualifier(OMDbTitleIndexConfig.TITLE_INDEX)
+  private OMDbTitleIndex titleIndex;
+
+  /**
+   * The metrics of the requests made to the OMDb API.
+   */
+  @Autowired
+  @Qualifier(OMDbAPIMetricsConfig.METRICS)
+  private OMDbAPIMetrics metrics;
+
+  /**
+   * Internal conversor of the OMDb API responses into plain objects.
+   */
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  /**
+   * The in-flight requests, shared by concurrent identical requests.
+   */
+  private final SingleFlight<String, byte[]> inFlightRequests =
+    new SingleFlight<String, byte[]>();
+
+  /**
+   * The in-flight poster requests, shared by concurrent identical requests.
+   */
+  private final SingleFlight<String, OMDbPoster> inFlightPosters =
+    new SingleFlight<String, OMDbPoster>();
   //#endregion
 
   //#region Params
@@ -82,47 +239,630 @@ public final class OMDbAPIService {
    * @param builderType   A static constructor of the class.
    * @param requiredParam The value for the required param of
    *                      the given constructor.
-   * @return              An instance of the builder with
-   *                      the required param and the API key set.
+   * @return              An instance of the builder with the required
+   *                      param and a key of the {@link OMDbAPIKeyPool pool},
+   *                      weighted by its remaining budget, set.
    */
   private OMDbAPIParamsBuilder makeOMDbAPIParams(
     final BiFunction<String, String, OMDbAPIParamsBuilder> builderType,
     final String requiredParam
   ) {
-    return builderType.apply(requiredParam, apiProperties.key());
+    return builderType.apply(requiredParam, keyPool.select());
   }
   //#endregion
 
   //#region Web Client
   /**
-   * Start the request for the Data OMDb API .
+   * Start the request for the Data OMDb API.
    *
-   * @return The only thing set in the client is the correct URL.
+   * @return The client is shared and pooled, so it must not be mutated.
+   * @see    OMDbAPIWebClientConfig
    */
   public WebClient makeOMDbAPIDataWebClient() {
-    return makeOMDbAPIWebClient(apiProperties.subHostData());
+    return dataWebClient;
   }
 
   /**
-   * Start the request for the Poster OMDb API .
+   * Start the request for the Poster OMDb API.
    *
-   * @return The only thing set in the client is the correct URL.
+   * @return The client is shared and pooled, so it must not be mutated.
+   * @see    OMDbAPIWebClientConfig
    */
   public WebClient makeOMDbAPIPosterWebClient() {
-    return makeOMDbAPIWebClient(apiProperties.subHostPoster());
+    return posterWebClient;
+  }
+  //#endregion
+
+  //#region Requests
+  /**
+   * Request a search to the Data OMDb API,
+   * answering from the cache when possible.
+   *
+   * @param params The query params of the search.
+   * @return       The result from OMDb API, even if it
+   *               {@link OMDbSearch#hasError() has an error}.
+   */
+  public Mono<OMDbSearch> search(final OMDbAPIParamsBuilder params) {
+    return retrieve(searchCache, params, true)
+      .map((response) -> decode(response, OMDbSearch.class));
+  }
+
+  /**
+   * Request a search to the Data OMDb API, answering from the cache when
+   * possible, without binding its results into any object.
+   *
+   * @param params The query params of the search.
+   * @return       The result from OMDb API, even if it
+   *               {@link OMDbSearchTransformer#hasError() has an error},
+   *               to be written straight to the response.
+   */
+  public Mono<OMDbSearchTransformer> searchTransformed(
+    final OMDbAPIParamsBuilder params
+  ) {
+    return retrieve(searchCache, params, true)
+      .map(OMDbSearchTransformer::new);
+  }
+
+  /**
+   * <p>
+   *  Prefetch the page after the given one of a search in background,
+   *  into the cache, as it is usually requested right after.
+   * </p>
+   *
+   * <p>
+   *  It is a low priority request: it is only made if there is such
+   *  page, it is not cached, the Data OMDb API is healthy, the rate
+   *  limiter is idle, and the {@link OMDbAPIPrefetcher budget} of
+   *  prefetches allows it. Its failures are ignored.
+   * </p>
+   *
+   * @param params       The query params of the answered page.
+   * @param totalResults The totality of results of the search.
+   */
+  public void prefetchNextPage(
+    final OMDbAPIParamsBuilder params,
+    final int totalResults
+  ) {
+    final int nextPage = params.page() + 1;
+    final int pages = (
+      (totalResults + OMDbSearch.MAX_RESULTS_IN_SEARCH - 1)
+        / OMDbSearch.MAX_RESULTS_IN_SEARCH
+    );
+
+    if (nextPage > pages) {
+      return;
+    }
+
+    final OMDbAPIParamsBuilder nextParams =
+      params.copy().add(OMDbAPIParams.PAGE, String.valueOf(nextPage));
+    final String cacheKey = nextParams.toCacheKey();
+
+    if (
+      searchCache.contains(cacheKey)
+        || dataCircuitBreaker.state() != OMDbAPICircuitBreaker.State.CLOSED
+        || !rateLimiter.isIdle()
+        || !prefetcher.reserve(cacheKey)
+    ) {
+      return;
+    }
+
+    retrieve(searchCache, nextParams, false)
+      .doOnError((error) -> prefetcher.release(cacheKey))
+      .onErrorComplete()
+      .subscribe();
+  }
+
+  /**
+   * <p>
+   *  Request all pages of a search to the Data OMDb API, up to the given
+   *  maximum, aggregating them into a single result.
+   * </p>
+   *
+   * <p>
+   *  Results repeated across pages are kept only once.
+   * </p>
+   *
+   * @param params      The query params of the search, without page.
+   * @param maxPages    Maximum of pages requested.
+   * @param parallelism Maximum of pages requested concurrently.
+   * @param sort        Optional sorting of the aggregated results.
+   * @return            The aggregated result, or the first page
+   *                    if it {@link OMDbSearch#hasError() has an error}.
+   * @see               #searchPages
+   */
+  public Mono<OMDbSearch> searchAll(
+    final OMDbAPIParamsBuilder params,
+    final int maxPages,
+    final int parallelism,
+    final @Nullable SearchSortParamValues sort
+  ) {
+    return searchPages(params, maxPages, parallelism)
+      .collectList()
+      .map((searchPages) -> searchPages.get(0).hasError()
+        ? searchPages.get(0)
+        : aggregate(searchPages, sort)
+      );
+  }
+
+  /**
+   * <p>
+   *  Request all pages of a search to the Data OMDb API,
+   *  up to the given maximum, emitting them in order.
+   * </p>
+   *
+   * <p>
+   *  After the first page, the others are requested concurrently,
+   *  up to the given parallelism, and each is emitted as soon as
+   *  it and the ones before it arrive. Pages with errors are skipped.
+   * </p>
+   *
+   * @param params      The query params of the search, without page.
+   * @param maxPages    Maximum of pages requested.
+   * @param parallelism Maximum of pages requested concurrently.
+   * @return            The pages, starting by the first one, even
+   *                    if it {@link OMDbSearch#hasError() has an error}.
+   */
+  public Flux<OMDbSearch> searchPages(
+    final OMDbAPIParamsBuilder params,
+    final int maxPages,
+    final int parallelism
+  ) {
+    return search(params).flatMapMany((firstPage) -> {
+      final int pages = firstPage.hasError()
+        ? 1
+        : Math.min(firstPage.pagesNumber(), maxPages);
+
+      return Flux
+        .range(2, Math.max(pages - 1, 0))
+        .flatMapSequential(
+          (page) -> search(
+            params.copy().add(OMDbAPIParams.PAGE, String.valueOf(page))
+          ),
+          parallelism
+        )
+        .filter(OMDbSearch::hasResult)
+        .startWith(firstPage);
+    });
   }
 
   /**
-   * Create an instance of the {@link WebClient} interface
-   * with the OMDb API host and the given subhost.
+   * Merge the results of many pages of a search,
+   * without repeated ones, and sort them if needed.
    *
-   * @param subHost A valid subdomain of the API.
-   * @return        An instance of the client with the complete URL.
+   * @param searchPages All pages of the search, in order.
+   * @param sort        Optional sorting of the results.
+   * @return            A single result holding all pages.
    */
-  private WebClient makeOMDbAPIWebClient(final String subHost) {
-    return WebClient.create(
-      String.format("https://%s.%s", subHost, apiProperties.host())
+  private OMDbSearch aggregate(
+    final List<OMDbSearch> searchPages,
+    final @Nullable SearchSortParamValues sort
+  ) {
+    final LinkedHashMap<String, OMDbSearchItem> searchItems =
+      new LinkedHashMap<String, OMDbSearchItem>();
+
+    for (OMDbSearch searchPage : searchPages) {
+      for (OMDbSearchItem searchItem : searchPage.search()) {
+        searchItems.putIfAbsent(searchItem.imdbID(), searchItem);
+      }
+    }
+
+    final List<OMDbSearchItem> aggregated =
+      new ArrayList<OMDbSearchItem>(searchItems.values());
+
+    if (sort != null) {
+      aggregated.sort(
+        switch (sort) {
+          case SearchSortParamValues.YEAR -> Comparator.comparingInt(
+            (OMDbSearchItem searchItem) -> searchItem.year().start()
+          );
+          case SearchSortParamValues.TITLE -> Comparator.comparing(
+            OMDbSearchItem::title,
+            String.CASE_INSENSITIVE_ORDER
+          );
+        }
+      );
+    }
+
+    final OMDbSearch firstPage = searchPages.get(0);
+
+    return new OMDbSearch(
+      firstPage.response(),
+      firstPage.totalResults(),
+      aggregated,
+      null
     );
   }
+
+  /**
+   * Request the details of a title to the Data OMDb API,
+   * by its title or IMDb ID, answering from the cache when possible.
+   *
+   * @param params The query params of the title.
+   * @return       The result from OMDb API, even if it
+   *               {@link OMDbTitle#hasError() has an error}.
+   */
+  public Mono<OMDbTitle> title(final OMDbAPIParamsBuilder params) {
+    return retrieve(titleCache, params, true)
+      .map((response) -> decode(response, OMDbTitle.class))
+      .doOnNext((title) -> titleIndex.touch(title.imdbID()));
+  }
+
+  /**
+   * <p>
+   *  Suggest the titles already seen on searches by a prefix of its name,
+   *  of any word of its name, or of its IMDb ID, from the most popular.
+   * </p>
+   *
+   * <p>
+   *  Only if not enough titles are suggested, and the prefix is long
+   *  enough, it is searched on the Data OMDb API (answering from the
+   *  cache when possible), whose results are then suggested too.
+   *  If the search fails, the titles already seen are suggested.
+   * </p>
+   *
+   * @param prefix         The prefix typed so far.
+   * @param limit          Maximum of suggested titles.
+   * @param fallbackLength Shortest prefix searched on the Data OMDb API.
+   * @return               The titles, from the most popular.
+   *                       If none was found, it is empty.
+   */
+  public Mono<List<OMDbSearchItem>> autocomplete(
+    final String prefix,
+    final int limit,
+    final int fallbackLength
+  ) {
+    return Mono.defer(() -> {
+      final List<OMDbSearchItem> suggestions =
+        titleIndex.suggest(prefix, limit);
+
+      if (
+        suggestions.size() >= limit
+          || OMDbTitleIndex.normalize(prefix).length() < fallbackLength
+      ) {
+        return Mono.just(suggestions);
+      }
+
+      return search(makeOMDbAPIParamsForSearch(prefix.strip()))
+        .map((search) -> titleIndex.suggest(prefix, limit))
+        .onErrorReturn(suggestions);
+    });
+  }
+
+  /**
+   * <p>
+   *  Request a poster to the Poster OMDb API,
+   *  answering from the poster cache when possible.
+   * </p>
+   *
+   * <p>
+   *  The image is written to disk as it is received,
+   *  and concurrent identical requests share a single one.
+   *  A title without a poster is remembered for a while,
+   *  so it is not requested again.
+   * </p>
+   *
+   * @param params The query params of the poster.
+   * @return       The poster, as kept on disk. If the OMDb API has
+   *               no poster, or recently had none, it fails with a
+   *               {@link WebClientResponseException response exception}.
+   */
+  public Mono<OMDbPoster> poster(final OMDbAPIParamsBuilder params) {
+    final String cacheKey = params.toCacheKey();
+
+    return Mono
+      .fromCallable(() -> posterCache.get(cacheKey))
+      .subscribeOn(Schedulers.boundedElastic())
+      .switchIfEmpty(Mono.defer(() -> posterCache.isMissing(cacheKey)
+        ? Mono.error(WebClientResponseException.create(
+          HttpStatus.NOT_FOUND.value(),
+          HttpStatus.NOT_FOUND.getReasonPhrase(),
+          HttpHeaders.EMPTY,
+          null,
+          null
+        ))
+        : fetchPoster(cacheKey, params)
+      ));
+  }
+
+  /**
+   * Make the request of a poster not cached, keeping it in the poster
+   * cache, or remembering it has none.
+   *
+   * @param cacheKey The normalized query of the poster.
+   * @param params   The query params of the poster.
+   * @return         The poster, as kept on disk.
+   */
+  private Mono<OMDbPoster> fetchPoster(
+    final String cacheKey,
+    final OMDbAPIParamsBuilder params
+  ) {
+    return inFlightPosters.execute(
+      cacheKey,
+      () -> metrics.track(OMDbAPIMetrics.POSTER, upstream(
+        posterWebClient,
+        posterCircuitBreaker,
+        posterDeadline,
+        params,
+        (request) -> request.exchangeToMono((response) -> {
+          if (response.statusCode().isSameCodeAs(HttpStatus.NOT_FOUND)) {
+            posterCache.markMissing(cacheKey);
+          }
+
+          if (response.statusCode().isError()) {
+            return response.createError();
+          }
+
+          return posterCache.put(
+            cacheKey,
+            response.bodyToFlux(DataBuffer.class),
+            response
+              .headers()
+              .contentType()
+              .orElse(MediaType.APPLICATION_OCTET_STREAM)
+          );
+        })
+      ))
+    );
+  }
+
+  /**
+   * <p>
+   *  Read the raw response of a request from the given cache,
+   *  then from the persistent cache (if enabled), or make the
+   *  request and keep its response in both caches.
+   * </p>
+   *
+   * <p>
+   *  If only an expired (stale) response is cached, it is answered at
+   *  once, {@link Staleness#mark() marked} as stale, while the request
+   *  is made in background to refresh it. So, while the OMDb API is
+   *  unavailable, cached responses are still answered.
+   * </p>
+   *
+   * <p>
+   *  Concurrent identical requests share a single one to the OMDb API,
+   *  which is {@link OMDbAPIRateLimiter rate limited}. Once the daily
+   *  budget is spent, only cached responses are answered.
+   * </p>
+   *
+   * <p>
+   *  A request made by a client is tracked by the
+   *  {@link OMDbAPIPrefetcher prefetcher}, if it was prefetched.
+   * </p>
+   *
+   * @param cache     The cache of the kind of the request.
+   * @param params    The query params of the request.
+   * @param requested If the request was made by a client,
+   *                  instead of prefetched.
+   * @return          The raw response, as received from the Data OMDb API.
+   */
+  private Mono<byte[]> retrieve(
+    final OMDbAPIResponseCache cache,
+    final OMDbAPIParamsBuilder params,
+    final boolean requested
+  ) {
+    final String cacheKey = params.toCacheKey();
+
+    return Mono.defer(() -> {
+      if (requested && cache == searchCache) {
+        prefetcher.claim(cacheKey);
+      }
+
+      final byte[] cachedResponse = cache.get(cacheKey);
+
+      if (cachedResponse != null) {
+        return Mono.just(cachedResponse);
+      }
+
+      return readDisk(() -> diskCache.get(cacheKey))
+        .doOnNext((storedResponse) -> {
+          cache.put(cacheKey, storedResponse);
+          index(cache, storedResponse);
+        })
+        .switchIfEmpty(Mono.defer(() -> fetch(cache, cacheKey, params)));
+    });
+  }
+
+  /**
+   * Make the request of a response not cached, answering at once
+   * with its stale response, from either cache, if any.
+   *
+   * @param cache    The cache of the kind of the request.
+   * @param cacheKey The normalized query of the request.
+   * @param params   The query params of the request.
+   * @return         The raw response, as received from the Data OMDb API,
+   *                 or the stale one, {@link Staleness#mark() marked}.
+   */
+  private Mono<byte[]> fetch(
+    final OMDbAPIResponseCache cache,
+    final String cacheKey,
+    final OMDbAPIParamsBuilder params
+  ) {
+    final Mono<byte[]> request = inFlightRequests.execute(
+      cacheKey,
+      () -> metrics.track(OMDbAPIMetrics.DATA, upstream(
+        dataWebClient,
+        dataCircuitBreaker,
+        dataDeadline,
+        params,
+        (spec) -> spec.retrieve().bodyToMono(byte[].class)
+      )).doOnNext((response) -> store(cache, cacheKey, response))
+    );
+    final byte[] staleResponse = cache.getStale(cacheKey);
+    final Mono<byte[]> stale = staleResponse == null
+      ? readDisk(() -> diskCache.getStale(cacheKey))
+      : Mono.just(staleResponse);
+
+    return stale
+      .flatMap((response) -> {
+        request.onErrorComplete().subscribe();
+
+        return Staleness.mark().thenReturn(response);
+      })
+      .switchIfEmpty(request);
+  }
+
+  /**
+   * Read a response from the persistent cache (if enabled), off the
+   * thread of the caller, as it blocks on disk access.
+   *
+   * @param read The read of the persistent cache.
+   * @return     If it is disabled, the response is not cached, or the
+   *             disk fails, it is empty, as a miss.
+   */
+  private Mono<byte[]> readDisk(final Callable<byte[]> read) {
+    if (diskCache == null) {
+      return Mono.empty();
+    }
+
+    return Mono
+      .fromCallable(read)
+      .subscribeOn(Schedulers.boundedElastic())
+      .onErrorResume(UncheckedIOException.class, (error) -> Mono.empty());
+  }
+
+  /**
+   * <p>
+   *  Make a request to the OMDb API through its
+   *  {@link OMDbAPICircuitBreaker circuit breaker}, once allowed by the
+   *  {@link OMDbAPIRateLimiter rate limiter}, spending the budget
+   *  of its key on the {@link OMDbAPIKeyPool pool}.
+   * </p>
+   *
+   * <p>
+   *  The request fails if not answered before its
+   *  {@link OMDbAPIDeadline deadline}, which counts as a failure of the
+   *  circuit. If it is hedged, the hedged request is also allowed by the
+   *  rate limiter and spends a budget, so only the first answer is kept.
+   * </p>
+   *
+   * <p>
+   *  If the OMDb API rejects the key, it is taken out of rotation
+   *  and the request is made again with another key, if any.
+   * </p>
+   *
+   * @param <T>            The type of the response.
+   * @param webClient      The Web Client of the subdomain of the request.
+   * @param circuitBreaker The circuit breaker of the subdomain.
+   * @param deadline       The deadline of the subdomain.
+   * @param params         The query params of the request.
+   * @param exchange       The exchange of the request for its response.
+   * @return               The response, or a
+   *                       {@link OMDbAPIQuotaExceededException rejection}
+   *                       if the request is not allowed, or a
+   *                       {@link OMDbAPIUnavailableException rejection}
+   *                       if the circuit is open, or a
+   *                       {@link OMDbAPIDeadlineExceededException failure}
+   *                       if it is not answered in time.
+   */
+  private <T> Mono<T> upstream(
+    final WebClient webClient,
+    final OMDbAPICircuitBreaker circuitBreaker,
+    final OMDbAPIDeadline deadline,
+    final OMDbAPIParamsBuilder params,
+    final Function<WebClient.RequestHeadersSpec<?>, Mono<T>> exchange
+  ) {
+    return circuitBreaker.protect(deadline.apply(() -> rateLimiter
+      .acquire()
+      .then(Mono.fromCallable(() -> keyPool.spend(params.apiKey())))
+      .flatMap((apiKey) -> exchange
+        .apply(webClient.get().uri((uri) -> uri
+          .queryParams(params.toMultiValueMap(apiKey))
+          .build()
+        ))
+        .doOnError((error) -> keyPool.report(apiKey, error))
+      )
+      .retryWhen(
+        Retry
+          .max(keyPool.size() - 1)
+          .filter(OMDbAPIKeyPool::isKeyError)
+          .onRetryExhaustedThrow((retry, signal) -> signal.failure())
+      )));
+  }
+
+  /**
+   * <p>
+   *  Keep a response in the given cache, and in the persistent
+   *  cache (if enabled) without blocking the caller. The results
+   *  of a search are also kept on the title index, and the response
+   *  is recorded on the metrics, both read straight from it, so it is
+   *  only bound once, by its caller.
+   * </p>
+   *
+   * <p>
+   *  A failed response (such as a title not found) is only kept for the
+   *  negative TTL of the cache, and a failure due to the key or its
+   *  quota (such as <code>Request limit reached!</code>) is never kept,
+   *  so it does not hide the answer of the same request with another key.
+   * </p>
+   *
+   * @param cache    The cache of the kind of the request.
+   * @param cacheKey The normalized query of the request.
+   * @param response The raw response, as received from the OMDb API.
+   */
+  private void store(
+    final OMDbAPIResponseCache cache,
+    final String cacheKey,
+    final byte[] response
+  ) {
+    final OMDbAPIResponseStatus status = OMDbAPIResponseStatus.read(response);
+
+    if (!status.hasKeyError()) {
+      final Duration ttl = status.hasError()
+        ? cache.negativeTtl()
+        : cache.ttl();
+
+      cache.put(cacheKey, response, ttl);
+
+      if (diskCache != null) {
+        Schedulers
+          .boundedElastic()
+          .schedule(() -> diskCache.put(cacheKey, response, ttl));
+      }
+    }
+
+    if (cache != searchCache) {
+      metrics.record(OMDbAPIMetrics.TITLE, status);
+
+      return;
+    }
+
+    metrics.record(OMDbAPIMetrics.SEARCH, status);
+
+    if (status.hasResult()) {
+      index(cache, response);
+    }
+  }
+
+  /**
+   * Keep the results of a search response on the title index,
+   * as it is kept on the in-memory cache. Only its results are
+   * read, straight from the raw response, without binding it.
+   *
+   * @param cache    The cache of the kind of the request.
+   * @param response The raw response, as received from the OMDb API.
+   */
+  private void index(final OMDbAPIResponseCache cache, final byte[] response) {
+    if (cache == searchCache) {
+      titleIndex.add(OMDbSearchTransformer.items(response));
+    }
+  }
+
+  /**
+   * Convert a raw response into the given type.
+   *
+   * @param <T>               The type of the response.
+   * @param response          The raw response, as received from the OMDb API.
+   * @param type              The class of the type of the response.
+   * @return                  The response, bound to the type.
+   * @throws DecodingException If the response is not a valid JSON.
+   */
+  private <T> T decode(final byte[] response, final Class<T> type) {
+    try {
+      return objectMapper.readValue(response, type);
+    } catch (IOException e) {
+      throw new DecodingException("Unable to decode OMDb API response!", e);
+    }
+  }
   //#endregion
 }
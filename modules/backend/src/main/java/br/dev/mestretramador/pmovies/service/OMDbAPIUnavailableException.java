@@ -0,0 +1,59 @@
+package br.dev.mestretramador.pmovies.service;
+
+import java.time.Duration;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Thrown when a request to the OMDb API is not made, because
+ * its {@link OMDbAPICircuitBreaker circuit} is open.
+ * It is answered with HTTP <b>503</b> status code.
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+public final class OMDbAPIUnavailableException
+  extends ResponseStatusException {
+  //#region Constants
+  /**
+   * Version of the serialized form.
+   */
+  private static final long serialVersionUID = 1L;
+  //#endregion
+
+  //#region Properties
+  /**
+   * Time until a new request may be allowed.
+   */
+  private final Duration retryAfter;
+  //#endregion
+
+  //#region Constructors
+  /**
+   * Create the exception with the reason of the rejection.
+   *
+   * @param reason        The reason, sent on the response.
+   * @param retryDuration Time until a new request may be allowed.
+   */
+  public OMDbAPIUnavailableException(
+    final String reason,
+    final Duration retryDuration
+  ) {
+    super(HttpStatus.SERVICE_UNAVAILABLE, reason);
+
+    retryAfter = retryDuration;
+  }
+  //#endregion
+
+  //#region Accessors
+  /**
+   * Read the time until a new request may be allowed.
+   *
+   * @return It is sent as the <code>Retry-After</code> header.
+   */
+  public Duration retryAfter() {
+    return retryAfter;
+  }
+  //#endregion
+}
@@ -0,0 +1,630 @@
+package br.dev.mestretramador.pmovies.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import br.dev.mestretramador.pmovies.model.OMDbSearch;
+import br.dev.mestretramador.pmovies.model.OMDbSearchItem;
+
+/**
+ * <p>
+ *  Index of the titles seen on search responses, suggesting them
+ *  by a prefix of its name, of any word of its name, or of its
+ *  IMDb ID, without any request to the OMDb API.
+ * </p>
+ *
+ * <p>
+ *  Titles are kept on a trie, whose nodes hold the most popular titles
+ *  below them, so a suggestion only walks the prefix. A title is more
+ *  popular the more it is seen on searches and requested by its IMDb ID.
+ *  Only the first characters of each name are kept as nodes; titles
+ *  below the last ones are kept as a set, filtered by longer prefixes.
+ * </p>
+ *
+ * <p>
+ *  Requests of a title only count on it, without locking the trie;
+ *  it is ranked again lazily, on the next search kept or suggestion.
+ *  Once the index is full, a tenth of its titles, the least popular
+ *  and least recently seen, are evicted at once, and the trie is
+ *  rebuilt from the others, so each new title pays a small share of it.
+ * </p>
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+public final class OMDbTitleIndex implements MeterBinder {
+  //#region Constants
+  /**
+   * Maximum of suggested titles, kept on each node.
+   */
+  public static final int MAX_SUGGESTIONS = 10;
+
+  /**
+   * Characters of a name kept as nodes.
+   */
+  private static final int MAX_DEPTH = 12;
+
+  /**
+   * Words of a name from which it is also suggested.
+   */
+  private static final int MAX_WORDS = 6;
+
+  /**
+   * Any sequence of characters which are not letters nor digits.
+   */
+  private static final Pattern SEPARATOR =
+    Pattern.compile("[^\\p{L}\\p{N}]+");
+
+  /**
+   * Any sequence of diacritical marks, once decomposed.
+   */
+  private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+  /**
+   * Order of the titles, from the most popular.
+   */
+  private static final Comparator<Entry> BY_POPULARITY =
+    Comparator.comparingLong((Entry entry) -> entry.ranked).reversed();
+
+  /**
+   * Order of the titles to be evicted, from the least popular
+   * and, among the equally popular, the least recently seen.
+   */
+  private static final Comparator<Entry> BY_EVICTION = Comparator
+    .comparingLong((Entry entry) -> entry.ranked)
+    .thenComparingLong((Entry entry) -> entry.seen);
+
+  /**
+   * Share of the titles evicted at once, once the index is full.
+   */
+  private static final double EVICTED_SHARE = 0.1;
+  //#endregion
+
+  //#region Properties
+  /**
+   * Maximum of titles kept.
+   */
+  private final int maxTitles;
+
+  /**
+   * The titles kept, by its IMDb ID.
+   */
+  private final Map<String, Entry> entries =
+    new ConcurrentHashMap<String, Entry>();
+
+  /**
+   * The root of the trie, matching any prefix.
+   */
+  private Node root = new Node();
+
+  /**
+   * Lock of the trie, so suggestions are read concurrently.
+   */
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  /**
+   * The titles requested since they were last ranked.
+   */
+  private final Queue<Entry> pending = new ConcurrentLinkedQueue<Entry>();
+
+  /**
+   * Number of the titles evicted, due to the index being full.
+   */
+  private final LongAdder evicted = new LongAdder();
+
+  /**
+   * Sequence of the titles seen, telling the least recently seen.
+   */
+  private long sequence;
+  //#endregion
+
+  //#region Constructors
+  /**
+   * Create the index with the given size.
+   *
+   * @param indexMaxTitles Maximum of titles kept.
+   */
+  public OMDbTitleIndex(final int indexMaxTitles) {
+    maxTitles = indexMaxTitles;
+  }
+  //#endregion
+
+  //#region Methods
+  /**
+   * Keep the results of a search, or make them more popular.
+   *
+   * @param search The result from OMDb API. If it
+   *               {@link OMDbSearch#hasError() has an error},
+   *               nothing is kept.
+   */
+  public void add(final OMDbSearch search) {
+    if (search.hasResult()) {
+      add(search.search());
+    }
+  }
+
+  /**
+   * Keep the results of a search, or make them more popular.
+   *
+   * @param items The results of a search, even if read straight from
+   *              its raw response. Results without a title or
+   *              IMDb ID are not kept.
+   */
+  public void add(final List<OMDbSearchItem> items) {
+    if (items.isEmpty()) {
+      return;
+    }
+
+    lock.writeLock().lock();
+
+    try {
+      rerank();
+
+      for (OMDbSearchItem item : items) {
+        if (item.imdbID() == null || item.title() == null) {
+          continue;
+        }
+
+        final Entry entry = entries.get(item.imdbID());
+
+        if (entry != null) {
+          entry.item = item;
+          entry.popularity.incrementAndGet();
+
+          promote(entry);
+
+          continue;
+        }
+
+        if (entries.size() >= maxTitles) {
+          evict();
+        }
+
+        final Entry newEntry = new Entry(item, keys(item));
+
+        entries.put(item.imdbID(), newEntry);
+        newEntry.popularity.incrementAndGet();
+        promote(newEntry);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Make a kept title more popular, as it was requested.
+   * The trie is not locked, as it is only ranked again later.
+   *
+   * @param imdbID The ID from IMDb of the title.
+   *               If it is not kept, nothing is done.
+   */
+  public void touch(final @Nullable String imdbID) {
+    if (imdbID == null) {
+      return;
+    }
+
+    final Entry entry = entries.get(imdbID);
+
+    if (entry == null) {
+      return;
+    }
+
+    entry.popularity.incrementAndGet();
+
+    if (entry.pending.compareAndSet(false, true)) {
+      pending.add(entry);
+    }
+  }
+
+  /**
+   * Suggest the most popular titles starting by the given prefix.
+   *
+   * @param prefix The prefix of the name, of any word of the name,
+   *               or of the IMDb ID of the titles.
+   * @param limit  Maximum of suggested titles, up to
+   *               {@link #MAX_SUGGESTIONS}.
+   * @return       The titles, from the most popular.
+   *               If none is kept, it is empty.
+   */
+  public List<OMDbSearchItem> suggest(final String prefix, final int limit) {
+    final String key = normalize(prefix);
+
+    if (key.isEmpty()) {
+      return List.of();
+    }
+
+    if (!pending.isEmpty() && lock.writeLock().tryLock()) {
+      try {
+        rerank();
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+
+    lock.readLock().lock();
+
+    try {
+      Node node = root;
+
+      for (int i = 0; i < Math.min(key.length(), MAX_DEPTH); i++) {
+        node = node.child(key.charAt(i));
+
+        if (node == null) {
+          return List.of();
+        }
+      }
+
+      final int size = Math.min(limit, MAX_SUGGESTIONS);
+
+      if (key.length() <= MAX_DEPTH) {
+        return Arrays
+          .stream(node.top, 0, Math.min(size, node.top.length))
+          .map((entry) -> entry.item)
+          .toList();
+      }
+
+      return node.tail
+        .stream()
+        .filter((entry) -> entry.matches(key))
+        .sorted(BY_POPULARITY)
+        .limit(size)
+        .map((entry) -> entry.item)
+        .toList();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Read the number of the titles kept.
+   *
+   * @return It is never above the maximum.
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Normalize a name or prefix, so it is matched
+   * regardless of case, accents and punctuation.
+   *
+   * @param text Any name or prefix.
+   * @return     Its letters and digits, in lower case, with a
+   *             single space between each word.
+   */
+  public static String normalize(final String text) {
+    final String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+
+    return SEPARATOR
+      .matcher(DIACRITICS.matcher(decomposed).replaceAll(""))
+      .replaceAll(" ")
+      .strip()
+      .toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Rank the titles requested since they were last ranked.
+   * It must be called with the write lock held.
+   */
+  private void rerank() {
+    Entry entry;
+
+    while ((entry = pending.poll()) != null) {
+      entry.pending.set(false);
+
+      if (entries.get(entry.item.imdbID()) == entry) {
+        promote(entry);
+      }
+    }
+  }
+
+  /**
+   * Evict the least popular titles, and rebuild the trie from the others.
+   * It must be called with the write lock held.
+   */
+  private void evict() {
+    final List<Entry> least = entries
+      .values()
+      .stream()
+      .sorted(BY_EVICTION)
+      .limit(Math.max(1, (long) (maxTitles * EVICTED_SHARE)))
+      .toList();
+
+    for (Entry entry : least) {
+      entries.remove(entry.item.imdbID());
+    }
+
+    evicted.add(least.size());
+    root = new Node();
+
+    for (Entry entry : entries.values()) {
+      place(entry);
+    }
+  }
+
+  /**
+   * Rank a title with its current popularity, as it was just seen.
+   * It must be called with the write lock held.
+   *
+   * @param entry The kept title, already more popular.
+   */
+  private void promote(final Entry entry) {
+    entry.ranked = entry.popularity.get();
+    entry.seen = ++sequence;
+
+    place(entry);
+  }
+
+  /**
+   * Keep a title on each node of its keys where it is now
+   * among the most popular ones.
+   *
+   * @param entry The kept title.
+   */
+  private void place(final Entry entry) {
+    for (String key : entry.keys) {
+      Node node = root;
+
+      for (int i = 0; i < Math.min(key.length(), MAX_DEPTH); i++) {
+        node = node.childOrCreate(key.charAt(i));
+        node.rank(entry);
+      }
+
+      if (key.length() > MAX_DEPTH) {
+        node.tail.add(entry);
+      }
+    }
+  }
+
+  /**
+   * List the keys from which a title is suggested.
+   *
+   * @param item A result of a search.
+   * @return     Its name, its name from each word, and its IMDb ID,
+   *             normalized and without repetitions.
+   */
+  private static String[] keys(final OMDbSearchItem item) {
+    final List<String> keys = new ArrayList<String>();
+    final String name = normalize(item.title());
+    int start = 0;
+
+    for (int word = 0; word < MAX_WORDS && start >= 0; word++) {
+      final String key = name.substring(start);
+
+      if (!key.isEmpty() && !keys.contains(key)) {
+        keys.add(key);
+      }
+
+      final int separator = name.indexOf(' ', start);
+
+      start = separator < 0 ? -1 : separator + 1;
+    }
+
+    final String imdbID = normalize(item.imdbID());
+
+    if (!imdbID.isEmpty() && !keys.contains(imdbID)) {
+      keys.add(imdbID);
+    }
+
+    return keys.toArray(new String[0]);
+  }
+  //#endregion
+
+  //#region Override Methods
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void bindTo(final @NonNull MeterRegistry registry) {
+    Gauge
+      .builder("omdb.index.titles", this, OMDbTitleIndex::size)
+      .description("The number of titles kept for autocomplete.")
+      .register(registry);
+    FunctionCounter
+      .builder("omdb.index.evicted", evicted, LongAdder::doubleValue)
+      .description("The number of titles evicted, as the index was full.")
+      .register(registry);
+  }
+  //#endregion
+
+  //#region Classes
+  /**
+   * A title kept on the index.
+   */
+  private static final class Entry {
+    /**
+     * The last result of a search of the title.
+     */
+    private OMDbSearchItem item;
+
+    /**
+     * The normalized keys from which the title is suggested.
+     */
+    private final String[] keys;
+
+    /**
+     * How many times the title was seen or requested.
+     */
+    private final AtomicLong popularity = new AtomicLong();
+
+    /**
+     * The popularity by which the title is ranked on the trie.
+     */
+    private long ranked;
+
+    /**
+     * When the title was last seen or ranked, on the sequence of the index.
+     */
+    private long seen;
+
+    /**
+     * If the title waits to be ranked again, as it was requested.
+     */
+    private final AtomicBoolean pending = new AtomicBoolean();
+
+    /**
+     * Create the entry of a title not yet seen.
+     *
+     * @param entryItem The result of a search of the title.
+     * @param entryKeys The keys from which the title is suggested.
+     */
+    private Entry(final OMDbSearchItem entryItem, final String[] entryKeys) {
+      item = entryItem;
+      keys = entryKeys;
+    }
+
+    /**
+     * Check if the title is suggested by the given prefix.
+     *
+     * @param prefix A normalized prefix.
+     * @return       <code>true</code> if any key starts by it.
+     */
+    private boolean matches(final String prefix) {
+      for (String key : keys) {
+        if (key.startsWith(prefix)) {
+          return true;
+        }
+      }
+
+      return false;
+    }
+  }
+
+  /**
+   * A node of the trie, matching a single prefix.
+   */
+  private static final class Node {
+    /**
+     * The characters of the children, sorted.
+     */
+    private char[] labels = new char[0];
+
+    /**
+     * The children, in the same order of its characters.
+     */
+    private Node[] children = new Node[0];
+
+    /**
+     * The most popular titles below the node, from the most popular.
+     */
+    private Entry[] top = new Entry[0];
+
+    /**
+     * The titles whose keys are longer than the trie, on its last nodes.
+     */
+    private final Set<Entry> tail = new HashSet<Entry>(0);
+
+    /**
+     * Read the child of the given character.
+     *
+     * @param label The next character of the prefix.
+     * @return      If there is no child, it is <code>null</code>.
+     */
+    @Nullable
+    private Node child(final char label) {
+      final int position = Arrays.binarySearch(labels, label);
+
+      return position < 0 ? null : children[position];
+    }
+
+    /**
+     * Read the child of the given character, creating it if needed.
+     *
+     * @param label The next character of the key.
+     * @return      The child, kept in order.
+     */
+    private Node childOrCreate(final char label) {
+      final int position = Arrays.binarySearch(labels, label);
+
+      if (position >= 0) {
+        return children[position];
+      }
+
+      final int insertion = -position - 1;
+      final char[] newLabels = new char[labels.length + 1];
+      final Node[] newChildren = new Node[children.length + 1];
+      final Node child = new Node();
+
+      System.arraycopy(labels, 0, newLabels, 0, insertion);
+      System.arraycopy(children, 0, newChildren, 0, insertion);
+      newLabels[insertion] = label;
+      newChildren[insertion] = child;
+      System.arraycopy(
+        labels,
+        insertion,
+        newLabels,
+        insertion + 1,
+        labels.length - insertion
+      );
+      System.arraycopy(
+        children,
+        insertion,
+        newChildren,
+        insertion + 1,
+        children.length - insertion
+      );
+
+      labels = newLabels;
+      children = newChildren;
+
+      return child;
+    }
+
+    /**
+     * Keep the given title among the most popular ones of the node,
+     * if it is now one of them. As the popularity only grows,
+     * it is only moved towards the most popular.
+     *
+     * @param entry The title, already more popular.
+     */
+    private void rank(final Entry entry) {
+      int position = Arrays.asList(top).indexOf(entry);
+
+      if (position < 0) {
+        if (top.length < MAX_SUGGESTIONS) {
+          top = Arrays.copyOf(top, top.length + 1);
+          position = top.length - 1;
+        } else if (entry.ranked > top[top.length - 1].ranked) {
+          position = top.length - 1;
+        } else {
+          return;
+        }
+
+        top[position] = entry;
+      }
+
+      while (
+        position > 0 && top[position - 1].ranked < entry.ranked
+      ) {
+        top[position] = top[position - 1];
+        top[position - 1] = entry;
+        position--;
+      }
+    }
+  }
+  //#endregion
+}
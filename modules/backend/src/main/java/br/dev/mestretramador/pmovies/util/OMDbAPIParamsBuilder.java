@@ -1,11 +1,15 @@
 package br.dev.mestretramador.pmovies.util;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.time.Year;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
 import java.util.Map;
-import java.util.function.Predicate;
 
 import org.springframework.lang.Nullable;
-import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 
 import br.dev.mestretramador.pmovies.util.enumerable.OMDbAPIParams;
@@ -15,23 +19,65 @@ import br.dev.mestretramador.pmovies.util.enumerable.OMDbAPITypeParamValues;
 
 /**
  * A builder of OMDb API's query params for the requests,
- * easily convertible into a {@link LinkedMultiValueMap map}.
+ * easily convertible into a {@link MultiValueMap map}.
  *
  * @since 0.0.1
  * @author Mestre-Tramador
  */
 public final class OMDbAPIParamsBuilder {
-  //#region Properties
+  //#region Constants
   /**
    * Current version of OMDb API.
    */
   private static final String API_VERSION = "1";
 
   /**
-   * Query params {@link LinkedMultiValueMap map} to use on the request.
+   * Params set on every query, unless another value is added.
+   * They are the last ones of the cache keys, by its order.
+   */
+  private static final Map<OMDbAPIParams, String> CONSTANT_PARAMS =
+    new EnumMap<OMDbAPIParams, String>(Map.of(
+      OMDbAPIParams.RETURN, OMDbAPIReturnParamValues.JSON.toString(),
+      OMDbAPIParams.VERSION, API_VERSION
+    ));
+
+  /**
+   * The constant params, already encoded as the end of the cache keys.
+   */
+  private static final String CONSTANT_CACHE_KEY_SUFFIX =
+    encode(CONSTANT_PARAMS);
+
+  /**
+   * Most digits of a numeric param value.
+   */
+  private static final int MAX_DIGITS = 9;
+
+  /**
+   * Base of the numeric param values.
+   */
+  private static final int RADIX = 10;
+  //#endregion
+
+  //#region Static Properties
+  /**
+   * The current year, updated once it ends.
+   */
+  private static volatile int currentYear;
+
+  /**
+   * When (in epoch milliseconds) the {@link #currentYear} ends.
+   * It is always written after it, so it is never read outdated.
    */
-  private final LinkedMultiValueMap<OMDbAPIParams, String> query =
-    new LinkedMultiValueMap<OMDbAPIParams, String>();
+  private static volatile long currentYearEndsAt;
+  //#endregion
+
+  //#region Properties
+  /**
+   * Query params to use on the request, other than the
+   * {@link #CONSTANT_PARAMS constant} ones, by its order.
+   */
+  private final EnumMap<OMDbAPIParams, String> query =
+    new EnumMap<OMDbAPIParams, String>(OMDbAPIParams.class);
   //#endregion
 
   //#region Static Constructors
@@ -184,18 +230,34 @@ public final class OMDbAPIParamsBuilder {
     final String requiredParamValue,
     final @Nullable String requiredAPIKey
   ) {
-    query.add(requiredParamName, requiredParamValue);
-
-    query.add(OMDbAPIParams.RETURN, OMDbAPIReturnParamValues.JSON.toString());
-    query.add(OMDbAPIParams.VERSION, API_VERSION);
+    query.put(requiredParamName, requiredParamValue);
 
     if (requiredAPIKey != null) {
-      query.add(OMDbAPIParams.API_KEY, requiredAPIKey);
+      query.put(OMDbAPIParams.API_KEY, requiredAPIKey);
     }
   }
+
+  /**
+   * Copy all params of another query.
+   *
+   * @param source The query to be copied.
+   */
+  private OMDbAPIParamsBuilder(final OMDbAPIParamsBuilder source) {
+    query.putAll(source.query);
+  }
   //#endregion
 
   //#region Methods
+  /**
+   * Copy this query, so params can be added to the copy
+   * without changing the original one.
+   *
+   * @return A new builder with the same params.
+   */
+  public OMDbAPIParamsBuilder copy() {
+    return new OMDbAPIParamsBuilder(this);
+  }
+
   /**
    * Add a param into the query. If it is already added,
    * then reset its value.
@@ -217,30 +279,13 @@ public final class OMDbAPIParamsBuilder {
       );
     }
 
-    Predicate<String> paramValueValidator = switch (paramName) {
-      case OMDbAPIParams.TYPE   -> this::isValidTypeParamValue;
-      case OMDbAPIParams.PLOT   -> this::isValidPlotParamValue;
-      case OMDbAPIParams.RETURN -> this::isValidReturnParamValue;
-      case OMDbAPIParams.YEAR   -> this::isValidYearParamValue;
-      case OMDbAPIParams.PAGE   -> this::isValidPageParamValue;
-      default -> null;
-    };
+    final String invalidParam = validate(paramName, paramValue);
 
-    if (paramValueValidator != null && !paramValueValidator.test(paramValue)) {
-      throw new IllegalArgumentException(
-        String.format(
-          "Given param \"%s\" value \"%s\" is not a legal type!",
-          paramName,
-          paramValue
-        )
-      );
+    if (invalidParam != null) {
+      throw new IllegalArgumentException(invalidParam);
     }
 
-    if (query.containsKey(paramName)) {
-      query.set(paramName, paramValue);
-    } else {
-      query.add(paramName, paramValue);
-    }
+    query.put(paramName, paramValue);
 
     return this;
   }
@@ -263,7 +308,89 @@ public final class OMDbAPIParamsBuilder {
   }
   //#endregion
 
+  //#region Accessors
+  /**
+   * Read the API Key of the query.
+   *
+   * @return If it is not set, <code>null</code> is returned.
+   */
+  @Nullable
+  public String apiKey() {
+    return query.get(OMDbAPIParams.API_KEY);
+  }
+
+  /**
+   * Read the page of the query.
+   *
+   * @return If it is not set, it is the first one.
+   */
+  public int page() {
+    final String page = query.get(OMDbAPIParams.PAGE);
+
+    return page == null ? 1 : parsePositive(page);
+  }
+  //#endregion
+
   //#region Validating Methods
+  /**
+   * <p>
+   *  Validate the value of a param, without adding it. Invalid values
+   *  are answered without an exception, so bad requests are cheap.
+   * </p>
+   *
+   * <p>
+   *  Only the <i>enumerable</i>, year and page params are validated.
+   * </p>
+   *
+   * @param paramName  The name of the param.
+   * @param paramValue The value of the param.
+   * @return           The error message, or <code>null</code> if it is valid.
+   */
+  @Nullable
+  public static String validate(
+    final OMDbAPIParams paramName,
+    final String paramValue
+  ) {
+    final boolean isValid = switch (paramName) {
+      case OMDbAPIParams.TYPE   -> isValidTypeParamValue(paramValue);
+      case OMDbAPIParams.PLOT   -> isValidPlotParamValue(paramValue);
+      case OMDbAPIParams.RETURN -> isValidReturnParamValue(paramValue);
+      case OMDbAPIParams.YEAR   -> isValidYearParamValue(paramValue);
+      case OMDbAPIParams.PAGE   -> isValidPageParamValue(paramValue);
+      default -> true;
+    };
+
+    if (isValid) {
+      return null;
+    }
+
+    return String.format(
+      "Given param \"%s\" value \"%s\" is not a legal type!",
+      paramName,
+      paramValue
+    );
+  }
+
+  /**
+   * Validate the values of all given params, without adding them.
+   *
+   * @param params A map of the params indexed by its names.
+   * @return       The error message of the first invalid one,
+   *               or <code>null</code> if all are valid.
+   */
+  @Nullable
+  public static String validate(final Map<OMDbAPIParams, String> params) {
+    for (Map.Entry<OMDbAPIParams, String> param : params.entrySet()) {
+      final String invalidParam = validate(param.getKey(), param.getValue());
+
+      if (invalidParam != null) {
+        return invalidParam;
+      }
+    }
+
+    return null;
+  }
+
   /**
    * Verify if the given param is one of the <b>required</b> params.
    *
@@ -271,7 +398,7 @@ public final class OMDbAPIParamsBuilder {
    * @return      <code>true</code> if it is one of
    *              the parameters used for instantiation.
    */
-  private boolean isRequiredParam(final OMDbAPIParams param) {
+  private static boolean isRequiredParam(final OMDbAPIParams param) {
     return (
       param == OMDbAPIParams.SEARCH
         || param == OMDbAPIParams.TITLE
@@ -294,7 +421,7 @@ public final class OMDbAPIParamsBuilder {
    * @param value Any <code>String</code> to be parsed.
    * @return      <code>true</code> if it is one of the listed values.
    */
-  private boolean isValidTypeParamValue(final String value) {
+  private static boolean isValidTypeParamValue(final String value) {
     final OMDbAPITypeParamValues valueType =
       OMDbAPITypeParamValues.parseString(value);
 
@@ -319,7 +446,7 @@ public final class OMDbAPIParamsBuilder {
    * @param value Any <code>String</code> to be parsed.
    * @return      <code>true</code> if it is one of the listed values.
    */
-  private boolean isValidPlotParamValue(final String value) {
+  private static boolean isValidPlotParamValue(final String value) {
     final OMDbAPIPlotParamValues valuePlot =
       OMDbAPIPlotParamValues.parseString(value);
 
@@ -344,7 +471,7 @@ public final class OMDbAPIParamsBuilder {
    * @param value Any <code>String</code> to be parsed.
    * @return      <code>true</code> if it is one of the listed values.
    */
-  private boolean isValidReturnParamValue(final String value) {
+  private static boolean isValidReturnParamValue(final String value) {
     final OMDbAPIReturnParamValues valueReturn =
       OMDbAPIReturnParamValues.parseString(value);
 
@@ -360,14 +487,10 @@ public final class OMDbAPIParamsBuilder {
    * @param value Any <code>String</code> to be parsed.
    * @return      <code>true</code> if it is logically valid for a year.
    */
-  private boolean isValidYearParamValue(final String value) {
-    try {
-      final int valueYear = Integer.parseInt(value);
+  private static boolean isValidYearParamValue(final String value) {
+    final int valueYear = parsePositive(value);
 
-      return valueYear >= 1 && valueYear <= Year.now().getValue();
-    } catch (NumberFormatException e) {
-      return false;
-    }
+    return valueYear >= 1 && valueYear <= currentYear();
   }
 
   /**
@@ -376,12 +499,58 @@ public final class OMDbAPIParamsBuilder {
    * @param value Any <code>String</code> to be parsed.
    * @return      <code>true</code> if it is a positive integer above zero.
    */
-  private boolean isValidPageParamValue(final String value) {
-    try {
-      return Integer.parseInt(value) >= 1;
-    } catch (NumberFormatException e) {
-      return false;
+  private static boolean isValidPageParamValue(final String value) {
+    return parsePositive(value) >= 1;
+  }
+
+  /**
+   * Parse the given value as a number, without an exception.
+   *
+   * @param value Any <code>String</code> to be parsed.
+   * @return      The number, or <code>-1</code> if it is not made
+   *              only of digits, or it has too many of them.
+   */
+  private static int parsePositive(final String value) {
+    if (value == null || value.isEmpty() || value.length() > MAX_DIGITS) {
+      return -1;
     }
+
+    int number = 0;
+
+    for (int index = 0; index < value.length(); index++) {
+      final char digit = value.charAt(index);
+
+      if (digit < '0' || digit > '9') {
+        return -1;
+      }
+
+      number = number * RADIX + (digit - '0');
+    }
+
+    return number;
+  }
+
+  /**
+   * Read the current year, only reading the clock of the zone
+   * again once it ends, instead of on every validation.
+   *
+   * @return The current year, on the default time zone.
+   */
+  private static int currentYear() {
+    if (System.currentTimeMillis() >= currentYearEndsAt) {
+      final ZoneId zone = ZoneId.systemDefault();
+      final Year year = Year.now(zone);
+
+      currentYear = year.getValue();
+      currentYearEndsAt = year
+        .plusYears(1)
+        .atDay(1)
+        .atStartOfDay(zone)
+        .toInstant()
+        .toEpochMilli();
+    }
+
+    return currentYear;
   }
   //#endregion
 
@@ -389,19 +558,103 @@ public final class OMDbAPIParamsBuilder {
   /**
    * Convert the built query into a MultiValueMap for use on requests.
    *
-   * @return Specifically the simplest
-   *         {@link LinkedMultiValueMap implementation} of a MultiValueMap.
+   * @return A single-value view of the params, with its own API Key.
    * @see MultiValueMap
    */
   public MultiValueMap<String, String> toMultiValueMap() {
-    final LinkedMultiValueMap<String, String> stringMultiValueMap =
-      new LinkedMultiValueMap<String, String>();
+    return toMultiValueMap(apiKey());
+  }
 
-    for (OMDbAPIParams param : this.query.keySet()) {
-      stringMultiValueMap.add(param.toString(), this.query.getFirst(param));
+  /**
+   * Convert the built query into a MultiValueMap for use on requests,
+   * with the given API Key, so it needs no copy to be replaced.
+   *
+   * @param accessAPIKey The authorization API Key, if any.
+   * @return             A single-value view of the params, by its order.
+   * @see MultiValueMap
+   */
+  public MultiValueMap<String, String> toMultiValueMap(
+    final @Nullable String accessAPIKey
+  ) {
+    final Map<String, String> params = new LinkedHashMap<String, String>(
+      OMDbAPIParams.values().length * 2
+    );
+
+    for (Map.Entry<OMDbAPIParams, String> param : query.entrySet()) {
+      if (param.getKey() != OMDbAPIParams.API_KEY) {
+        params.put(param.getKey().toString(), param.getValue());
+      }
+    }
+
+    for (Map.Entry<OMDbAPIParams, String> param : CONSTANT_PARAMS.entrySet()) {
+      params.putIfAbsent(param.getKey().toString(), param.getValue());
+    }
+
+    if (accessAPIKey != null) {
+      params.put(OMDbAPIParams.API_KEY.toString(), accessAPIKey);
+    }
+
+    return MultiValueMap.fromSingleValue(params);
+  }
+
+  /**
+   * <p>
+   *  Convert the built query into a normalized key, which is the same
+   *  for any query requesting the same data from the OMDb API.
+   * </p>
+   *
+   * <p>
+   *  Params are always in the same order, its values are trimmed,
+   *  lower-cased and encoded, and the API Key is not included.
+   * </p>
+   *
+   * @return A <code>String</code> like <code>s=batman&amp;type=movie</code>.
+   */
+  public String toCacheKey() {
+    for (OMDbAPIParams param : CONSTANT_PARAMS.keySet()) {
+      if (query.containsKey(param)) {
+        final EnumMap<OMDbAPIParams, String> params =
+          new EnumMap<OMDbAPIParams, String>(CONSTANT_PARAMS);
+
+        params.putAll(query);
+
+        return encode(params);
+      }
+    }
+
+    return encode(query) + '&' + CONSTANT_CACHE_KEY_SUFFIX;
+  }
+
+  /**
+   * Encode the given params as a cache key, by its order.
+   *
+   * @param params The params, by its names.
+   * @return       The encoded params, without the API Key.
+   */
+  private static String encode(final Map<OMDbAPIParams, String> params) {
+    final StringBuilder cacheKey = new StringBuilder();
+
+    for (Map.Entry<OMDbAPIParams, String> param : params.entrySet()) {
+      if (param.getKey() == OMDbAPIParams.API_KEY) {
+        continue;
+      }
+
+      if (!cacheKey.isEmpty()) {
+        cacheKey.append('&');
+      }
+
+      cacheKey
+        .append(param.getKey())
+        .append('=')
+        .append(
+          URLEncoder.encode(
+            param.getValue().trim().toLowerCase(Locale.ROOT),
+            StandardCharsets.UTF_8
+          )
+        );
     }
 
-    return stringMultiValueMap;
+    return cacheKey.toString();
   }
   //#endregion
 
@@ -414,9 +667,7 @@ public final class OMDbAPIParamsBuilder {
   @Override
   public boolean equals(final Object obj) {
     if (obj instanceof OMDbAPIParamsBuilder) {
-      return this
-        .toMultiValueMap()
-        .equals(((OMDbAPIParamsBuilder) obj).toMultiValueMap());
+      return query.equals(((OMDbAPIParamsBuilder) obj).query);
     }
 
     return false;
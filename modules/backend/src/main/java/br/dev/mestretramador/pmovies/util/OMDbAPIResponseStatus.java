@@ -0,0 +1,184 @@
+package br.dev.mestretramador.pmovies.util;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Set;
+
+import org.springframework.core.codec.DecodingException;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.NumberInput;
+
+/**
+ * <p>
+ *  Status of a raw OMDb API response, of any kind, read from the top
+ *  level of its JSON without binding it into any object.
+ * </p>
+ *
+ * <p>
+ *  Its nested values (such as the results of a search, or the ratings
+ *  of a title) are skipped, as done by {@link OMDbSearchTransformer}.
+ * </p>
+ *
+ * @since              0.0.1
+ * @author             Mestre-Tramador
+ * @param response     The "boolean" value of the response.
+ * @param error        The error message, if any occurred.
+ * @param totalResults The "numeric" value of the totality of results,
+ *                     only sent on searches.
+ */
+public record OMDbAPIResponseStatus(
+  @Nullable String response,
+  @Nullable String error,
+  @Nullable String totalResults
+) {
+  //#region JSON Keys
+  /**
+   * The key for the response "boolean".
+   */
+  private static final String RESPONSE_KEY = "Response";
+
+  /**
+   * The key for the totality of results.
+   */
+  private static final String TOTAL_RESULTS_KEY = "totalResults";
+
+  /**
+   * The key for the error message.
+   */
+  private static final String ERROR_KEY = "Error";
+  //#endregion
+
+  //#region Constants
+  /**
+   * Factory of the parsers of the responses, which is thread-safe.
+   */
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  /**
+   * Value if the <code>response</code> wasn't successful.
+   */
+  private static final String RESPONSE_FALSE_VALUE = "False";
+
+  /**
+   * Value if the <code>response</code> was successful.
+   */
+  private static final String RESPONSE_TRUE_VALUE = "True";
+
+  /**
+   * Error messages due to the key or its quota, in lower case,
+   * which say nothing about the request itself.
+   */
+  private static final Set<String> KEY_ERRORS = Set.of(
+    "request limit reached!",
+    "invalid api key!",
+    "no api key provided."
+  );
+  //#endregion
+
+  //#region Static Constructors
+  /**
+   * Read the top level of a raw response, skipping its nested values.
+   *
+   * @param rawResponse        The raw response, as received from
+   *                           the OMDb API.
+   * @return                   The status of the response.
+   * @throws DecodingException If the response is not a valid JSON object.
+   */
+  public static OMDbAPIResponseStatus read(final byte[] rawResponse) {
+    String responseValue = null;
+    String errorValue = null;
+    String totalResultsValue = null;
+
+    try (JsonParser parser = JSON_FACTORY.createParser(rawResponse)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IOException("Expected an object on OMDb API response!");
+      }
+
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String key = parser.currentName();
+
+        parser.nextToken();
+
+        switch (key) {
+          case RESPONSE_KEY -> responseValue = parser.getValueAsString();
+          case ERROR_KEY -> errorValue = parser.getValueAsString();
+          case TOTAL_RESULTS_KEY ->
+            totalResultsValue = parser.getValueAsString();
+          default -> parser.skipChildren();
+        }
+      }
+    } catch (IOException e) {
+      throw new DecodingException("Unable to decode OMDb API response!", e);
+    }
+
+    return new OMDbAPIResponseStatus(
+      responseValue,
+      errorValue,
+      totalResultsValue
+    );
+  }
+  //#endregion
+
+  //#region Accessors
+  /**
+   * Easy accessor for successful responses.
+   *
+   * @return It is an actual <code>boolean</code> of the response key.
+   */
+  public boolean hasResult() {
+    return RESPONSE_TRUE_VALUE.equals(response);
+  }
+
+  /**
+   * Easy accessor for failed responses.
+   *
+   * @return It is an actual <code>boolean</code> of the response key.
+   */
+  public boolean hasError() {
+    return RESPONSE_FALSE_VALUE.equals(response);
+  }
+
+  /**
+   * Easy accessor for responses failed due to the key or its quota,
+   * instead of the request itself, such as
+   * <code>Request limit reached!</code>.
+   *
+   * @return <code>true</code> if the response must not be kept,
+   *         as the same request may succeed with another key.
+   */
+  public boolean hasKeyError() {
+    return hasError() && isKeyError(error);
+  }
+
+  /**
+   * Easy accessor for the quantity of items in the result.
+   *
+   * @return If not set, <code>0</code> is returned.
+   */
+  public int totalResultsNumber() {
+    return NumberInput.parseAsInt(totalResults, 0);
+  }
+  //#endregion
+
+  //#region Methods
+  /**
+   * Check if an error message of the OMDb API is due to the key
+   * or its quota, such as <code>Invalid API key!</code>, instead
+   * of the request itself.
+   *
+   * @param message The error message, of any kind of response.
+   * @return        <code>true</code> if the same request may
+   *                succeed with another key, or later.
+   */
+  public static boolean isKeyError(final @Nullable String message) {
+    return (
+      message != null
+        && KEY_ERRORS.contains(message.strip().toLowerCase(Locale.ROOT))
+    );
+  }
+  //#endregion
+}
@@ -0,0 +1,375 @@
+package br.dev.mestretramador.pmovies.util;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.core.codec.DecodingException;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.NumberInput;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import br.dev.mestretramador.pmovies.model.OMDbSearchItem;
+import br.dev.mestretramador.pmovies.model.OMDbYearRange;
+
+/**
+ * <p>
+ *  Streaming transformer of a raw OMDb API search response into
+ *  its beautified results, the same as
+ *  {@link br.dev.mestretramador.pmovies.model.OMDbSearch#parsed()},
+ *  without building any intermediate JSON tree.
+ * </p>
+ *
+ * <p>
+ *  On creation, only the top level of the response is read, skipping
+ *  its results. When serialized, the results are read token by token
+ *  and written, renamed and normalized, straight to the generator.
+ *  The results may also be {@link #items(byte[]) read} on their own,
+ *  the same way, without binding the whole response.
+ * </p>
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+public final class OMDbSearchTransformer extends JsonSerializable.Base {
+  //#region JSON Keys
+  /**
+   * The key for the response "boolean".
+   */
+  private static final String RESPONSE_KEY = "Response";
+
+  /**
+   * The key for the totality of results.
+   */
+  private static final String TOTAL_RESULTS_KEY = "totalResults";
+
+  /**
+   * The key for the list of results.
+   */
+  private static final String SEARCH_KEY = "Search";
+
+  /**
+   * The key for the error message.
+   */
+  private static final String ERROR_KEY = "Error";
+
+  /**
+   * The key for the title of a result.
+   */
+  private static final String TITLE_KEY = "Title";
+
+  /**
+   * The key for the year of a result.
+   */
+  private static final String YEAR_KEY = "Year";
+
+  /**
+   * The key for the IMDb ID of a result.
+   */
+  private static final String IMDB_ID_KEY = "imdbID";
+
+  /**
+   * The key for the type of a result.
+   */
+  private static final String TYPE_KEY = "Type";
+
+  /**
+   * The key for the poster of a result.
+   */
+  private static final String POSTER_KEY = "Poster";
+  //#endregion
+
+  //#region Constants
+  /**
+   * Factory of the parsers of the responses, which is thread-safe.
+   */
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  /**
+   * Value if the search <code>response</code> wasn't successful.
+   */
+  private static final String RESPONSE_FALSE_VALUE = "False";
+  //#endregion
+
+  //#region Properties
+  /**
+   * The raw response, as received from the OMDb API.
+   */
+  private final byte[] response;
+
+  /**
+   * The "boolean" value of the response.
+   */
+  private String responseValue;
+
+  /**
+   * The "numeric" value of the totality of results.
+   */
+  private String totalResults;
+
+  /**
+   * The error message, if any occurred.
+   */
+  private String error;
+  //#endregion
+
+  //#region Constructors
+  /**
+   * Read the top level of a raw response, skipping its results.
+   *
+   * @param rawResponse        The raw response, as received from
+   *                           the OMDb API.
+   * @throws DecodingException If the response is not a valid JSON object.
+   */
+  public OMDbSearchTransformer(final byte[] rawResponse) {
+    response = rawResponse;
+
+    try (JsonParser parser = JSON_FACTORY.createParser(response)) {
+      expect(parser, JsonToken.START_OBJECT);
+
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String key = parser.currentName();
+
+        parser.nextToken();
+
+        switch (key) {
+          case RESPONSE_KEY -> responseValue = parser.getValueAsString();
+          case TOTAL_RESULTS_KEY -> totalResults = parser.getValueAsString();
+          case ERROR_KEY -> error = parser.getValueAsString();
+          default -> parser.skipChildren();
+        }
+      }
+    } catch (IOException e) {
+      throw new DecodingException("Unable to decode OMDb API response!", e);
+    }
+  }
+  //#endregion
+
+  //#region Static Constructors
+  /**
+   * Read only the results of a raw response, token by token,
+   * skipping anything else.
+   *
+   * @param rawResponse        The raw response, as received from
+   *                           the OMDb API.
+   * @return                   The results, in order. If the search
+   *                           failed, it is empty.
+   * @throws DecodingException If the response is not a valid JSON object.
+   */
+  public static List<OMDbSearchItem> items(final byte[] rawResponse) {
+    final List<OMDbSearchItem> items = new ArrayList<OMDbSearchItem>();
+
+    try {
+      readItems(rawResponse, items::add);
+    } catch (IOException e) {
+      throw new DecodingException("Unable to decode OMDb API response!", e);
+    }
+
+    return items;
+  }
+  //#endregion
+
+  //#region Accessors
+  /**
+   * Easy accessor for failed search results.
+   *
+   * @return It is an actual <code>boolean</code> of the response key.
+   */
+  public boolean hasError() {
+    return RESPONSE_FALSE_VALUE.equals(responseValue);
+  }
+
+  /**
+   * Easy accessor for the quantity of items in the result.
+   *
+   * @return If not set, <code>0</code> is returned.
+   */
+  public int totalResultsNumber() {
+    return NumberInput.parseAsInt(totalResults, 0);
+  }
+
+  /**
+   * Read the error message of a failed search.
+   *
+   * @return The error message may not be accurate
+   *         for the given params of the original search.
+   */
+  public String error() {
+    return error;
+  }
+  //#endregion
+
+  //#region Transformer
+  /**
+   * Read the results of the response and write them,
+   * renamed and normalized, as an array.
+   *
+   * @param generator    The generator of the output.
+   * @throws IOException If the response or output cannot be handled.
+   */
+  private void transform(final JsonGenerator generator) throws IOException {
+    generator.writeStartArray();
+
+    readItems(response, (item) -> writeItem(item, generator));
+
+    generator.writeEndArray();
+  }
+
+  /**
+   * Read the results of a raw response, token by token,
+   * skipping anything else.
+   *
+   * @param rawResponse  The raw response, as received from the OMDb API.
+   * @param consumer     The consumer of each result, in order.
+   * @throws IOException If the response is not a valid JSON object,
+   *                     or a result cannot be consumed.
+   */
+  private static void readItems(
+    final byte[] rawResponse,
+    final ItemConsumer consumer
+  ) throws IOException {
+    try (JsonParser parser = JSON_FACTORY.createParser(rawResponse)) {
+      expect(parser, JsonToken.START_OBJECT);
+
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String key = parser.currentName();
+
+        if (
+          parser.nextToken() == JsonToken.START_ARRAY
+            && key.equals(SEARCH_KEY)
+        ) {
+          while (parser.nextToken() == JsonToken.START_OBJECT) {
+            consumer.accept(readItem(parser));
+          }
+        } else {
+          parser.skipChildren();
+        }
+      }
+    }
+  }
+
+  /**
+   * Read a single result of the response, as bound by the OMDb API keys.
+   *
+   * @param parser       The parser, positioned at the start of the result.
+   * @return             The result, with a missing poster as empty.
+   * @throws IOException If the response cannot be handled.
+   */
+  private static OMDbSearchItem readItem(final JsonParser parser)
+    throws IOException {
+    String title = null;
+    String year = null;
+    String imdbID = null;
+    String type = null;
+    String poster = null;
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String key = parser.currentName();
+
+      parser.nextToken();
+
+      switch (key) {
+        case TITLE_KEY -> title = parser.getValueAsString();
+        case YEAR_KEY -> year = parser.getValueAsString();
+        case IMDB_ID_KEY -> imdbID = parser.getValueAsString();
+        case TYPE_KEY -> type = parser.getValueAsString();
+        case POSTER_KEY -> poster = parser.getValueAsString();
+        default -> parser.skipChildren();
+      }
+    }
+
+    return new OMDbSearchItem(
+      title,
+      OMDbYearRange.parse(year),
+      imdbID,
+      type,
+      Optional.ofNullable(poster)
+    );
+  }
+
+  /**
+   * Write a single result, renamed and normalized, as an object.
+   *
+   * @param item         The result, as read from the response.
+   * @param generator    The generator of the output.
+   * @throws IOException If the output cannot be handled.
+   */
+  private static void writeItem(
+    final OMDbSearchItem item,
+    final JsonGenerator generator
+  ) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("title", item.title());
+    generator.writeNumberField("year", item.year().start());
+    generator.writeStringField("imdb_id", item.imdbID());
+    generator.writeStringField("type", item.type());
+    generator.writeStringField("poster", item.poster().orElse(null));
+    generator.writeEndObject();
+  }
+
+  /**
+   * Verify the next token of the parser.
+   *
+   * @param parser       The parser of the response.
+   * @param token        The expected token.
+   * @throws IOException If the token is not the expected one.
+   */
+  private static void expect(
+    final JsonParser parser,
+    final JsonToken token
+  ) throws IOException {
+    if (parser.nextToken() != token) {
+      throw new IOException("Expected " + token + " on OMDb API response!");
+    }
+  }
+  //#endregion
+
+  //#region Override Methods
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void serialize(
+    final JsonGenerator generator,
+    final SerializerProvider provider
+  ) throws IOException {
+    transform(generator);
+  }
+
+  /**
+   * The results are always written as a plain array,
+   * with no type information.
+   */
+  @Override
+  public void serializeWithType(
+    final JsonGenerator generator,
+    final SerializerProvider provider,
+    final TypeSerializer typeSerializer
+  ) throws IOException {
+    transform(generator);
+  }
+  //#endregion
+
+  //#region Inner Types
+  /**
+   * Consumer of the results of a response, as they are read.
+   */
+  @FunctionalInterface
+  private interface ItemConsumer {
+    /**
+     * Consume a single result.
+     *
+     * @param item         The result, as read from the response.
+     * @throws IOException If the result cannot be handled.
+     */
+    void accept(OMDbSearchItem item) throws IOException;
+  }
+  //#endregion
+}
@@ -0,0 +1,127 @@
+package br.dev.mestretramador.pmovies.util;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+/**
+ * <p>
+ *  Body of the JSON responses, holding a single key and its value.
+ * </p>
+ *
+ * <p>
+ *  The value is written straight from the original object,
+ *  by the given writer of its type, without building any
+ *  intermediate JSON tree.
+ * </p>
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+public final class ResponseEnvelope extends JsonSerializable.Base {
+  //#region Properties
+  /**
+   * The single key of the response.
+   */
+  private final String key;
+
+  /**
+   * The value of the key, as the original object.
+   */
+  private final Object value;
+
+  /**
+   * The writer of the type of the value.
+   */
+  private final ObjectWriter writer;
+  //#endregion
+
+  //#region Constructors
+  /**
+   * Hold the key and value of a response, to be written later.
+   *
+   * @param responseKey          The single key of the response.
+   * @param responseValue        The value of the key, may be
+   *                             <code>null</code>.
+   * @param valueWriter          The writer of the type of the value.
+   * @throws NullPointerException If the key or writer is <code>null</code>.
+   */
+  public ResponseEnvelope(
+    final String responseKey,
+    final Object responseValue,
+    final ObjectWriter valueWriter
+  ) {
+    key = Objects.requireNonNull(responseKey);
+    value = responseValue;
+    writer = Objects.requireNonNull(valueWriter);
+  }
+  //#endregion
+
+  //#region Accessors
+  /**
+   * Read the single key of the response.
+   *
+   * @return It is either a custom key, "message" or "error".
+   */
+  public String key() {
+    return key;
+  }
+
+  /**
+   * Read the value of the key.
+   *
+   * @return It is the original object, not converted to JSON.
+   */
+  public Object value() {
+    return value;
+  }
+  //#endregion
+
+  //#region Override Methods
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void serialize(
+    final JsonGenerator generator,
+    final SerializerProvider provider
+  ) throws IOException {
+    generator.writeStartObject();
+    generator.writeFieldName(key);
+
+    if (value == null) {
+      generator.writeNull();
+    } else {
+      writer.writeValue(generator, value);
+    }
+
+    generator.writeEndObject();
+  }
+
+  /**
+   * The response is always written as a plain object,
+   * with no type information.
+   */
+  @Override
+  public void serializeWithType(
+    final JsonGenerator generator,
+    final SerializerProvider provider,
+    final TypeSerializer typeSerializer
+  ) throws IOException {
+    serialize(generator, provider);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString() {
+    return "ResponseEnvelope[" + key + "=" + value + "]";
+  }
+  //#endregion
+}
@@ -0,0 +1,77 @@
+package br.dev.mestretramador.pmovies.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.springframework.lang.NonNull;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * <p>
+ *  Coalesces concurrent identical calls into a single one.
+ * </p>
+ *
+ * <p>
+ *  While a call is in-flight, any other call with an equal key subscribes
+ *  to it instead, receiving the same result, errors included. As soon as
+ *  the result arrives, the call is forgotten, so the next one is made again.
+ *  A call only ever forgets itself, never a newer call of the same key.
+ * </p>
+ *
+ * @since       0.0.1
+ * @author      Mestre-Tramador
+ * @param <K>   The type of the key identifying identical calls.
+ * @param <V>   The type of the result of the calls.
+ */
+public final class SingleFlight<K, V> {
+  //#region Properties
+  /**
+   * The in-flight calls indexed by its keys.
+   */
+  private final ConcurrentHashMap<K, Mono<V>> inFlight =
+    new ConcurrentHashMap<K, Mono<V>>();
+  //#endregion
+
+  //#region Methods
+  /**
+   * Make the given call, unless an identical one is in-flight.
+   *
+   * @param key  The key identifying identical calls.
+   * @param call The call itself, only invoked if none is in-flight.
+   * @return     The shared result of the call. Cancelling it
+   *             does not cancel the call for the other callers.
+   */
+  public Mono<V> execute(
+    final @NonNull K key,
+    final @NonNull Supplier<Mono<V>> call
+  ) {
+    return Mono.defer(
+      () -> inFlight.computeIfAbsent(key, (inFlightKey) -> {
+        final AtomicReference<Mono<V>> shared =
+          new AtomicReference<Mono<V>>();
+
+        shared.set(
+          call
+            .get()
+            .doFinally((signal) -> inFlight.remove(inFlightKey, shared.get()))
+            .share()
+        );
+
+        return shared.get();
+      })
+    );
+  }
+
+  /**
+   * Count the calls currently in-flight.
+   *
+   * @return Each in-flight call counts once,
+   *         no matter how many callers share it.
+   */
+  public int size() {
+    return inFlight.size();
+  }
+  //#endregion
+}
@@ -0,0 +1,79 @@
+package br.dev.mestretramador.pmovies.util;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * <p>
+ *  Tracks if a response was answered, even partially,
+ *  from an expired (stale) cached response.
+ * </p>
+ *
+ * <p>
+ *  The tracker is carried by the context of the response, so any
+ *  step of it may {@link #mark() mark} it as stale, without
+ *  the tracker being passed along.
+ * </p>
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+public final class Staleness {
+  //#region Constants
+  /**
+   * Key of the tracker on the context of the response.
+   */
+  private static final Class<Staleness> CONTEXT_KEY = Staleness.class;
+  //#endregion
+
+  //#region Properties
+  /**
+   * If the response was marked as stale.
+   */
+  private volatile boolean stale;
+  //#endregion
+
+  //#region Methods
+  /**
+   * Track the given response, until it is resolved.
+   *
+   * @param <T>      The type of the response.
+   * @param response The response, still to be resolved.
+   * @return         The same response, carrying the tracker.
+   */
+  public <T> Mono<T> track(final Mono<T> response) {
+    return response.contextWrite(Context.of(CONTEXT_KEY, this));
+  }
+
+  /**
+   * Read if the tracked response was marked as stale.
+   *
+   * @return It is only final once the response is resolved.
+   */
+  public boolean isStale() {
+    return stale;
+  }
+
+  /**
+   * Mark the tracked response, if any, as stale.
+   *
+   * @return It completes at once, with no value.
+   */
+  public static Mono<Void> mark() {
+    return Mono.deferContextual((context) -> {
+      context
+        .<Staleness>getOrEmpty(CONTEXT_KEY)
+        .ifPresent(Staleness::markStale);
+
+      return Mono.empty();
+    });
+  }
+
+  /**
+   * Mark the tracked response as stale.
+   */
+  private void markStale() {
+    stale = true;
+  }
+  //#endregion
+}
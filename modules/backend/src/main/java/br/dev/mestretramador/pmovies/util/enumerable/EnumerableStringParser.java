@@ -22,7 +22,8 @@ public interface EnumerableStringParser {
 
   /**
    * Parse a given <code>String</code> if
-   * it is equal to one of the enum entries.
+   * it is equal to one of the enum entries,
+   * found on a lookup table built once for each enum.
    *
    * @param <Enumerable>    An enum implementing this interface.
    * @param enumerableClass The given enum as a class.
@@ -36,12 +37,8 @@ public interface EnumerableStringParser {
     @NonNull Class<Enumerable> enumerableClass,
     @NonNull String string
   ) {
-    for (Enumerable entry : enumerableClass.getEnumConstants()) {
-      if (entry.toParseString().equals(string)) {
-        return entry;
-      }
-    }
-
-    return null;
+    return enumerableClass.cast(
+      EnumerableStringTable.lookup(enumerableClass, string)
+    );
   }
 }
@@ -0,0 +1,63 @@
+package br.dev.mestretramador.pmovies.util.enumerable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Lookup tables of the entries of each {@link EnumerableStringParser}
+ * enum, by its parse <code>String</code>, built once for each enum.
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+final class EnumerableStringTable {
+  //#region Constants
+  /**
+   * The table of each enum, built on its first parse.
+   */
+  private static final ClassValue<Map<String, Object>> TABLES =
+    new ClassValue<Map<String, Object>>() {
+      @Override
+      protected Map<String, Object> computeValue(final Class<?> type) {
+        final Map<String, Object> table = new HashMap<String, Object>();
+
+        for (Object entry : type.getEnumConstants()) {
+          table.putIfAbsent(
+            ((EnumerableStringParser) entry).toParseString(),
+            entry
+          );
+        }
+
+        return Map.copyOf(table);
+      }
+    };
+  //#endregion
+
+  //#region Constructors
+  /**
+   * It only holds the tables.
+   */
+  private EnumerableStringTable() { }
+  //#endregion
+
+  //#region Lookup
+  /**
+   * Find the entry of the given enum equal to the given
+   * <code>String</code>, without scanning all of them.
+   *
+   * @param enumerableClass The enum as a class.
+   * @param string          A <code>String</code> to attempt to parse.
+   * @return                If not results match, <code>null</code> is
+   *                        returned instead.
+   */
+  @Nullable
+  static Object lookup(
+    final Class<?> enumerableClass,
+    final @Nullable String string
+  ) {
+    return string == null ? null : TABLES.get(enumerableClass).get(string);
+  }
+  //#endregion
+}
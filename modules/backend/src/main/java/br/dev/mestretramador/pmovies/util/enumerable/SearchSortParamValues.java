@@ -0,0 +1,73 @@
+package br.dev.mestretramador.pmovies.util.enumerable;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * All valid values of the sort param of aggregated searches,
+ * which are sorted by the backend, not by OMDb API.
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+public enum SearchSortParamValues implements EnumerableStringParser {
+  //#region Entries
+  /**
+   * To sort by the year of release, oldest first.
+   */
+  YEAR("year"),
+
+  /**
+   * To sort by the title, alphabetically.
+   */
+  TITLE("title");
+  //#endregion
+
+  //#region Parser
+  /**
+   * Try convert a <code>String</code> into a valid entry of the enum.
+   *
+   * @param string Any valid <code>String</code>.
+   * @return If not possible to convert, <code>null</code> is returned.
+   */
+  @Nullable
+  public static SearchSortParamValues parseString(final String string) {
+    return EnumerableStringParser.parseString(
+      SearchSortParamValues.class,
+      string
+    );
+  }
+  //#endregion
+
+  //#region Attributes
+  /**
+   * The query param value itself.
+   */
+  private String sort;
+
+  /**
+   * Every entry of the enum assigns the value of the query param.
+   *
+   * @param sortValue A valid value of the param.
+   */
+  SearchSortParamValues(final String sortValue) {
+    sort = sortValue;
+  }
+  //#endregion
+
+  //#region Override Methods
+  /**
+   * {@inheritDoc}
+   */
+  @NonNull
+  @Override
+  public String toParseString() {
+    return toString();
+  }
+
+  @Override
+  public String toString() {
+    return sort;
+  }
+  //#endregion
+}
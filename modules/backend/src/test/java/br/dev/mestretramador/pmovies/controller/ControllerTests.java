@@ -0,0 +1,150 @@
+package br.dev.mestretramador.pmovies.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import br.dev.mestretramador.pmovies.config.AutocompletePolicy;
+import br.dev.mestretramador.pmovies.config.ControllerExecutionMode;
+import br.dev.mestretramador.pmovies.config.ControllerProperties;
+import br.dev.mestretramador.pmovies.config.SearchAggregationPolicy;
+import br.dev.mestretramador.pmovies.config.TitleBatchPolicy;
+import br.dev.mestretramador.pmovies.config.VirtualThreadConfig;
+
+/**
+ * ...
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+class ControllerTests {
+  /**
+   * ...
+   */
+  private static final String RESOLVED = "resolved";
+
+  /**
+   * ...
+   */
+  private final AtomicReference<Thread> resolvedOn =
+    new AtomicReference<Thread>();
+
+  /**
+   * ...
+   */
+  private final Mono<String> response = Mono.fromCallable(() -> {
+    resolvedOn.set(Thread.currentThread());
+
+    return RESOLVED;
+  });
+
+  /**
+   * ...
+   *
+   * @param mode ...
+   * @return     ...
+   */
+  private static Controller controller(final ControllerExecutionMode mode) {
+    final Controller controller = new SearchController();
+
+    ReflectionTestUtils.setField(
+      controller,
+      "controllerProperties",
+      new ControllerProperties(
+        mode,
+        new SearchAggregationPolicy(1, 1),
+        new TitleBatchPolicy(1, 1),
+        new AutocompletePolicy(1, 1, 1)
+      )
+    );
+
+    return controller;
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void blockingModeResolvesOnTheRequestThread() {
+    final Mono<String> executed =
+      controller(ControllerExecutionMode.BLOCKING).execute(response);
+
+    assertSame(Thread.currentThread(), resolvedOn.get());
+    assertEquals(RESOLVED, executed.block());
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void blockingModePassesThroughOnNonBlockingThreads() {
+    final Controller controller = controller(ControllerExecutionMode.BLOCKING);
+    final Mono<String> executed = Mono
+      .fromCallable(() -> controller.execute(response))
+      .subscribeOn(Schedulers.parallel())
+      .block();
+
+    assertNull(resolvedOn.get());
+    assertEquals(RESOLVED, executed.block());
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void reactiveModeKeepsTheResponseUntouched() {
+    assertSame(
+      response,
+      controller(ControllerExecutionMode.REACTIVE).execute(response)
+    );
+    assertNull(resolvedOn.get());
+  }
+
+  /**
+   * ...
+   *
+   * @throws InterruptedException ...
+   */
+  @Test
+  void virtualModeResolvesOnVirtualThreads() throws InterruptedException {
+    final Scheduler scheduler =
+      new VirtualThreadConfig().virtualThreadScheduler();
+    final Controller controller = controller(ControllerExecutionMode.VIRTUAL);
+
+    ReflectionTestUtils.setField(
+      controller,
+      "virtualThreadScheduler",
+      scheduler
+    );
+
+    try {
+      assertEquals(RESOLVED, controller.execute(response).block());
+      assertTrue(resolvedOn.get().isVirtual());
+
+      resolvedOn.set(null);
+
+      final AtomicReference<Mono<String>> executed =
+        new AtomicReference<Mono<String>>();
+      final Thread requestThread = Thread
+        .ofVirtual()
+        .start(() -> executed.set(controller.execute(response)));
+
+      requestThread.join();
+
+      assertSame(requestThread, resolvedOn.get());
+      assertEquals(RESOLVED, executed.get().block());
+    } finally {
+      scheduler.dispose();
+    }
+  }
+}
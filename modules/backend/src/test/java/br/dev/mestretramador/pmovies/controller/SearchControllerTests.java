@@ -0,0 +1,412 @@
+package br.dev.mestretramador.pmovies.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import reactor.core.publisher.Mono;
+
+import br.dev.mestretramador.pmovies.config.AutocompletePolicy;
+import br.dev.mestretramador.pmovies.config.ControllerExecutionMode;
+import br.dev.mestretramador.pmovies.config.ControllerProperties;
+import br.dev.mestretramador.pmovies.config.SearchAggregationPolicy;
+import br.dev.mestretramador.pmovies.config.TitleBatchPolicy;
+import br.dev.mestretramador.pmovies.model.OMDbSearch;
+import br.dev.mestretramador.pmovies.model.OMDbSearchItem;
+import br.dev.mestretramador.pmovies.service.OMDbAPIService;
+import br.dev.mestretramador.pmovies.util.OMDbAPIParamsBuilder;
+import br.dev.mestretramador.pmovies.util.ResponseEnvelope;
+import br.dev.mestretramador.pmovies.util.enumerable.SearchSortParamValues;
+
+/**
+ * ...
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+class SearchControllerTests {
+  /**
+   * ...
+   */
+  private static final int MAX_PAGES = 2;
+
+  /**
+   * ...
+   */
+  private static final int TOTAL_RESULTS = 25;
+
+  /**
+   * ...
+   */
+  private static final int ANIMATRIX_INDEX = 2;
+
+  /**
+   * ...
+   */
+  private static final String MATRIX =
+    item("The Matrix", "1999", "tt0133093");
+
+  /**
+   * ...
+   */
+  private static final String RELOADED =
+    item("The Matrix Reloaded", "2003", "tt0234215");
+
+  /**
+   * ...
+   */
+  private static final String ANIMATRIX =
+    item("the Animatrix", "2003", "tt0328832");
+
+  /**
+   * ...
+   */
+  private static final String RESURRECTIONS =
+    item("The Matrix Resurrections", "2021", "tt10838180");
+
+  /**
+   * ...
+   */
+  private final ObjectMapper objectMapper = new ObjectMapper()
+    .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+  /**
+   * ...
+   */
+  private final OMDbAPIService service = mock(OMDbAPIService.class);
+
+  /**
+   * ...
+   */
+  private final SearchController controller = new SearchController();
+
+  /**
+   * ...
+   */
+  private final WebTestClient client =
+    WebTestClient.bindToController(controller).build();
+
+  /**
+   * ...
+   */
+  private final List<Integer> requestedPages =
+    new CopyOnWriteArrayList<Integer>();
+
+  /**
+   * ...
+   */
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(controller, "service", service);
+    ReflectionTestUtils.setField(controller, "objectMapper", objectMapper);
+    ReflectionTestUtils.setField(
+      controller,
+      "controllerProperties",
+      new ControllerProperties(
+        ControllerExecutionMode.BLOCKING,
+        new SearchAggregationPolicy(MAX_PAGES, MAX_PAGES),
+        new TitleBatchPolicy(1, 1),
+        new AutocompletePolicy(1, 1, 1)
+      )
+    );
+
+    when(service.makeOMDbAPIParamsForSearch(anyString())).thenAnswer(
+      (invocation) -> OMDbAPIParamsBuilder.buildForSearch(
+        invocation.<String>getArgument(0)
+      )
+    );
+    when(service.searchAll(any(), anyInt(), anyInt(), any()))
+      .thenCallRealMethod();
+    when(service.searchPages(any(), anyInt(), anyInt()))
+      .thenCallRealMethod();
+  }
+
+  /**
+   * ...
+   *
+   * @param pages ...
+   */
+  private void answer(final Map<Integer, String> pages) {
+    when(service.search(any(OMDbAPIParamsBuilder.class))).thenAnswer(
+      (invocation) -> {
+        final int page =
+          invocation.<OMDbAPIParamsBuilder>getArgument(0).page();
+
+        requestedPages.add(page);
+
+        return Mono.just(
+          objectMapper.readValue(pages.get(page), OMDbSearch.class)
+        );
+      }
+    );
+  }
+
+  /**
+   * ...
+   *
+   * @param mediaType ...
+   * @return          ...
+   */
+  @SuppressWarnings("rawtypes")
+  private List<Object> stream(final MediaType mediaType) {
+    return client
+      .get()
+      .uri("/search?filter=matrix")
+      .accept(mediaType)
+      .exchange()
+      .expectStatus()
+      .isOk()
+      .expectHeader()
+      .contentTypeCompatibleWith(mediaType)
+      .returnResult(Map.class)
+      .getResponseBody()
+      .map((searchItem) -> searchItem.get("imdb_id"))
+      .collectList()
+      .block();
+  }
+
+  /**
+   * ...
+   *
+   * @param sort ...
+   * @return     ...
+   */
+  private ResponseEntity<ResponseEnvelope> searchAll(final String sort) {
+    return controller.search("matrix", "", "", "", true, sort).block();
+  }
+
+  /**
+   * ...
+   *
+   * @param response ...
+   * @return         ...
+   */
+  @SuppressWarnings("unchecked")
+  private static List<String> imdbIDs(
+    final ResponseEntity<ResponseEnvelope> response
+  ) {
+    return ((List<OMDbSearchItem>) response.getBody().value())
+      .stream()
+      .map(OMDbSearchItem::imdbID)
+      .toList();
+  }
+
+  /**
+   * ...
+   *
+   * @param title  ...
+   * @param year   ...
+   * @param imdbID ...
+   * @return       ...
+   */
+  private static String item(
+    final String title,
+    final String year,
+    final String imdbID
+  ) {
+    return "{\"Title\": \"" + title
+      + "\", \"Year\": \"" + year
+      + "\", \"imdbID\": \"" + imdbID
+      + "\", \"Type\": \"movie\", \"Poster\": \"N/A\"}";
+  }
+
+  /**
+   * ...
+   *
+   * @param totalResults ...
+   * @param items        ...
+   * @return             ...
+   */
+  private static String page(
+    final int totalResults,
+    final String... items
+  ) {
+    return "{\"Response\": \"True\", \"totalResults\": \"" + totalResults
+      + "\", \"Search\": [" + String.join(", ", items) + "]}";
+  }
+
+  /**
+   * ...
+   *
+   * @param error ...
+   * @return      ...
+   */
+  private static String failed(final String error) {
+    return "{\"Response\": \"False\", \"Error\": \"" + error + "\"}";
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void pagesAreMergedInOrderWithoutRepeats() {
+    answer(Map.of(
+      1, page(TOTAL_RESULTS, MATRIX, RELOADED),
+      2, page(TOTAL_RESULTS, RELOADED, ANIMATRIX),
+      MAX_PAGES + 1, page(TOTAL_RESULTS, RESURRECTIONS)
+    ));
+
+    final ResponseEntity<ResponseEnvelope> response = searchAll("");
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals(
+      List.of("tt0133093", "tt0234215", "tt0328832"),
+      imdbIDs(response)
+    );
+    assertEquals(List.of(1, 2), requestedPages);
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void pagesAreSortedByYearOrTitle() {
+    answer(Map.of(
+      1, page(TOTAL_RESULTS, RESURRECTIONS, RELOADED),
+      2, page(TOTAL_RESULTS, ANIMATRIX, MATRIX)
+    ));
+
+    assertEquals(
+      List.of("tt0133093", "tt0234215", "tt0328832", "tt10838180"),
+      imdbIDs(searchAll(SearchSortParamValues.YEAR.toString()))
+    );
+    assertEquals(
+      List.of("tt0328832", "tt0133093", "tt0234215", "tt10838180"),
+      imdbIDs(searchAll(SearchSortParamValues.TITLE.toString()))
+    );
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void invalidSortIsUnprocessable() {
+    final ResponseEntity<ResponseEnvelope> response = searchAll("rating");
+
+    assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, response.getStatusCode());
+    assertEquals(List.of(), requestedPages);
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void firstPageErrorIsSentAsIs() {
+    answer(Map.of(1, failed("Movie not found!")));
+
+    final ResponseEntity<ResponseEnvelope> response = searchAll("");
+
+    assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    assertEquals(
+      "No results for the given filter were found!",
+      response.getBody().value()
+    );
+    assertEquals(List.of(1), requestedPages);
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void ndjsonStreamSendsPagesInOrderWithoutRepeats() {
+    answer(Map.of(
+      1, page(TOTAL_RESULTS, MATRIX, RELOADED),
+      2, page(TOTAL_RESULTS, RELOADED, ANIMATRIX)
+    ));
+
+    assertEquals(
+      List.of("tt0133093", "tt0234215", "tt0328832"),
+      stream(MediaType.APPLICATION_NDJSON)
+    );
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void eventStreamSendsPagesInOrderWithoutRepeats() {
+    answer(Map.of(
+      1, page(TOTAL_RESULTS, MATRIX, RELOADED),
+      2, page(TOTAL_RESULTS, RELOADED, ANIMATRIX)
+    ));
+
+    assertEquals(
+      List.of("tt0133093", "tt0234215", "tt0328832"),
+      stream(MediaType.TEXT_EVENT_STREAM)
+    );
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void invalidStreamParamsAreRejectedBeforeTheStream() {
+    client
+      .get()
+      .uri("/search")
+      .accept(MediaType.APPLICATION_NDJSON)
+      .exchange()
+      .expectStatus()
+      .isBadRequest();
+    client
+      .get()
+      .uri("/search?filter=matrix&type=cartoon")
+      .accept(MediaType.APPLICATION_NDJSON)
+      .exchange()
+      .expectStatus()
+      .isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    client
+      .get()
+      .uri("/search?filter=matrix&year=last")
+      .accept(MediaType.TEXT_EVENT_STREAM)
+      .exchange()
+      .expectStatus()
+      .isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+
+    assertEquals(List.of(), requestedPages);
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void jsonIsStillTheSearch() {
+    answer(Map.of(
+      1, page(TOTAL_RESULTS, MATRIX, RELOADED),
+      2, page(TOTAL_RESULTS, RELOADED, ANIMATRIX)
+    ));
+
+    client
+      .get()
+      .uri("/search?filter=matrix&all=true")
+      .accept(MediaType.APPLICATION_JSON)
+      .exchange()
+      .expectStatus()
+      .isOk()
+      .expectHeader()
+      .contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+      .expectBody()
+      .jsonPath("$.search.length()")
+      .isEqualTo(ANIMATRIX_INDEX + 1)
+      .jsonPath("$.search[" + ANIMATRIX_INDEX + "].imdb_id")
+      .isEqualTo("tt0328832");
+  }
+}
@@ -0,0 +1,262 @@
+package br.dev.mestretramador.pmovies.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import reactor.core.publisher.Mono;
+
+import br.dev.mestretramador.pmovies.config.AutocompletePolicy;
+import br.dev.mestretramador.pmovies.config.ControllerExecutionMode;
+import br.dev.mestretramador.pmovies.config.ControllerProperties;
+import br.dev.mestretramador.pmovies.config.SearchAggregationPolicy;
+import br.dev.mestretramador.pmovies.config.TitleBatchPolicy;
+import br.dev.mestretramador.pmovies.model.OMDbTitle;
+import br.dev.mestretramador.pmovies.model.OMDbTitleLookup;
+import br.dev.mestretramador.pmovies.service.OMDbAPIService;
+import br.dev.mestretramador.pmovies.util.OMDbAPIParamsBuilder;
+import br.dev.mestretramador.pmovies.util.enumerable.OMDbAPIParams;
+
+/**
+ * ...
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+class TitleControllerTests {
+  /**
+   * ...
+   */
+  private static final String MATRIX = "tt0133093";
+
+  /**
+   * ...
+   */
+  private static final String RELOADED = "tt0234215";
+
+  /**
+   * ...
+   */
+  private static final String REVOLUTIONS = "tt0242653";
+
+  /**
+   * ...
+   */
+  private static final String NOT_FOUND =
+    "No title for the given IMDb ID was found!";
+
+  /**
+   * ...
+   */
+  private static final String FAILED =
+    "Unable to request the title! Try again later.";
+
+  /**
+   * ...
+   */
+  private static final Duration SLOW = Duration.ofMillis(100);
+
+  /**
+   * ...
+   */
+  private final ObjectMapper objectMapper = new ObjectMapper()
+    .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+  /**
+   * ...
+   */
+  private final OMDbAPIService service = mock(OMDbAPIService.class);
+
+  /**
+   * ...
+   */
+  private final TitleController controller = new TitleController();
+
+  /**
+   * ...
+   */
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(controller, "service", service);
+    ReflectionTestUtils.setField(
+      controller,
+      "controllerProperties",
+      new ControllerProperties(
+        ControllerExecutionMode.BLOCKING,
+        new SearchAggregationPolicy(1, 1),
+        new TitleBatchPolicy(2, 2),
+        new AutocompletePolicy(1, 1, 1)
+      )
+    );
+
+    when(service.makeOMDbAPIParamsForIMDbID(anyString())).thenAnswer(
+      (invocation) -> OMDbAPIParamsBuilder.buildForIMDbID(
+        invocation.<String>getArgument(0)
+      )
+    );
+  }
+
+  /**
+   * ...
+   *
+   * @param imdbID   ...
+   * @param response ...
+   */
+  private void answer(final String imdbID, final Mono<String> response) {
+    when(service.title(OMDbAPIParamsBuilder.buildForIMDbID(imdbID)))
+      .thenReturn(response.map((json) -> {
+        try {
+          return objectMapper.readValue(json, OMDbTitle.class);
+        } catch (JsonProcessingException e) {
+          throw new IllegalStateException(e);
+        }
+      }));
+  }
+
+  /**
+   * ...
+   *
+   * @param imdbIDs ...
+   * @return        ...
+   */
+  private List<OMDbTitleLookup> lookup(final String... imdbIDs) {
+    return controller
+      .titlesByIMDbID(Arrays.asList(imdbIDs), "")
+      .collectList()
+      .block();
+  }
+
+  /**
+   * ...
+   *
+   * @param imdbID ...
+   * @return       ...
+   */
+  private static String found(final String imdbID) {
+    return "{\"imdbID\": \"" + imdbID + "\", \"Response\": \"True\"}";
+  }
+
+  /**
+   * ...
+   *
+   * @param error ...
+   * @return      ...
+   */
+  private static String failed(final String error) {
+    return "{\"Response\": \"False\", \"Error\": \"" + error + "\"}";
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void titlesAreSentInTheGivenOrder() {
+    answer(MATRIX, Mono.delay(SLOW).thenReturn(found(MATRIX)));
+    answer(RELOADED, Mono.just(found(RELOADED)));
+
+    final List<OMDbTitleLookup> lookups = lookup(MATRIX, RELOADED);
+
+    assertEquals(
+      List.of(MATRIX, RELOADED),
+      lookups.stream().map(OMDbTitleLookup::imdbID).toList()
+    );
+    assertEquals(MATRIX, lookups.get(0).title().imdbID());
+    assertEquals(RELOADED, lookups.get(1).title().imdbID());
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void invalidIDsFailOnTheirOwn() {
+    answer(MATRIX, Mono.just(found(MATRIX)));
+
+    final List<OMDbTitleLookup> lookups = lookup("matrix", MATRIX);
+
+    assertEquals(
+      "Given IMDb ID is not a valid one!",
+      lookups.get(0).error()
+    );
+    assertEquals(MATRIX, lookups.get(1).title().imdbID());
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void keyErrorsAreFailuresInsteadOfNotFound() {
+    answer(MATRIX, Mono.just(failed("Movie not found!")));
+    answer(RELOADED, Mono.just(failed("Request limit reached!")));
+
+    final List<OMDbTitleLookup> lookups = lookup(MATRIX, RELOADED);
+
+    assertEquals(NOT_FOUND, lookups.get(0).error());
+    assertEquals(FAILED, lookups.get(1).error());
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void tooManyIDsAreUnprocessable() {
+    final ResponseStatusException exception = assertThrows(
+      ResponseStatusException.class,
+      () -> lookup(MATRIX, RELOADED, REVOLUTIONS)
+    );
+
+    assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, exception.getStatusCode());
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void invalidPlotIsUnprocessable() {
+    final ResponseStatusException exception = assertThrows(
+      ResponseStatusException.class,
+      () -> controller
+        .titlesByIMDbID(List.of(MATRIX), "long")
+        .collectList()
+        .block()
+    );
+
+    assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, exception.getStatusCode());
+    assertEquals(
+      OMDbAPIParamsBuilder.validate(OMDbAPIParams.PLOT, "long"),
+      exception.getReason()
+    );
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void missingIDsAreBadRequests() {
+    for (
+      List<String> imdbIDs : Arrays.<List<String>>asList(null, List.of())
+    ) {
+      final ResponseStatusException exception = assertThrows(
+        ResponseStatusException.class,
+        () -> controller.titlesByIMDbID(imdbIDs, "").collectList().block()
+      );
+
+      assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+    }
+  }
+}
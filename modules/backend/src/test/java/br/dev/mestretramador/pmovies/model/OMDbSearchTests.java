@@ -0,0 +1,107 @@
+package br.dev.mestretramador.pmovies.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+
+/**
+ * ...
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+class OMDbSearchTests {
+  /**
+   * ...
+   */
+  private static final int SERIES_START = 1993;
+
+  /**
+   * ...
+   */
+  private static final int SERIES_END = 1995;
+
+  /**
+   * ...
+   */
+  private final ObjectMapper objectMapper =
+    new ObjectMapper().registerModule(new Jdk8Module());
+
+  /**
+   * ...
+   *
+   * @throws JsonProcessingException ...
+   */
+  @Test
+  void resultsAreTyped() throws JsonProcessingException {
+    final OMDbSearch search = objectMapper.readValue(
+      """
+      {
+        "Search": [
+          {
+            "Title": "The Matrix",
+            "Year": "1999",
+            "imdbID": "tt0133093",
+            "Type": "movie",
+            "Poster": "https://m.media-amazon.com/images/matrix.jpg"
+          },
+          {
+            "Title": "Matrix",
+            "Year": "1993–1995",
+            "imdbID": "tt0106062",
+            "Type": "series",
+            "Poster": "N/A"
+          }
+        ],
+        "totalResults": "2",
+        "Response": "True"
+      }
+      """,
+      OMDbSearch.class
+    );
+    final OMDbSearchItem movie = search.parsed().get(0);
+    final OMDbSearchItem series = search.parsed().get(1);
+
+    assertEquals("tt0133093", movie.imdbID());
+    assertFalse(movie.year().isRange());
+    assertTrue(movie.poster().isPresent());
+    assertEquals(SERIES_START, series.year().start());
+    assertEquals(SERIES_END, series.year().end());
+    assertTrue(series.poster().isEmpty());
+    assertEquals(
+      "{\"title\":\"Matrix\",\"year\":1993,\"imdb_id\":\"tt0106062\","
+        + "\"type\":\"series\",\"poster\":null}",
+      objectMapper.writeValueAsString(series)
+    );
+    assertThrows(
+      UnsupportedOperationException.class,
+      () -> search.search().add(movie)
+    );
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void yearsAreParsed() {
+    assertTrue(OMDbYearRange.parse("2019–").isOngoing());
+    assertEquals(OMDbYearRange.UNKNOWN, OMDbYearRange.parse("N/A"));
+    assertEquals(OMDbYearRange.UNKNOWN, OMDbYearRange.parse(null));
+    assertEquals(
+      List.of(),
+      objectMapper.convertValue(
+        new OMDbSearch("False", null, null, "Movie not found!"),
+        OMDbSearch.class
+      ).search()
+    );
+  }
+}
@@ -0,0 +1,127 @@
+package br.dev.mestretramador.pmovies.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * ...
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+class OMDbTitleTests {
+  /**
+   * ...
+   */
+  private static final int RUNTIME = 136;
+
+  /**
+   * ...
+   */
+  private static final int METASCORE = 73;
+
+  /**
+   * ...
+   */
+  private static final double IMDB_RATING = 8.7;
+
+  /**
+   * ...
+   */
+  private static final long IMDB_VOTES = 2_213_000L;
+
+  /**
+   * ...
+   */
+  private static final long BOX_OFFICE = 172_076_928L;
+
+  /**
+   * ...
+   */
+  private final ObjectMapper objectMapper = new ObjectMapper()
+    .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+  /**
+   * ...
+   *
+   * @throws JsonProcessingException ...
+   */
+  @Test
+  void detailsAreTyped() throws JsonProcessingException {
+    final OMDbTitleDetails details = objectMapper.readValue(
+      """
+      {
+        "Title": "The Matrix",
+        "Year": "1999",
+        "Rated": "R",
+        "Released": "31 Mar 1999",
+        "Runtime": "136 min",
+        "Genre": "Action, Sci-Fi",
+        "Director": "Lana Wachowski, Lilly Wachowski",
+        "Plot": "N/A",
+        "Ratings": [{"Source": "Metacritic", "Value": "73/100"}],
+        "Metascore": "73",
+        "imdbRating": "8.7",
+        "imdbVotes": "2,213,000",
+        "imdbID": "tt0133093",
+        "Type": "movie",
+        "BoxOffice": "$172,076,928",
+        "DVD": "N/A",
+        "Response": "True"
+      }
+      """,
+      OMDbTitle.class
+    ).parsed();
+
+    assertEquals(LocalDate.parse("1999-03-31"), details.released());
+    assertEquals(RUNTIME, details.runtime());
+    assertEquals(List.of("Action", "Sci-Fi"), details.genres());
+    assertEquals(2, details.directors().size());
+    assertTrue(details.writers().isEmpty());
+    assertNull(details.plot());
+    assertEquals("Metacritic", details.ratings().get(0).source());
+    assertEquals(METASCORE, details.metascore());
+    assertEquals(IMDB_RATING, details.imdbRating());
+    assertEquals(IMDB_VOTES, details.imdbVotes());
+    assertEquals(BOX_OFFICE, details.boxOffice());
+    assertNull(details.totalSeasons());
+  }
+
+  /**
+   * ...
+   *
+   * @throws JsonProcessingException ...
+   */
+  @Test
+  void oversizedNumbersAreMissing() throws JsonProcessingException {
+    final OMDbTitleDetails details = objectMapper.readValue(
+      """
+      {
+        "Runtime": "99999999999 min",
+        "Metascore": "99999999999",
+        "imdbVotes": "99,999,999,999,999,999,999",
+        "totalSeasons": "99999999999",
+        "BoxOffice": "$99,999,999,999,999,999,999",
+        "Response": "True"
+      }
+      """,
+      OMDbTitle.class
+    ).parsed();
+
+    assertNull(details.runtime());
+    assertNull(details.metascore());
+    assertNull(details.imdbVotes());
+    assertNull(details.totalSeasons());
+    assertNull(details.boxOffice());
+  }
+}
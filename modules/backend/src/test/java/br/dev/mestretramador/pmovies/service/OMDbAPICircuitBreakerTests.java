@@ -0,0 +1,150 @@
+package br.dev.mestretramador.pmovies.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import reactor.core.publisher.Mono;
+
+import br.dev.mestretramador.pmovies.config.OMDbAPICircuitBreakerPolicy;
+
+/**
+ * ...
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+class OMDbAPICircuitBreakerTests {
+  /**
+   * ...
+   */
+  private static final int WINDOW_SIZE = 4;
+
+  /**
+   * ...
+   */
+  private static final double FAILURE_RATE_THRESHOLD = 0.5;
+
+  /**
+   * ...
+   */
+  private static final int NOT_FOUND = 404;
+
+  /**
+   * ...
+   *
+   * @param openDuration ...
+   * @return             ...
+   */
+  private static OMDbAPICircuitBreaker open(final Duration openDuration) {
+    return new OMDbAPICircuitBreaker(
+      "omdb.test",
+      new OMDbAPICircuitBreakerPolicy(
+        WINDOW_SIZE,
+        2,
+        FAILURE_RATE_THRESHOLD,
+        Duration.ZERO,
+        openDuration,
+        1
+      )
+    );
+  }
+
+  /**
+   * ...
+   *
+   * @param breaker ...
+   */
+  private static void fail(final OMDbAPICircuitBreaker breaker) {
+    assertThrows(
+      IllegalStateException.class,
+      () -> breaker
+        .protect(Mono.error(new IllegalStateException("OMDb API is down")))
+        .block()
+    );
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void failuresOpenTheCircuit() {
+    final OMDbAPICircuitBreaker breaker = open(Duration.ofMinutes(1));
+    final AtomicInteger calls = new AtomicInteger();
+
+    fail(breaker);
+    fail(breaker);
+
+    assertEquals(OMDbAPICircuitBreaker.State.OPEN, breaker.state());
+
+    final OMDbAPIUnavailableException exception = assertThrows(
+      OMDbAPIUnavailableException.class,
+      () -> breaker
+        .protect(Mono.fromCallable(calls::incrementAndGet))
+        .block()
+    );
+
+    assertEquals(
+      HttpStatus.SERVICE_UNAVAILABLE.value(),
+      exception.getStatusCode().value()
+    );
+    assertEquals(0, calls.get());
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void clientErrorsAndRejectionsDoNotCount() {
+    final OMDbAPICircuitBreaker breaker = open(Duration.ofMinutes(1));
+
+    for (int i = 0; i < WINDOW_SIZE; i++) {
+      assertThrows(
+        WebClientResponseException.class,
+        () -> breaker.protect(Mono.error(WebClientResponseException.create(
+          NOT_FOUND,
+          "Not Found",
+          HttpHeaders.EMPTY,
+          new byte[0],
+          StandardCharsets.UTF_8
+        ))).block()
+      );
+      assertThrows(
+        OMDbAPIQuotaExceededException.class,
+        () -> breaker.protect(Mono.error(new OMDbAPIQuotaExceededException(
+          "Too many OMDb API requests! Try again later.",
+          Duration.ZERO
+        ))).block()
+      );
+    }
+
+    assertEquals(OMDbAPICircuitBreaker.State.CLOSED, breaker.state());
+    assertEquals(0, breaker.failureRate());
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void probesCloseOrOpenTheCircuitAgain() {
+    final OMDbAPICircuitBreaker breaker = open(Duration.ZERO);
+
+    fail(breaker);
+    fail(breaker);
+    fail(breaker);
+
+    assertEquals(OMDbAPICircuitBreaker.State.OPEN, breaker.state());
+
+    assertEquals("probe", breaker.protect(Mono.just("probe")).block());
+    assertEquals(OMDbAPICircuitBreaker.State.CLOSED, breaker.state());
+    assertEquals(0, breaker.failureRate());
+  }
+}
@@ -0,0 +1,142 @@
+package br.dev.mestretramador.pmovies.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import reactor.core.publisher.Mono;
+
+import br.dev.mestretramador.pmovies.config.OMDbAPIHedgePolicy;
+
+/**
+ * ...
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+class OMDbAPIDeadlineTests {
+  /**
+   * ...
+   */
+  private static final Duration DEADLINE = Duration.ofMillis(500);
+
+  /**
+   * ...
+   */
+  private static final Duration MIN_DELAY = Duration.ofMillis(10);
+
+  /**
+   * ...
+   */
+  private static final Duration SLOW = Duration.ofMillis(100);
+
+  /**
+   * ...
+   */
+  private static final int WARM_UP = 20;
+
+  /**
+   * ...
+   *
+   * @param budget ...
+   * @return       ...
+   */
+  private static OMDbAPIDeadline hedged(final double budget) {
+    final OMDbAPIDeadline deadline = new OMDbAPIDeadline(
+      "omdb.test",
+      DEADLINE,
+      new OMDbAPIHedgePolicy(true, 1, MIN_DELAY, budget)
+    );
+
+    for (int i = 0; i < WARM_UP; i++) {
+      deadline.apply(() -> Mono.just("fast")).block();
+    }
+
+    return deadline;
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void slowRequestsAreHedged() {
+    final OMDbAPIDeadline deadline = hedged(1);
+    final AtomicInteger calls = new AtomicInteger();
+
+    assertEquals(MIN_DELAY, deadline.hedgeDelay());
+
+    final String response = deadline.apply(() -> calls.getAndIncrement() == 0
+      ? Mono.<String>never()
+      : Mono.just("hedged")
+    ).block();
+
+    assertEquals("hedged", response);
+    assertEquals(2, calls.get());
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void failedHedgesAreIgnored() {
+    final OMDbAPIDeadline deadline = hedged(1);
+    final AtomicInteger calls = new AtomicInteger();
+
+    final String response = deadline.apply(() -> calls.getAndIncrement() == 0
+      ? Mono.delay(SLOW).thenReturn("first")
+      : Mono.<String>error(new IllegalStateException("hedged"))
+    ).block();
+
+    assertEquals("first", response);
+    assertEquals(2, calls.get());
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void hedgesAreLimitedByTheBudget() {
+    final OMDbAPIDeadline deadline = hedged(0);
+    final AtomicInteger calls = new AtomicInteger();
+
+    final OMDbAPIDeadlineExceededException exception = assertThrows(
+      OMDbAPIDeadlineExceededException.class,
+      () -> deadline.apply(() -> {
+        calls.incrementAndGet();
+
+        return Mono.<String>never();
+      }).block()
+    );
+
+    assertEquals(
+      HttpStatus.GATEWAY_TIMEOUT.value(),
+      exception.getStatusCode().value()
+    );
+    assertEquals(1, calls.get());
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void requestsFailAfterTheDeadline() {
+    final OMDbAPIDeadline deadline = new OMDbAPIDeadline(
+      "omdb.test",
+      MIN_DELAY,
+      null
+    );
+
+    assertTrue(deadline.hedgeDelay().isNegative());
+    assertThrows(
+      OMDbAPIDeadlineExceededException.class,
+      () -> deadline.apply(Mono::never).block()
+    );
+    assertEquals("fast", deadline.apply(() -> Mono.just("fast")).block());
+  }
+}
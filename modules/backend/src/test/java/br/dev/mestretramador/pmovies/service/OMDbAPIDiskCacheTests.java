@@ -0,0 +1,250 @@
+package br.dev.mestretramador.pmovies.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import br.dev.mestretramador.pmovies.config.OMDbAPIDiskCachePolicy;
+
+/**
+ * ...
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+class OMDbAPIDiskCacheTests {
+  /**
+   * ...
+   */
+  private static final Duration TTL = Duration.ofMinutes(1);
+
+  /**
+   * ...
+   */
+  private static final long SEGMENT_SIZE = 1024;
+
+  /**
+   * ...
+   */
+  private static final long SMALL_SEGMENT_SIZE = 128;
+
+  /**
+   * ...
+   */
+  private static final int REPLACEMENTS = 10;
+
+  /**
+   * ...
+   */
+  private static final double COMPACTION_THRESHOLD = 0.5;
+
+  /**
+   * ...
+   */
+  private static final byte[] GARBAGE = {1, 2, 3};
+
+  /**
+   * ...
+   */
+  private static final String LAST_REPLACEMENT =
+    "matrix " + (REPLACEMENTS - 1);
+
+  /**
+   * ...
+   */
+  @TempDir
+  private Path directory;
+
+  /**
+   * ...
+   *
+   * @param segmentSize ...
+   * @return            ...
+   */
+  private OMDbAPIDiskCache open(final long segmentSize) {
+    return open(segmentSize, Duration.ZERO);
+  }
+
+  /**
+   * ...
+   *
+   * @param segmentSize ...
+   * @param staleTtl    ...
+   * @return            ...
+   */
+  private OMDbAPIDiskCache open(
+    final long segmentSize,
+    final Duration staleTtl
+  ) {
+    return new OMDbAPIDiskCache(new OMDbAPIDiskCachePolicy(
+      true,
+      directory,
+      DataSize.ofBytes(segmentSize),
+      Duration.ZERO,
+      COMPACTION_THRESHOLD,
+      staleTtl
+    ));
+  }
+
+  /**
+   * ...
+   *
+   * @param value ...
+   * @return      ...
+   */
+  private static byte[] bytes(final String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * ...
+   *
+   * @return ...
+   * @throws IOException ...
+   */
+  private long countSegments() throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.count();
+    }
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void responsesSurviveReopening() {
+    try (OMDbAPIDiskCache cache = open(SEGMENT_SIZE)) {
+      cache.put("s=matrix", bytes("first"), TTL);
+      cache.put("s=matrix", bytes("second"), TTL);
+      cache.put("s=alien", bytes("alien"), TTL);
+    }
+
+    try (OMDbAPIDiskCache cache = open(SEGMENT_SIZE)) {
+      assertEquals(2, cache.size());
+      assertArrayEquals(bytes("second"), cache.get("s=matrix"));
+      assertArrayEquals(bytes("alien"), cache.get("s=alien"));
+    }
+  }
+
+  /**
+   * ...
+   *
+   * @throws IOException ...
+   */
+  @Test
+  void partiallyWrittenRecordsAreDiscarded() throws IOException {
+    try (OMDbAPIDiskCache cache = open(SEGMENT_SIZE)) {
+      cache.put("s=matrix", bytes("matrix"), TTL);
+    }
+
+    final Path segment;
+
+    try (Stream<Path> files = Files.list(directory)) {
+      segment = files.findFirst().orElseThrow();
+    }
+
+    Files.write(segment, GARBAGE, StandardOpenOption.APPEND);
+
+    try (OMDbAPIDiskCache cache = open(SEGMENT_SIZE)) {
+      cache.put("s=alien", bytes("alien"), TTL);
+    }
+
+    try (OMDbAPIDiskCache cache = open(SEGMENT_SIZE)) {
+      assertArrayEquals(bytes("matrix"), cache.get("s=matrix"));
+      assertArrayEquals(bytes("alien"), cache.get("s=alien"));
+    }
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void expiredResponsesAreMissed() {
+    try (OMDbAPIDiskCache cache = open(SEGMENT_SIZE)) {
+      cache.put("s=matrix", bytes("matrix"), Duration.ZERO);
+
+      assertNull(cache.get("s=matrix"));
+      assertEquals(0, cache.size());
+    }
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void staleResponsesAreKeptUntilItsTTL() {
+    try (OMDbAPIDiskCache cache = open(SEGMENT_SIZE, TTL)) {
+      cache.put("s=matrix", bytes("matrix"), Duration.ZERO);
+      cache.compact();
+
+      assertNull(cache.get("s=matrix"));
+      assertArrayEquals(bytes("matrix"), cache.getStale("s=matrix"));
+    }
+
+    try (OMDbAPIDiskCache cache = open(SEGMENT_SIZE, TTL)) {
+      assertEquals(1, cache.size());
+      assertArrayEquals(bytes("matrix"), cache.getStale("s=matrix"));
+    }
+
+    try (OMDbAPIDiskCache cache = open(SEGMENT_SIZE)) {
+      assertNull(cache.getStale("s=matrix"));
+      assertEquals(0, cache.size());
+    }
+  }
+
+  /**
+   * ...
+   *
+   * @throws IOException ...
+   */
+  @Test
+  void compactionKeepsOnlyLiveResponses() throws IOException {
+    try (OMDbAPIDiskCache cache = open(SMALL_SEGMENT_SIZE)) {
+      for (int i = 0; i < REPLACEMENTS; i++) {
+        cache.put("s=matrix", bytes("matrix " + i), TTL);
+      }
+
+      cache.put("s=alien", bytes("alien"), TTL);
+
+      final long segmentsBefore = countSegments();
+
+      cache.compact();
+
+      assertTrue(countSegments() < segmentsBefore);
+      assertArrayEquals(bytes(LAST_REPLACEMENT), cache.get("s=matrix"));
+      assertArrayEquals(bytes("alien"), cache.get("s=alien"));
+    }
+
+    try (OMDbAPIDiskCache cache = open(SMALL_SEGMENT_SIZE)) {
+      assertEquals(2, cache.size());
+      assertArrayEquals(bytes(LAST_REPLACEMENT), cache.get("s=matrix"));
+    }
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void closedSegmentsAreMissed() {
+    final OMDbAPIDiskCache cache = open(SEGMENT_SIZE, TTL);
+
+    cache.put("s=matrix", bytes("matrix"), TTL);
+    cache.close();
+
+    assertNull(cache.get("s=matrix"));
+    assertNull(cache.getStale("s=matrix"));
+  }
+}
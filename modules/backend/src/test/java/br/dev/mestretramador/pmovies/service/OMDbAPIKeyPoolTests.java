@@ -0,0 +1,226 @@
+package br.dev.mestretramador.pmovies.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import br.dev.mestretramador.pmovies.config.OMDbAPIRateLimitPolicy;
+
+/**
+ * ...
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+class OMDbAPIKeyPoolTests {
+  /**
+   * ...
+   */
+  private static final long DAILY_BUDGET = 3;
+
+  /**
+   * ...
+   */
+  private static final int UNAUTHORIZED = 401;
+
+  /**
+   * ...
+   */
+  @TempDir
+  private Path directory;
+
+  /**
+   * ...
+   *
+   * @return ...
+   */
+  private OMDbAPIRateLimitPolicy policy() {
+    return new OMDbAPIRateLimitPolicy(
+      0,
+      1,
+      Duration.ZERO,
+      DAILY_BUDGET,
+      ZoneId.of("UTC"),
+      directory.resolve("budget"),
+      Duration.ZERO
+    );
+  }
+
+  /**
+   * ...
+   *
+   * @param body ...
+   * @return     ...
+   */
+  private static WebClientResponseException unauthorized(final String body) {
+    return WebClientResponseException.create(
+      UNAUTHORIZED,
+      "Unauthorized",
+      HttpHeaders.EMPTY,
+      body.getBytes(StandardCharsets.UTF_8),
+      StandardCharsets.UTF_8
+    );
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void budgetIsSpentAndKept() {
+    try (OMDbAPIKeyPool pool = new OMDbAPIKeyPool(List.of("a"), policy())) {
+      pool.spend(pool.select());
+      pool.spend(pool.select());
+
+      assertEquals(1, pool.remaining());
+    }
+
+    try (OMDbAPIKeyPool pool = new OMDbAPIKeyPool(List.of("a"), policy())) {
+      assertEquals(2, pool.spent());
+
+      pool.spend(pool.select());
+
+      final OMDbAPIQuotaExceededException exception = assertThrows(
+        OMDbAPIQuotaExceededException.class,
+        () -> pool.spend(pool.select())
+      );
+
+      assertEquals(
+        HttpStatus.TOO_MANY_REQUESTS.value(),
+        exception.getStatusCode().value()
+      );
+      assertEquals(0, pool.remaining());
+    }
+  }
+
+  /**
+   * ...
+   *
+   * @throws IOException ...
+   */
+  @Test
+  void badLinesOfTheBudgetAreSkipped() throws IOException {
+    try (
+      OMDbAPIKeyPool pool = new OMDbAPIKeyPool(List.of("a", "b"), policy())
+    ) {
+      pool.spend("a");
+      pool.spend("b");
+      pool.spend("b");
+    }
+
+    final Path file = directory.resolve("budget");
+    final List<String> lines = Files.readAllLines(file);
+
+    Files.write(file, List.of(
+      lines.get(0).replaceFirst(" [0-9]+$", " x"),
+      lines.get(1)
+    ));
+
+    try (
+      OMDbAPIKeyPool pool = new OMDbAPIKeyPool(List.of("a", "b"), policy())
+    ) {
+      assertEquals(2, pool.spent());
+    }
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void spentKeysAreReplaced() {
+    try (
+      OMDbAPIKeyPool pool = new OMDbAPIKeyPool(List.of("a", "b"), policy())
+    ) {
+      for (long spent = 0; spent < DAILY_BUDGET; spent++) {
+        assertEquals("a", pool.spend("a"));
+      }
+
+      assertEquals("b", pool.spend("a"));
+      assertEquals("b", pool.select());
+    }
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void rejectedKeysAreTakenOutOfRotation() {
+    try (
+      OMDbAPIKeyPool pool = new OMDbAPIKeyPool(List.of("a", "b"), policy())
+    ) {
+      pool.report("a", unauthorized("{\"Error\":\"Invalid API key!\"}"));
+      pool.report(
+        "b",
+        unauthorized("{\"Error\":\"Request limit reached!\"}")
+      );
+
+      assertEquals(0, pool.remaining());
+      assertThrows(
+        OMDbAPIQuotaExceededException.class,
+        () -> pool.spend("a")
+      );
+    }
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void metersOfTheSameNameShareItsTagKeys() {
+    final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    try (
+      OMDbAPIKeyPool pool = new OMDbAPIKeyPool(List.of("a", "b"), policy())
+    ) {
+      pool.bindTo(registry);
+
+      assertEquals(
+        2,
+        registry.get("omdb.api.key.requests").functionCounters().size()
+      );
+
+      for (Meter meter : registry.getMeters()) {
+        final String name = meter.getId().getName();
+
+        assertEquals(
+          tagKeys(registry.find(name).meters().iterator().next()),
+          tagKeys(meter),
+          name
+        );
+      }
+    }
+  }
+
+  /**
+   * ...
+   *
+   * @param meter ...
+   * @return      ...
+   */
+  private static Set<String> tagKeys(final Meter meter) {
+    return meter
+      .getId()
+      .getTags()
+      .stream()
+      .map(Tag::getKey)
+      .collect(Collectors.toSet());
+  }
+}
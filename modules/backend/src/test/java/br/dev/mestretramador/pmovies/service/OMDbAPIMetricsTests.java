@@ -0,0 +1,147 @@
+package br.dev.mestretramador.pmovies.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import br.dev.mestretramador.pmovies.util.OMDbAPIResponseStatus;
+
+/**
+ * ...
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+class OMDbAPIMetricsTests {
+  /**
+   * ...
+   */
+  private static final int TOTAL_RESULTS = 42;
+
+  /**
+   * ...
+   *
+   * @param json ...
+   * @return     ...
+   */
+  private static OMDbAPIResponseStatus status(final String json) {
+    return OMDbAPIResponseStatus.read(json.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void responsesAreCountedByKnownErrors() {
+    final MeterRegistry registry = new SimpleMeterRegistry();
+    final OMDbAPIMetrics metrics = new OMDbAPIMetrics(registry);
+
+    metrics.record(
+      OMDbAPIMetrics.SEARCH,
+      status("{\"Response\": \"False\", \"Error\": \"Movie not found!\"}")
+    );
+    metrics.record(
+      OMDbAPIMetrics.SEARCH,
+      status("{\"Response\": \"False\", \"Error\": \"Something else.\"}")
+    );
+    metrics.record(
+      OMDbAPIMetrics.SEARCH,
+      status(
+        "{\"Search\": [], \"totalResults\": \""
+          + TOTAL_RESULTS
+          + "\", \"Response\": \"True\"}"
+      )
+    );
+    metrics.record(
+      OMDbAPIMetrics.TITLE,
+      status("{\"Response\": \"False\", \"Error\": \"Movie not found!\"}")
+    );
+
+    assertEquals(1, registry
+      .get("omdb.api.responses")
+      .tags("request", "search", "error", "not-found")
+      .counter()
+      .count());
+    assertEquals(1, registry
+      .get("omdb.api.responses")
+      .tags("request", "search", "error", "other")
+      .counter()
+      .count());
+    assertEquals(1, registry
+      .get("omdb.api.responses")
+      .tags("request", "title", "error", "not-found")
+      .counter()
+      .count());
+    assertEquals(TOTAL_RESULTS, registry
+      .get("omdb.api.search.total.results")
+      .summary()
+      .totalAmount());
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void requestsAreTrackedWhileInFlight() {
+    final MeterRegistry registry = new SimpleMeterRegistry();
+    final OMDbAPIMetrics metrics = new OMDbAPIMetrics(registry);
+    final Sinks.One<String> response = Sinks.one();
+
+    metrics
+      .track(OMDbAPIMetrics.DATA, response.asMono())
+      .onErrorComplete()
+      .subscribe();
+
+    assertEquals(1, inFlight(registry, OMDbAPIMetrics.DATA));
+    assertEquals(0, inFlight(registry, OMDbAPIMetrics.POSTER));
+
+    response.tryEmitError(new OMDbAPIDeadlineExceededException("Late!"));
+
+    assertEquals(0, inFlight(registry, OMDbAPIMetrics.DATA));
+    assertNotNull(registry
+      .find("omdb.api.failures")
+      .tags("subdomain", OMDbAPIMetrics.DATA, "reason", "deadline")
+      .counter());
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void successfulRequestsAreNotFailures() {
+    final MeterRegistry registry = new SimpleMeterRegistry();
+    final OMDbAPIMetrics metrics = new OMDbAPIMetrics(registry);
+
+    metrics.track(OMDbAPIMetrics.POSTER, Mono.just("poster")).block();
+
+    assertEquals(0, inFlight(registry, OMDbAPIMetrics.POSTER));
+    assertEquals(0, registry.find("omdb.api.failures").counters().size());
+  }
+
+  /**
+   * ...
+   *
+   * @param registry  ...
+   * @param subdomain ...
+   * @return          ...
+   */
+  private static double inFlight(
+    final MeterRegistry registry,
+    final String subdomain
+  ) {
+    return registry
+      .get("omdb.api.requests.inflight")
+      .tags("subdomain", subdomain)
+      .gauge()
+      .value();
+  }
+}
@@ -0,0 +1,218 @@
+package br.dev.mestretramador.pmovies.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.util.unit.DataSize;
+
+import reactor.core.publisher.Flux;
+
+import br.dev.mestretramador.pmovies.config.OMDbAPIPosterCachePolicy;
+import br.dev.mestretramador.pmovies.model.OMDbPoster;
+
+/**
+ * ...
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+class OMDbAPIPosterCacheTests {
+  /**
+   * ...
+   */
+  private static final String POSTER = "poster";
+
+  /**
+   * ...
+   */
+  private static final String OTHER_POSTER = "other!";
+
+  /**
+   * ...
+   */
+  @TempDir
+  private Path directory;
+
+  /**
+   * ...
+   *
+   * @param ttl     ...
+   * @param maxSize ...
+   * @return        ...
+   */
+  private OMDbAPIPosterCache cache(final Duration ttl, final long maxSize) {
+    return new OMDbAPIPosterCache(new OMDbAPIPosterCachePolicy(
+      directory,
+      ttl,
+      Duration.ZERO,
+      DataSize.ofBytes(maxSize),
+      Duration.ZERO,
+      Duration.ofMinutes(1)
+    ));
+  }
+
+  /**
+   * ...
+   *
+   * @param file       ...
+   * @throws IOException ...
+   */
+  private static void age(final Path file) throws IOException {
+    Files.setLastModifiedTime(
+      file,
+      FileTime.from(Instant.now().minus(Duration.ofDays(1)))
+    );
+  }
+
+  /**
+   * ...
+   *
+   * @param chunks ...
+   * @return       ...
+   */
+  private static Flux<DataBuffer> image(final String... chunks) {
+    return Flux
+      .fromArray(chunks)
+      .map((chunk) -> DefaultDataBufferFactory.sharedInstance.wrap(
+        chunk.getBytes(StandardCharsets.UTF_8)
+      ));
+  }
+
+  /**
+   * ...
+   *
+   * @throws IOException ...
+   */
+  @Test
+  void postersAreKeptByTheirContent() throws IOException {
+    final OMDbAPIPosterCache cache =
+      cache(Duration.ofDays(1), Long.MAX_VALUE);
+
+    assertNull(cache.get("i=tt0133093"));
+
+    final OMDbPoster first = cache
+      .put("i=tt0133093", image("po", "ster"), MediaType.IMAGE_JPEG)
+      .block();
+    final OMDbPoster second = cache
+      .put("i=tt0234215", image("poster"), MediaType.IMAGE_JPEG)
+      .block();
+
+    assertEquals(first.file(), second.file());
+    assertEquals(first.hash(), second.hash());
+    assertArrayEquals(
+      "poster".getBytes(StandardCharsets.UTF_8),
+      Files.readAllBytes(first.file())
+    );
+    assertEquals(first, cache.get("i=tt0133093"));
+    assertEquals(MediaType.IMAGE_JPEG, cache.get("i=tt0234215").contentType());
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void titlesWithoutPosterAreRemembered() {
+    final OMDbAPIPosterCache cache =
+      cache(Duration.ofDays(1), Long.MAX_VALUE);
+
+    assertFalse(cache.isMissing("i=tt0133093"));
+
+    cache.markMissing("i=tt0133093");
+
+    assertTrue(cache.isMissing("i=tt0133093"));
+    assertFalse(cache.isMissing("i=tt0234215"));
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void expiredPostersAreMissed() {
+    final OMDbAPIPosterCache cache = cache(Duration.ZERO, Long.MAX_VALUE);
+
+    cache.put("i=tt0133093", image("poster"), MediaType.IMAGE_JPEG).block();
+
+    assertNull(cache.get("i=tt0133093"));
+  }
+
+  /**
+   * ...
+   *
+   * @throws IOException ...
+   */
+  @Test
+  void expiredAndUnreferencedPostersAreSwept() throws IOException {
+    final OMDbAPIPosterCache cache = cache(Duration.ZERO, Long.MAX_VALUE);
+    final OMDbPoster poster = cache
+      .put("i=tt0133093", image(POSTER), MediaType.IMAGE_JPEG)
+      .block();
+
+    cache.sweep();
+
+    assertTrue(Files.exists(poster.file()));
+
+    age(poster.file());
+    cache.sweep();
+
+    assertFalse(Files.exists(poster.file()));
+    assertEquals(0, cache.bytes());
+
+    final Path references = directory.resolve("references");
+
+    try (Stream<Path> files = Files.list(references)) {
+      assertEquals(0, files.count());
+    }
+  }
+
+  /**
+   * ...
+   *
+   * @throws IOException ...
+   */
+  @Test
+  void oldestPostersAreEvictedAboveTheMaxSize() throws IOException {
+    final OMDbAPIPosterCache cache =
+      cache(Duration.ofDays(2), POSTER.length());
+    final OMDbPoster oldest = cache
+      .put("i=tt0133093", image(POSTER), MediaType.IMAGE_JPEG)
+      .block();
+
+    final Path references = directory.resolve("references");
+
+    try (Stream<Path> files = Files.list(references)) {
+      for (Path reference : (Iterable<Path>) files::iterator) {
+        age(reference);
+      }
+    }
+
+    final OMDbPoster newest = cache
+      .put("i=tt0234215", image(OTHER_POSTER), MediaType.IMAGE_JPEG)
+      .block();
+
+    cache.sweep();
+
+    assertNull(cache.get("i=tt0133093"));
+    assertFalse(Files.exists(oldest.file()));
+    assertNotNull(cache.get("i=tt0234215"));
+    assertTrue(Files.exists(newest.file()));
+    assertEquals(OTHER_POSTER.length(), cache.bytes());
+  }
+}
@@ -0,0 +1,86 @@
+package br.dev.mestretramador.pmovies.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import br.dev.mestretramador.pmovies.config.OMDbAPIPrefetchPolicy;
+
+/**
+ * ...
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+class OMDbAPIPrefetcherTests {
+  /**
+   * ...
+   */
+  private static final double HALF = 0.5;
+
+  /**
+   * ...
+   *
+   * @param enabled ...
+   * @param budget  ...
+   * @return        ...
+   */
+  private static OMDbAPIPrefetcher open(
+    final boolean enabled,
+    final double budget
+  ) {
+    return new OMDbAPIPrefetcher(
+      new OMDbAPIPrefetchPolicy(enabled, budget),
+      Duration.ofMinutes(1)
+    );
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void prefetchesAreLimitedByTheBudget() {
+    final OMDbAPIPrefetcher prefetcher = open(true, HALF);
+
+    assertFalse(prefetcher.reserve("s=matrix&page=2"));
+    assertTrue(prefetcher.reserve("s=matrix&page=2"));
+    assertFalse(prefetcher.reserve("s=matrix&page=2"));
+    assertTrue(prefetcher.reserve("s=matrix&page=3"));
+    assertFalse(prefetcher.reserve("s=matrix&page=4"));
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void requestedPrefetchesAreHits() {
+    final OMDbAPIPrefetcher prefetcher = open(true, 1);
+
+    assertTrue(prefetcher.reserve("s=matrix&page=2"));
+    assertTrue(prefetcher.reserve("s=matrix&page=3"));
+    assertTrue(prefetcher.reserve("s=matrix&page=4"));
+
+    prefetcher.claim("s=matrix&page=2");
+    prefetcher.claim("s=matrix&page=2");
+    prefetcher.claim("s=matrix&page=5");
+    prefetcher.release("s=matrix&page=3");
+    prefetcher.claim("s=matrix&page=3");
+
+    assertEquals(1.0 / 3, prefetcher.hitRatio());
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void disabledPrefetcherAllowsNone() {
+    final OMDbAPIPrefetcher prefetcher = open(false, 1);
+
+    assertFalse(prefetcher.reserve("s=matrix&page=2"));
+    assertEquals(0, prefetcher.hitRatio());
+  }
+}
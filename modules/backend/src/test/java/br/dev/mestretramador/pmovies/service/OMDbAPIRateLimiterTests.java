@@ -0,0 +1,73 @@
+package br.dev.mestretramador.pmovies.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+
+import br.dev.mestretramador.pmovies.config.OMDbAPIRateLimitPolicy;
+
+/**
+ * ...
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+class OMDbAPIRateLimiterTests {
+  /**
+   * ...
+   */
+  private static final int BURST = 2;
+
+  /**
+   * ...
+   */
+  @TempDir
+  private Path directory;
+
+  /**
+   * ...
+   *
+   * @param rate  ...
+   * @param burst ...
+   * @return      ...
+   */
+  private OMDbAPIRateLimitPolicy policy(final double rate, final int burst) {
+    return new OMDbAPIRateLimitPolicy(
+      rate,
+      burst,
+      Duration.ZERO,
+      0,
+      ZoneId.of("UTC"),
+      directory.resolve("budget"),
+      Duration.ZERO
+    );
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void burstsAboveTheRateAreRejected() {
+    final OMDbAPIRateLimiter limiter = new OMDbAPIRateLimiter(policy(1, BURST));
+
+    limiter.acquire().block();
+    limiter.acquire().block();
+
+    final OMDbAPIQuotaExceededException exception = assertThrows(
+      OMDbAPIQuotaExceededException.class,
+      () -> limiter.acquire().block()
+    );
+
+    assertEquals(
+      HttpStatus.TOO_MANY_REQUESTS.value(),
+      exception.getStatusCode().value()
+    );
+  }
+}
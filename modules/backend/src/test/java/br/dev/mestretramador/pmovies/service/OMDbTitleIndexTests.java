@@ -0,0 +1,127 @@
+package br.dev.mestretramador.pmovies.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import br.dev.mestretramador.pmovies.model.OMDbSearch;
+import br.dev.mestretramador.pmovies.model.OMDbSearchItem;
+
+/**
+ * ...
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+class OMDbTitleIndexTests {
+  /**
+   * ...
+   */
+  private static final int LIMIT = 10;
+
+  /**
+   * ...
+   */
+  private static final OMDbSearchItem MATRIX =
+    item("The Matrix", "tt0133093");
+
+  /**
+   * ...
+   */
+  private static final OMDbSearchItem RELOADED =
+    item("The Matrix Reloaded", "tt0234215");
+
+  /**
+   * ...
+   */
+  private static final OMDbSearchItem AMELIE =
+    item("Le Fabuleux Destin d'Amélie Poulain", "tt0211915");
+
+  /**
+   * ...
+   *
+   * @param title  ...
+   * @param imdbID ...
+   * @return       ...
+   */
+  private static OMDbSearchItem item(final String title, final String imdbID) {
+    return new OMDbSearchItem(title, null, imdbID, "movie", Optional.empty());
+  }
+
+  /**
+   * ...
+   *
+   * @param items ...
+   * @return      ...
+   */
+  private static OMDbSearch search(final OMDbSearchItem... items) {
+    return new OMDbSearch(
+      OMDbSearch.RESPONSE_KEY_TRUE_VALUE,
+      String.valueOf(items.length),
+      Arrays.asList(items),
+      null
+    );
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void titlesAreSuggestedByAnyPrefix() {
+    final OMDbTitleIndex index = new OMDbTitleIndex(LIMIT);
+
+    index.add(search(MATRIX, RELOADED, AMELIE));
+
+    assertEquals(2, index.suggest("the mat", LIMIT).size());
+    assertEquals(2, index.suggest("MATRIX", LIMIT).size());
+    assertEquals(List.of(RELOADED), index.suggest("reload", LIMIT));
+    assertEquals(List.of(RELOADED), index.suggest("The Matrix Relo", LIMIT));
+    assertEquals(List.of(AMELIE), index.suggest("amelie", LIMIT));
+    assertEquals(List.of(MATRIX), index.suggest("tt0133", LIMIT));
+    assertTrue(index.suggest("zz", LIMIT).isEmpty());
+    assertTrue(index.suggest("  ", LIMIT).isEmpty());
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void titlesAreRankedByPopularity() {
+    final OMDbTitleIndex index = new OMDbTitleIndex(LIMIT);
+
+    index.add(search(MATRIX, RELOADED));
+    index.touch(RELOADED.imdbID());
+
+    assertEquals(List.of(RELOADED, MATRIX), index.suggest("matrix", LIMIT));
+    assertEquals(List.of(RELOADED), index.suggest("matrix", 1));
+
+    index.add(search(MATRIX));
+    index.add(search(MATRIX));
+
+    assertEquals(List.of(MATRIX, RELOADED), index.suggest("matrix", LIMIT));
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void fullIndexEvictsTheLeastPopularTitles() {
+    final OMDbTitleIndex index = new OMDbTitleIndex(2);
+
+    index.add(search(MATRIX, RELOADED));
+    index.add(search(RELOADED));
+    index.touch(MATRIX.imdbID());
+    index.touch(MATRIX.imdbID());
+    index.add(search(AMELIE));
+
+    assertEquals(2, index.size());
+    assertEquals(List.of(MATRIX), index.suggest("the matrix", LIMIT));
+    assertEquals(List.of(AMELIE), index.suggest("amelie", LIMIT));
+    assertTrue(index.suggest("the matrix reloaded", LIMIT).isEmpty());
+  }
+}
@@ -0,0 +1,4 @@
+/**
+ * ...
+ */
+package br.dev.mestretramador.pmovies.service;
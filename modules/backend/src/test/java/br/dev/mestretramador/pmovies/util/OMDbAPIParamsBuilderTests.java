@@ -0,0 +1,92 @@
+package br.dev.mestretramador.pmovies.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.MultiValueMap;
+
+import br.dev.mestretramador.pmovies.util.enumerable.OMDbAPIParams;
+
+/**
+ * ...
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+class OMDbAPIParamsBuilderTests {
+  /**
+   * ...
+   */
+  @Test
+  void invalidValuesAreAnsweredWithoutExceptions() {
+    assertNull(OMDbAPIParamsBuilder.validate(OMDbAPIParams.TYPE, "movie"));
+    assertNull(OMDbAPIParamsBuilder.validate(OMDbAPIParams.YEAR, "1999"));
+    assertNull(OMDbAPIParamsBuilder.validate(OMDbAPIParams.PAGE, "2"));
+    assertNotNull(OMDbAPIParamsBuilder.validate(OMDbAPIParams.TYPE, "game"));
+    assertNotNull(OMDbAPIParamsBuilder.validate(OMDbAPIParams.YEAR, "3000"));
+    assertNotNull(OMDbAPIParamsBuilder.validate(OMDbAPIParams.PAGE, "0"));
+    assertNotNull(OMDbAPIParamsBuilder.validate(OMDbAPIParams.PAGE, "two"));
+    assertNotNull(
+      OMDbAPIParamsBuilder.validate(
+        Map.of(OMDbAPIParams.TYPE, "movie", OMDbAPIParams.PLOT, "long")
+      )
+    );
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void invalidValuesAreNotAdded() {
+    assertThrows(
+      IllegalArgumentException.class,
+      () -> OMDbAPIParamsBuilder
+        .buildForSearch("batman")
+        .add(OMDbAPIParams.YEAR, "-1")
+    );
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void cacheKeysEndWithTheConstantParams() {
+    assertEquals(
+      "s=batman&type=movie&page=2&r=json&v=1",
+      OMDbAPIParamsBuilder
+        .buildForSearch(" Batman ", "key")
+        .add(OMDbAPIParams.PAGE, "2")
+        .add(OMDbAPIParams.TYPE, "movie")
+        .toCacheKey()
+    );
+    assertEquals(
+      "s=batman&r=xml&v=1",
+      OMDbAPIParamsBuilder
+        .buildForSearch("batman")
+        .add(OMDbAPIParams.RETURN, "xml")
+        .toCacheKey()
+    );
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void paramsAreWrittenWithTheGivenAPIKey() {
+    final MultiValueMap<String, String> params = OMDbAPIParamsBuilder
+      .buildForIMDbID("tt0133093", "key")
+      .add(OMDbAPIParams.PLOT, "full")
+      .toMultiValueMap("other");
+
+    assertEquals("tt0133093", params.getFirst("i"));
+    assertEquals("full", params.getFirst("plot"));
+    assertEquals("json", params.getFirst("r"));
+    assertEquals("1", params.getFirst("v"));
+    assertEquals("other", params.getFirst("apikey"));
+  }
+}
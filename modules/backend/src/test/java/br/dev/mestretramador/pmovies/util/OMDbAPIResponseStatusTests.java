@@ -0,0 +1,79 @@
+package br.dev.mestretramador.pmovies.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.codec.DecodingException;
+
+/**
+ * ...
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+class OMDbAPIResponseStatusTests {
+  /**
+   * ...
+   */
+  private static final int TOTAL_RESULTS = 2;
+
+  /**
+   * ...
+   *
+   * @param json ...
+   * @return     ...
+   */
+  private static OMDbAPIResponseStatus read(final String json) {
+    return OMDbAPIResponseStatus.read(json.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void nestedValuesAreSkipped() {
+    final OMDbAPIResponseStatus status = read("""
+      {
+        "Search": [{"Title": "The Matrix", "Extra": {"Error": "None"}}],
+        "totalResults": "2",
+        "Response": "True"
+      }
+      """);
+
+    assertFalse(status.hasError());
+    assertFalse(status.hasKeyError());
+    assertEquals(TOTAL_RESULTS, status.totalResultsNumber());
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void keyErrorsAreTold() {
+    final OMDbAPIResponseStatus notFound =
+      read("{\"Response\": \"False\", \"Error\": \"Movie not found!\"}");
+    final OMDbAPIResponseStatus limitReached =
+      read("{\"Response\": \"False\", \"Error\": \"Request limit reached!\"}");
+    final OMDbAPIResponseStatus invalidKey =
+      read("{\"Response\": \"False\", \"Error\": \"Invalid API key!\"}");
+
+    assertTrue(notFound.hasError());
+    assertFalse(notFound.hasKeyError());
+    assertTrue(limitReached.hasKeyError());
+    assertTrue(invalidKey.hasKeyError());
+    assertEquals(0, invalidKey.totalResultsNumber());
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void invalidResponsesFail() {
+    assertThrows(DecodingException.class, () -> read("[]"));
+  }
+}
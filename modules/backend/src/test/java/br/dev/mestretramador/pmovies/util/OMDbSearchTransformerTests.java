@@ -0,0 +1,125 @@
+package br.dev.mestretramador.pmovies.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.codec.DecodingException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+
+import br.dev.mestretramador.pmovies.model.OMDbSearch;
+
+/**
+ * ...
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+class OMDbSearchTransformerTests {
+  /**
+   * ...
+   */
+  private static final String RESPONSE = """
+    {
+      "Search": [
+        {
+          "Title": "The Matrix",
+          "Year": "1999",
+          "imdbID": "tt0133093",
+          "Type": "movie",
+          "Poster": "https://m.media-amazon.com/images/matrix.jpg"
+        },
+        {
+          "Poster": "N/A",
+          "Type": "series",
+          "imdbID": "tt0106062",
+          "Year": "1993–1995",
+          "Title": "Matrix",
+          "Extra": {"Nested": ["value"]}
+        }
+      ],
+      "totalResults": "2",
+      "Response": "True"
+    }
+    """;
+
+  /**
+   * ...
+   */
+  private final ObjectMapper objectMapper =
+    new ObjectMapper().registerModule(new Jdk8Module());
+
+  /**
+   * ...
+   *
+   * @throws IOException ...
+   */
+  @Test
+  void resultsAreTheSameAsParsed() throws IOException {
+    final byte[] response = RESPONSE.getBytes(StandardCharsets.UTF_8);
+    final OMDbSearchTransformer transformer =
+      new OMDbSearchTransformer(response);
+
+    assertFalse(transformer.hasError());
+    assertEquals(2, transformer.totalResultsNumber());
+    assertEquals(
+      objectMapper.valueToTree(
+        objectMapper.readValue(response, OMDbSearch.class).parsed()
+      ),
+      objectMapper.readTree(objectMapper.writeValueAsBytes(transformer))
+    );
+  }
+
+  /**
+   * ...
+   *
+   * @throws IOException ...
+   */
+  @Test
+  void itemsAreTheSameAsBound() throws IOException {
+    final byte[] response = RESPONSE.getBytes(StandardCharsets.UTF_8);
+
+    assertEquals(
+      objectMapper.readValue(response, OMDbSearch.class).search(),
+      OMDbSearchTransformer.items(response)
+    );
+    assertTrue(OMDbSearchTransformer.items(
+      "{\"Response\":\"False\",\"Error\":\"Movie not found!\"}"
+        .getBytes(StandardCharsets.UTF_8)
+    ).isEmpty());
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void errorsAreRead() {
+    final OMDbSearchTransformer transformer = new OMDbSearchTransformer(
+      "{\"Response\":\"False\",\"Error\":\"Movie not found!\"}"
+        .getBytes(StandardCharsets.UTF_8)
+    );
+
+    assertTrue(transformer.hasError());
+    assertEquals("Movie not found!", transformer.error());
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void invalidResponsesAreRejected() {
+    assertThrows(
+      DecodingException.class,
+      () -> new OMDbSearchTransformer(
+        "<html>".getBytes(StandardCharsets.UTF_8)
+      )
+    );
+  }
+}
@@ -0,0 +1,74 @@
+package br.dev.mestretramador.pmovies.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+
+import br.dev.mestretramador.pmovies.model.OMDbSearchItem;
+import br.dev.mestretramador.pmovies.model.OMDbYearRange;
+
+/**
+ * ...
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+class ResponseEnvelopeTests {
+  /**
+   * ...
+   */
+  private final ObjectMapper objectMapper =
+    new ObjectMapper().registerModule(new Jdk8Module());
+
+  /**
+   * ...
+   *
+   * @throws JsonProcessingException ...
+   */
+  @Test
+  void valuesAreWrittenUnderTheKey() throws JsonProcessingException {
+    final List<OMDbSearchItem> search = List.of(
+      new OMDbSearchItem(
+        "The Matrix",
+        OMDbYearRange.parse("1999"),
+        "tt0133093",
+        "movie",
+        Optional.of("N/A")
+      )
+    );
+
+    assertEquals(
+      objectMapper.writeValueAsString(Map.of("search", search)),
+      objectMapper.writeValueAsString(
+        new ResponseEnvelope(
+          "search",
+          search,
+          objectMapper.writerFor(search.getClass())
+        )
+      )
+    );
+  }
+
+  /**
+   * ...
+   *
+   * @throws JsonProcessingException ...
+   */
+  @Test
+  void nullValuesAreWritten() throws JsonProcessingException {
+    assertEquals(
+      "{\"error\":null}",
+      objectMapper.writeValueAsString(
+        new ResponseEnvelope("error", null, objectMapper.writer())
+      )
+    );
+  }
+}
@@ -0,0 +1,94 @@
+package br.dev.mestretramador.pmovies.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * ...
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+class SingleFlightTests {
+  /**
+   * ...
+   */
+  @Test
+  void concurrentCallsShareTheResult() {
+    final SingleFlight<String, String> singleFlight =
+      new SingleFlight<String, String>();
+    final Sinks.One<String> upstream = Sinks.one();
+    final AtomicInteger calls = new AtomicInteger();
+
+    final Mono<String> first = singleFlight.execute("key", () -> {
+      calls.incrementAndGet();
+      return upstream.asMono();
+    }).cache();
+    final Mono<String> second = singleFlight.execute("key", () -> {
+      calls.incrementAndGet();
+      return upstream.asMono();
+    }).cache();
+
+    first.subscribe();
+    second.subscribe();
+
+    assertEquals(1, singleFlight.size());
+
+    upstream.tryEmitValue("result");
+
+    assertEquals("result", first.block());
+    assertEquals("result", second.block());
+    assertEquals(1, calls.get());
+    assertEquals(0, singleFlight.size());
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void concurrentCallsShareTheError() {
+    final SingleFlight<String, String> singleFlight =
+      new SingleFlight<String, String>();
+    final Sinks.One<String> upstream = Sinks.one();
+
+    final Mono<String> first =
+      singleFlight.execute("key", upstream::asMono).cache();
+    final Mono<String> second =
+      singleFlight.execute("key", upstream::asMono).cache();
+
+    first.subscribe((result) -> { }, (error) -> { });
+    second.subscribe((result) -> { }, (error) -> { });
+
+    upstream.tryEmitError(new IllegalStateException("failure"));
+
+    assertThrows(IllegalStateException.class, first::block);
+    assertThrows(IllegalStateException.class, second::block);
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void callsAfterTheResultAreMadeAgain() {
+    final SingleFlight<String, Integer> singleFlight =
+      new SingleFlight<String, Integer>();
+    final AtomicInteger calls = new AtomicInteger();
+
+    singleFlight
+      .execute("key", () -> Mono.fromCallable(calls::incrementAndGet))
+      .block();
+    singleFlight
+      .execute("key", () -> Mono.fromCallable(calls::incrementAndGet))
+      .block();
+
+    assertEquals(2, calls.get());
+    assertEquals(0, singleFlight.size());
+  }
+}
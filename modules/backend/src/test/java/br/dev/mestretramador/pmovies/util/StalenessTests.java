@@ -0,0 +1,54 @@
+package br.dev.mestretramador.pmovies.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * ...
+ *
+ * @since 0.0.1
+ * @author Mestre-Tramador
+ */
+class StalenessTests {
+  /**
+   * ...
+   */
+  @Test
+  void markedResponsesAreStale() {
+    final Staleness staleness = new Staleness();
+
+    final String response = staleness
+      .track(
+        Flux
+          .just("fresh", "stale")
+          .flatMap((page) -> "stale".equals(page)
+            ? Staleness.mark().thenReturn(page)
+            : Mono.just(page)
+          )
+          .collectList()
+          .map((pages) -> String.join(",", pages))
+      )
+      .block();
+
+    assertEquals("fresh,stale", response);
+    assertTrue(staleness.isStale());
+  }
+
+  /**
+   * ...
+   */
+  @Test
+  void untrackedMarksAreIgnored() {
+    final Staleness staleness = new Staleness();
+
+    assertEquals("fresh", Staleness.mark().thenReturn("fresh").block());
+    assertEquals("fresh", staleness.track(Mono.just("fresh")).block());
+    assertFalse(staleness.isStale());
+  }
+}